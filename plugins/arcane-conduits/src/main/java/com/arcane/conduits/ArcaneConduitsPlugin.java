@@ -4,17 +4,24 @@ import com.arcane.conduits.blocks.state.ConduitBlockState;
 import com.arcane.conduits.blocks.state.PowerSourceBlockState;
 import com.arcane.conduits.commands.ConduitDebugCommand;
 import com.arcane.conduits.core.power.ConduitNetworkManager;
+import com.arcane.conduits.core.power.ConduitPropertyTable;
 import com.arcane.conduits.core.tick.ConduitTickProcedure;
 import com.hypixel.hytale.codec.builder.BuilderCodec;
 import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.asset.type.blocktick.config.TickProcedure;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
 import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
 import com.hypixel.hytale.server.core.event.events.ecs.PlaceBlockEvent;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.meta.BlockState;
 
 import javax.annotation.Nonnull;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Arcane Conduits - A magical automation plugin for Hytale.
@@ -27,7 +34,13 @@ public class ArcaneConduitsPlugin extends JavaPlugin {
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
     private static ArcaneConduitsPlugin instance;
 
+    /**
+     * Interval between network manager ticks (one server tick).
+     */
+    private static final long NETWORK_TICK_MS = 50;
+
     private ConduitNetworkManager networkManager;
+    private ScheduledFuture<?> networkTickTask;
 
     public ArcaneConduitsPlugin(@Nonnull JavaPluginInit init) {
         super(init);
@@ -60,15 +73,46 @@ public class ArcaneConduitsPlugin extends JavaPlugin {
 
     @Override
     protected void start() {
+        // Drive queued source changes and dirty-network processing; only hot regions are solved each tick
+        networkTickTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+            this::tickNetworks,
+            NETWORK_TICK_MS,
+            NETWORK_TICK_MS,
+            TimeUnit.MILLISECONDS
+        );
+
         LOGGER.atInfo().log("Arcane Conduits started successfully!");
     }
 
     @Override
     protected void shutdown() {
         LOGGER.atInfo().log("Arcane Conduits shutting down...");
+        if (networkTickTask != null) {
+            networkTickTask.cancel(false);
+            networkTickTask = null;
+        }
         if (networkManager != null) {
             networkManager.shutdown();
         }
+        ConduitPropertyTable.clear();
+    }
+
+    private void tickNetworks() {
+        try {
+            networkManager.tickActivity();
+            if (!networkManager.hasPendingWork()) {
+                return;
+            }
+
+            // Block states must be touched on the world thread; each world only processes its own state
+            for (World world : Universe.get().getWorlds().values()) {
+                if (networkManager.hasPendingWork(world)) {
+                    world.execute(() -> networkManager.processDirtyNetworks(world));
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.atWarning().log("Error ticking conduit networks: %s", e.getMessage());
+        }
     }
 
     private void registerTickProcedures() {
@@ -105,10 +149,10 @@ public class ArcaneConduitsPlugin extends JavaPlugin {
 
     private void registerEventHandlers() {
         // Handle block placement - invalidate networks when conduits are placed
-        getEventRegistry().register(PlaceBlockEvent.class, this::onBlockPlaced);
+        getEntityStoreRegistry().registerSystem(new ConduitPlaceSystem(this));
 
         // Handle block breaking - invalidate networks when conduits are broken
-        getEventRegistry().register(BreakBlockEvent.class, this::onBlockBroken);
+        getEntityStoreRegistry().registerSystem(new ConduitBreakSystem(this));
 
         LOGGER.atInfo().log("Registered event handlers for block placement/breaking");
     }
@@ -118,19 +162,22 @@ public class ArcaneConduitsPlugin extends JavaPlugin {
         LOGGER.atInfo().log("Registered debug commands");
     }
 
-    private void onBlockPlaced(PlaceBlockEvent event) {
+    void onBlockPlaced(World world, PlaceBlockEvent event) {
         // Check if the placed block is a conduit
-        if (isConduitBlock(event.getItemInHand())) {
+        if (networkManager != null && isConduitBlock(event.getItemInHand())) {
             // Invalidate any existing network at this position
-            networkManager.invalidateNetworkAt(event.getTargetBlock());
+            // Source output and decay come from the block type's state data, as the solver reads them
+            int blockId = BlockType.getAssetMap().getIndex(event.getItemInHand().getItem().getId());
+            networkManager.onConduitPlaced(world, event.getTargetBlock(),
+                ConduitPropertyTable.getSourceOutput(blockId), ConduitPropertyTable.getDecayRate(blockId));
         }
     }
 
-    private void onBlockBroken(BreakBlockEvent event) {
+    void onBlockBroken(World world, BreakBlockEvent event) {
         // Check if the broken block is a conduit
-        if (event.getBlockType() != null && isConduitBlockType(event.getBlockType().getId())) {
+        if (networkManager != null && event.getBlockType() != null && isConduitBlockType(event.getBlockType().getId())) {
             // Invalidate the network at this position
-            networkManager.invalidateNetworkAt(event.getTargetBlock());
+            networkManager.onConduitBroken(world, event.getTargetBlock());
         }
     }
 
@@ -0,0 +1,43 @@
+package com.arcane.conduits;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Invalidates conduit networks when a player breaks a conduit.
+ * Runs as an ECS system so the broken block's world is known.
+ */
+public class ConduitBreakSystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
+
+    private final ArcaneConduitsPlugin plugin;
+
+    public ConduitBreakSystem(@Nonnull ArcaneConduitsPlugin plugin) {
+        super(BreakBlockEvent.class);
+        this.plugin = plugin;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @Override
+    public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer,
+                       @Nonnull BreakBlockEvent event) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        plugin.onBlockBroken(store.getExternalData().getWorld(), event);
+    }
+}
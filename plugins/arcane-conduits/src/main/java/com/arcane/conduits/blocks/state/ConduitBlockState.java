@@ -19,6 +19,9 @@ import javax.annotation.Nonnull;
  * - 5-10: Moderate mana flow
  * - 11-14: Strong mana flow
  * - 15: Maximum power
+ *
+ * Per-type settings (max power, decay rate) are not stored here; they live in
+ * {@link com.arcane.conduits.core.power.ConduitPropertyTable}, keyed by block id.
  */
 public class ConduitBlockState extends BlockState {
 
@@ -55,14 +58,9 @@ public class ConduitBlockState extends BlockState {
     private int connectionMask = 0;
 
     /**
-     * Maximum power level for this conduit type.
-     */
-    private int maxPower = 15;
-
-    /**
-     * Power decay rate per block.
+     * Absolute power ceiling. Per-type limits are applied by the solver.
      */
-    private int decayRate = 1;
+    public static final int MAX_POWER = 15;
 
     public ConduitBlockState() {
         super();
@@ -81,7 +79,7 @@ public class ConduitBlockState extends BlockState {
      * Set the power level, clamping to valid range.
      */
     public void setPowerLevel(int level) {
-        int newLevel = Math.max(0, Math.min(maxPower, level));
+        int newLevel = Math.max(0, Math.min(MAX_POWER, level));
         if (newLevel != this.powerLevel) {
             this.powerLevel = newLevel;
             markNeedsSave();
@@ -98,8 +96,10 @@ public class ConduitBlockState extends BlockState {
 
     /**
      * Get the power level after decay (for propagation to neighbors).
+     *
+     * @param decayRate Decay rate of this conduit's block type
      */
-    public int getOutputPower() {
+    public int getOutputPower(int decayRate) {
         return Math.max(0, powerLevel - decayRate);
     }
 
@@ -142,36 +142,6 @@ public class ConduitBlockState extends BlockState {
         markNeedsSave();
     }
 
-    // ==================== Configuration ====================
-
-    /**
-     * Get maximum power this conduit can carry.
-     */
-    public int getMaxPower() {
-        return maxPower;
-    }
-
-    /**
-     * Set maximum power (from block definition).
-     */
-    public void setMaxPower(int max) {
-        this.maxPower = max;
-    }
-
-    /**
-     * Get power decay rate.
-     */
-    public int getDecayRate() {
-        return decayRate;
-    }
-
-    /**
-     * Set power decay rate (from block definition).
-     */
-    public void setDecayRate(int rate) {
-        this.decayRate = rate;
-    }
-
     // ==================== Visual State ====================
 
     /**
@@ -200,8 +170,8 @@ public class ConduitBlockState extends BlockState {
 
     @Override
     public String toString() {
-        return String.format("ConduitBlockState[pos=%s, power=%d/%d, connections=%d]",
-            getBlockPosition(), powerLevel, maxPower, Integer.bitCount(connectionMask));
+        return String.format("ConduitBlockState[pos=%s, power=%d, connections=%d]",
+            getBlockPosition(), powerLevel, Integer.bitCount(connectionMask));
     }
 
     // ==================== State Data (from JSON block definition) ====================
@@ -209,6 +179,7 @@ public class ConduitBlockState extends BlockState {
     /**
      * State data class for JSON block definitions.
      * Allows configuring max power and decay rate per block type.
+     * Read once per block type into {@link com.arcane.conduits.core.power.ConduitPropertyTable}.
      */
     public static class ConduitStateData extends StateData {
 
@@ -5,8 +5,8 @@ import com.hypixel.hytale.codec.Codec;
 import com.hypixel.hytale.codec.KeyedCodec;
 import com.hypixel.hytale.codec.builder.BuilderCodec;
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.asset.type.blocktype.config.StateData;
+import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.meta.BlockState;
 
 import javax.annotation.Nonnull;
@@ -16,6 +16,11 @@ import javax.annotation.Nonnull;
  *
  * Power sources output power to adjacent conduits without consuming anything
  * (for constant sources like Mana Crystal Core) or based on fuel/conditions.
+ *
+ * Changes to output or active state may be requested from any thread. The
+ * state itself is only changed (and saved) on the block's world thread, and
+ * the resulting power change is not solved inline; the network manager
+ * queues it and applies at most one update per source per tick.
  */
 public class PowerSourceBlockState extends BlockState {
 
@@ -43,12 +48,12 @@ public class PowerSourceBlockState extends BlockState {
     /**
      * Power level this source outputs (0-15).
      */
-    private int outputPower = 15;
+    private volatile int outputPower = 15;
 
     /**
      * Whether this power source is currently active.
      */
-    private boolean active = true;
+    private volatile boolean active = true;
 
     /**
      * Whether this is a constant power source (no fuel required).
@@ -69,15 +74,17 @@ public class PowerSourceBlockState extends BlockState {
     }
 
     /**
-     * Set the output power level.
+     * Set the output power level. Applied on the world thread.
      */
     public void setOutputPower(int power) {
         int newPower = Math.max(0, Math.min(15, power));
-        if (newPower != this.outputPower) {
-            this.outputPower = newPower;
-            markNeedsSave();
-            propagatePower();
-        }
+        onWorldThread(() -> {
+            if (newPower != this.outputPower) {
+                this.outputPower = newPower;
+                markNeedsSave();
+                propagatePower();
+            }
+        });
     }
 
     /**
@@ -88,9 +95,20 @@ public class PowerSourceBlockState extends BlockState {
     }
 
     /**
-     * Set whether this power source is active.
+     * Set whether this power source is active. Applied on the world thread.
      */
     public void setActive(boolean active) {
+        onWorldThread(() -> applyActive(active));
+    }
+
+    /**
+     * Toggle the power source on/off. Applied on the world thread.
+     */
+    public void toggle() {
+        onWorldThread(() -> applyActive(!this.active));
+    }
+
+    private void applyActive(boolean active) {
         if (active != this.active) {
             this.active = active;
             markNeedsSave();
@@ -100,10 +118,16 @@ public class PowerSourceBlockState extends BlockState {
     }
 
     /**
-     * Toggle the power source on/off.
+     * Runs a state change on this block's world thread. A state not in a
+     * world yet is not shared, so the change is applied directly.
      */
-    public void toggle() {
-        setActive(!active);
+    private void onWorldThread(@Nonnull Runnable change) {
+        World world = getChunk() != null ? getChunk().getWorld() : null;
+        if (world == null) {
+            change.run();
+            return;
+        }
+        world.execute(change);
     }
 
     // ==================== Configuration ====================
@@ -125,7 +149,7 @@ public class PowerSourceBlockState extends BlockState {
     // ==================== Power Propagation ====================
 
     /**
-     * Trigger power propagation to connected conduits.
+     * Queue power propagation to connected conduits for the next network tick.
      */
     private void propagatePower() {
         if (getChunk() == null || getChunk().getWorld() == null) {
@@ -137,19 +161,11 @@ public class PowerSourceBlockState extends BlockState {
             return;
         }
 
-        Vector3i pos = getBlockPosition();
-        if (active) {
-            plugin.getNetworkManager().propagatePower(
-                getChunk().getWorld(),
-                pos,
-                outputPower
-            );
-        } else {
-            plugin.getNetworkManager().clearPower(
-                getChunk().getWorld(),
-                pos
-            );
-        }
+        plugin.getNetworkManager().queueSourceUpdate(
+            getChunk().getWorld(),
+            getBlockPosition(),
+            getOutputPower()
+        );
     }
 
     // ==================== Visual State ====================
@@ -3,11 +3,14 @@ package com.arcane.conduits.commands;
 import com.arcane.conduits.ArcaneConduitsPlugin;
 import com.arcane.conduits.blocks.state.ConduitBlockState;
 import com.arcane.conduits.core.power.ConduitNetworkManager;
+import com.arcane.conduits.core.power.ConduitPropertyTable;
+import com.arcane.conduits.core.power.RegionActivityMap;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.protocol.GameMode;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.command.system.CommandContext;
+import com.hypixel.hytale.server.core.command.system.arguments.system.OptionalArg;
 import com.hypixel.hytale.server.core.command.system.arguments.system.RequiredArg;
 import com.hypixel.hytale.server.core.command.system.arguments.types.ArgTypes;
 import com.hypixel.hytale.server.core.command.system.basecommands.CommandBase;
@@ -17,6 +20,8 @@ import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
 import com.hypixel.hytale.server.core.universe.world.meta.BlockState;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Path;
 
 /**
  * Debug command for testing and inspecting conduit networks.
@@ -26,6 +31,8 @@ import javax.annotation.Nonnull;
  *   /conduit network <x> <y> <z> - Get network info at position
  *   /conduit recalc <x> <y> <z> - Force recalculate network
  *   /conduit set <x> <y> <z> <power> - Set power level (testing)
+ *   /conduit heat <x> <z> - Show region activity around a column
+ *   /conduit record <start|stop> [name] - Record network operations for replay
  */
 public class ConduitDebugCommand extends CommandBase {
 
@@ -38,6 +45,8 @@ public class ConduitDebugCommand extends CommandBase {
         addSubCommand(new NetworkSubCommand());
         addSubCommand(new RecalcSubCommand());
         addSubCommand(new SetPowerSubCommand());
+        addSubCommand(new HeatSubCommand());
+        addSubCommand(new RecordSubCommand());
     }
 
     @Override
@@ -47,6 +56,8 @@ public class ConduitDebugCommand extends CommandBase {
         ctx.sendMessage(Message.raw("  /conduit network <x> <y> <z> - Get network info"));
         ctx.sendMessage(Message.raw("  /conduit recalc <x> <y> <z> - Force recalculate"));
         ctx.sendMessage(Message.raw("  /conduit set <x> <y> <z> <power> - Set power (0-15)"));
+        ctx.sendMessage(Message.raw("  /conduit heat <x> <z> - Show region activity"));
+        ctx.sendMessage(Message.raw("  /conduit record <start|stop> [name] - Record for replay"));
     }
 
     // ==================== Power Subcommand ====================
@@ -80,20 +91,32 @@ public class ConduitDebugCommand extends CommandBase {
                 return;
             }
 
+            // Solving writes block states, so solve and read on the world thread
+            world.execute(() -> reportPower(ctx, world, pos));
+        }
+
+        private void reportPower(@Nonnull CommandContext ctx, @Nonnull World world, @Nonnull Vector3i pos) {
+            // Cold regions are solved lazily, so bring this one up to date before reading
+            ArcaneConduitsPlugin plugin = ArcaneConduitsPlugin.getInstance();
+            if (plugin != null && plugin.getNetworkManager() != null) {
+                plugin.getNetworkManager().ensureRegionSolved(world, pos.x, pos.z);
+            }
+
             ConduitBlockState state = getConduitState(world, pos);
             if (state == null) {
                 ctx.sendMessage(Message.raw("No conduit at " + formatPos(pos)));
                 return;
             }
 
+            int blockId = getBlockId(world, pos);
             ctx.sendMessage(Message.raw(String.format(
                 "Conduit at %s: power=%d/%d (%s), connections=%d, decay=%d",
                 formatPos(pos),
                 state.getPowerLevel(),
-                state.getMaxPower(),
+                ConduitPropertyTable.getMaxPower(blockId),
                 state.getPowerCategory(),
                 Integer.bitCount(state.getConnectionMask()),
-                state.getDecayRate()
+                ConduitPropertyTable.getDecayRate(blockId)
             )));
         }
     }
@@ -137,6 +160,11 @@ public class ConduitDebugCommand extends CommandBase {
 
             ConduitNetworkManager.NetworkDebugInfo info =
                 plugin.getNetworkManager().getNetworkDebugInfo(world, pos);
+            if (info == ConduitNetworkManager.NetworkDebugInfo.PENDING) {
+                ctx.sendMessage(Message.raw("Network at " + formatPos(pos)
+                    + " is not indexed yet; queued for recalculation, try again shortly"));
+                return;
+            }
 
             ctx.sendMessage(Message.raw(String.format(
                 "Network at %s: %s",
@@ -233,7 +261,15 @@ public class ConduitDebugCommand extends CommandBase {
                 return;
             }
 
+            int oldPower = state.getPowerLevel();
             state.setPowerLevel(power);
+
+            // Keep network aggregates in sync with the manual change
+            ArcaneConduitsPlugin plugin = ArcaneConduitsPlugin.getInstance();
+            if (plugin != null && plugin.getNetworkManager() != null && state.getPowerLevel() != oldPower) {
+                plugin.getNetworkManager().onPowerChanged(world, pos, oldPower, state.getPowerLevel());
+            }
+
             ctx.sendMessage(Message.raw(String.format(
                 "Set power to %d at %s",
                 power, formatPos(pos)
@@ -241,6 +277,140 @@ public class ConduitDebugCommand extends CommandBase {
         }
     }
 
+    // ==================== Heat Subcommand ====================
+
+    private class HeatSubCommand extends CommandBase {
+        private static final int RADIUS = 3;
+
+        private final RequiredArg<Integer> xArg;
+        private final RequiredArg<Integer> zArg;
+
+        public HeatSubCommand() {
+            super("heat", "Show region activity around a column");
+            setPermissionGroup(GameMode.Creative);
+            xArg = withRequiredArg("x", "X coordinate", ArgTypes.INTEGER);
+            zArg = withRequiredArg("z", "Z coordinate", ArgTypes.INTEGER);
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext ctx) {
+            if (!ctx.isPlayer()) {
+                ctx.sendMessage(Message.raw("Command must be run by a player"));
+                return;
+            }
+
+            ArcaneConduitsPlugin plugin = ArcaneConduitsPlugin.getInstance();
+            if (plugin == null || plugin.getNetworkManager() == null) {
+                ctx.sendMessage(Message.raw("Plugin not initialized"));
+                return;
+            }
+
+            Player player = ctx.senderAs(Player.class);
+            World world = player.getWorld();
+            if (world == null) {
+                ctx.sendMessage(Message.raw("Player not in a world"));
+                return;
+            }
+
+            ConduitNetworkManager manager = plugin.getNetworkManager();
+            RegionActivityMap activity = manager.getRegionActivity(world);
+            int centerX = ctx.get(xArg) >> 5;
+            int centerZ = ctx.get(zArg) >> 5;
+
+            ctx.sendMessage(Message.raw(String.format(
+                "Region activity around column (%d, %d): hot=%d, tracked=%d",
+                centerX, centerZ, activity.getHotCount(), activity.getTrackedCount()
+            )));
+
+            // One row per Z, one cell per X: '.' idle, '-' cooling, '#' hot, '*' dirty
+            for (int cz = centerZ - RADIUS; cz <= centerZ + RADIUS; cz++) {
+                StringBuilder row = new StringBuilder();
+                for (int cx = centerX - RADIUS; cx <= centerX + RADIUS; cx++) {
+                    long key = RegionActivityMap.columnKey(cx, cz);
+                    char cell;
+                    if (manager.isRegionDirty(world, cx, cz)) {
+                        cell = '*';
+                    } else if (activity.isHot(key)) {
+                        cell = '#';
+                    } else if (activity.getHeat(key) > 0) {
+                        cell = '-';
+                    } else {
+                        cell = '.';
+                    }
+                    row.append(cx == centerX && cz == centerZ ? '[' : ' ')
+                        .append(cell)
+                        .append(cx == centerX && cz == centerZ ? ']' : ' ');
+                }
+                ctx.sendMessage(Message.raw(row.toString()));
+            }
+
+            long centerKey = RegionActivityMap.columnKey(centerX, centerZ);
+            ctx.sendMessage(Message.raw(String.format(
+                "Center: heat=%.2f, changes=%d",
+                activity.getHeat(centerKey), activity.getTotalChanges(centerKey)
+            )));
+        }
+    }
+
+    // ==================== Record Subcommand ====================
+
+    private class RecordSubCommand extends CommandBase {
+        private final RequiredArg<String> actionArg;
+        private final OptionalArg<String> nameArg;
+
+        public RecordSubCommand() {
+            super("record", "Record network operations for replay");
+            setPermissionGroup(GameMode.Creative);
+            actionArg = withRequiredArg("action", "start or stop", ArgTypes.STRING);
+            nameArg = withOptionalArg("name", "Recording name", ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext ctx) {
+            ArcaneConduitsPlugin plugin = ArcaneConduitsPlugin.getInstance();
+            if (plugin == null || plugin.getNetworkManager() == null) {
+                ctx.sendMessage(Message.raw("Plugin not initialized"));
+                return;
+            }
+
+            ConduitNetworkManager manager = plugin.getNetworkManager();
+            String action = ctx.get(actionArg);
+
+            if ("stop".equalsIgnoreCase(action)) {
+                int ops = manager.stopRecording();
+                if (ops < 0) {
+                    ctx.sendMessage(Message.raw("Not recording"));
+                } else {
+                    ctx.sendMessage(Message.raw("Recording stopped (" + ops + " ops)"));
+                }
+                return;
+            }
+
+            if (!"start".equalsIgnoreCase(action)) {
+                ctx.sendMessage(Message.raw("Usage: /conduit record <start|stop> [name]"));
+                return;
+            }
+
+            String name = ctx.get(nameArg);
+            if (name == null || name.isEmpty()) {
+                name = "conduit-" + System.currentTimeMillis();
+            }
+            if (!name.matches("[A-Za-z0-9_-]+")) {
+                ctx.sendMessage(Message.raw("Recording name may only contain letters, digits, '-' and '_'"));
+                return;
+            }
+
+            Path file = plugin.getDataDirectory().resolve("recordings").resolve(name + ".acnr");
+            try {
+                manager.startRecording(file);
+                ctx.sendMessage(Message.raw("Recording to " + file.getFileName()
+                    + " - place conduits after this point so replay sees them"));
+            } catch (IOException e) {
+                ctx.sendMessage(Message.raw("Failed to start recording: " + e.getMessage()));
+            }
+        }
+    }
+
     // ==================== Helper Methods ====================
 
     private ConduitBlockState getConduitState(World world, Vector3i pos) {
@@ -257,6 +427,12 @@ public class ConduitDebugCommand extends CommandBase {
         return null;
     }
 
+    private int getBlockId(World world, Vector3i pos) {
+        long chunkIndex = ChunkUtil.indexChunkFromBlock(pos.x, pos.z);
+        WorldChunk chunk = world.getChunkIfLoaded(chunkIndex);
+        return chunk != null ? chunk.getBlock(pos.x & 31, pos.y, pos.z & 31) : -1;
+    }
+
     private String formatPos(Vector3i pos) {
         return String.format("(%d, %d, %d)", pos.x, pos.y, pos.z);
     }
@@ -0,0 +1,106 @@
+package com.arcane.conduits.core.power;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A connected set of conduits with aggregate statistics kept up to date
+ * as power changes, so debug queries never need to walk the network.
+ *
+ * Membership is rebuilt whenever the network is recalculated; power totals
+ * are adjusted incrementally in between.
+ */
+public class ConduitNetwork {
+
+    /**
+     * Member positions (packed) mapped to their last known power level.
+     */
+    private final Map<Long, Integer> memberPower = new HashMap<>();
+
+    /**
+     * Power sources adjacent to the network (packed positions).
+     */
+    private final Set<Long> sources = new HashSet<>();
+
+    private int totalPower = 0;
+    private boolean dirty = false;
+    private final long lastRecalcTime;
+
+    public ConduitNetwork(long lastRecalcTime) {
+        this.lastRecalcTime = lastRecalcTime;
+    }
+
+    // ==================== Membership ====================
+
+    synchronized void addMember(long key, int power) {
+        Integer previous = memberPower.put(key, power);
+        totalPower += power - (previous != null ? previous : 0);
+    }
+
+    synchronized void removeMember(long key) {
+        Integer previous = memberPower.remove(key);
+        if (previous != null) {
+            totalPower -= previous;
+        }
+    }
+
+    synchronized void addSource(long key) {
+        sources.add(key);
+    }
+
+    synchronized void removeSource(long key) {
+        sources.remove(key);
+    }
+
+    synchronized boolean isEmpty() {
+        return memberPower.isEmpty();
+    }
+
+    // ==================== Aggregates ====================
+
+    /**
+     * Apply a power change for a member. Ignored for positions not in the network.
+     */
+    synchronized void onPowerChanged(long key, int newPower) {
+        Integer previous = memberPower.get(key);
+        if (previous != null) {
+            memberPower.put(key, newPower);
+            totalPower += newPower - previous;
+        }
+    }
+
+    synchronized void markDirty() {
+        dirty = true;
+    }
+
+    public synchronized int getBlockCount() {
+        return memberPower.size();
+    }
+
+    public synchronized int getTotalPower() {
+        return totalPower;
+    }
+
+    public synchronized int getSourceCount() {
+        return sources.size();
+    }
+
+    public synchronized boolean isDirty() {
+        return dirty;
+    }
+
+    public long getLastRecalcTime() {
+        return lastRecalcTime;
+    }
+
+    // ==================== Position Keys ====================
+
+    /**
+     * Pack a block position into a long (26 bits X, 26 bits Z, 12 bits Y).
+     */
+    public static long packPosition(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+}
@@ -1,6 +1,8 @@
 package com.arcane.conduits.core.power;
 
 import com.arcane.conduits.blocks.state.ConduitBlockState;
+import com.arcane.conduits.core.replay.ConduitRecorder;
+import com.arcane.conduits.core.replay.ConduitRecording.OpType;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.math.vector.Vector3i;
@@ -8,6 +10,8 @@ import com.hypixel.hytale.server.core.universe.world.World;
 import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
 import com.hypixel.hytale.server.core.universe.world.meta.BlockState;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -15,8 +19,22 @@ import java.util.concurrent.ConcurrentHashMap;
  * Manages conduit power networks with caching and lazy recalculation.
  *
  * Networks are identified by any block position within them.
- * When a block is placed or broken, the affected network is marked dirty
- * and recalculated on the next tick.
+ * When a block is placed or broken, the affected network is marked dirty.
+ *
+ * All state is kept per world (see {@link WorldNetworks}): the same column
+ * coordinates in two worlds are unrelated, and each world is only ever
+ * processed on its own thread.
+ *
+ * Dirty positions are bucketed per 32x32 column and a {@link RegionActivityMap}
+ * tracks how much power churn each column has seen recently. Only hot columns
+ * are recalculated on the periodic tick; cold columns keep their pending work
+ * until something reads power there (see {@link #ensureRegionSolved}).
+ * Conduits in cold columns put themselves to sleep and are woken when their
+ * column heats up again (see {@link #onConduitSleeping}).
+ *
+ * Every discovered network is indexed as a {@link ConduitNetwork} whose block
+ * count, power total and source count are kept current as power changes, so
+ * debug queries are O(1) regardless of network size.
  */
 @SuppressWarnings("deprecation")  // BlockState is deprecated but still functional
 public class ConduitNetworkManager {
@@ -29,90 +47,329 @@ public class ConduitNetworkManager {
     private static final long RECALC_COOLDOWN_MS = 50;
 
     /**
-     * Set of positions that need network recalculation.
+     * Per-world network state. Key: world name.
      */
-    private final Set<Vector3i> dirtyPositions = ConcurrentHashMap.newKeySet();
+    private final Map<String, WorldNetworks> worlds = new ConcurrentHashMap<>();
 
     /**
-     * Cache of recently calculated networks.
-     * Key: chunk-local position hash, Value: network stats
+     * Power propagator for BFS updates.
      */
-    private final Map<Long, NetworkCache> networkCache = new ConcurrentHashMap<>();
+    private final PowerPropagator propagator;
 
     /**
-     * Timestamp of last recalculation per chunk.
+     * Active operation recorder, or null when not recording.
      */
-    private final Map<Long, Long> lastRecalcTime = new ConcurrentHashMap<>();
+    private volatile ConduitRecorder recorder;
+
+    public ConduitNetworkManager() {
+        this.propagator = new PowerPropagator(this);
+    }
 
     /**
-     * Power propagator for BFS updates.
+     * Called when a conduit or power source is placed.
+     * Records the layout change and marks the network for recalculation.
+     *
+     * @param sourceOutput Output power if the block is a power source, otherwise 0
+     * @param decayRate    Decay rate of the conduit (recorded so replays use the same block type)
      */
-    private final PowerPropagator propagator;
+    public void onConduitPlaced(World world, Vector3i position, int sourceOutput, int decayRate) {
+        if (world == null || position == null) return;
+
+        if (sourceOutput > 0) {
+            record(OpType.PLACE_SOURCE, position, sourceOutput);
+        } else {
+            record(OpType.PLACE_CONDUIT, position, decayRate);
+        }
+        invalidateNetworkAt(world, position);
+    }
 
     /**
-     * Reference to the current world (set on first use).
+     * Called when a conduit or power source is broken.
+     * Records the layout change and marks the network for recalculation.
      */
-    private World currentWorld;
+    public void onConduitBroken(World world, Vector3i position) {
+        if (world == null || position == null) return;
 
-    public ConduitNetworkManager() {
-        this.propagator = new PowerPropagator(this);
+        record(OpType.BREAK, position, 0);
+
+        // Drop the block from its network now so counts stay accurate until recalculation
+        long key = ConduitNetwork.packPosition(position.x, position.y, position.z);
+        ConduitNetwork network = networks(world).membership.remove(key);
+        if (network != null) {
+            network.removeMember(key);
+        }
+
+        invalidateNetworkAt(world, position);
     }
 
     /**
      * Called when a conduit block is placed or broken at the given position.
      * Marks the network for recalculation.
      */
-    public void invalidateNetworkAt(Vector3i position) {
-        if (position == null) return;
+    public void invalidateNetworkAt(World world, Vector3i position) {
+        if (world == null || position == null) return;
 
-        dirtyPositions.add(position.clone());
+        record(OpType.INVALIDATE, position, 0);
 
-        // Invalidate cache for this chunk
+        WorldNetworks networks = networks(world);
         long chunkKey = getChunkKey(position.x >> 5, position.z >> 5);
-        networkCache.remove(chunkKey);
+        networks.dirtyByRegion.computeIfAbsent(chunkKey, k -> ConcurrentHashMap.newKeySet())
+            .add(position.clone());
+
+        markNetworksDirtyAround(networks, position);
+
+        networks.regionActivity.recordInvalidation(position.x, position.z);
 
         LOGGER.atFine().log("Network invalidated at %s", position);
     }
 
     /**
      * Called when power changes at a position.
-     * Used for tracking and potential optimizations.
+     * Heats the surrounding column so it keeps being ticked while power is moving.
      */
-    public void onPowerChanged(Vector3i position, int oldPower, int newPower) {
-        // Currently just logging - could be used for cascading updates
+    public void onPowerChanged(World world, Vector3i position, int oldPower, int newPower) {
+        if (world == null || position == null) return;
+
+        onPowerChanged(networks(world), position, oldPower, newPower);
+    }
+
+    /**
+     * Power change reported by the propagator. Headless worlds (replay) have no manager state.
+     */
+    void onPowerChanged(ConduitWorld world, Vector3i position, int oldPower, int newPower) {
+        WorldNetworks networks = networks(world);
+        if (networks != null) {
+            onPowerChanged(networks, position, oldPower, newPower);
+        }
+    }
+
+    private void onPowerChanged(WorldNetworks networks, Vector3i position, int oldPower, int newPower) {
+        networks.regionActivity.recordChange(position.x, position.z);
+
+        long key = ConduitNetwork.packPosition(position.x, position.y, position.z);
+        ConduitNetwork network = networks.membership.get(key);
+        if (network != null) {
+            network.onPowerChanged(key, newPower);
+        }
+
         LOGGER.atFine().log("Power changed at %s: %d -> %d", position, oldPower, newPower);
     }
 
     /**
-     * Process any pending network recalculations.
-     * Should be called periodically (e.g., from a tick handler).
+     * Advance every world's activity map by one tick, cooling every column.
+     * Called once per manager tick, independent of how many worlds are processed.
+     */
+    public void tickActivity() {
+        for (WorldNetworks networks : worlds.values()) {
+            networks.regionActivity.advanceTick();
+        }
+    }
+
+    /**
+     * Check whether any world has pending recalculations, source updates or conduits to wake.
+     */
+    public boolean hasPendingWork() {
+        for (WorldNetworks networks : worlds.values()) {
+            if (networks.hasPendingWork()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Check whether a world has pending recalculations, source updates or conduits to wake.
+     */
+    public boolean hasPendingWork(World world) {
+        WorldNetworks networks = world != null ? worlds.get(world.getName()) : null;
+        return networks != null && networks.hasPendingWork();
+    }
+
+    /**
+     * Queue a power source change to be solved on the next manager tick.
+     * Safe to call from any thread. Repeated changes to the same source before
+     * the tick collapse into one solve using the latest output.
+     *
+     * @param power New output power, or 0 if the source turned off
+     */
+    public void queueSourceUpdate(World world, Vector3i sourcePos, int power) {
+        if (world == null || sourcePos == null) return;
+
+        long key = ConduitNetwork.packPosition(sourcePos.x, sourcePos.y, sourcePos.z);
+        PendingSourceUpdate previous = networks(world).pendingSources.put(key,
+            new PendingSourceUpdate(sourcePos.clone(), power));
+        if (previous != null) {
+            LOGGER.atFine().log("Coalesced source update at %s", sourcePos);
+        }
+    }
+
+    /**
+     * Apply queued source changes for a world. Must run on that world's thread.
+     */
+    private void processSourceUpdates(World world, WorldNetworks networks) {
+        for (Map.Entry<Long, PendingSourceUpdate> entry : networks.pendingSources.entrySet()) {
+            PendingSourceUpdate update = entry.getValue();
+
+            // Only remove the exact update we read; a newer one queued meanwhile waits for the next tick
+            if (!networks.pendingSources.remove(entry.getKey(), update)) {
+                continue;
+            }
+
+            if (update.power() > 0) {
+                propagatePower(world, update.position(), update.power());
+            } else {
+                clearPower(world, update.position());
+            }
+        }
+    }
+
+    /**
+     * Process a world's pending work: queued source changes, recalculations
+     * in hot columns, and waking conduits whose column turned hot.
+     * Cold columns are left pending and solved lazily on first read.
+     * Must run on the world's thread; only that world's entries are touched.
      */
     public void processDirtyNetworks(World world) {
-        if (dirtyPositions.isEmpty()) {
+        if (world == null) return;
+
+        WorldNetworks networks = worlds.get(world.getName());
+        if (networks == null) {
             return;
         }
 
-        this.currentWorld = world;
+        // Source changes are what make a region hot, so they are applied regardless of heat
+        if (!networks.pendingSources.isEmpty()) {
+            processSourceUpdates(world, networks);
+        }
 
-        long now = System.currentTimeMillis();
-        Set<Vector3i> toProcess = new HashSet<>(dirtyPositions);
-        dirtyPositions.clear();
+        if (!networks.dirtyByRegion.isEmpty()) {
+            long now = System.currentTimeMillis();
+            for (Long chunkKey : new ArrayList<>(networks.dirtyByRegion.keySet())) {
+                if (!networks.regionActivity.isHot(chunkKey)) {
+                    continue;
+                }
 
-        for (Vector3i pos : toProcess) {
-            long chunkKey = getChunkKey(pos.x >> 5, pos.z >> 5);
+                // Check cooldown
+                Long lastTime = networks.lastRecalcTime.get(chunkKey);
+                if (lastTime != null && (now - lastTime) < RECALC_COOLDOWN_MS) {
+                    continue;
+                }
 
-            // Check cooldown
-            Long lastTime = lastRecalcTime.get(chunkKey);
-            if (lastTime != null && (now - lastTime) < RECALC_COOLDOWN_MS) {
-                // Re-queue for later
-                dirtyPositions.add(pos);
+                solveRegion(world, networks, chunkKey, now);
+            }
+        }
+
+        if (!networks.toWake.isEmpty()) {
+            wakeColumns(world, networks);
+        }
+    }
+
+    /**
+     * Called by the tick procedure when a conduit goes to sleep in a cold column.
+     * The conduit is woken again when its column heats up.
+     */
+    public void onConduitSleeping(World world, int blockX, int blockY, int blockZ) {
+        if (world == null) return;
+
+        WorldNetworks networks = networks(world);
+        long columnKey = getChunkKey(blockX >> 5, blockZ >> 5);
+        networks.sleeping.computeIfAbsent(columnKey, k -> ConcurrentHashMap.newKeySet())
+            .add(new Vector3i(blockX, blockY, blockZ));
+
+        // The column may have heated between the tick's check and now
+        if (networks.regionActivity.isHot(columnKey)) {
+            networks.toWake.add(columnKey);
+        }
+    }
+
+    /**
+     * Resume ticking the sleeping conduits of every column that turned hot.
+     */
+    private void wakeColumns(World world, WorldNetworks networks) {
+        Iterator<Long> it = networks.toWake.iterator();
+        while (it.hasNext()) {
+            long columnKey = it.next();
+            it.remove();
+
+            Set<Vector3i> sleepers = networks.sleeping.remove(columnKey);
+            if (sleepers == null) {
                 continue;
             }
+            for (Vector3i pos : sleepers) {
+                WorldChunk chunk = world.getChunkIfLoaded(ChunkUtil.indexChunkFromBlock(pos.x, pos.z));
+                if (chunk != null) {
+                    chunk.setTicking(pos.x & 31, pos.y, pos.z & 31, true);
+                }
+            }
+            LOGGER.atFine().log("Woke %d conduits in column %d", sleepers.size(), columnKey);
+        }
+    }
+
+    /**
+     * Solve any pending work in the column containing the given block,
+     * regardless of its heat. Used before reading power from a cold column.
+     * Writes block states, so call it on the world's thread.
+     */
+    public void ensureRegionSolved(World world, int blockX, int blockZ) {
+        if (world == null) return;
+
+        WorldNetworks networks = worlds.get(world.getName());
+        long chunkKey = getChunkKey(blockX >> 5, blockZ >> 5);
+        if (networks != null && networks.dirtyByRegion.containsKey(chunkKey)) {
+            solveRegion(world, networks, chunkKey, System.currentTimeMillis());
+        }
+    }
+
+    /**
+     * Read the power level at a position, solving its column first if it is cold.
+     * Returns 0 if there is no conduit or the chunk is not loaded.
+     */
+    public int getPowerAt(World world, Vector3i position) {
+        if (world == null || position == null) return 0;
+
+        ensureRegionSolved(world, position.x, position.z);
+
+        long chunkIndex = ChunkUtil.indexChunkFromBlock(position.x, position.z);
+        WorldChunk chunk = world.getChunkIfLoaded(chunkIndex);
+        if (chunk == null) return 0;
+
+        BlockState state = chunk.getState(position.x & 31, position.y, position.z & 31);
+        return state instanceof ConduitBlockState conduit ? conduit.getPowerLevel() : 0;
+    }
 
-            // Recalculate the network
+    /**
+     * Check whether the column containing the given block should be actively ticked.
+     */
+    public boolean isRegionActive(World world, int blockX, int blockZ) {
+        WorldNetworks networks = world != null ? worlds.get(world.getName()) : null;
+        return networks != null && networks.regionActivity.isHotBlock(blockX, blockZ);
+    }
+
+    /**
+     * Get a world's region activity map (for debugging/visualization).
+     */
+    public RegionActivityMap getRegionActivity(World world) {
+        return networks(world).regionActivity;
+    }
+
+    /**
+     * Check whether a column in a world has pending recalculations.
+     */
+    public boolean isRegionDirty(World world, int columnX, int columnZ) {
+        WorldNetworks networks = world != null ? worlds.get(world.getName()) : null;
+        return networks != null && networks.dirtyByRegion.containsKey(getChunkKey(columnX, columnZ));
+    }
+
+    private void solveRegion(World world, WorldNetworks networks, long chunkKey, long now) {
+        Set<Vector3i> pending = networks.dirtyByRegion.remove(chunkKey);
+        if (pending == null) {
+            return;
+        }
+
+        for (Vector3i pos : pending) {
             propagator.recalculateNetwork(world, pos);
-            lastRecalcTime.put(chunkKey, now);
         }
+        networks.lastRecalcTime.put(chunkKey, now);
     }
 
     /**
@@ -121,11 +378,14 @@ public class ConduitNetworkManager {
     public void recalculateNetworkNow(World world, Vector3i position) {
         if (world == null || position == null) return;
 
-        this.currentWorld = world;
+        record(OpType.INVALIDATE, position, 0);
         propagator.recalculateNetwork(world, position);
 
         // Remove from dirty set if present
-        dirtyPositions.remove(position);
+        Set<Vector3i> pending = networks(world).dirtyByRegion.get(getChunkKey(position.x >> 5, position.z >> 5));
+        if (pending != null) {
+            pending.remove(position);
+        }
     }
 
     /**
@@ -134,7 +394,8 @@ public class ConduitNetworkManager {
     public void propagatePower(World world, Vector3i sourcePos, int power) {
         if (world == null || sourcePos == null) return;
 
-        this.currentWorld = world;
+        record(OpType.PROPAGATE, sourcePos, power);
+        networks(world).regionActivity.recordInvalidation(sourcePos.x, sourcePos.z);
         propagator.propagateFromSource(world, sourcePos, power);
     }
 
@@ -144,128 +405,249 @@ public class ConduitNetworkManager {
     public void clearPower(World world, Vector3i startPos) {
         if (world == null || startPos == null) return;
 
-        this.currentWorld = world;
+        record(OpType.CLEAR, startPos, 0);
+        networks(world).regionActivity.recordInvalidation(startPos.x, startPos.z);
         propagator.clearNetwork(world, startPos);
     }
 
+    /**
+     * Called by the propagator after it recalculates a network; the only place a
+     * network's recalculation time is stamped.
+     * Replaces the previous membership of every discovered block with a fresh network.
+     */
+    void onNetworkDiscovered(ConduitWorld world, Set<Vector3i> blocks, List<Vector3i> sources) {
+        WorldNetworks networks = networks(world);
+        if (networks == null) {
+            return;
+        }
+
+        ConduitNetwork network = new ConduitNetwork(System.currentTimeMillis());
+
+        for (Vector3i pos : blocks) {
+            long key = ConduitNetwork.packPosition(pos.x, pos.y, pos.z);
+            network.addMember(key, world.getPower(pos.x, pos.y, pos.z));
+
+            ConduitNetwork previous = networks.membership.put(key, network);
+            if (previous != null && previous != network) {
+                previous.removeMember(key);
+            }
+        }
+        for (Vector3i pos : sources) {
+            network.addSource(ConduitNetwork.packPosition(pos.x, pos.y, pos.z));
+        }
+    }
+
     /**
      * Get debug information about a network at the given position.
+     *
+     * Served from the cached aggregates in the membership index in O(1); this
+     * never walks the network. A conduit that has not been indexed yet (e.g.
+     * loaded from disk and never recalculated) is queued for recalculation on
+     * the world thread and {@link NetworkDebugInfo#PENDING} is returned.
      */
     public NetworkDebugInfo getNetworkDebugInfo(World world, Vector3i position) {
         if (world == null || position == null) {
-            return new NetworkDebugInfo(0, 0, 0, false);
+            return NetworkDebugInfo.EMPTY;
         }
 
-        // Count connected blocks (BFS)
-        Set<Vector3i> visited = new HashSet<>();
-        Queue<Vector3i> queue = new ArrayDeque<>();
-        int totalPower = 0;
-        int sourceCount = 0;
-
-        queue.add(position.clone());
-
-        int[][] directions = {
-            {-1, 0, 0}, {1, 0, 0},
-            {0, -1, 0}, {0, 1, 0},
-            {0, 0, -1}, {0, 0, 1}
-        };
+        Map<Long, ConduitNetwork> membership = networks(world).membership;
+        long key = ConduitNetwork.packPosition(position.x, position.y, position.z);
+        ConduitNetwork network = membership.get(key);
+        if (network == null) {
+            invalidateNetworkAt(world, position);
+            return NetworkDebugInfo.PENDING;
+        }
 
-        while (!queue.isEmpty() && visited.size() < 1000) {  // Limit for performance
-            Vector3i pos = queue.poll();
+        return new NetworkDebugInfo(
+            network.getBlockCount(),
+            network.getTotalPower(),
+            network.getSourceCount(),
+            network.isDirty(),
+            network.getLastRecalcTime()
+        );
+    }
 
-            if (visited.contains(pos)) continue;
+    /**
+     * Mark the networks at and around a position dirty.
+     * Neighbors are included since placing or breaking a block can join or split them.
+     */
+    private void markNetworksDirtyAround(WorldNetworks networks, Vector3i position) {
+        markDirty(networks, position.x, position.y, position.z);
+        markDirty(networks, position.x - 1, position.y, position.z);
+        markDirty(networks, position.x + 1, position.y, position.z);
+        markDirty(networks, position.x, position.y - 1, position.z);
+        markDirty(networks, position.x, position.y + 1, position.z);
+        markDirty(networks, position.x, position.y, position.z - 1);
+        markDirty(networks, position.x, position.y, position.z + 1);
+    }
 
-            long chunkIndex = ChunkUtil.indexChunkFromBlock(pos.x, pos.z);
-            WorldChunk chunk = world.getChunkIfLoaded(chunkIndex);
-            if (chunk == null) continue;
+    private void markDirty(WorldNetworks networks, int x, int y, int z) {
+        ConduitNetwork network = networks.membership.get(ConduitNetwork.packPosition(x, y, z));
+        if (network != null) {
+            network.markDirty();
+        }
+    }
 
-            BlockState state = chunk.getState(pos.x & 31, pos.y, pos.z & 31);
-            if (state instanceof ConduitBlockState conduit) {
-                visited.add(pos.clone());
-                totalPower += conduit.getPowerLevel();
+    // ==================== Recording ====================
 
-                // Check for power sources (adjacent to this conduit)
-                for (int[] dir : directions) {
-                    Vector3i neighborPos = new Vector3i(
-                        pos.x + dir[0], pos.y + dir[1], pos.z + dir[2]
-                    );
+    /**
+     * Start recording network operations to a file for later replay.
+     * Any recording already in progress is closed first.
+     */
+    public void startRecording(Path file) throws IOException {
+        stopRecording();
+        recorder = ConduitRecorder.open(file);
+        LOGGER.atInfo().log("Conduit recording started: %s", file);
+    }
 
-                    if (neighborPos.y >= 0 && neighborPos.y < 320 &&
-                        !visited.contains(neighborPos)) {
-                        queue.add(neighborPos);
-                    }
-                }
-            }
+    /**
+     * Stop the active recording.
+     *
+     * @return Number of operations recorded, or -1 if not recording
+     */
+    public int stopRecording() {
+        ConduitRecorder active = recorder;
+        if (active == null) {
+            return -1;
         }
+        recorder = null;
+        active.close();
+        return active.getOpCount();
+    }
 
-        boolean isDirty = dirtyPositions.stream()
-            .anyMatch(p -> visited.contains(p));
+    public boolean isRecording() {
+        return recorder != null;
+    }
 
-        return new NetworkDebugInfo(
-            visited.size(),
-            totalPower,
-            sourceCount,
-            isDirty
-        );
+    private void record(OpType type, Vector3i position, int arg) {
+        ConduitRecorder active = recorder;
+        if (active != null) {
+            active.record(type, position, arg);
+        }
     }
 
     /**
      * Shutdown the network manager.
      */
     public void shutdown() {
-        dirtyPositions.clear();
-        networkCache.clear();
-        lastRecalcTime.clear();
+        stopRecording();
+        worlds.clear();
         LOGGER.atInfo().log("ConduitNetworkManager shutdown complete");
     }
 
     // ==================== Helper Methods ====================
 
     private long getChunkKey(int chunkX, int chunkZ) {
-        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        return RegionActivityMap.columnKey(chunkX, chunkZ);
+    }
+
+    /**
+     * Get (creating on first use) the state of a world.
+     */
+    private WorldNetworks networks(World world) {
+        return worlds.computeIfAbsent(world.getName(), name -> new WorldNetworks());
+    }
+
+    /**
+     * Get the state behind a solver's world view, or null for headless worlds.
+     */
+    private WorldNetworks networks(ConduitWorld world) {
+        return world instanceof HytaleConduitWorld live ? networks(live.getWorld()) : null;
     }
 
     // ==================== Inner Classes ====================
 
     /**
-     * Cached network information.
+     * Network state of one world.
      */
-    private static class NetworkCache {
-        final Set<Vector3i> members;
-        final int totalPower;
-        final long timestamp;
+    private static final class WorldNetworks {
+
+        /**
+         * Positions that need network recalculation, bucketed by column key.
+         */
+        final Map<Long, Set<Vector3i>> dirtyByRegion = new ConcurrentHashMap<>();
+
+        /**
+         * Power source changes waiting for the next tick, one per source position.
+         * Key: packed source position, Value: latest requested output (0 = cleared)
+         */
+        final Map<Long, PendingSourceUpdate> pendingSources = new ConcurrentHashMap<>();
+
+        /**
+         * Network membership index.
+         * Key: packed conduit position ({@link ConduitNetwork#packPosition}), Value: its network
+         */
+        final Map<Long, ConduitNetwork> membership = new ConcurrentHashMap<>();
+
+        /**
+         * Timestamp of last recalculation per column.
+         */
+        final Map<Long, Long> lastRecalcTime = new ConcurrentHashMap<>();
+
+        /**
+         * Conduits that stopped ticking because their column was cold, by column key.
+         */
+        final Map<Long, Set<Vector3i>> sleeping = new ConcurrentHashMap<>();
+
+        /**
+         * Columns that turned hot while they had sleeping conduits.
+         */
+        final Set<Long> toWake = ConcurrentHashMap.newKeySet();
+
+        /**
+         * Recent power activity per column, used to decide what gets ticked.
+         */
+        final RegionActivityMap regionActivity = new RegionActivityMap(columnKey -> {
+            if (sleeping.containsKey(columnKey)) {
+                toWake.add(columnKey);
+            }
+        });
 
-        NetworkCache(Set<Vector3i> members, int totalPower) {
-            this.members = members;
-            this.totalPower = totalPower;
-            this.timestamp = System.currentTimeMillis();
+        boolean hasPendingWork() {
+            return !dirtyByRegion.isEmpty() || !pendingSources.isEmpty() || !toWake.isEmpty();
         }
+    }
 
-        boolean isValid() {
-            return (System.currentTimeMillis() - timestamp) < 5000;  // 5 second validity
-        }
+    /**
+     * A queued power source change.
+     */
+    private record PendingSourceUpdate(Vector3i position, int power) {
     }
 
     /**
      * Debug information about a network.
      */
     public static class NetworkDebugInfo {
+        public static final NetworkDebugInfo EMPTY = new NetworkDebugInfo(0, 0, 0, false, 0);
+
+        /**
+         * Returned for a position that is not indexed yet; it has been queued for recalculation.
+         */
+        public static final NetworkDebugInfo PENDING = new NetworkDebugInfo(0, 0, 0, true, 0);
+
         public final int blockCount;
         public final int totalPower;
         public final int sourceCount;
         public final boolean isDirty;
+        public final long lastRecalcTime;
 
-        public NetworkDebugInfo(int blockCount, int totalPower, int sourceCount, boolean isDirty) {
+        public NetworkDebugInfo(int blockCount, int totalPower, int sourceCount, boolean isDirty, long lastRecalcTime) {
             this.blockCount = blockCount;
             this.totalPower = totalPower;
             this.sourceCount = sourceCount;
             this.isDirty = isDirty;
+            this.lastRecalcTime = lastRecalcTime;
+        }
+
+        public float getAveragePower() {
+            return blockCount > 0 ? (float) totalPower / blockCount : 0.0f;
         }
 
         @Override
         public String toString() {
-            return String.format("Network[blocks=%d, totalPower=%d, sources=%d, dirty=%s]",
-                blockCount, totalPower, sourceCount, isDirty);
+            long age = lastRecalcTime > 0 ? System.currentTimeMillis() - lastRecalcTime : -1;
+            return String.format("Network[blocks=%d, totalPower=%d, avgPower=%.1f, sources=%d, dirty=%s, recalcAgeMs=%d]",
+                blockCount, totalPower, getAveragePower(), sourceCount, isDirty, age);
         }
     }
 }
@@ -0,0 +1,155 @@
+package com.arcane.conduits.core.power;
+
+import com.arcane.conduits.blocks.state.ConduitBlockState;
+import com.arcane.conduits.blocks.state.PowerSourceBlockState;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.BlockType;
+import com.hypixel.hytale.server.core.asset.type.blocktype.config.StateData;
+
+import java.util.Arrays;
+
+/**
+ * Flat per-block-type table of conduit properties, indexed by block id.
+ *
+ * Max power and decay rate are configured per block type through
+ * {@link ConduitBlockState.ConduitStateData} in the block JSON, and source
+ * output through {@link PowerSourceBlockState.PowerSourceStateData}. They are
+ * resolved from the asset map the first time a block id is looked up and then
+ * served from plain arrays, so solvers can read decay without touching the
+ * block's BlockState.
+ *
+ * Block ids that are not conduits resolve to the defaults; block ids that are
+ * not power sources have an output of 0.
+ */
+public final class ConduitPropertyTable {
+
+    public static final int DEFAULT_MAX_POWER = 15;
+    public static final int DEFAULT_DECAY_RATE = 1;
+
+    private static final byte UNRESOLVED = 0;
+    private static final byte RESOLVED = 1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Arrays are replaced (never resized in place) so readers never see a torn table.
+     */
+    private static volatile Table table = new Table(INITIAL_CAPACITY);
+
+    private ConduitPropertyTable() {
+    }
+
+    /**
+     * Get the max power for a block id.
+     */
+    public static int getMaxPower(int blockId) {
+        Table current = resolve(blockId);
+        return blockId >= 0 ? current.maxPower[blockId] : DEFAULT_MAX_POWER;
+    }
+
+    /**
+     * Get the per-block decay rate for a block id.
+     */
+    public static int getDecayRate(int blockId) {
+        Table current = resolve(blockId);
+        return blockId >= 0 ? current.decayRate[blockId] : DEFAULT_DECAY_RATE;
+    }
+
+    /**
+     * Get the configured output power of a power source block id, or 0 if it is not a source.
+     */
+    public static int getSourceOutput(int blockId) {
+        Table current = resolve(blockId);
+        return blockId >= 0 ? current.sourceOutput[blockId] : 0;
+    }
+
+    /**
+     * Drop all resolved entries (e.g. after assets reload or on shutdown).
+     */
+    public static synchronized void clear() {
+        table = new Table(INITIAL_CAPACITY);
+    }
+
+    // ==================== Resolution ====================
+
+    private static Table resolve(int blockId) {
+        Table current = table;
+        if (blockId < 0) {
+            return current;
+        }
+        if (blockId < current.state.length && current.state[blockId] == RESOLVED) {
+            return current;
+        }
+        return resolveSlow(blockId);
+    }
+
+    private static synchronized Table resolveSlow(int blockId) {
+        Table current = table;
+        if (blockId >= current.state.length) {
+            current = current.grow(blockId + 1);
+        } else if (current.state[blockId] == RESOLVED) {
+            return current;
+        } else {
+            current = current.copy();
+        }
+
+        int maxPower = DEFAULT_MAX_POWER;
+        int decayRate = DEFAULT_DECAY_RATE;
+        int sourceOutput = 0;
+
+        BlockType blockType = BlockType.getAssetMap().getAsset(blockId);
+        if (blockType != null) {
+            StateData data = blockType.getState();
+            if (data instanceof ConduitBlockState.ConduitStateData conduitData) {
+                maxPower = Math.max(0, Math.min(DEFAULT_MAX_POWER, conduitData.getMaxPower()));
+                // Same range as power, so the byte never wraps into a negative (power-gaining) decay
+                decayRate = Math.max(0, Math.min(DEFAULT_MAX_POWER, conduitData.getDecayRate()));
+            } else if (data instanceof PowerSourceBlockState.PowerSourceStateData sourceData) {
+                sourceOutput = Math.max(0, Math.min(DEFAULT_MAX_POWER, sourceData.getOutputPower()));
+            }
+        }
+
+        current.maxPower[blockId] = (byte) maxPower;
+        current.decayRate[blockId] = (byte) decayRate;
+        current.sourceOutput[blockId] = (byte) sourceOutput;
+        current.state[blockId] = RESOLVED;
+        table = current;
+        return current;
+    }
+
+    // ==================== Inner Classes ====================
+
+    private static final class Table {
+        final byte[] state;
+        final byte[] maxPower;
+        final byte[] decayRate;
+        final byte[] sourceOutput;
+
+        Table(int capacity) {
+            this.state = new byte[capacity];
+            this.maxPower = new byte[capacity];
+            this.decayRate = new byte[capacity];
+            this.sourceOutput = new byte[capacity];
+        }
+
+        private Table(byte[] state, byte[] maxPower, byte[] decayRate, byte[] sourceOutput) {
+            this.state = state;
+            this.maxPower = maxPower;
+            this.decayRate = decayRate;
+            this.sourceOutput = sourceOutput;
+        }
+
+        Table copy() {
+            return new Table(state.clone(), maxPower.clone(), decayRate.clone(), sourceOutput.clone());
+        }
+
+        Table grow(int minCapacity) {
+            int capacity = Math.max(minCapacity, state.length * 2);
+            return new Table(
+                Arrays.copyOf(state, capacity),
+                Arrays.copyOf(maxPower, capacity),
+                Arrays.copyOf(decayRate, capacity),
+                Arrays.copyOf(sourceOutput, capacity)
+            );
+        }
+    }
+}
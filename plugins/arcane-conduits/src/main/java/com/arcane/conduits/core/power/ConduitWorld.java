@@ -0,0 +1,47 @@
+package com.arcane.conduits.core.power;
+
+/**
+ * Minimal view of a world as seen by a power solver.
+ *
+ * Solvers only ever need to know where conduits and sources are, read and
+ * write conduit power, and read decay rates. Keeping that behind an interface
+ * lets the same solver run against a live {@link com.hypixel.hytale.server.core.universe.world.World}
+ * ({@link HytaleConduitWorld}) or a headless array-backed world used for replay.
+ */
+public interface ConduitWorld {
+
+    /**
+     * Minimum valid Y coordinate (inclusive).
+     */
+    int MIN_Y = 0;
+
+    /**
+     * Maximum valid Y coordinate (exclusive).
+     */
+    int MAX_Y = 320;
+
+    /**
+     * Check if the position contains a conduit.
+     */
+    boolean isConduit(int x, int y, int z);
+
+    /**
+     * Get the power level of the conduit at the position, or 0 if none.
+     */
+    int getPower(int x, int y, int z);
+
+    /**
+     * Set the power level of the conduit at the position. No-op if not a conduit.
+     */
+    void setPower(int x, int y, int z, int power);
+
+    /**
+     * Get the decay rate of the conduit at the position (1 if unknown).
+     */
+    int getDecayRate(int x, int y, int z);
+
+    /**
+     * Get the output of a power source at the position, or 0 if not a source.
+     */
+    int getSourcePower(int x, int y, int z);
+}
@@ -0,0 +1,85 @@
+package com.arcane.conduits.core.power;
+
+import com.arcane.conduits.blocks.state.ConduitBlockState;
+import com.hypixel.hytale.math.util.ChunkUtil;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
+import com.hypixel.hytale.server.core.universe.world.meta.BlockState;
+
+/**
+ * {@link ConduitWorld} backed by a live Hytale world.
+ *
+ * Only loaded chunks are considered; positions in unloaded chunks read as empty.
+ */
+@SuppressWarnings("deprecation")  // BlockState is deprecated but still functional
+public class HytaleConduitWorld implements ConduitWorld {
+
+    private final World world;
+
+    public HytaleConduitWorld(World world) {
+        this.world = world;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    @Override
+    public boolean isConduit(int x, int y, int z) {
+        return getConduitState(x, y, z) != null;
+    }
+
+    @Override
+    public int getPower(int x, int y, int z) {
+        ConduitBlockState conduit = getConduitState(x, y, z);
+        return conduit != null ? conduit.getPowerLevel() : 0;
+    }
+
+    @Override
+    public void setPower(int x, int y, int z, int power) {
+        WorldChunk chunk = getChunk(x, z);
+        if (chunk == null) {
+            return;
+        }
+
+        BlockState state = chunk.getState(x & 31, y, z & 31);
+        if (state instanceof ConduitBlockState conduit) {
+            int maxPower = ConduitPropertyTable.getMaxPower(chunk.getBlock(x & 31, y, z & 31));
+            conduit.setPowerLevel(Math.min(maxPower, power));
+        }
+    }
+
+    @Override
+    public int getDecayRate(int x, int y, int z) {
+        WorldChunk chunk = getChunk(x, z);
+        if (chunk == null) {
+            return ConduitPropertyTable.DEFAULT_DECAY_RATE;
+        }
+        return ConduitPropertyTable.getDecayRate(chunk.getBlock(x & 31, y, z & 31));
+    }
+
+    @Override
+    public int getSourcePower(int x, int y, int z) {
+        WorldChunk chunk = getChunk(x, z);
+        if (chunk == null) {
+            return 0;
+        }
+
+        return ConduitPropertyTable.getSourceOutput(chunk.getBlock(x & 31, y, z & 31));
+    }
+
+    private ConduitBlockState getConduitState(int x, int y, int z) {
+        WorldChunk chunk = getChunk(x, z);
+        if (chunk == null) {
+            return null;
+        }
+
+        BlockState state = chunk.getState(x & 31, y, z & 31);
+        return state instanceof ConduitBlockState conduit ? conduit : null;
+    }
+
+    private WorldChunk getChunk(int x, int z) {
+        long chunkIndex = ChunkUtil.indexChunkFromBlock(x, z);
+        return world.getChunkIfLoaded(chunkIndex);
+    }
+}
@@ -1,12 +1,8 @@
 package com.arcane.conduits.core.power;
 
-import com.arcane.conduits.blocks.state.ConduitBlockState;
 import com.hypixel.hytale.logger.HytaleLogger;
-import com.hypixel.hytale.math.util.ChunkUtil;
 import com.hypixel.hytale.math.vector.Vector3i;
 import com.hypixel.hytale.server.core.universe.world.World;
-import com.hypixel.hytale.server.core.universe.world.chunk.WorldChunk;
-import com.hypixel.hytale.server.core.universe.world.meta.BlockState;
 
 import java.util.*;
 
@@ -17,9 +13,11 @@ import java.util.*;
  * - Each conduit loses power based on its decay rate
  * - Power takes the maximum path (not cumulative)
  * - Networks are traversed breadth-first for efficiency
+ *
+ * All traversal runs against a {@link ConduitWorld}; the {@link World} overloads
+ * wrap the live world in a {@link HytaleConduitWorld}.
  */
-@SuppressWarnings("deprecation")  // BlockState is deprecated but still functional
-public class PowerPropagator {
+public class PowerPropagator implements PowerSolver {
 
     private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
 
@@ -46,6 +44,13 @@ public class PowerPropagator {
         this.networkManager = networkManager;
     }
 
+    /**
+     * Create a propagator with no network manager (headless replay/fuzzing).
+     */
+    public PowerPropagator() {
+        this(null);
+    }
+
     /**
      * Propagate power from a source position through the network.
      *
@@ -54,6 +59,41 @@ public class PowerPropagator {
      * @param sourcePower The power level at the source (0-15)
      */
     public void propagateFromSource(World world, Vector3i sourcePos, int sourcePower) {
+        if (world == null) {
+            return;
+        }
+        propagateFromSource(new HytaleConduitWorld(world), sourcePos, sourcePower);
+    }
+
+    /**
+     * Clear power from a network starting at the given position.
+     */
+    public void clearNetwork(World world, Vector3i startPos) {
+        if (world == null) {
+            return;
+        }
+        clearNetwork(new HytaleConduitWorld(world), startPos);
+    }
+
+    /**
+     * Recalculate power for the entire network containing the given position.
+     */
+    public void recalculateNetwork(World world, Vector3i startPos) {
+        if (world == null) {
+            return;
+        }
+        recalculateNetwork(new HytaleConduitWorld(world), startPos);
+    }
+
+    /**
+     * Propagate power from a source position through the network.
+     *
+     * @param world       The world containing the conduits
+     * @param sourcePos   The position of the power source
+     * @param sourcePower The power level at the source (0-15)
+     */
+    @Override
+    public void propagateFromSource(ConduitWorld world, Vector3i sourcePos, int sourcePower) {
         if (world == null || sourcePos == null || sourcePower <= 0) {
             return;
         }
@@ -97,7 +137,7 @@ public class PowerPropagator {
                 );
 
                 // Check bounds
-                if (neighborPos.y < 0 || neighborPos.y >= 320) {
+                if (neighborPos.y < ConduitWorld.MIN_Y || neighborPos.y >= ConduitWorld.MAX_Y) {
                     continue;
                 }
 
@@ -130,7 +170,8 @@ public class PowerPropagator {
      * @param world    The world
      * @param startPos The starting position
      */
-    public void clearNetwork(World world, Vector3i startPos) {
+    @Override
+    public void clearNetwork(ConduitWorld world, Vector3i startPos) {
         if (world == null || startPos == null) {
             return;
         }
@@ -160,7 +201,7 @@ public class PowerPropagator {
                     pos.z + dir[2]
                 );
 
-                if (neighborPos.y >= 0 && neighborPos.y < 320 &&
+                if (neighborPos.y >= ConduitWorld.MIN_Y && neighborPos.y < ConduitWorld.MAX_Y &&
                     !visited.contains(neighborPos) &&
                     isConduit(world, neighborPos)) {
                     queue.add(neighborPos);
@@ -178,7 +219,8 @@ public class PowerPropagator {
      * @param world    The world
      * @param startPos Any position in the network
      */
-    public void recalculateNetwork(World world, Vector3i startPos) {
+    @Override
+    public void recalculateNetwork(ConduitWorld world, Vector3i startPos) {
         if (world == null || startPos == null) {
             return;
         }
@@ -188,6 +230,7 @@ public class PowerPropagator {
         List<PowerSourceEntry> powerSources = new ArrayList<>();
 
         discoverNetwork(world, startPos, networkBlocks, powerSources);
+        reportDiscovered(world, networkBlocks, powerSources);
 
         // Clear all blocks in the network first
         for (Vector3i pos : networkBlocks) {
@@ -203,10 +246,26 @@ public class PowerPropagator {
             startPos, networkBlocks.size(), powerSources.size());
     }
 
+    /**
+     * Hand a freshly discovered network to the manager for indexing.
+     */
+    private void reportDiscovered(ConduitWorld world, Set<Vector3i> networkBlocks,
+                                  List<PowerSourceEntry> powerSources) {
+        if (networkManager == null || networkBlocks.isEmpty()) {
+            return;
+        }
+
+        List<Vector3i> sourcePositions = new ArrayList<>(powerSources.size());
+        for (PowerSourceEntry source : powerSources) {
+            sourcePositions.add(source.position);
+        }
+        networkManager.onNetworkDiscovered(world, networkBlocks, sourcePositions);
+    }
+
     /**
      * Discover all blocks in a network and identify power sources.
      */
-    private void discoverNetwork(World world, Vector3i startPos,
+    private void discoverNetwork(ConduitWorld world, Vector3i startPos,
                                   Set<Vector3i> networkBlocks,
                                   List<PowerSourceEntry> powerSources) {
         Queue<Vector3i> queue = new ArrayDeque<>();
@@ -239,7 +298,7 @@ public class PowerPropagator {
                     pos.z + dir[2]
                 );
 
-                if (neighborPos.y >= 0 && neighborPos.y < 320 &&
+                if (neighborPos.y >= ConduitWorld.MIN_Y && neighborPos.y < ConduitWorld.MAX_Y &&
                     !networkBlocks.contains(neighborPos)) {
                     queue.add(neighborPos);
                 }
@@ -250,72 +309,38 @@ public class PowerPropagator {
     /**
      * Update the power level of a block.
      */
-    private void updateBlockPower(World world, Vector3i pos, int power) {
-        long chunkIndex = ChunkUtil.indexChunkFromBlock(pos.x, pos.z);
-        WorldChunk chunk = world.getChunkIfLoaded(chunkIndex);
-        if (chunk == null) {
-            return;
-        }
-
-        BlockState state = chunk.getState(pos.x & 31, pos.y, pos.z & 31);
-        if (state instanceof ConduitBlockState conduit) {
-            conduit.setPowerLevel(power);
+    private void updateBlockPower(ConduitWorld world, Vector3i pos, int power) {
+        int oldPower = world.getPower(pos.x, pos.y, pos.z);
+        world.setPower(pos.x, pos.y, pos.z, power);
+
+        if (networkManager != null) {
+            int newPower = world.getPower(pos.x, pos.y, pos.z);
+            if (newPower != oldPower) {
+                networkManager.onPowerChanged(world, pos, oldPower, newPower);
+            }
         }
     }
 
     /**
      * Check if a position contains a conduit block.
      */
-    private boolean isConduit(World world, Vector3i pos) {
-        long chunkIndex = ChunkUtil.indexChunkFromBlock(pos.x, pos.z);
-        WorldChunk chunk = world.getChunkIfLoaded(chunkIndex);
-        if (chunk == null) {
-            return false;
-        }
-
-        BlockState state = chunk.getState(pos.x & 31, pos.y, pos.z & 31);
-        return state instanceof ConduitBlockState;
+    private boolean isConduit(ConduitWorld world, Vector3i pos) {
+        return world.isConduit(pos.x, pos.y, pos.z);
     }
 
     /**
      * Get the decay rate for a conduit at the given position.
      */
-    private int getDecayRate(World world, Vector3i pos) {
-        long chunkIndex = ChunkUtil.indexChunkFromBlock(pos.x, pos.z);
-        WorldChunk chunk = world.getChunkIfLoaded(chunkIndex);
-        if (chunk == null) {
-            return 1;
-        }
-
-        BlockState state = chunk.getState(pos.x & 31, pos.y, pos.z & 31);
-        if (state instanceof ConduitBlockState conduit) {
-            return conduit.getDecayRate();
-        }
-        return 1;
+    private int getDecayRate(ConduitWorld world, Vector3i pos) {
+        return world.getDecayRate(pos.x, pos.y, pos.z);
     }
 
     /**
      * Get the power level if the position contains a power source.
      * Returns 0 if not a power source.
      */
-    private int getPowerSourceLevel(World world, Vector3i pos) {
-        long chunkIndex = ChunkUtil.indexChunkFromBlock(pos.x, pos.z);
-        WorldChunk chunk = world.getChunkIfLoaded(chunkIndex);
-        if (chunk == null) {
-            return 0;
-        }
-
-        var blockType = chunk.getBlockType(pos.x & 31, pos.y, pos.z & 31);
-        if (blockType == null) {
-            return 0;
-        }
-
-        String id = blockType.getId();
-        if (id != null && id.contains("Mana_Crystal_Core")) {
-            return 15;  // Max power for crystal core
-        }
-
-        return 0;
+    private int getPowerSourceLevel(ConduitWorld world, Vector3i pos) {
+        return world.getSourcePower(pos.x, pos.y, pos.z);
     }
 
     // ==================== Helper Classes ====================
@@ -0,0 +1,28 @@
+package com.arcane.conduits.core.power;
+
+import com.hypixel.hytale.math.vector.Vector3i;
+
+/**
+ * A power propagation algorithm.
+ *
+ * Implementations must be deterministic: applying the same sequence of calls
+ * to the same starting world must always produce the same power field. The
+ * replay harness in {@code core.replay} relies on this to compare solvers.
+ */
+public interface PowerSolver {
+
+    /**
+     * Propagate power outward from a source position.
+     */
+    void propagateFromSource(ConduitWorld world, Vector3i sourcePos, int sourcePower);
+
+    /**
+     * Clear power from every conduit connected to the start position.
+     */
+    void clearNetwork(ConduitWorld world, Vector3i startPos);
+
+    /**
+     * Recalculate power for the network containing the start position.
+     */
+    void recalculateNetwork(ConduitWorld world, Vector3i startPos);
+}
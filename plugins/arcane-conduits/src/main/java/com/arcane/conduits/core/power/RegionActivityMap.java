@@ -0,0 +1,287 @@
+package com.arcane.conduits.core.power;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Tracks recent power activity per 32x32 block column (one chunk column).
+ *
+ * Every power change or network invalidation adds heat to the column it
+ * happened in. Heat decays exponentially with each manager tick, so a column
+ * that stops changing cools down and drops out of the hot set on its own.
+ * Decay is applied lazily when a column is read or heated, so idle columns
+ * cost nothing per tick; fully cooled columns are swept out once every
+ * {@link #DECAY_TABLE_SIZE} ticks.
+ *
+ * Hot columns are solved every tick; cold columns are only solved on demand
+ * (e.g. when a player queries them or a consumer reads power).
+ *
+ * One map exists per world. Heat is capped at {@link #MAX_HEAT}, so decay
+ * is a lookup in a precomputed table, any column has no heat left
+ * {@link #DECAY_TABLE_SIZE} ticks after its last change, and the next sweep
+ * after that forgets it.
+ */
+public class RegionActivityMap {
+
+    /**
+     * Heat added for a single power change.
+     */
+    public static final float CHANGE_HEAT = 1.0f;
+
+    /**
+     * Heat added when a network is invalidated (block placed/broken).
+     */
+    public static final float INVALIDATE_HEAT = 4.0f;
+
+    /**
+     * Heat at or above which a column is considered hot.
+     */
+    public static final float HOT_THRESHOLD = 0.5f;
+
+    /**
+     * Multiplier applied to heat every tick (~1.4s half-life at 20 TPS).
+     */
+    private static final float DECAY_PER_TICK = 0.95f;
+
+    /**
+     * Heat below which a column is forgotten entirely.
+     */
+    private static final float FORGET_THRESHOLD = 0.01f;
+
+    /**
+     * Upper bound on a column's heat, so a busy column still cools down in bounded time.
+     */
+    public static final float MAX_HEAT = 64.0f;
+
+    /**
+     * Ticks covered by the decay table. MAX_HEAT decayed this long is below FORGET_THRESHOLD.
+     */
+    static final int DECAY_TABLE_SIZE = 256;
+
+    /**
+     * DECAY_PER_TICK raised to the power of the index.
+     */
+    private static final float[] DECAY_TABLE = new float[DECAY_TABLE_SIZE];
+
+    static {
+        float factor = 1.0f;
+        for (int i = 0; i < DECAY_TABLE_SIZE; i++) {
+            DECAY_TABLE[i] = factor;
+            factor *= DECAY_PER_TICK;
+        }
+    }
+
+    /**
+     * Per-column activity. Key: column key from {@link #columnKey(int, int)}.
+     */
+    private final Map<Long, RegionActivity> regions = new ConcurrentHashMap<>();
+
+    /**
+     * Monotonic tick counter, advanced by {@link #advanceTick()}.
+     */
+    private volatile long currentTick = 0;
+
+    /**
+     * Called with a column's key when it turns hot, or null.
+     */
+    private final LongConsumer onHeated;
+
+    public RegionActivityMap() {
+        this(null);
+    }
+
+    /**
+     * @param onHeated Called with a column's key whenever that column crosses {@link #HOT_THRESHOLD}
+     */
+    public RegionActivityMap(LongConsumer onHeated) {
+        this.onHeated = onHeated;
+    }
+
+    /**
+     * Records a power change at the given block coordinates.
+     */
+    public void recordChange(int blockX, int blockZ) {
+        addHeat(blockX, blockZ, CHANGE_HEAT);
+    }
+
+    /**
+     * Records a network invalidation at the given block coordinates.
+     */
+    public void recordInvalidation(int blockX, int blockZ) {
+        addHeat(blockX, blockZ, INVALIDATE_HEAT);
+    }
+
+    /**
+     * Adds heat to the column containing the block. Blocks on a column edge
+     * also warm the neighbouring column so power crossing the border is not
+     * stuck behind a cold region.
+     */
+    private void addHeat(int blockX, int blockZ, float amount) {
+        int columnX = blockX >> 5;
+        int columnZ = blockZ >> 5;
+        heat(columnX, columnZ, amount);
+
+        int localX = blockX & 31;
+        int localZ = blockZ & 31;
+        if (localX == 0) heat(columnX - 1, columnZ, amount);
+        if (localX == 31) heat(columnX + 1, columnZ, amount);
+        if (localZ == 0) heat(columnX, columnZ - 1, amount);
+        if (localZ == 31) heat(columnX, columnZ + 1, amount);
+    }
+
+    private void heat(int columnX, int columnZ, float amount) {
+        long tick = currentTick;
+        long key = columnKey(columnX, columnZ);
+        boolean turnedHot;
+        while (true) {
+            RegionActivity activity = regions.get(key);
+            if (activity == null) {
+                RegionActivity created = new RegionActivity(tick);
+                activity = regions.putIfAbsent(key, created);
+                if (activity == null) {
+                    activity = created;
+                }
+            }
+            synchronized (activity) {
+                // Swept between the lookup and the lock; start over with a fresh entry
+                if (activity.forgotten) {
+                    continue;
+                }
+                turnedHot = activity.add(tick, amount);
+            }
+            break;
+        }
+        if (turnedHot && onHeated != null) {
+            onHeated.accept(key);
+        }
+    }
+
+    /**
+     * Advances the tick counter. Every {@link #DECAY_TABLE_SIZE} ticks, columns
+     * that have fully cooled are forgotten.
+     */
+    public void advanceTick() {
+        long tick = ++currentTick;
+        if (tick % DECAY_TABLE_SIZE != 0) {
+            return;
+        }
+        Iterator<RegionActivity> iterator = regions.values().iterator();
+        while (iterator.hasNext()) {
+            RegionActivity activity = iterator.next();
+            synchronized (activity) {
+                if (activity.heatAt(tick) < FORGET_THRESHOLD) {
+                    activity.forgotten = true;
+                    iterator.remove();
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether the column containing the given block is hot.
+     */
+    public boolean isHotBlock(int blockX, int blockZ) {
+        return isHot(columnKey(blockX >> 5, blockZ >> 5));
+    }
+
+    /**
+     * Checks whether the column with the given key is hot.
+     */
+    public boolean isHot(long columnKey) {
+        return getHeat(columnKey) >= HOT_THRESHOLD;
+    }
+
+    /**
+     * Gets the current (decayed) heat for a column.
+     */
+    public float getHeat(long columnKey) {
+        RegionActivity activity = regions.get(columnKey);
+        return activity != null ? activity.heatAt(currentTick) : 0.0f;
+    }
+
+    /**
+     * Gets the total number of recorded changes for a column since it was last forgotten.
+     */
+    public int getTotalChanges(long columnKey) {
+        RegionActivity activity = regions.get(columnKey);
+        return activity != null ? activity.totalChanges : 0;
+    }
+
+    /**
+     * Gets the number of columns that are currently hot.
+     */
+    public int getHotCount() {
+        long tick = currentTick;
+        int count = 0;
+        for (RegionActivity activity : regions.values()) {
+            if (activity.heatAt(tick) >= HOT_THRESHOLD) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Gets the number of tracked columns, including cooled ones not swept yet.
+     */
+    public int getTrackedCount() {
+        return regions.size();
+    }
+
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    public void clear() {
+        regions.clear();
+    }
+
+    /**
+     * Packs column coordinates into a single key.
+     */
+    public static long columnKey(int columnX, int columnZ) {
+        return ((long) columnX << 32) | (columnZ & 0xFFFFFFFFL);
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Heat for a single column. Decay is applied lazily from the tick
+     * the heat was last touched, so idle columns cost nothing per tick.
+     */
+    private static class RegionActivity {
+        float heat;
+        long lastTick;
+        int totalChanges;
+        // Set when swept out of the map; writers then retry with a new entry
+        boolean forgotten;
+
+        RegionActivity(long tick) {
+            this.lastTick = tick;
+        }
+
+        /**
+         * Decays to the given tick and adds heat. Caller holds this object's lock.
+         *
+         * @return true if the column turned hot
+         */
+        boolean add(long tick, float amount) {
+            heat = heatAt(tick);
+            lastTick = tick;
+            boolean wasHot = heat >= HOT_THRESHOLD;
+            heat = Math.min(MAX_HEAT, heat + amount);
+            totalChanges++;
+            return !wasHot && heat >= HOT_THRESHOLD;
+        }
+
+        synchronized float heatAt(long tick) {
+            long elapsed = tick - lastTick;
+            if (elapsed <= 0) {
+                return heat;
+            }
+            return elapsed < DECAY_TABLE_SIZE ? heat * DECAY_TABLE[(int) elapsed] : 0.0f;
+        }
+    }
+}
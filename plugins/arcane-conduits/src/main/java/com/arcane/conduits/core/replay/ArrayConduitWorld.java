@@ -0,0 +1,185 @@
+package com.arcane.conduits.core.replay;
+
+import com.arcane.conduits.core.power.ConduitWorld;
+
+/**
+ * Headless {@link ConduitWorld} backed by flat arrays over a fixed box.
+ *
+ * Used by the replayer and fuzzer to run solvers without a server.
+ * Positions outside the box read as empty and ignore writes.
+ */
+public class ArrayConduitWorld implements ConduitWorld {
+
+    private static final byte EMPTY = 0;
+    private static final byte CONDUIT = 1;
+    private static final byte SOURCE = 2;
+
+    private final int minX;
+    private final int minY;
+    private final int minZ;
+    private final int sizeX;
+    private final int sizeY;
+    private final int sizeZ;
+
+    private final byte[] kinds;
+    private final byte[] power;
+    private final byte[] decay;
+
+    public ArrayConduitWorld(int minX, int minY, int minZ, int sizeX, int sizeY, int sizeZ) {
+        if (sizeX <= 0 || sizeY <= 0 || sizeZ <= 0) {
+            throw new IllegalArgumentException("World size must be positive");
+        }
+
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.sizeX = sizeX;
+        this.sizeY = sizeY;
+        this.sizeZ = sizeZ;
+
+        int volume = Math.multiplyExact(Math.multiplyExact(sizeX, sizeY), sizeZ);
+        this.kinds = new byte[volume];
+        this.power = new byte[volume];
+        this.decay = new byte[volume];
+    }
+
+    // ==================== Layout ====================
+
+    /**
+     * Place a conduit with the given decay rate.
+     */
+    public void placeConduit(int x, int y, int z, int decayRate) {
+        int i = index(x, y, z);
+        if (i < 0) return;
+        kinds[i] = CONDUIT;
+        power[i] = 0;
+        decay[i] = (byte) decayRate;
+    }
+
+    /**
+     * Place a power source with the given output.
+     */
+    public void placeSource(int x, int y, int z, int output) {
+        int i = index(x, y, z);
+        if (i < 0) return;
+        kinds[i] = SOURCE;
+        power[i] = (byte) output;
+        decay[i] = 0;
+    }
+
+    /**
+     * Remove whatever is at the position.
+     */
+    public void remove(int x, int y, int z) {
+        int i = index(x, y, z);
+        if (i < 0) return;
+        kinds[i] = EMPTY;
+        power[i] = 0;
+        decay[i] = 0;
+    }
+
+    // ==================== ConduitWorld ====================
+
+    @Override
+    public boolean isConduit(int x, int y, int z) {
+        int i = index(x, y, z);
+        return i >= 0 && kinds[i] == CONDUIT;
+    }
+
+    @Override
+    public int getPower(int x, int y, int z) {
+        int i = index(x, y, z);
+        return i >= 0 && kinds[i] == CONDUIT ? power[i] : 0;
+    }
+
+    @Override
+    public void setPower(int x, int y, int z, int level) {
+        int i = index(x, y, z);
+        if (i >= 0 && kinds[i] == CONDUIT) {
+            power[i] = (byte) Math.max(0, Math.min(15, level));
+        }
+    }
+
+    @Override
+    public int getDecayRate(int x, int y, int z) {
+        int i = index(x, y, z);
+        return i >= 0 && kinds[i] == CONDUIT ? decay[i] : 1;
+    }
+
+    @Override
+    public int getSourcePower(int x, int y, int z) {
+        int i = index(x, y, z);
+        return i >= 0 && kinds[i] == SOURCE ? power[i] : 0;
+    }
+
+    // ==================== Comparison ====================
+
+    /**
+     * Find the first conduit whose power differs from the other world.
+     * Both worlds must cover the same box.
+     *
+     * @return Description of the first mismatch, or null if the power fields match
+     */
+    public String findPowerMismatch(ArrayConduitWorld other) {
+        if (other.minX != minX || other.minY != minY || other.minZ != minZ
+            || other.sizeX != sizeX || other.sizeY != sizeY || other.sizeZ != sizeZ) {
+            return "world bounds differ";
+        }
+
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] != other.kinds[i]) {
+                return "layout differs at " + describe(i);
+            }
+            if (kinds[i] == CONDUIT && power[i] != other.power[i]) {
+                return String.format("power differs at %s: %d vs %d", describe(i), power[i], other.power[i]);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Hash of the layout and conduit power field, for quick determinism checks.
+     */
+    public long powerFieldHash() {
+        long hash = 1125899906842597L;
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == CONDUIT) {
+                hash = 31 * hash + i;
+                hash = 31 * hash + power[i];
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Count of conduits with non-zero power.
+     */
+    public int countPowered() {
+        int count = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            if (kinds[i] == CONDUIT && power[i] > 0) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // ==================== Helper Methods ====================
+
+    private int index(int x, int y, int z) {
+        int lx = x - minX;
+        int ly = y - minY;
+        int lz = z - minZ;
+        if (lx < 0 || ly < 0 || lz < 0 || lx >= sizeX || ly >= sizeY || lz >= sizeZ) {
+            return -1;
+        }
+        return (ly * sizeZ + lz) * sizeX + lx;
+    }
+
+    private String describe(int index) {
+        int lx = index % sizeX;
+        int lz = (index / sizeX) % sizeZ;
+        int ly = index / (sizeX * sizeZ);
+        return String.format("(%d, %d, %d)", minX + lx, minY + ly, minZ + lz);
+    }
+}
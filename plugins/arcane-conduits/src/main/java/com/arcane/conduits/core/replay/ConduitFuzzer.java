@@ -0,0 +1,152 @@
+package com.arcane.conduits.core.replay;
+
+import com.arcane.conduits.core.power.PowerPropagator;
+import com.arcane.conduits.core.power.PowerSolver;
+import com.arcane.conduits.core.replay.ConduitRecording.Op;
+import com.arcane.conduits.core.replay.ConduitRecording.OpType;
+import com.arcane.conduits.core.replay.ConduitReplayer.ReplayResult;
+import com.hypixel.hytale.logger.HytaleLogger;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Generates seeded random conduit recordings and replays them against two solvers.
+ *
+ * Every run is fully determined by its seed, so a failing seed can be re-run
+ * (or written out with {@link #writeRecording}) and replayed on its own.
+ *
+ * The baseline is a {@link ReferencePowerSolver}, which shares no code with
+ * {@link PowerPropagator}. To check a new solver, call {@link #run} with the
+ * new solver as the candidate.
+ *
+ * Usage (headless, server jar on classpath):
+ *   java ... com.arcane.conduits.core.replay.ConduitFuzzer [seed] [runs] [opsPerRun]
+ */
+public final class ConduitFuzzer {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    /**
+     * Size of the fuzzed area.
+     */
+    private static final int AREA_XZ = 16;
+    private static final int AREA_Y = 4;
+    private static final int BASE_Y = 64;
+
+    /**
+     * Decay rates given to fuzzed conduits. At least 1, see {@link ReferencePowerSolver}.
+     */
+    private static final int MIN_DECAY = 1;
+    private static final int MAX_DECAY = 3;
+
+    private static final int[][] DIRECTIONS = {
+        {-1, 0, 0}, {1, 0, 0}, {0, -1, 0}, {0, 1, 0}, {0, 0, -1}, {0, 0, 1}
+    };
+
+    private ConduitFuzzer() {
+    }
+
+    /**
+     * Generate a random recording from a seed.
+     */
+    public static ConduitRecording generate(long seed, int opCount) {
+        Random random = new Random(seed);
+        List<Op> ops = new ArrayList<>(opCount);
+        List<int[]> sources = new ArrayList<>();
+        List<int[]> placed = new ArrayList<>();
+
+        while (ops.size() < opCount) {
+            int x, y, z;
+            if (!placed.isEmpty() && random.nextInt(4) != 0) {
+                // Mostly grow from an existing block so placements form connected networks
+                int[] from = placed.get(random.nextInt(placed.size()));
+                int[] dir = DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+                x = Math.floorMod(from[0] + dir[0], AREA_XZ);
+                y = BASE_Y + Math.floorMod(from[1] - BASE_Y + dir[1], AREA_Y);
+                z = Math.floorMod(from[2] + dir[2], AREA_XZ);
+            } else {
+                x = random.nextInt(AREA_XZ);
+                y = BASE_Y + random.nextInt(AREA_Y);
+                z = random.nextInt(AREA_XZ);
+            }
+            int roll = random.nextInt(100);
+
+            if (roll < 55) {
+                // Conduits dominate so networks actually connect
+                int decayRate = MIN_DECAY + random.nextInt(MAX_DECAY - MIN_DECAY + 1);
+                ops.add(new Op(OpType.PLACE_CONDUIT, x, y, z, decayRate));
+                ops.add(new Op(OpType.INVALIDATE, x, y, z, 0));
+                placed.add(new int[]{x, y, z});
+            } else if (roll < 63) {
+                int output = 1 + random.nextInt(15);
+                ops.add(new Op(OpType.PLACE_SOURCE, x, y, z, output));
+                ops.add(new Op(OpType.INVALIDATE, x, y, z, 0));
+                ops.add(new Op(OpType.PROPAGATE, x, y, z, output));
+                sources.add(new int[]{x, y, z, output});
+                placed.add(new int[]{x, y, z});
+            } else if (roll < 80) {
+                ops.add(new Op(OpType.BREAK, x, y, z, 0));
+                ops.add(new Op(OpType.INVALIDATE, x, y, z, 0));
+            } else if (roll < 92 && !sources.isEmpty()) {
+                // Re-fire an existing source, as a toggled crystal core would
+                int[] source = sources.get(random.nextInt(sources.size()));
+                ops.add(new Op(OpType.PROPAGATE, source[0], source[1], source[2], source[3]));
+            } else {
+                ops.add(new Op(OpType.CLEAR, x, y, z, 0));
+            }
+        }
+
+        return new ConduitRecording(ops.subList(0, opCount));
+    }
+
+    /**
+     * Run a number of seeded recordings against two solvers.
+     *
+     * @return The seed of the first diverging run, or null if all runs matched
+     */
+    public static Long run(long firstSeed, int runs, int opsPerRun,
+                           Supplier<PowerSolver> baseline, Supplier<PowerSolver> candidate) {
+        for (int i = 0; i < runs; i++) {
+            long seed = firstSeed + i;
+            ConduitRecording recording = generate(seed, opsPerRun);
+            ReplayResult result = ConduitReplayer.compare(recording, baseline.get(), candidate.get());
+            if (!result.matches()) {
+                LOGGER.atWarning().log("Seed %d: %s", seed, result);
+                return seed;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Write a recording to a file so it can be replayed with {@link ConduitReplayer}.
+     */
+    public static void writeRecording(ConduitRecording recording, Path file) throws IOException {
+        ConduitRecorder recorder = ConduitRecorder.open(file);
+        for (Op op : recording.getOps()) {
+            recorder.record(op);
+        }
+        recorder.close();
+    }
+
+    public static void main(String[] args) throws IOException {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : System.nanoTime();
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        int opsPerRun = args.length > 2 ? Integer.parseInt(args[2]) : 500;
+
+        LOGGER.atInfo().log("Fuzzing %d runs x %d ops from seed %d", runs, opsPerRun, seed);
+        Long failedSeed = run(seed, runs, opsPerRun, ReferencePowerSolver::new, PowerPropagator::new);
+        if (failedSeed != null) {
+            Path file = Path.of("conduit-fuzz-" + failedSeed + ".acnr");
+            writeRecording(generate(failedSeed, opsPerRun), file);
+            LOGGER.atWarning().log("Wrote failing recording to %s", file.toAbsolutePath());
+            System.exit(1);
+        }
+        LOGGER.atInfo().log("All runs matched");
+    }
+}
@@ -0,0 +1,111 @@
+package com.arcane.conduits.core.replay;
+
+import com.arcane.conduits.core.replay.ConduitRecording.Op;
+import com.arcane.conduits.core.replay.ConduitRecording.OpType;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.vector.Vector3i;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes conduit network operations to a {@link ConduitRecording} file.
+ *
+ * Calls may come from any thread; writes are serialized on the recorder.
+ * An I/O failure stops the recording rather than propagating into the caller.
+ */
+public class ConduitRecorder {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    private final Path file;
+    private DataOutputStream out;
+    private int opCount = 0;
+
+    private ConduitRecorder(Path file, DataOutputStream out) {
+        this.file = file;
+        this.out = out;
+    }
+
+    /**
+     * Open a new recording file, replacing any existing one.
+     */
+    public static ConduitRecorder open(Path file) throws IOException {
+        Path parent = file.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)));
+        out.writeInt(ConduitRecording.MAGIC);
+        out.writeShort(ConduitRecording.VERSION);
+        return new ConduitRecorder(file, out);
+    }
+
+    /**
+     * Record an operation.
+     */
+    public void record(OpType type, Vector3i pos, int arg) {
+        if (pos == null) {
+            return;
+        }
+        record(type, pos.x, pos.y, pos.z, arg);
+    }
+
+    /**
+     * Record an already-built operation (e.g. when saving a generated recording).
+     */
+    public void record(Op op) {
+        record(op.type(), op.x(), op.y(), op.z(), op.arg());
+    }
+
+    private synchronized void record(OpType type, int x, int y, int z, int arg) {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.writeByte(type.getCode());
+            out.writeInt(x);
+            out.writeShort(y);
+            out.writeInt(z);
+            out.writeByte(arg);
+            opCount++;
+        } catch (IOException e) {
+            LOGGER.atWarning().log("Conduit recording to %s failed, stopping: %s", file, e.getMessage());
+            close();
+        }
+    }
+
+    /**
+     * Flush and close the recording.
+     */
+    public synchronized void close() {
+        if (out == null) {
+            return;
+        }
+
+        try {
+            out.close();
+        } catch (IOException e) {
+            LOGGER.atWarning().log("Failed to close conduit recording %s: %s", file, e.getMessage());
+        }
+        out = null;
+        LOGGER.atInfo().log("Conduit recording closed: %s (%d ops)", file, opCount);
+    }
+
+    public synchronized boolean isOpen() {
+        return out != null;
+    }
+
+    public synchronized int getOpCount() {
+        return opCount;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+}
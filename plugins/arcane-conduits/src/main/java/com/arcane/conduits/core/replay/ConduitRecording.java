@@ -0,0 +1,160 @@
+package com.arcane.conduits.core.replay;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A recorded sequence of conduit network operations.
+ *
+ * File format (big-endian):
+ * <pre>
+ *   int   magic    ('ACNR')
+ *   short version
+ *   repeated:
+ *     byte  opcode
+ *     int   x
+ *     short y
+ *     int   z
+ *     byte  arg     (power for PROPAGATE/PLACE_SOURCE, decay rate for PLACE_CONDUIT, otherwise 0)
+ * </pre>
+ * Each op is 12 bytes. The file has no trailer; reading stops at end of stream,
+ * so a recording cut short by a crash is still readable up to the last full op.
+ *
+ * Version 1 recordings did not store the decay rate; their conduits are read
+ * with {@link #LEGACY_DECAY_RATE}.
+ */
+public final class ConduitRecording {
+
+    public static final int MAGIC = 0x41434E52;  // "ACNR"
+    public static final short VERSION = 2;
+
+    /**
+     * Decay rate given to conduits from version 1 recordings (matches Leyline_Basic).
+     */
+    public static final int LEGACY_DECAY_RATE = 1;
+
+    /**
+     * Operation types.
+     */
+    public enum OpType {
+        /** A conduit was placed (layout change, arg = decay rate). */
+        PLACE_CONDUIT(1),
+        /** A power source was placed (layout change, arg = output power). */
+        PLACE_SOURCE(2),
+        /** A conduit or source was removed (layout change). */
+        BREAK(3),
+        /** {@code ConduitNetworkManager.invalidateNetworkAt} was called. */
+        INVALIDATE(4),
+        /** {@code ConduitNetworkManager.propagatePower} was called (arg = power). */
+        PROPAGATE(5),
+        /** {@code ConduitNetworkManager.clearPower} was called. */
+        CLEAR(6);
+
+        private final byte code;
+
+        OpType(int code) {
+            this.code = (byte) code;
+        }
+
+        public byte getCode() {
+            return code;
+        }
+
+        public static OpType fromCode(byte code) {
+            for (OpType type : values()) {
+                if (type.code == code) {
+                    return type;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * A single recorded operation.
+     */
+    public record Op(OpType type, int x, int y, int z, int arg) {
+        @Override
+        public String toString() {
+            return String.format("%s(%d, %d, %d%s)", type, x, y, z, arg != 0 ? ", " + arg : "");
+        }
+    }
+
+    private final List<Op> ops;
+
+    public ConduitRecording(List<Op> ops) {
+        this.ops = Collections.unmodifiableList(new ArrayList<>(ops));
+    }
+
+    public List<Op> getOps() {
+        return ops;
+    }
+
+    public int size() {
+        return ops.size();
+    }
+
+    /**
+     * Read a recording from a file.
+     */
+    public static ConduitRecording read(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return read(in);
+        }
+    }
+
+    /**
+     * Read a recording from a stream.
+     */
+    public static ConduitRecording read(InputStream stream) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(stream));
+
+        int magic = in.readInt();
+        if (magic != MAGIC) {
+            throw new IOException(String.format("Not a conduit recording (magic=0x%08X)", magic));
+        }
+        short version = in.readShort();
+        if (version != VERSION && version != 1) {
+            throw new IOException("Unsupported recording version: " + version);
+        }
+
+        List<Op> ops = new ArrayList<>();
+        while (true) {
+            byte code;
+            try {
+                code = in.readByte();
+            } catch (EOFException e) {
+                break;
+            }
+
+            OpType type = OpType.fromCode(code);
+            if (type == null) {
+                throw new IOException("Unknown opcode " + code + " at op " + ops.size());
+            }
+
+            try {
+                int x = in.readInt();
+                int y = in.readShort();
+                int z = in.readInt();
+                int arg = in.readByte();
+                if (version == 1 && type == OpType.PLACE_CONDUIT) {
+                    arg = LEGACY_DECAY_RATE;
+                }
+                ops.add(new Op(type, x, y, z, arg));
+            } catch (EOFException e) {
+                // Truncated final op - keep everything before it
+                break;
+            }
+        }
+
+        return new ConduitRecording(ops);
+    }
+}
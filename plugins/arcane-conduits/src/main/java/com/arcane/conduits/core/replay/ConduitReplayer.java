@@ -0,0 +1,164 @@
+package com.arcane.conduits.core.replay;
+
+import com.arcane.conduits.core.power.ConduitWorld;
+import com.arcane.conduits.core.power.PowerPropagator;
+import com.arcane.conduits.core.power.PowerSolver;
+import com.arcane.conduits.core.replay.ConduitRecording.Op;
+import com.hypixel.hytale.logger.HytaleLogger;
+import com.hypixel.hytale.math.vector.Vector3i;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Re-applies a {@link ConduitRecording} to an {@link ArrayConduitWorld}.
+ *
+ * Replay starts from an empty world, so recordings should be started before
+ * the conduits they exercise are placed. Invalidations are solved immediately
+ * (the live manager may defer them to a later tick), which keeps replay
+ * deterministic regardless of tick timing.
+ *
+ * Usage (headless, server jar on classpath):
+ *   java ... com.arcane.conduits.core.replay.ConduitReplayer recording.acnr
+ */
+public final class ConduitReplayer {
+
+    private static final HytaleLogger LOGGER = HytaleLogger.forEnclosingClass();
+
+    /**
+     * Largest world volume the replayer will allocate.
+     */
+    private static final int MAX_VOLUME = 1 << 26;
+
+    private ConduitReplayer() {
+    }
+
+    /**
+     * Create an empty world large enough for every position in the recording.
+     */
+    public static ArrayConduitWorld createWorld(ConduitRecording recording) {
+        List<Op> ops = recording.getOps();
+        if (ops.isEmpty()) {
+            return new ArrayConduitWorld(0, 0, 0, 1, 1, 1);
+        }
+
+        int minX = Integer.MAX_VALUE, minY = Integer.MAX_VALUE, minZ = Integer.MAX_VALUE;
+        int maxX = Integer.MIN_VALUE, maxY = Integer.MIN_VALUE, maxZ = Integer.MIN_VALUE;
+        for (Op op : ops) {
+            minX = Math.min(minX, op.x());
+            minY = Math.min(minY, op.y());
+            minZ = Math.min(minZ, op.z());
+            maxX = Math.max(maxX, op.x());
+            maxY = Math.max(maxY, op.y());
+            maxZ = Math.max(maxZ, op.z());
+        }
+
+        // One block of margin so neighbor lookups at the edges stay in bounds
+        minY = Math.max(ConduitWorld.MIN_Y, minY - 1);
+        maxY = Math.min(ConduitWorld.MAX_Y - 1, maxY + 1);
+        long sizeX = (long) maxX - minX + 3;
+        long sizeY = (long) maxY - minY + 1;
+        long sizeZ = (long) maxZ - minZ + 3;
+
+        if (sizeX * sizeY * sizeZ > MAX_VOLUME) {
+            throw new IllegalArgumentException(String.format(
+                "Recording spans too large an area: %dx%dx%d", sizeX, sizeY, sizeZ));
+        }
+
+        return new ArrayConduitWorld(minX - 1, minY, minZ - 1, (int) sizeX, (int) sizeY, (int) sizeZ);
+    }
+
+    /**
+     * Apply every operation in the recording.
+     */
+    public static void apply(ConduitRecording recording, ArrayConduitWorld world, PowerSolver solver) {
+        for (Op op : recording.getOps()) {
+            apply(op, world, solver);
+        }
+    }
+
+    /**
+     * Apply a single operation.
+     */
+    public static void apply(Op op, ArrayConduitWorld world, PowerSolver solver) {
+        Vector3i pos = new Vector3i(op.x(), op.y(), op.z());
+        switch (op.type()) {
+            case PLACE_CONDUIT -> world.placeConduit(op.x(), op.y(), op.z(), op.arg());
+            case PLACE_SOURCE -> world.placeSource(op.x(), op.y(), op.z(), op.arg());
+            case BREAK -> world.remove(op.x(), op.y(), op.z());
+            case INVALIDATE -> solver.recalculateNetwork(world, pos);
+            case PROPAGATE -> solver.propagateFromSource(world, pos, op.arg());
+            case CLEAR -> solver.clearNetwork(world, pos);
+        }
+    }
+
+    /**
+     * Replay the recording against two solvers side by side, comparing the
+     * power fields after every operation.
+     *
+     * @return The result, including the first diverging operation if any
+     */
+    public static ReplayResult compare(ConduitRecording recording, PowerSolver baseline, PowerSolver candidate) {
+        ArrayConduitWorld baselineWorld = createWorld(recording);
+        ArrayConduitWorld candidateWorld = createWorld(recording);
+
+        List<Op> ops = recording.getOps();
+        for (int i = 0; i < ops.size(); i++) {
+            Op op = ops.get(i);
+            apply(op, baselineWorld, baseline);
+            apply(op, candidateWorld, candidate);
+
+            String mismatch = baselineWorld.findPowerMismatch(candidateWorld);
+            if (mismatch != null) {
+                return new ReplayResult(ops.size(), i, op, mismatch, baselineWorld.powerFieldHash());
+            }
+        }
+
+        return new ReplayResult(ops.size(), -1, null, null, baselineWorld.powerFieldHash());
+    }
+
+    /**
+     * Outcome of a side-by-side replay.
+     *
+     * @param opCount       Number of operations in the recording
+     * @param divergedAt    Index of the first diverging operation, or -1 if none
+     * @param divergedOp    The first diverging operation, or null
+     * @param mismatch      Description of the first mismatch, or null
+     * @param baselineHash  Power field hash of the baseline world at the end (or at divergence)
+     */
+    public record ReplayResult(int opCount, int divergedAt, Op divergedOp, String mismatch, long baselineHash) {
+        public boolean matches() {
+            return divergedAt < 0;
+        }
+
+        @Override
+        public String toString() {
+            if (matches()) {
+                return String.format("Replay OK: %d ops, field hash %016x", opCount, baselineHash);
+            }
+            return String.format("Replay DIVERGED at op %d/%d %s: %s", divergedAt, opCount, divergedOp, mismatch);
+        }
+    }
+
+    /**
+     * Replays a recording file against a {@link ReferencePowerSolver} and a
+     * {@link PowerPropagator}, and logs the resulting field hash. Compare the
+     * hash across builds to catch behavioral changes in the propagator.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            LOGGER.atWarning().log("Usage: ConduitReplayer <recording-file>");
+            System.exit(2);
+        }
+
+        ConduitRecording recording = ConduitRecording.read(Path.of(args[0]));
+        ReplayResult result = compare(recording, new ReferencePowerSolver(), new PowerPropagator());
+        if (result.matches()) {
+            LOGGER.atInfo().log("%s", result);
+        } else {
+            LOGGER.atWarning().log("%s", result);
+        }
+        System.exit(result.matches() ? 0 : 1);
+    }
+}
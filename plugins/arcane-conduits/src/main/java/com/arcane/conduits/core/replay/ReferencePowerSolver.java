@@ -0,0 +1,171 @@
+package com.arcane.conduits.core.replay;
+
+import com.arcane.conduits.core.power.ConduitWorld;
+import com.arcane.conduits.core.power.PowerSolver;
+import com.hypixel.hytale.math.vector.Vector3i;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Slow, obviously-correct {@link PowerSolver} used as the fuzzer's baseline.
+ *
+ * It shares no code with {@link com.arcane.conduits.core.power.PowerPropagator}:
+ * power is computed by relaxing every reached block until nothing changes
+ * instead of a power-ordered BFS, and positions are plain packed longs. It
+ * follows the same rules:
+ * - a block passes its power minus its own decay rate to neighbouring conduits
+ * - each conduit takes the best power over all paths from the source
+ * - a propagation overwrites the power of every block it reaches
+ * - recalculation clears the network, then fires its sources in breadth-first
+ *   discovery order from the start position (neighbours -X, +X, -Y, +Y, -Z, +Z),
+ *   once per adjacent conduit, so overlapping sources resolve the same way
+ *
+ * The propagator's depth cap is not modelled; fuzz with decay rates of at
+ * least 1 so no path can reach it.
+ */
+public final class ReferencePowerSolver implements PowerSolver {
+
+    private static final int[][] DIRECTIONS = {
+        {-1, 0, 0}, {1, 0, 0}, {0, -1, 0}, {0, 1, 0}, {0, 0, -1}, {0, 0, 1}
+    };
+
+    @Override
+    public void propagateFromSource(ConduitWorld world, Vector3i sourcePos, int sourcePower) {
+        if (world == null || sourcePos == null || sourcePower <= 0) {
+            return;
+        }
+
+        Map<Long, Integer> best = new HashMap<>();
+        best.put(pack(sourcePos.x, sourcePos.y, sourcePos.z), sourcePower);
+
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Map.Entry<Long, Integer> entry : new ArrayList<>(best.entrySet())) {
+                long key = entry.getKey();
+                int x = unpackX(key), y = unpackY(key), z = unpackZ(key);
+                int passed = entry.getValue() - world.getDecayRate(x, y, z);
+                if (passed <= 0) {
+                    continue;
+                }
+                for (int[] dir : DIRECTIONS) {
+                    int nx = x + dir[0], ny = y + dir[1], nz = z + dir[2];
+                    if (!inHeight(ny) || !world.isConduit(nx, ny, nz)) {
+                        continue;
+                    }
+                    long neighbor = pack(nx, ny, nz);
+                    if (passed > best.getOrDefault(neighbor, 0)) {
+                        best.put(neighbor, passed);
+                        changed = true;
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<Long, Integer> entry : best.entrySet()) {
+            long key = entry.getKey();
+            world.setPower(unpackX(key), unpackY(key), unpackZ(key), entry.getValue());
+        }
+    }
+
+    @Override
+    public void clearNetwork(ConduitWorld world, Vector3i startPos) {
+        if (world == null || startPos == null) {
+            return;
+        }
+
+        // The start block is cleared and expanded even if it is not a conduit
+        Set<Long> reached = new HashSet<>();
+        List<Long> frontier = new ArrayList<>();
+        long start = pack(startPos.x, startPos.y, startPos.z);
+        reached.add(start);
+        frontier.add(start);
+
+        while (!frontier.isEmpty()) {
+            long key = frontier.remove(frontier.size() - 1);
+            int x = unpackX(key), y = unpackY(key), z = unpackZ(key);
+            world.setPower(x, y, z, 0);
+            for (int[] dir : DIRECTIONS) {
+                int nx = x + dir[0], ny = y + dir[1], nz = z + dir[2];
+                long neighbor = pack(nx, ny, nz);
+                if (inHeight(ny) && world.isConduit(nx, ny, nz) && reached.add(neighbor)) {
+                    frontier.add(neighbor);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void recalculateNetwork(ConduitWorld world, Vector3i startPos) {
+        if (world == null || startPos == null) {
+            return;
+        }
+
+        Set<Long> conduits = new HashSet<>();
+        List<Long> sources = new ArrayList<>();
+        Queue<Long> queue = new ArrayDeque<>();
+        queue.add(pack(startPos.x, startPos.y, startPos.z));
+
+        while (!queue.isEmpty()) {
+            long key = queue.poll();
+            if (conduits.contains(key)) {
+                continue;
+            }
+            int x = unpackX(key), y = unpackY(key), z = unpackZ(key);
+            if (!world.isConduit(x, y, z)) {
+                if (world.getSourcePower(x, y, z) > 0) {
+                    sources.add(key);
+                }
+                continue;
+            }
+            conduits.add(key);
+            for (int[] dir : DIRECTIONS) {
+                int ny = y + dir[1];
+                long neighbor = pack(x + dir[0], ny, z + dir[2]);
+                if (inHeight(ny) && !conduits.contains(neighbor)) {
+                    queue.add(neighbor);
+                }
+            }
+        }
+
+        for (long key : conduits) {
+            world.setPower(unpackX(key), unpackY(key), unpackZ(key), 0);
+        }
+        for (long key : sources) {
+            int x = unpackX(key), y = unpackY(key), z = unpackZ(key);
+            propagateFromSource(world, new Vector3i(x, y, z), world.getSourcePower(x, y, z));
+        }
+    }
+
+    // ==================== Positions ====================
+
+    private static boolean inHeight(int y) {
+        return y >= ConduitWorld.MIN_Y && y < ConduitWorld.MAX_Y;
+    }
+
+    /**
+     * 26 bits of X, 26 bits of Z, 12 bits of Y; X and Z unpack sign-extended.
+     */
+    private static long pack(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static int unpackX(long key) {
+        return (int) (key >> 38);
+    }
+
+    private static int unpackY(long key) {
+        return (int) (key & 0xFFF);
+    }
+
+    private static int unpackZ(long key) {
+        return (int) ((key << 26) >> 38);
+    }
+}
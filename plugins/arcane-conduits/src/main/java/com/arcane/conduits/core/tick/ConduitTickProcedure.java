@@ -2,8 +2,8 @@ package com.arcane.conduits.core.tick;
 
 import com.arcane.conduits.ArcaneConduitsPlugin;
 import com.arcane.conduits.blocks.state.ConduitBlockState;
-import com.hypixel.hytale.codec.Codec;
-import com.hypixel.hytale.codec.KeyedCodec;
+import com.arcane.conduits.core.power.ConduitNetworkManager;
+import com.arcane.conduits.core.power.ConduitPropertyTable;
 import com.hypixel.hytale.codec.builder.BuilderCodec;
 import com.hypixel.hytale.logger.HytaleLogger;
 import com.hypixel.hytale.math.util.ChunkUtil;
@@ -19,9 +19,13 @@ import com.hypixel.hytale.server.core.universe.world.meta.BlockState;
  *
  * Each tick, a conduit:
  * 1. Reads power levels from all connected neighbors
- * 2. Takes the maximum power minus decay
+ * 2. Takes the maximum power minus decay (from {@link ConduitPropertyTable} by block id)
  * 3. Updates its own power level if changed
  * 4. Notifies neighbors if power changed
+ *
+ * Conduits in cold columns (no recent power activity) go to sleep; their
+ * network is solved lazily by the network manager, which wakes them again
+ * when the column heats up.
  */
 public class ConduitTickProcedure extends TickProcedure {
 
@@ -34,18 +38,8 @@ public class ConduitTickProcedure extends TickProcedure {
             ConduitTickProcedure::new,
             TickProcedure.BASE_CODEC
         )
-        .addField(
-            new KeyedCodec<>("DecayRate", Codec.INTEGER),
-            (proc, value) -> proc.decayRate = value,
-            proc -> proc.decayRate
-        )
         .build();
 
-    /**
-     * Power decay rate per block (default: 1).
-     */
-    private int decayRate = 1;
-
     // Direction offsets for the 6 cardinal directions
     private static final int[][] NEIGHBOR_OFFSETS = {
         {-1, 0, 0},  // -X (bit 0)
@@ -69,6 +63,15 @@ public class ConduitTickProcedure extends TickProcedure {
             return BlockTickStrategy.SLEEP;
         }
 
+        ArcaneConduitsPlugin plugin = ArcaneConduitsPlugin.getInstance();
+        ConduitNetworkManager networkManager = plugin != null ? plugin.getNetworkManager() : null;
+
+        // Cold column - nothing has changed nearby, sleep until the column heats up
+        if (networkManager != null && !networkManager.isRegionActive(world, blockX, blockZ)) {
+            networkManager.onConduitSleeping(world, blockX, blockY, blockZ);
+            return BlockTickStrategy.SLEEP;
+        }
+
         // Find the maximum power level from all connected neighbors
         int maxNeighborPower = 0;
         int newConnectionMask = 0;
@@ -91,8 +94,9 @@ public class ConduitTickProcedure extends TickProcedure {
             }
         }
 
-        // Calculate new power with decay
-        int newPower = Math.max(0, maxNeighborPower - decayRate);
+        // Calculate new power with this block type's decay, capped at its max
+        int newPower = Math.max(0, maxNeighborPower - ConduitPropertyTable.getDecayRate(blockId));
+        newPower = Math.min(ConduitPropertyTable.getMaxPower(blockId), newPower);
 
         // Update connection mask if changed
         if (newConnectionMask != conduitState.getConnectionMask()) {
@@ -105,9 +109,9 @@ public class ConduitTickProcedure extends TickProcedure {
             conduitState.setPowerLevel(newPower);
 
             // Notify the network manager of the change
-            ArcaneConduitsPlugin plugin = ArcaneConduitsPlugin.getInstance();
-            if (plugin != null && plugin.getNetworkManager() != null) {
-                plugin.getNetworkManager().onPowerChanged(
+            if (networkManager != null) {
+                networkManager.onPowerChanged(
+                    world,
                     new Vector3i(blockX, blockY, blockZ),
                     oldPower,
                     newPower
@@ -152,7 +156,7 @@ public class ConduitTickProcedure extends TickProcedure {
         // Get the block state
         BlockState state = neighborChunk.getState(x & 31, y, z & 31);
         if (state instanceof ConduitBlockState conduit) {
-            return conduit.getOutputPower();
+            return conduit.getOutputPower(ConduitPropertyTable.getDecayRate(neighborChunk.getBlock(x & 31, y, z & 31)));
         }
 
         // Check if it's a power source block (future: implement power source interface)
@@ -194,11 +198,4 @@ public class ConduitTickProcedure extends TickProcedure {
         long chunkIndex = ChunkUtil.indexChunkFromBlock(blockX, blockZ);
         return world.getChunkIfLoaded(chunkIndex);
     }
-
-    /**
-     * Get the decay rate for this tick procedure.
-     */
-    public int getDecayRate() {
-        return decayRate;
-    }
 }
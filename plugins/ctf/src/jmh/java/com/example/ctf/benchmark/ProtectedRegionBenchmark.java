@@ -0,0 +1,101 @@
+package com.example.ctf.benchmark;
+
+import com.example.ctf.arena.ProtectedRegion;
+import com.example.ctf.arena.ProtectedRegionIndex;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3i;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Block protection checks, the per-event cost of {@code ArenaManager.isBlockProtected}
+ * (which delegates to {@link ProtectedRegionIndex}) against a plain scan of every region.
+ *
+ * Regions are 2-16 block boxes scattered over a 2048x2048 area, and probes are
+ * drawn half from inside random regions and half from anywhere in the area.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProtectedRegionBenchmark {
+
+    private static final int PROBES = 4096; // Power of two
+    private static final int AREA = 2048;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int regionCount;
+
+    private ProtectedRegion[] regions;
+    private ProtectedRegionIndex index;
+    private Vector3i[] probes;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        regions = new ProtectedRegion[regionCount];
+        for (int i = 0; i < regionCount; i++) {
+            double x = random.nextInt(AREA) - AREA / 2.0;
+            double z = random.nextInt(AREA) - AREA / 2.0;
+            double y = 40 + random.nextInt(40);
+            double size = 2 + random.nextInt(15);
+            regions[i] = new ProtectedRegion("region_" + i,
+                new Vector3d(x, y, z), new Vector3d(x + size, y + size, z + size));
+        }
+        index = new ProtectedRegionIndex(regions);
+
+        probes = new Vector3i[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            if (i % 2 == 0) {
+                ProtectedRegion region = regions[random.nextInt(regionCount)];
+                probes[i] = new Vector3i(
+                    (int) region.getMin().getX() + 1,
+                    (int) region.getMin().getY() + 1,
+                    (int) region.getMin().getZ() + 1);
+            } else {
+                probes[i] = new Vector3i(
+                    random.nextInt(AREA) - AREA / 2,
+                    40 + random.nextInt(60),
+                    random.nextInt(AREA) - AREA / 2);
+            }
+        }
+    }
+
+    @Benchmark
+    public boolean regionContainsBlock() {
+        return regions[0].containsBlock(probes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean indexIsProtected() {
+        return index.isProtected(probes[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean linearScan() {
+        Vector3i probe = probes[next++ & (PROBES - 1)];
+        for (ProtectedRegion region : regions) {
+            if (region.containsBlock(probe)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Cost of rebuilding the index after a region edit.
+     */
+    @Benchmark
+    public ProtectedRegionIndex buildIndex() {
+        return new ProtectedRegionIndex(regions);
+    }
+}
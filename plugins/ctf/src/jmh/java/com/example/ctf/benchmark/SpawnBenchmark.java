@@ -0,0 +1,96 @@
+package com.example.ctf.benchmark;
+
+import com.example.ctf.FlagTeam;
+import com.example.ctf.spawn.PlayerPositionGrid;
+import com.example.ctf.spawn.SpawnSelector;
+import com.example.ctf.team.TeamLookup;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Position tracking and team-aware queries: grid updates (every moving
+ * player, every tick), enemy threat around a point and spawn selection.
+ * Teams come from a map-backed {@link TeamLookup} standing in for {@code TeamManager}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpawnBenchmark {
+
+    private static final int PROBES = 1024; // Power of two
+    private static final double HALF_WIDTH = 160.0;
+
+    @Param({"16", "128", "512"})
+    public int playerCount;
+
+    private PlayerPositionGrid grid;
+    private SpawnSelector selector;
+    private TeamLookup teams;
+    private UUID[] players;
+    private Vector3d[] positions;
+    private Transform[] redSpawns;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        Map<UUID, FlagTeam> assignments = new HashMap<>();
+        teams = assignments::get;
+        grid = new PlayerPositionGrid();
+        selector = new SpawnSelector(grid, teams);
+
+        players = new UUID[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            players[i] = uuid;
+            assignments.put(uuid, i % 2 == 0 ? FlagTeam.RED : FlagTeam.BLUE);
+            grid.update(uuid, randomPosition(random));
+        }
+
+        positions = new Vector3d[PROBES];
+        for (int i = 0; i < PROBES; i++) {
+            positions[i] = randomPosition(random);
+        }
+
+        redSpawns = new Transform[8];
+        for (int i = 0; i < redSpawns.length; i++) {
+            redSpawns[i] = new Transform(new Vector3d(-HALF_WIDTH + 10, 64, (i - 4) * 10.0));
+        }
+    }
+
+    private static Vector3d randomPosition(Random random) {
+        return new Vector3d((random.nextDouble() * 2 - 1) * HALF_WIDTH, 64,
+            (random.nextDouble() * 2 - 1) * HALF_WIDTH / 2);
+    }
+
+    @Benchmark
+    public void gridUpdate() {
+        int i = next++;
+        grid.update(players[i % playerCount], positions[i & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public double threat() {
+        Vector3d position = positions[next++ & (PROBES - 1)];
+        return grid.threat(position.getX(), position.getY(), position.getZ(), 24.0, FlagTeam.RED, teams);
+    }
+
+    @Benchmark
+    public Transform selectSpawn() {
+        return selector.select(FlagTeam.RED, redSpawns);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.ctf.benchmark;
+
+import com.example.ctf.FlagTeam;
+import com.example.ctf.arena.CaptureZone;
+import com.example.ctf.zone.Zone;
+import com.hypixel.hytale.math.vector.Vector3d;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Point-in-zone checks run for every moving player each tick.
+ * Probes are spread so roughly a quarter land inside the zone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ZoneBenchmark {
+
+    private static final int PROBES = 4096; // Power of two
+    private static final double RADIUS = 5.0;
+
+    private CaptureZone captureZone;
+    private Zone sphereZone;
+    private Zone boxZone;
+    private Vector3d[] points;
+    private double[] coords;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Vector3d center = new Vector3d(100, 64, -40);
+        captureZone = new CaptureZone(center, RADIUS);
+        sphereZone = Zone.sphere("red_capture", Zone.Type.CAPTURE, FlagTeam.RED, center, RADIUS);
+        boxZone = Zone.box("red_spawn", Zone.Type.SPAWN, FlagTeam.RED,
+            new Vector3d(95, 60, -45), new Vector3d(105, 70, -35));
+
+        Random random = new Random(42);
+        points = new Vector3d[PROBES];
+        coords = new double[PROBES * 3];
+        for (int i = 0; i < PROBES; i++) {
+            double x = center.getX() + (random.nextDouble() * 2 - 1) * RADIUS * 2;
+            double y = center.getY() + (random.nextDouble() * 2 - 1) * RADIUS;
+            double z = center.getZ() + (random.nextDouble() * 2 - 1) * RADIUS * 2;
+            points[i] = new Vector3d(x, y, z);
+            coords[i * 3] = x;
+            coords[i * 3 + 1] = y;
+            coords[i * 3 + 2] = z;
+        }
+    }
+
+    @Benchmark
+    public boolean captureZoneContains() {
+        return captureZone.contains(points[next++ & (PROBES - 1)]);
+    }
+
+    @Benchmark
+    public boolean sphereZoneContains() {
+        int i = (next++ & (PROBES - 1)) * 3;
+        return sphereZone.contains(coords[i], coords[i + 1], coords[i + 2]);
+    }
+
+    @Benchmark
+    public boolean boxZoneContains() {
+        int i = (next++ & (PROBES - 1)) * 3;
+        return boxZone.contains(coords[i], coords[i + 1], coords[i + 2]);
+    }
+}
@@ -1,8 +1,12 @@
 package com.example.ctf;
 
 import com.example.ctf.arena.ArenaManager;
+import com.example.ctf.instance.CTFInstance;
+import com.example.ctf.instance.CTFInstanceManager;
 import com.example.ctf.match.MatchManager;
 import com.example.ctf.match.MatchState;
+import com.example.ctf.matchmaking.MatchmakingService;
+import com.example.ctf.matchmaking.QueueAssignmentHandler;
 import com.example.ctf.team.TeamManager;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.math.vector.Transform;
@@ -20,6 +24,7 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -43,6 +48,25 @@ public class CTFCommands extends CommandBase {
         addSubCommand(new TeamJoinSubCommand());
         addSubCommand(new TeamLeaveSubCommand());
         addSubCommand(new SaveSubCommand());
+        addSubCommand(new PresetSubCommand());
+        addSubCommand(new InstanceSubCommand());
+        addSubCommand(new QueueSubCommand());
+    }
+
+    /**
+     * Gets the instance a command applies to: the one running in the sender's
+     * world, or the default instance for the console.
+     */
+    @Nonnull
+    private CTFInstance getInstance(@Nonnull CommandContext ctx) {
+        CTFInstanceManager instanceManager = plugin.getInstanceManager();
+        if (ctx.isPlayer()) {
+            PlayerRef playerRef = ctx.senderAs(Player.class).getPlayerRef();
+            if (playerRef != null) {
+                return instanceManager.getInstanceForPlayer(playerRef);
+            }
+        }
+        return instanceManager.getDefaultInstance();
     }
 
     @Override
@@ -55,7 +79,10 @@ public class CTFCommands extends CommandBase {
         ctx.sendMessage(Message.raw("- /ctf score - Show scores"));
         ctx.sendMessage(Message.raw("- /ctf join <red|blue> - Join a team"));
         ctx.sendMessage(Message.raw("- /ctf leave - Leave your team"));
+        ctx.sendMessage(Message.raw("- /ctf queue [leave] - Queue for a match, or leave the queue"));
         ctx.sendMessage(Message.raw("- /ctf save - Save arena config"));
+        ctx.sendMessage(Message.raw("- /ctf preset <save|load|delete|list> [name] - Manage arena presets"));
+        ctx.sendMessage(Message.raw("- /ctf instance <create|remove|list> [world] - Manage per-world instances"));
     }
 
     // ==================== Status ====================
@@ -68,14 +95,21 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            FlagCarrierManager flagManager = plugin.getFlagCarrierManager();
-            MatchManager matchManager = plugin.getMatchManager();
+            CTFInstance instance = getInstance(ctx);
+            FlagCarrierManager flagManager = instance.getFlagCarrierManager();
+            MatchManager matchManager = instance.getMatchManager();
 
-            ctx.sendMessage(Message.raw("=== CTF Status ==="));
+            ctx.sendMessage(Message.raw("=== CTF Status (" + instance.getId() + ") ==="));
 
             if (matchManager != null) {
                 MatchState state = matchManager.getState();
-                ctx.sendMessage(Message.raw("Match: " + state + " | " + matchManager.getScoreString()));
+                String timeLeft = "";
+                long remaining = matchManager.getPhaseRemainingMillis();
+                if (remaining >= 0) {
+                    long seconds = (remaining + 999) / 1000;
+                    timeLeft = String.format(" | %d:%02d left", seconds / 60, seconds % 60);
+                }
+                ctx.sendMessage(Message.raw("Match: " + state + " | " + matchManager.getScoreString() + timeLeft));
             }
 
             for (FlagTeam team : FlagTeam.values()) {
@@ -101,14 +135,16 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            MatchManager matchManager = plugin.getMatchManager();
+            MatchManager matchManager = getInstance(ctx).getMatchManager();
             if (matchManager == null) {
                 ctx.sendMessage(Message.raw("Match system not initialized"));
                 return;
             }
 
             if (matchManager.startMatch()) {
-                ctx.sendMessage(Message.raw("Match started!"));
+                ctx.sendMessage(Message.raw(matchManager.getState() == MatchState.WARMUP
+                    ? "Warmup started, match begins in " + matchManager.getWarmupSeconds() + "s."
+                    : "Match started!"));
             } else {
                 ctx.sendMessage(Message.raw("Could not start match. Current state: " + matchManager.getState()));
             }
@@ -123,7 +159,7 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            MatchManager matchManager = plugin.getMatchManager();
+            MatchManager matchManager = getInstance(ctx).getMatchManager();
             if (matchManager == null) {
                 ctx.sendMessage(Message.raw("Match system not initialized"));
                 return;
@@ -145,7 +181,7 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            MatchManager matchManager = plugin.getMatchManager();
+            MatchManager matchManager = getInstance(ctx).getMatchManager();
             if (matchManager == null) {
                 ctx.sendMessage(Message.raw("Match system not initialized"));
                 return;
@@ -164,7 +200,7 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            MatchManager matchManager = plugin.getMatchManager();
+            MatchManager matchManager = getInstance(ctx).getMatchManager();
             if (matchManager == null) {
                 ctx.sendMessage(Message.raw("Match system not initialized"));
                 return;
@@ -188,7 +224,7 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            TeamManager teamManager = plugin.getTeamManager();
+            TeamManager teamManager = getInstance(ctx).getTeamManager();
             if (teamManager == null) {
                 ctx.sendMessage(Message.raw("Team system not initialized"));
                 return;
@@ -231,7 +267,7 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            TeamManager teamManager = plugin.getTeamManager();
+            TeamManager teamManager = getInstance(ctx).getTeamManager();
             if (teamManager == null) {
                 ctx.sendMessage(Message.raw("Team system not initialized"));
                 return;
@@ -268,7 +304,7 @@ public class CTFCommands extends CommandBase {
 
         @Override
         protected void executeSync(@Nonnull CommandContext ctx) {
-            ArenaManager arenaManager = plugin.getArenaManager();
+            ArenaManager arenaManager = getInstance(ctx).getArenaManager();
             if (arenaManager == null) {
                 ctx.sendMessage(Message.raw("Arena system not initialized"));
                 return;
@@ -278,4 +314,185 @@ public class CTFCommands extends CommandBase {
             ctx.sendMessage(Message.raw("Arena configuration saved."));
         }
     }
+
+    private class PresetSubCommand extends CommandBase {
+        private final OptionalArg<String> actionArg;
+        private final OptionalArg<String> nameArg;
+
+        public PresetSubCommand() {
+            super("preset", "Manage arena presets");
+            setPermissionGroup(GameMode.Creative);
+            actionArg = withOptionalArg("action", "save, load, delete or list", ArgTypes.STRING);
+            nameArg = withOptionalArg("name", "Preset name", ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext ctx) {
+            CTFInstance instance = getInstance(ctx);
+            ArenaManager arenaManager = instance.getArenaManager();
+            if (arenaManager == null) {
+                ctx.sendMessage(Message.raw("Arena system not initialized"));
+                return;
+            }
+
+            String action = ctx.get(actionArg);
+            if (action == null || action.isEmpty() || action.equalsIgnoreCase("list")) {
+                List<String> presets = arenaManager.listPresets();
+                if (presets.isEmpty()) {
+                    ctx.sendMessage(Message.raw("No arena presets saved."));
+                } else {
+                    ctx.sendMessage(Message.raw("Arena presets: " + String.join(", ", presets)));
+                }
+                return;
+            }
+
+            String name = ctx.get(nameArg);
+            if (name == null || name.isEmpty()) {
+                ctx.sendMessage(Message.raw("Usage: /ctf preset <save|load|delete> <name>"));
+                return;
+            }
+
+            switch (action.toLowerCase()) {
+                case "save" -> {
+                    if (arenaManager.savePreset(name)) {
+                        ctx.sendMessage(Message.raw("Saved arena as preset '" + name + "'."));
+                    } else {
+                        ctx.sendMessage(Message.raw("Invalid preset name. Use letters, digits, '-' and '_'."));
+                    }
+                }
+                case "load" -> {
+                    if (instance.getMatchManager().isMatchActive()) {
+                        ctx.sendMessage(Message.raw("Can't load a preset while a match is running."));
+                    } else if (arenaManager.loadPreset(name)) {
+                        ctx.sendMessage(Message.raw("Loaded preset '" + name + "'."));
+                    } else {
+                        ctx.sendMessage(Message.raw("Preset '" + name + "' not found."));
+                    }
+                }
+                case "delete" -> {
+                    if (arenaManager.deletePreset(name)) {
+                        ctx.sendMessage(Message.raw("Deleted preset '" + name + "'."));
+                    } else {
+                        ctx.sendMessage(Message.raw("Preset '" + name + "' not found."));
+                    }
+                }
+                default -> ctx.sendMessage(Message.raw("Unknown action. Use save, load, delete or list."));
+            }
+        }
+    }
+
+    // ==================== Instance Commands ====================
+
+    private class InstanceSubCommand extends CommandBase {
+        private final OptionalArg<String> actionArg;
+        private final OptionalArg<String> worldArg;
+
+        public InstanceSubCommand() {
+            super("instance", "Manage per-world CTF instances");
+            setPermissionGroup(GameMode.Creative);
+            actionArg = withOptionalArg("action", "create, remove or list", ArgTypes.STRING);
+            worldArg = withOptionalArg("world", "World the instance runs in", ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext ctx) {
+            CTFInstanceManager instanceManager = plugin.getInstanceManager();
+            if (instanceManager == null) {
+                ctx.sendMessage(Message.raw("Instance system not initialized"));
+                return;
+            }
+
+            String action = ctx.get(actionArg);
+            if (action == null || action.isEmpty() || action.equalsIgnoreCase("list")) {
+                ctx.sendMessage(Message.raw("=== CTF Instances ==="));
+                for (CTFInstance instance : instanceManager.getInstances()) {
+                    ctx.sendMessage(Message.raw(instance.getId() + ": " + instance.getMatchManager().getState()
+                        + " | " + instance.getMatchManager().getScoreString()
+                        + " | players: " + instance.getTeamManager().getTotalPlayers()));
+                }
+                return;
+            }
+
+            String worldName = ctx.get(worldArg);
+            if (worldName == null || worldName.isEmpty()) {
+                ctx.sendMessage(Message.raw("Usage: /ctf instance <create|remove> <world>"));
+                return;
+            }
+
+            switch (action.toLowerCase()) {
+                case "create" -> {
+                    if (instanceManager.createInstance(worldName) != null) {
+                        ctx.sendMessage(Message.raw("Created CTF instance for world " + worldName + "."));
+                    } else {
+                        ctx.sendMessage(Message.raw("World " + worldName + " already has an instance."));
+                    }
+                }
+                case "remove" -> {
+                    if (instanceManager.removeInstance(worldName)) {
+                        ctx.sendMessage(Message.raw("Removed CTF instance for world " + worldName + "."));
+                    } else {
+                        ctx.sendMessage(Message.raw("World " + worldName + " has no instance."));
+                    }
+                }
+                default -> ctx.sendMessage(Message.raw("Unknown action. Use create, remove or list."));
+            }
+        }
+    }
+
+    // ==================== Matchmaking Commands ====================
+
+    private class QueueSubCommand extends CommandBase {
+        private final OptionalArg<String> actionArg;
+
+        public QueueSubCommand() {
+            super("queue", "Queue for a balanced match");
+            setPermissionGroup(GameMode.Adventure);
+            actionArg = withOptionalArg("action", "leave to leave the queue", ArgTypes.STRING);
+        }
+
+        @Override
+        protected void executeSync(@Nonnull CommandContext ctx) {
+            MatchmakingService service = plugin.getMatchmakingService();
+            QueueAssignmentHandler queueHandler = plugin.getQueueHandler();
+            if (service == null || queueHandler == null) {
+                ctx.sendMessage(Message.raw("Matchmaking not initialized"));
+                return;
+            }
+
+            if (!ctx.isPlayer()) {
+                ctx.sendMessage(Message.raw("Players queued: " + service.getQueuedPlayers()));
+                return;
+            }
+
+            PlayerRef playerRef = ctx.senderAs(Player.class).getPlayerRef();
+            if (playerRef == null) {
+                ctx.sendMessage(Message.raw("Could not get player reference"));
+                return;
+            }
+
+            String action = ctx.get(actionArg);
+            if (action != null && action.equalsIgnoreCase("leave")) {
+                if (queueHandler.leave(playerRef.getUuid())) {
+                    ctx.sendMessage(Message.raw("You left the queue."));
+                } else {
+                    ctx.sendMessage(Message.raw("You are not in the queue."));
+                }
+                return;
+            }
+
+            if (getInstance(ctx).getTeamManager().isOnTeam(playerRef.getUuid())) {
+                ctx.sendMessage(Message.raw("Leave your team before queueing."));
+                return;
+            }
+
+            if (queueHandler.enqueue(playerRef)) {
+                // The match may already have been formed and announced
+                if (queueHandler.isQueued(playerRef.getUuid())) {
+                    ctx.sendMessage(Message.raw("You joined the queue (" + service.getQueuedPlayers() + " waiting)."));
+                }
+            } else {
+                ctx.sendMessage(Message.raw("You are already in the queue."));
+            }
+        }
+    }
 }
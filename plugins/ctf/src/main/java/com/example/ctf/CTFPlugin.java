@@ -1,19 +1,33 @@
 package com.example.ctf;
 
 import com.example.ctf.arena.ArenaConfig;
+import com.example.ctf.arena.ArenaIO;
 import com.example.ctf.arena.ArenaManager;
+import com.example.ctf.arena.PresetStore;
 import com.example.ctf.editor.CTFMarkerProvider;
 import com.example.ctf.editor.CTFSetupCycleInteraction;
 import com.example.ctf.editor.CTFSetupInteraction;
+import com.example.ctf.instance.CTFInstanceManager;
+import com.example.ctf.instance.InstancePresenceSystem;
 import com.example.ctf.match.MatchManager;
+import com.example.ctf.matchmaking.BrokerMatchmakingService;
+import com.example.ctf.matchmaking.LocalInstanceAllocator;
+import com.example.ctf.matchmaking.LocalMatchmakingService;
+import com.example.ctf.matchmaking.LoopbackBroker;
+import com.example.ctf.matchmaking.MatchmakingConfig;
+import com.example.ctf.matchmaking.MatchmakingService;
+import com.example.ctf.matchmaking.QueueAssignmentHandler;
 import com.example.ctf.protection.BuildingProtectionHandler;
 import com.example.ctf.spawn.CTFRespawnController;
 import com.example.ctf.spawn.CTFSpawnProvider;
+import com.example.ctf.status.StatusModifierManager;
 import com.example.ctf.team.TeamManager;
 import com.example.ctf.team.TeamVisualManager;
 import com.example.ctf.ui.CTFAnnouncementManager;
 import com.example.ctf.ui.CTFScoreHud;
 import com.example.ctf.ui.CTFSoundManager;
+import com.example.ctf.zone.ZoneTracker;
+import com.example.ctf.zone.ZoneTrackingSystem;
 import com.hypixel.hytale.server.core.universe.world.events.AddWorldEvent;
 import com.hypixel.hytale.server.core.modules.interaction.interaction.config.Interaction;
 import com.hypixel.hytale.server.core.plugin.JavaPlugin;
@@ -36,25 +50,28 @@ import javax.annotation.Nullable;
  * - Capture zones for scoring
  * - Protected regions (no building)
  * - Match system with scoring
+ * - Matchmaking queue with skill-rated, pre-balanced teams
  */
 public class CTFPlugin extends JavaPlugin {
 
     // Static instance for access from interactions
     private static CTFPlugin instance;
 
+    // Arena instances (each with its own match, flags, teams and zones)
+    private CTFInstanceManager instanceManager;
+
     // Core systems
-    private FlagCarrierManager flagCarrierManager;
     private FlagEventHandler flagEventHandler;
 
     // Arena systems
     private Config<ArenaConfig> arenaConfig;
-    private ArenaManager arenaManager;
+    private ArenaIO arenaIO;
+    private PresetStore presetStore;
     private BuildingProtectionHandler buildingProtectionHandler;
 
-    // Team & match systems
-    private TeamManager teamManager;
+    // Team visuals (shared by all instances)
     private TeamVisualManager teamVisualManager;
-    private MatchManager matchManager;
+    private StatusModifierManager statusModifierManager;
 
     // Spawn system
     private CTFSpawnProvider spawnProvider;
@@ -67,6 +84,11 @@ public class CTFPlugin extends JavaPlugin {
     private CTFAnnouncementManager announcementManager;
     private CTFSoundManager soundManager;
 
+    // Matchmaking
+    private Config<MatchmakingConfig> matchmakingConfig;
+    private MatchmakingService matchmakingService;
+    private QueueAssignmentHandler queueHandler;
+
     /**
      * Gets the CTF plugin instance.
      * @return The plugin instance, or null if not loaded
@@ -82,6 +104,7 @@ public class CTFPlugin extends JavaPlugin {
 
         // Register arena config BEFORE setup is called
         arenaConfig = withConfig("arena", ArenaConfig.CODEC);
+        matchmakingConfig = withConfig("matchmaking", MatchmakingConfig.CODEC);
 
         // Register CTF interactions
         registerInteractions();
@@ -100,25 +123,26 @@ public class CTFPlugin extends JavaPlugin {
     protected void setup() {
         getLogger().atInfo().log("CTF Plugin setting up...");
 
-        // Initialize team manager first (other systems may depend on it)
-        teamManager = new TeamManager(this);
-
-        // Initialize team visual manager
+        // Initialize team visual manager (shared by all instances)
         teamVisualManager = new TeamVisualManager(this);
+        statusModifierManager = new StatusModifierManager(this);
 
-        // Initialize arena manager (uses config loaded by withConfig)
-        arenaManager = new ArenaManager(this, arenaConfig);
+        // Background arena file I/O and the preset store
+        arenaIO = new ArenaIO(this);
+        presetStore = new PresetStore(this, arenaIO, getDataDirectory().resolve("presets"));
 
-        // Initialize match manager
-        matchManager = new MatchManager(this);
+        // Initialize CTF instances; the default instance uses the config loaded by withConfig
+        instanceManager = new CTFInstanceManager(this, arenaConfig);
 
-        // Initialize the flag carrier manager
-        flagCarrierManager = new FlagCarrierManager(this);
+        // Register ECS systems; each resolves the instance for the world it runs in
+        getEntityStoreRegistry().registerSystem(new InstancePresenceSystem(instanceManager));
+        getEntityStoreRegistry().registerSystem(new ZoneTrackingSystem(instanceManager));
+        getEntityStoreRegistry().registerSystem(new FlagCarrierDeathSystem(this));
+        getEntityStoreRegistry().registerSystem(new FlagCarrierSlotLockSystem(this));
 
         // Initialize event handlers
         flagEventHandler = new FlagEventHandler(this);
-        // TODO: BuildingProtectionHandler needs ECS system rewrite
-        // buildingProtectionHandler = new BuildingProtectionHandler(this);
+        buildingProtectionHandler = new BuildingProtectionHandler(this);
 
         // Initialize spawn system
         spawnProvider = new CTFSpawnProvider(this, null);
@@ -131,6 +155,11 @@ public class CTFPlugin extends JavaPlugin {
         announcementManager = new CTFAnnouncementManager(this);
         soundManager = new CTFSoundManager(this);
 
+        // Initialize matchmaking over this server's instances
+        MatchmakingConfig mmConfig = matchmakingConfig.get();
+        matchmakingService = createMatchmakingService(mmConfig);
+        queueHandler = new QueueAssignmentHandler(this, matchmakingService, mmConfig.getServerId());
+
         // Register marker provider for all worlds (existing and new)
         getEventRegistry().registerGlobal(AddWorldEvent.class, event -> {
             event.getWorld().getWorldMapManager().addMarkerProvider("ctf", markerProvider);
@@ -143,12 +172,33 @@ public class CTFPlugin extends JavaPlugin {
         getLogger().atInfo().log("CTF Plugin setup complete!");
     }
 
+    /**
+     * Creates the matchmaking service selected by the config's mode.
+     */
+    @Nonnull
+    private MatchmakingService createMatchmakingService(@Nonnull MatchmakingConfig config) {
+        LocalInstanceAllocator allocator = new LocalInstanceAllocator(instanceManager, config.getServerId());
+        String mode = config.getMode();
+        if (MatchmakingConfig.MODE_LOOPBACK.equalsIgnoreCase(mode)) {
+            // Only server on its broker, so it coordinates
+            return new BrokerMatchmakingService(this, new LoopbackBroker(), config.getServerId(), true,
+                config.getTeamSize(), allocator::freeInstanceIds);
+        }
+        if (!MatchmakingConfig.MODE_LOCAL.equalsIgnoreCase(mode)) {
+            getLogger().atWarning().log("Unknown matchmaking mode {}, using {}", mode, MatchmakingConfig.MODE_LOCAL);
+        }
+        return new LocalMatchmakingService(this, config.getTeamSize(), allocator);
+    }
+
     @Override
     protected void start() {
         getLogger().atInfo().log("CTF Plugin started!");
 
         // Log arena configuration status
-        ArenaConfig config = arenaManager.getConfig();
+        instanceManager.start();
+        presetStore.loadAll();
+        matchmakingService.start();
+        ArenaConfig config = getArenaManager().getConfig();
         getLogger().atInfo().log("Arena config loaded:");
         getLogger().atInfo().log("  - Red spawns: {}", config.getRedSpawns().length);
         getLogger().atInfo().log("  - Blue spawns: {}", config.getBlueSpawns().length);
@@ -162,14 +212,19 @@ public class CTFPlugin extends JavaPlugin {
     protected void shutdown() {
         getLogger().atInfo().log("CTF Plugin shutting down...");
 
-        // Save arena config
-        if (arenaManager != null) {
-            arenaManager.save();
+        // Stop matchmaking first so no match is placed on an instance being shut down
+        if (matchmakingService != null) {
+            matchmakingService.shutdown();
         }
 
-        // Clean up - restore all flag carriers to normal movement
-        if (flagCarrierManager != null) {
-            flagCarrierManager.cleanup();
+        // Save arenas, restore flag carriers, stop zone tracking and clear teams in every instance
+        if (instanceManager != null) {
+            instanceManager.shutdown();
+        }
+
+        // Finish pending arena and preset writes (instances queued their final saves above)
+        if (arenaIO != null) {
+            arenaIO.shutdown();
         }
 
         // Clear team visuals
@@ -177,9 +232,9 @@ public class CTFPlugin extends JavaPlugin {
             teamVisualManager.cleanup();
         }
 
-        // Clear team assignments
-        if (teamManager != null) {
-            teamManager.clearTeams();
+        // Forget movement modifiers
+        if (statusModifierManager != null) {
+            statusModifierManager.cleanup();
         }
 
         // Clean up score HUDs
@@ -191,19 +246,52 @@ public class CTFPlugin extends JavaPlugin {
 
     // ==================== Getters ====================
 
+    @Nullable
+    public CTFInstanceManager getInstanceManager() {
+        return instanceManager;
+    }
+
+    /**
+     * Gets the flag carrier manager of the default instance.
+     * Code that knows its world should go through {@link #getInstanceManager()}.
+     */
     @Nonnull
     public FlagCarrierManager getFlagCarrierManager() {
-        return flagCarrierManager;
+        return instanceManager.getDefaultInstance().getFlagCarrierManager();
     }
 
+    /**
+     * Gets the arena manager of the default instance.
+     */
     @Nullable
     public ArenaManager getArenaManager() {
-        return arenaManager;
+        return instanceManager != null ? instanceManager.getDefaultInstance().getArenaManager() : null;
+    }
+
+    /**
+     * Gets the zone tracker of the default instance.
+     */
+    @Nullable
+    public ZoneTracker getZoneTracker() {
+        return instanceManager != null ? instanceManager.getDefaultInstance().getZoneTracker() : null;
     }
 
+    /**
+     * Gets the team manager of the default instance.
+     */
     @Nullable
     public TeamManager getTeamManager() {
-        return teamManager;
+        return instanceManager != null ? instanceManager.getDefaultInstance().getTeamManager() : null;
+    }
+
+    @Nullable
+    public ArenaIO getArenaIO() {
+        return arenaIO;
+    }
+
+    @Nullable
+    public PresetStore getPresetStore() {
+        return presetStore;
     }
 
     @Nullable
@@ -211,9 +299,17 @@ public class CTFPlugin extends JavaPlugin {
         return teamVisualManager;
     }
 
+    @Nullable
+    public StatusModifierManager getStatusModifierManager() {
+        return statusModifierManager;
+    }
+
+    /**
+     * Gets the match manager of the default instance.
+     */
     @Nullable
     public MatchManager getMatchManager() {
-        return matchManager;
+        return instanceManager != null ? instanceManager.getDefaultInstance().getMatchManager() : null;
     }
 
     @Nullable
@@ -235,4 +331,14 @@ public class CTFPlugin extends JavaPlugin {
     public CTFSoundManager getSoundManager() {
         return soundManager;
     }
+
+    @Nullable
+    public MatchmakingService getMatchmakingService() {
+        return matchmakingService;
+    }
+
+    @Nullable
+    public QueueAssignmentHandler getQueueHandler() {
+        return queueHandler;
+    }
 }
@@ -0,0 +1,76 @@
+package com.example.ctf;
+
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.ComponentType;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefChangeSystem;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.modules.entity.damage.DeathComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Drops the flag when its carrier dies.
+ *
+ * Runs on the owning world thread when a {@link DeathComponent} is added to a
+ * player, so the death position and killer are read from the store directly.
+ */
+public class FlagCarrierDeathSystem extends RefChangeSystem<EntityStore, DeathComponent> {
+
+    private final CTFPlugin plugin;
+
+    public FlagCarrierDeathSystem(@Nonnull CTFPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    @Nonnull
+    @Override
+    public ComponentType<EntityStore, DeathComponent> componentType() {
+        return DeathComponent.getComponentType();
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @Override
+    public void onComponentAdded(@Nonnull Ref<EntityStore> ref, @Nonnull DeathComponent deathComponent,
+                                 @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+
+        FlagCarrierManager carrierManager = plugin.getInstanceManager()
+            .getInstance(store.getExternalData().getWorld()).getFlagCarrierManager();
+        if (!carrierManager.isCarryingFlag(playerRef.getUuid())) {
+            return;
+        }
+
+        TransformComponent transform = store.getComponent(ref, TransformComponent.getComponentType());
+        Vector3d deathPosition = transform != null ? transform.getPosition() : null;
+
+        carrierManager.onCarrierDeath(playerRef.getUuid(), playerRef, deathComponent, deathPosition);
+    }
+
+    @Override
+    public void onComponentSet(@Nonnull Ref<EntityStore> ref, @Nullable DeathComponent oldComponent,
+                               @Nonnull DeathComponent newComponent, @Nonnull Store<EntityStore> store,
+                               @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        // Death info updates while already dead don't affect the flag
+    }
+
+    @Override
+    public void onComponentRemoved(@Nonnull Ref<EntityStore> ref, @Nonnull DeathComponent deathComponent,
+                                   @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        // Respawn is handled by CTFRespawnController
+    }
+}
@@ -1,16 +1,21 @@
 package com.example.ctf;
 
+import com.example.ctf.arena.ArenaManager;
+import com.example.ctf.instance.CTFInstance;
+import com.example.ctf.match.MatchScheduler;
+import com.example.ctf.status.StatusModifier;
+import com.example.ctf.status.StatusModifierManager;
 import com.example.ctf.team.TeamManager;
 import com.example.ctf.ui.CTFAnnouncementManager;
+import com.example.ctf.zone.Zone;
+import com.example.ctf.zone.ZoneListener;
+import com.example.ctf.zone.ZoneTracker;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.math.vector.Vector3d;
-import com.hypixel.hytale.protocol.MovementSettings;
 import com.hypixel.hytale.protocol.packets.inventory.SetActiveSlot;
 import com.hypixel.hytale.server.core.HytaleServer;
 import com.hypixel.hytale.server.core.entity.LivingEntity;
-import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
 import com.hypixel.hytale.server.core.entity.entities.Player;
-import com.hypixel.hytale.server.core.entity.entities.player.movement.MovementManager;
 import com.hypixel.hytale.server.core.inventory.Inventory;
 import com.hypixel.hytale.server.core.inventory.ItemStack;
 import com.hypixel.hytale.server.core.modules.entity.component.DisplayNameComponent;
@@ -30,99 +35,190 @@ import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Manages CTF flags and their carriers.
+ * Manages CTF flags and their carriers for one {@link CTFInstance}.
  *
  * Restrictions when carrying a flag:
  * - Movement speed reduced to 80%
  * - Sprint speed reduced to 70%
  * - Mantling (2-block climb) disabled
+ *   (the movement limits are a {@link StatusModifier} stacked with any others)
  * - Cannot switch to other hotbar slots (locked to flag slot)
  * - Two-handed weapons blocked
  * - Can only drop flag with G key
+ *
+ * Carrier death and slot switches are driven by ECS systems on the owning
+ * world thread ({@link FlagCarrierDeathSystem}, {@link FlagCarrierSlotLockSystem}).
+ * Captures are triggered by capture zone enter events from the {@link ZoneTracker},
+ * and re-checked when a carrier's own flag returns to its stand.
+ * The scheduled sweep only catches carriers whose entity went away without
+ * an event. Pickup immunity and timed returns of dropped flags are timers on
+ * the instance's {@link MatchScheduler}, set on drop and cancelled on pickup
+ * or return. The rules themselves live in {@link FlagRules}.
  */
-public class FlagCarrierManager {
+public class FlagCarrierManager implements ZoneListener {
 
-    // Speed reduction multipliers when carrying a flag
-    private static final float FLAG_SPEED_MULTIPLIER = 0.80f;
-    private static final float FLAG_SPRINT_MULTIPLIER = 0.70f;
-    private static final float FLAG_CLIMB_MULTIPLIER = 0.0f;
+    // Movement while carrying a flag: 80% speed, 70% sprint, no climbing
+    public static final StatusModifier FLAG_CARRIER_MODIFIER =
+        new StatusModifier("ctf:flag_carrier", 0.80f, 0.70f, 0.0f);
 
-    // How often to run tick checks (in milliseconds)
-    private static final long TICK_INTERVAL_MS = 50;
+    // How often to run the safety sweep (in milliseconds)
+    private static final long SWEEP_INTERVAL_MS = 1000;
 
     // Flag slot is always slot 0 (first hotbar slot)
-    private static final byte FLAG_SLOT = 0;
+    public static final byte FLAG_SLOT = 0;
 
     private final CTFPlugin plugin;
+    private final CTFInstance instance;
 
     // Track flag data for each team
     private final Map<FlagTeam, FlagData> flags = new EnumMap<>(FlagTeam.class);
 
-    // Track carriers: UUID -> saved movement settings
-    private final Map<UUID, SavedMovementSettings> carrierSettings = new ConcurrentHashMap<>();
+    // Carrier index: UUID -> carried flag, player ref and entity ref (maintained on pickup/drop/return)
+    private final Map<UUID, Carrier> carriers = new ConcurrentHashMap<>();
+
+    // Compact snapshot of carriers for iteration, rebuilt whenever the index changes
+    private volatile Carrier[] carrierArray = new Carrier[0];
+
+    // Scheduled task for the safety sweep
+    private ScheduledFuture<?> sweepTask;
 
-    // Scheduled task for periodic checks
-    private ScheduledFuture<?> tickTask;
+    // Pending timers of dropped flags
+    private final Map<FlagTeam, MatchScheduler.Timer> immunityTimers = new EnumMap<>(FlagTeam.class);
+    private final Map<FlagTeam, MatchScheduler.Timer> returnTimers = new EnumMap<>(FlagTeam.class);
 
-    public FlagCarrierManager(@Nonnull CTFPlugin plugin) {
+    public FlagCarrierManager(@Nonnull CTFPlugin plugin, @Nonnull CTFInstance instance) {
         this.plugin = plugin;
+        this.instance = instance;
 
         // Initialize flag data for each team
         for (FlagTeam team : FlagTeam.values()) {
             flags.put(team, new FlagData(team));
         }
 
-        startTickTask();
+        startSweepTask();
         plugin.getLogger().atInfo().log("FlagCarrierManager initialized");
     }
 
     /**
-     * Starts the periodic tick task for flag management.
+     * Starts the periodic safety sweep.
      */
-    private void startTickTask() {
-        tickTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
-            this::tick,
-            TICK_INTERVAL_MS,
-            TICK_INTERVAL_MS,
+    private void startSweepTask() {
+        sweepTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+            this::sweep,
+            SWEEP_INTERVAL_MS,
+            SWEEP_INTERVAL_MS,
             TimeUnit.MILLISECONDS
         );
     }
 
     /**
-     * Periodic tick - handles slot enforcement, death detection, capture detection, and flag timeout checks.
+     * Safety sweep - finds carriers whose entity is gone. Only the lookup runs
+     * on the scheduler; the drop itself is dispatched to the instance's world
+     * thread, so it never races a pickup or drop there.
      */
-    private void tick() {
-        // Check for dead carriers, captures, and enforce slot locks
-        for (var entry : carrierSettings.entrySet()) {
-            UUID playerUuid = entry.getKey();
-            try {
-                // Check if carrier died
-                if (checkCarrierDeath(playerUuid)) {
-                    continue; // Flag was dropped, skip other checks
-                }
+    private void sweep() {
+        for (Carrier carrier : carrierArray) {
+            if (carrier.getEntityRef() == null) {
+                instance.runOnWorldThread(() -> {
+                    try {
+                        handleCarrierDisconnect(carrier);
+                    } catch (Exception e) {
+                        plugin.getLogger().atWarning().withCause(e)
+                            .log("Error sweeping carrier {}", carrier.uuid);
+                    }
+                });
+            }
+        }
+    }
 
-                // Check for flag capture
-                if (checkCapture(playerUuid)) {
-                    continue; // Flag was captured, skip slot enforcement
-                }
+    // ==================== Flag Timers ====================
 
-                enforceSlotForCarrier(playerUuid);
-            } catch (Exception e) {
-                plugin.getLogger().atWarning().withCause(e)
-                    .log("Error processing tick for player {}", playerUuid);
-            }
+    /**
+     * Starts the immunity and return timers of a flag that was just dropped.
+     */
+    private synchronized void startFlagTimers(@Nonnull FlagData flagData) {
+        FlagTeam team = flagData.getTeam();
+        cancelFlagTimers(team);
+
+        MatchScheduler scheduler = instance.getScheduler();
+        immunityTimers.put(team, scheduler.schedule(
+            FlagRules.immunityExpiry(flagData), FlagData.IMMUNITY_DURATION_MS, TimeUnit.MILLISECONDS));
+        returnTimers.put(team, scheduler.schedule(
+            FlagRules.returnTimeout(flagData, () -> onReturnTimeout(team)),
+            FlagData.RETURN_TIMEOUT_MS, TimeUnit.MILLISECONDS));
+    }
+
+    /**
+     * Cancels a flag's pending timers (picked up or returned).
+     */
+    private synchronized void cancelFlagTimers(@Nonnull FlagTeam team) {
+        MatchScheduler.Timer immunity = immunityTimers.remove(team);
+        if (immunity != null) {
+            immunity.cancel();
+        }
+        MatchScheduler.Timer ret = returnTimers.remove(team);
+        if (ret != null) {
+            ret.cancel();
         }
+    }
 
-        // Check for dropped flags that should return to stand
-        for (FlagData flagData : flags.values()) {
-            if (flagData.shouldReturnToStand()) {
-                returnFlagToStand(flagData.getTeam(), true); // true = timeout
-                plugin.getLogger().atInfo().log("{} flag returned to stand (timeout)",
-                    flagData.getTeam().getDisplayName());
-            }
+    /**
+     * Returns a dropped flag nobody touched before the timeout.
+     */
+    private void onReturnTimeout(@Nonnull FlagTeam team) {
+        returnFlagToStand(team, true); // true = timeout
+        plugin.getLogger().atInfo().log("{} flag returned to stand (timeout)",
+            team.getDisplayName());
+    }
+
+    // ==================== System Hooks ====================
+
+    /**
+     * Called by the {@link ZoneTracker} when a player enters a zone.
+     */
+    @Override
+    public void onZoneEnter(@Nonnull UUID playerUuid, @Nonnull Zone zone, @Nonnull Vector3d position) {
+        if (zone.getType() == Zone.Type.CAPTURE && isCarryingFlag(playerUuid)) {
+            checkCapture(playerUuid);
         }
     }
 
+    /**
+     * Called by {@link FlagCarrierDeathSystem} on the world thread when a carrier dies.
+     *
+     * @param playerUuid The UUID of the carrier
+     * @param playerRef The carrier's player ref
+     * @param deathComponent The death component with killer info
+     * @param deathPosition Where the carrier died, or null to drop at the flag stand
+     */
+    public void onCarrierDeath(@Nonnull UUID playerUuid, @Nonnull PlayerRef playerRef,
+                               @Nonnull DeathComponent deathComponent, @Nullable Vector3d deathPosition) {
+        FlagTeam carriedFlagTeam = getCarriedFlagTeam(playerUuid);
+        if (carriedFlagTeam == null) {
+            return;
+        }
+
+        if (deathPosition == null) {
+            // Fallback to flag stand position
+            Vector3d standPos = flags.get(carriedFlagTeam).getStandPosition();
+            deathPosition = standPos != null ? standPos : new Vector3d(0, 0, 0);
+        }
+
+        // Announce in kill feed
+        announceCarrierKill(playerUuid, playerRef, deathComponent, carriedFlagTeam);
+
+        dropFlag(playerUuid, deathPosition);
+        plugin.getLogger().atInfo().log("Player {} died while carrying flag, dropped at {}",
+            playerUuid, deathPosition);
+    }
+
+    /**
+     * Checks if a player's hotbar is locked to the flag slot.
+     */
+    public boolean isSlotLocked(@Nonnull UUID playerUuid) {
+        return carriers.containsKey(playerUuid);
+    }
+
     /**
      * Checks if a flag carrier is in position to capture and processes the capture if so.
      *
@@ -131,12 +227,12 @@ public class FlagCarrierManager {
      */
     private boolean checkCapture(@Nonnull UUID playerUuid) {
         // Get managers - if not initialized, skip capture detection
-        if (plugin.getTeamManager() == null || plugin.getArenaManager() == null || plugin.getMatchManager() == null) {
+        if (instance.getTeamManager() == null || instance.getArenaManager() == null || instance.getMatchManager() == null) {
             return false;
         }
 
         // Only process captures during an active match
-        if (!plugin.getMatchManager().isMatchActive()) {
+        if (!instance.getMatchManager().isMatchActive()) {
             return false;
         }
 
@@ -147,43 +243,16 @@ public class FlagCarrierManager {
         }
 
         // Get the carrier's team
-        FlagTeam carrierTeam = plugin.getTeamManager().getPlayerTeam(playerUuid);
+        FlagTeam carrierTeam = instance.getTeamManager().getPlayerTeam(playerUuid);
         if (carrierTeam == null) {
             return false; // Player must be on a team to capture
         }
 
-        // Can only capture the enemy flag (not your own)
-        if (carriedFlagTeam == carrierTeam) {
-            return false;
-        }
-
-        // Standard CTF rule: your own flag must be at its stand to capture
-        FlagData ownFlagData = flags.get(carrierTeam);
-        if (!ownFlagData.isAtStand()) {
-            return false; // Can't capture while your flag is stolen
-        }
-
-        // Get the carrier's position
-        PlayerRef playerRef = findPlayerRef(playerUuid);
-        if (playerRef == null) {
-            return false;
-        }
-
-        Ref<EntityStore> entityRef = playerRef.getReference();
-        if (entityRef == null || !entityRef.isValid()) {
-            return false;
-        }
-
-        TransformComponent transform = entityRef.getStore()
-            .getComponent(entityRef, TransformComponent.getComponentType());
-        if (transform == null) {
-            return false;
-        }
-
-        Vector3d position = transform.getPosition();
-
-        // Check if carrier is in their team's capture zone
-        if (!plugin.getArenaManager().isInCaptureZone(carrierTeam, position)) {
+        // Enemy flag only, own flag at its stand, carrier in their team's capture zone
+        ZoneTracker zoneTracker = instance.getZoneTracker();
+        boolean inCaptureZone = zoneTracker != null
+            && zoneTracker.isInZone(playerUuid, ArenaManager.captureZoneId(carrierTeam));
+        if (!FlagRules.canCapture(carriedFlagTeam, carrierTeam, flags.get(carrierTeam), inCaptureZone)) {
             return false;
         }
 
@@ -206,78 +275,28 @@ public class FlagCarrierManager {
             playerName = playerRef.getUsername();
         }
 
+        // Release the carrier (restore movement) before the flag goes home
+        releaseCarrier(playerUuid, capturedFlagTeam);
+
         // Return the captured flag to its stand (don't announce this as it's part of capture)
         FlagData flagData = flags.get(capturedFlagTeam);
         flagData.returnToStand(); // Direct call to avoid double announcement
 
+        // Journal before scoring: a winning capture closes the journal
+        instance.getJournal().flagCapture(playerUuid, scoringTeam, capturedFlagTeam);
+
         // Add score for the capturing team (this returns if they won)
-        plugin.getMatchManager().addScore(scoringTeam);
+        instance.getMatchManager().addScore(scoringTeam);
 
         // Announce the capture with updated scores
         CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
-        if (announcementManager != null && plugin.getMatchManager() != null) {
-            int redScore = plugin.getMatchManager().getScore(FlagTeam.RED);
-            int blueScore = plugin.getMatchManager().getScore(FlagTeam.BLUE);
-            announcementManager.announceFlagCaptured(scoringTeam, playerName, redScore, blueScore);
+        if (announcementManager != null && instance.getMatchManager() != null) {
+            int redScore = instance.getMatchManager().getScore(FlagTeam.RED);
+            int blueScore = instance.getMatchManager().getScore(FlagTeam.BLUE);
+            announcementManager.announceFlagCaptured(instance.getAudiences().everyone(), scoringTeam, playerName, redScore, blueScore);
         }
     }
 
-    /**
-     * Checks if a flag carrier has died and drops the flag if so.
-     *
-     * @param playerUuid The UUID of the carrier to check
-     * @return true if the carrier died and flag was dropped
-     */
-    private boolean checkCarrierDeath(@Nonnull UUID playerUuid) {
-        PlayerRef playerRef = findPlayerRef(playerUuid);
-        if (playerRef == null) {
-            // Can't find player ref - they may have disconnected, drop the flag
-            handleCarrierDisconnect(playerUuid);
-            return true;
-        }
-
-        Ref<EntityStore> entityRef = playerRef.getReference();
-        if (entityRef == null || !entityRef.isValid()) {
-            handleCarrierDisconnect(playerUuid);
-            return true;
-        }
-
-        // Check if player has the DeathComponent (meaning they're dead)
-        DeathComponent deathComponent = entityRef.getStore()
-            .getComponent(entityRef, DeathComponent.getComponentType());
-
-        if (deathComponent != null) {
-            // Player is dead - drop the flag at their position
-            TransformComponent transform = entityRef.getStore()
-                .getComponent(entityRef, TransformComponent.getComponentType());
-
-            Vector3d deathPosition;
-            if (transform != null) {
-                deathPosition = transform.getPosition();
-            } else {
-                // Fallback to flag stand position
-                FlagTeam team = getCarriedFlagTeam(playerUuid);
-                if (team != null) {
-                    Vector3d standPos = flags.get(team).getStandPosition();
-                    deathPosition = standPos != null ? standPos : new Vector3d(0, 0, 0);
-                } else {
-                    deathPosition = new Vector3d(0, 0, 0);
-                }
-            }
-
-            // Check for killer to announce in kill feed
-            FlagTeam carriedFlagTeam = getCarriedFlagTeam(playerUuid);
-            announceCarrierKill(playerUuid, playerRef, deathComponent, carriedFlagTeam);
-
-            dropFlag(playerUuid, deathPosition);
-            plugin.getLogger().atInfo().log("Player {} died while carrying flag, dropped at {}",
-                playerUuid, deathPosition);
-            return true;
-        }
-
-        return false;
-    }
-
     /**
      * Announces a flag carrier kill in the kill feed.
      *
@@ -299,7 +318,7 @@ public class FlagCarrierManager {
 
         // Get victim's name and team
         String victimName = victimRef.getUsername();
-        TeamManager teamManager = plugin.getTeamManager();
+        TeamManager teamManager = instance.getTeamManager();
         FlagTeam victimTeam = teamManager != null ? teamManager.getPlayerTeam(victimUuid) : null;
 
         // Check if killed by another player
@@ -314,11 +333,13 @@ public class FlagCarrierManager {
                     String killerName = killerPlayerRef.getUsername();
                     UUID killerUuid = killerPlayerRef.getUuid();
                     FlagTeam killerTeam = teamManager != null ? teamManager.getPlayerTeam(killerUuid) : null;
+                    instance.getJournal().carrierKill(killerUuid, victimUuid, carriedFlagTeam);
 
                     // Announce in kill feed
                     CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
                     if (announcementManager != null && killerTeam != null && victimTeam != null) {
                         announcementManager.announceKillFeedFlagCarrierKill(
+                            instance.getAudiences().everyone(),
                             killerName, killerTeam,
                             victimName, victimTeam,
                             carriedFlagTeam
@@ -331,12 +352,15 @@ public class FlagCarrierManager {
 
     /**
      * Handles a carrier disconnecting - drops flag at their last known position.
+     * Runs on the instance's world thread.
      */
-    private void handleCarrierDisconnect(@Nonnull UUID playerUuid) {
-        FlagTeam team = getCarriedFlagTeam(playerUuid);
-        if (team == null) {
+    private void handleCarrierDisconnect(@Nonnull Carrier carrier) {
+        // The carrier may have dropped, or come back, since the sweep saw it
+        UUID playerUuid = carrier.uuid;
+        if (carriers.get(playerUuid) != carrier || carrier.getEntityRef() != null) {
             return;
         }
+        FlagTeam team = carrier.flagData.getTeam();
 
         // Use the flag stand position as fallback when player disconnects
         FlagData flagData = flags.get(team);
@@ -345,44 +369,14 @@ public class FlagCarrierManager {
             dropPosition = new Vector3d(0, 0, 0);
         }
 
-        // Force drop the flag
-        flagData.drop(dropPosition);
-        carrierSettings.remove(playerUuid);
+        // Same path as any other drop, so immunity and the return timer start;
+        // the entity is gone, so its modifier is only forgotten
+        dropFlag(playerUuid, dropPosition);
 
         plugin.getLogger().atInfo().log("Player {} disconnected while carrying {} flag, dropped at {}",
             playerUuid, team.getDisplayName(), dropPosition);
     }
 
-    /**
-     * Enforces the slot lock for a flag carrier.
-     */
-    private void enforceSlotForCarrier(@Nonnull UUID playerUuid) {
-        PlayerRef playerRef = findPlayerRef(playerUuid);
-        if (playerRef == null) {
-            return;
-        }
-
-        Ref<EntityStore> entityRef = playerRef.getReference();
-        if (entityRef == null || !entityRef.isValid()) {
-            return;
-        }
-
-        Player player = entityRef.getStore().getComponent(entityRef, Player.getComponentType());
-        if (player == null) {
-            return;
-        }
-
-        Inventory inventory = player.getInventory();
-        byte currentSlot = inventory.getActiveHotbarSlot();
-
-        // If player switched away from the flag slot, force them back
-        if (currentSlot != FLAG_SLOT) {
-            inventory.setActiveHotbarSlot(FLAG_SLOT);
-            SetActiveSlot packet = new SetActiveSlot(Inventory.HOTBAR_SECTION_ID, FLAG_SLOT);
-            playerRef.getPacketHandler().write(packet);
-        }
-    }
-
     /**
      * Called when a player picks up a flag.
      *
@@ -399,13 +393,8 @@ public class FlagCarrierManager {
         UUID playerUuid = playerRef.getUuid();
         FlagData flagData = flags.get(team);
 
-        // Can't pick up if already carried
-        if (flagData.isCarried()) {
-            return false;
-        }
-
-        // Check immunity if dropped
-        if (flagData.isDropped() && flagData.hasImmunity()) {
+        // Can't pick up if already carried or still immune after a drop
+        if (!FlagRules.canPickUp(flagData)) {
             return false;
         }
 
@@ -418,7 +407,10 @@ public class FlagCarrierManager {
         giveFlagItem(player, team);
 
         // Update flag data
+        cancelFlagTimers(team);
         flagData.pickup(playerUuid, playerRef);
+        indexCarrier(playerUuid, flagData, playerRef);
+        instance.getJournal().flagPickup(playerUuid, team);
 
         plugin.getLogger().atInfo().log("Player {} picked up {} flag!",
             playerUuid, team.getDisplayName());
@@ -427,7 +419,7 @@ public class FlagCarrierManager {
         CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
         if (announcementManager != null) {
             String playerName = playerRef.getUsername();
-            announcementManager.announceFlagPickup(playerUuid, playerName, team);
+            announcementManager.announceFlagPickup(instance.getAudiences().everyone(), playerUuid, playerName, team);
         }
 
         return true;
@@ -441,36 +433,22 @@ public class FlagCarrierManager {
      */
     public void dropFlag(@Nonnull UUID playerUuid, @Nonnull Vector3d dropPosition) {
         // Find which flag this player is carrying
-        FlagData carriedFlag = null;
-        for (FlagData flagData : flags.values()) {
-            if (playerUuid.equals(flagData.getCarrierUuid())) {
-                carriedFlag = flagData;
-                break;
-            }
-        }
-
-        if (carriedFlag == null) {
+        Carrier carrier = carriers.get(playerUuid);
+        if (carrier == null) {
             return;
         }
 
-        // Get the player to restore settings
-        PlayerRef playerRef = carriedFlag.getCarrierRef();
-        if (playerRef != null) {
-            Ref<EntityStore> entityRef = playerRef.getReference();
-            if (entityRef != null && entityRef.isValid()) {
-                Player player = entityRef.getStore().getComponent(entityRef, Player.getComponentType());
-                if (player != null) {
-                    // Remove flag item from inventory
-                    removeFlagItem(player, carriedFlag.getTeam());
-                    // Restore movement settings
-                    removeCarrierRestrictions(player, playerUuid);
-                }
-            }
-        }
+        FlagData carriedFlag = carrier.flagData;
+        PlayerRef playerRef = carrier.playerRef;
+
+        // Restore the player's inventory and movement settings
+        releaseCarrier(playerUuid, carriedFlag.getTeam());
 
         // Update flag state
         FlagTeam droppedFlagTeam = carriedFlag.getTeam();
         carriedFlag.drop(dropPosition);
+        startFlagTimers(carriedFlag);
+        instance.getJournal().flagDrop(playerUuid, droppedFlagTeam);
 
         plugin.getLogger().atInfo().log("{} flag dropped at {}",
             droppedFlagTeam.getDisplayName(), dropPosition);
@@ -479,7 +457,7 @@ public class FlagCarrierManager {
         CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
         if (announcementManager != null && playerRef != null) {
             String playerName = playerRef.getUsername();
-            announcementManager.announceFlagDropped(playerUuid, playerName, droppedFlagTeam);
+            announcementManager.announceFlagDropped(instance.getAudiences().everyone(), playerUuid, playerName, droppedFlagTeam);
         }
     }
 
@@ -516,16 +494,35 @@ public class FlagCarrierManager {
         // Only announce if it was actually dropped (not at stand already)
         boolean wasDropped = flagData.isDropped();
 
+        cancelFlagTimers(team);
         flagData.returnToStand();
 
         plugin.getLogger().atInfo().log("{} flag returned to stand",
             team.getDisplayName());
 
+        // An enemy carrier already waiting in this team's capture zone can now score
+        recheckCaptures();
+
         // Announce the return if it was dropped
         if (wasDropped) {
+            instance.getJournal().flagReturn(team, wasTimeout);
             CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
             if (announcementManager != null) {
-                announcementManager.announceFlagReturned(team, wasTimeout);
+                announcementManager.announceFlagReturned(instance.getAudiences().everyone(), team, wasTimeout);
+            }
+        }
+    }
+
+    /**
+     * Re-checks every carrier for a capture, for when capture conditions change
+     * while carriers stand still inside a zone. Runs on each carrier's world thread,
+     * since this may be reached from the sweep.
+     */
+    private void recheckCaptures() {
+        for (Carrier carrier : carrierArray) {
+            Ref<EntityStore> entityRef = carrier.getEntityRef();
+            if (entityRef != null) {
+                entityRef.getStore().getExternalData().getWorld().execute(() -> checkCapture(carrier.uuid));
             }
         }
     }
@@ -548,95 +545,22 @@ public class FlagCarrierManager {
             return false;
         }
 
-        Ref<EntityStore> entityRef = playerRef.getReference();
-        if (entityRef == null) {
-            return false;
-        }
-
-        MovementManager movementManager = entityRef.getStore()
-            .getComponent(entityRef, MovementManager.getComponentType());
-
-        if (movementManager == null) {
-            plugin.getLogger().atWarning().log("Could not get MovementManager for player {}", playerUuid);
+        StatusModifierManager statusModifiers = plugin.getStatusModifierManager();
+        if (statusModifiers == null || !statusModifiers.apply(playerRef, FLAG_CARRIER_MODIFIER)) {
             return false;
         }
 
-        // Save original settings
-        MovementSettings original = movementManager.getSettings();
-        SavedMovementSettings saved = new SavedMovementSettings(
-            original.baseSpeed,
-            original.forwardSprintSpeedMultiplier,
-            original.climbSpeed,
-            original.climbSpeedLateral,
-            original.climbUpSprintSpeed,
-            original.climbDownSprintSpeed
-        );
-        carrierSettings.put(playerUuid, saved);
-
-        // Apply flag carrier restrictions
-        MovementSettings settings = movementManager.getSettings();
-        settings.baseSpeed *= FLAG_SPEED_MULTIPLIER;
-        settings.forwardSprintSpeedMultiplier *= FLAG_SPRINT_MULTIPLIER;
-        settings.climbSpeed = FLAG_CLIMB_MULTIPLIER;
-        settings.climbSpeedLateral = FLAG_CLIMB_MULTIPLIER;
-        settings.climbUpSprintSpeed = FLAG_CLIMB_MULTIPLIER;
-        settings.climbDownSprintSpeed = FLAG_CLIMB_MULTIPLIER;
-
-        // Send updated settings to client
-        movementManager.update(playerRef.getPacketHandler());
-
-        // Force the active slot to the flag slot
+        // Force the active slot to the flag slot (only tell the client if it moved)
         Inventory inventory = player.getInventory();
-        inventory.setActiveHotbarSlot(FLAG_SLOT);
-
-        SetActiveSlot packet = new SetActiveSlot(Inventory.HOTBAR_SECTION_ID, FLAG_SLOT);
-        playerRef.getPacketHandler().write(packet);
+        if (inventory.getActiveHotbarSlot() != FLAG_SLOT) {
+            inventory.setActiveHotbarSlot(FLAG_SLOT);
+            playerRef.getPacketHandler().write(new SetActiveSlot(Inventory.HOTBAR_SECTION_ID, FLAG_SLOT));
+        }
 
         plugin.getLogger().atInfo().log("Applied flag carrier restrictions to player {}", playerUuid);
         return true;
     }
 
-    /**
-     * Removes movement restrictions from a flag carrier.
-     */
-    private void removeCarrierRestrictions(@Nonnull Player player, @Nonnull UUID playerUuid) {
-        SavedMovementSettings saved = carrierSettings.remove(playerUuid);
-        if (saved == null) {
-            return;
-        }
-
-        PlayerRef playerRef = player.getPlayerRef();
-        if (playerRef == null) {
-            return;
-        }
-
-        Ref<EntityStore> entityRef = playerRef.getReference();
-        if (entityRef == null) {
-            return;
-        }
-
-        MovementManager movementManager = entityRef.getStore()
-            .getComponent(entityRef, MovementManager.getComponentType());
-
-        if (movementManager == null) {
-            return;
-        }
-
-        // Restore original settings
-        MovementSettings settings = movementManager.getSettings();
-        settings.baseSpeed = saved.baseSpeed();
-        settings.forwardSprintSpeedMultiplier = saved.forwardSprintSpeedMultiplier();
-        settings.climbSpeed = saved.climbSpeed();
-        settings.climbSpeedLateral = saved.climbSpeedLateral();
-        settings.climbUpSprintSpeed = saved.climbUpSprintSpeed();
-        settings.climbDownSprintSpeed = saved.climbDownSprintSpeed();
-
-        // Send updated settings to client
-        movementManager.update(playerRef.getPacketHandler());
-
-        plugin.getLogger().atInfo().log("Restored normal movement for player {}", playerUuid);
-    }
-
     /**
      * Gives the visual flag item to a player.
      * TODO: Inventory API requires transaction system - implement when API is better understood
@@ -661,13 +585,54 @@ public class FlagCarrierManager {
      */
     @Nullable
     private PlayerRef findPlayerRef(@Nonnull UUID playerUuid) {
-        // Check all tracked flags for a matching carrier
-        for (FlagData flagData : flags.values()) {
-            if (playerUuid.equals(flagData.getCarrierUuid())) {
-                return flagData.getCarrierRef();
+        Carrier carrier = carriers.get(playerUuid);
+        return carrier != null ? carrier.playerRef : null;
+    }
+
+    // ==================== Carrier Index ====================
+
+    /**
+     * Adds a carrier to the index. Called right after {@link FlagData#pickup}.
+     */
+    private synchronized void indexCarrier(@Nonnull UUID playerUuid, @Nonnull FlagData flagData, @Nonnull PlayerRef playerRef) {
+        carriers.put(playerUuid, new Carrier(playerUuid, flagData, playerRef));
+        carrierArray = carriers.values().toArray(new Carrier[0]);
+    }
+
+    /**
+     * Removes a carrier from the index. Called whenever a carried flag is dropped or returned.
+     */
+    private synchronized void unindexCarrier(@Nonnull UUID playerUuid) {
+        if (carriers.remove(playerUuid) != null) {
+            carrierArray = carriers.values().toArray(new Carrier[0]);
+        }
+    }
+
+    /**
+     * Restores a carrier's inventory and movement and removes them from the index.
+     * Does not change the flag's state.
+     */
+    private void releaseCarrier(@Nonnull UUID playerUuid, @Nonnull FlagTeam flagTeam) {
+        Carrier carrier = carriers.get(playerUuid);
+        if (carrier == null) {
+            return;
+        }
+
+        Ref<EntityStore> entityRef = carrier.getEntityRef();
+        if (entityRef != null) {
+            Player player = entityRef.getStore().getComponent(entityRef, Player.getComponentType());
+            if (player != null) {
+                // Remove flag item from inventory
+                removeFlagItem(player, flagTeam);
             }
         }
-        return null;
+
+        // Restore movement settings (or just forget the modifier if the entity is gone)
+        StatusModifierManager statusModifiers = plugin.getStatusModifierManager();
+        if (statusModifiers != null) {
+            statusModifiers.remove(carrier.playerRef, FLAG_CARRIER_MODIFIER.id());
+        }
+        unindexCarrier(playerUuid);
     }
 
     // Public query methods
@@ -676,7 +641,7 @@ public class FlagCarrierManager {
      * Checks if a player is currently carrying any flag.
      */
     public boolean isCarryingFlag(@Nonnull UUID playerUuid) {
-        return carrierSettings.containsKey(playerUuid);
+        return carriers.containsKey(playerUuid);
     }
 
     /**
@@ -684,12 +649,8 @@ public class FlagCarrierManager {
      */
     @Nullable
     public FlagTeam getCarriedFlagTeam(@Nonnull UUID playerUuid) {
-        for (FlagData flagData : flags.values()) {
-            if (playerUuid.equals(flagData.getCarrierUuid())) {
-                return flagData.getTeam();
-            }
-        }
-        return null;
+        Carrier carrier = carriers.get(playerUuid);
+        return carrier != null ? carrier.flagData.getTeam() : null;
     }
 
     /**
@@ -720,7 +681,7 @@ public class FlagCarrierManager {
      * Returns count of players currently carrying flags.
      */
     public int getFlagCarrierCount() {
-        return carrierSettings.size();
+        return carrierArray.length;
     }
 
     /**
@@ -729,8 +690,8 @@ public class FlagCarrierManager {
     public void cleanup() {
         plugin.getLogger().atInfo().log("Cleaning up FlagCarrierManager");
 
-        if (tickTask != null) {
-            tickTask.cancel(false);
+        if (sweepTask != null) {
+            sweepTask.cancel(false);
         }
 
         // Restore all carriers to normal
@@ -741,18 +702,43 @@ public class FlagCarrierManager {
             }
         }
 
-        carrierSettings.clear();
+        synchronized (this) {
+            carriers.clear();
+            carrierArray = new Carrier[0];
+        }
     }
 
     /**
-     * Stores the original movement settings to restore when dropping the flag.
+     * Index entry for a flag carrier.
      */
-    private record SavedMovementSettings(
-        float baseSpeed,
-        float forwardSprintSpeedMultiplier,
-        float climbSpeed,
-        float climbSpeedLateral,
-        float climbUpSprintSpeed,
-        float climbDownSprintSpeed
-    ) {}
+    private static final class Carrier {
+        final UUID uuid;
+        final FlagData flagData;
+        final PlayerRef playerRef;
+
+        // Cached entity ref; refreshed from the PlayerRef when it goes stale
+        @Nullable
+        private volatile Ref<EntityStore> entityRef;
+
+        Carrier(@Nonnull UUID uuid, @Nonnull FlagData flagData, @Nonnull PlayerRef playerRef) {
+            this.uuid = uuid;
+            this.flagData = flagData;
+            this.playerRef = playerRef;
+            this.entityRef = playerRef.getReference();
+        }
+
+        /**
+         * Gets the carrier's valid entity ref, or null if the entity is gone.
+         */
+        @Nullable
+        Ref<EntityStore> getEntityRef() {
+            Ref<EntityStore> ref = entityRef;
+            if (ref != null && ref.isValid()) {
+                return ref;
+            }
+            ref = playerRef.getReference();
+            entityRef = ref;
+            return ref != null && ref.isValid() ? ref : null;
+        }
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.ctf;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.event.events.ecs.SwitchActiveSlotEvent;
+import com.hypixel.hytale.server.core.inventory.Inventory;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Keeps flag carriers on the flag slot.
+ *
+ * Hotbar switches away from {@link FlagCarrierManager#FLAG_SLOT} are cancelled
+ * as they happen, instead of being reverted after the fact by a poll.
+ */
+public class FlagCarrierSlotLockSystem extends EntityEventSystem<EntityStore, SwitchActiveSlotEvent> {
+
+    private final CTFPlugin plugin;
+
+    public FlagCarrierSlotLockSystem(@Nonnull CTFPlugin plugin) {
+        super(SwitchActiveSlotEvent.class);
+        this.plugin = plugin;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @Override
+    public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer,
+                       @Nonnull SwitchActiveSlotEvent event) {
+        if (event.getInventorySectionId() != Inventory.HOTBAR_SECTION_ID
+                || event.getNewSlot() == FlagCarrierManager.FLAG_SLOT) {
+            return;
+        }
+
+        PlayerRef playerRef = archetypeChunk.getComponent(index, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+
+        FlagCarrierManager carrierManager = plugin.getInstanceManager()
+            .getInstance(store.getExternalData().getWorld()).getFlagCarrierManager();
+        if (carrierManager.isSlotLocked(playerRef.getUuid())) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -29,9 +29,10 @@ public class FlagData {
     @Nullable
     private PlayerRef carrierRef;
 
-    // Timing
-    private long droppedAtTime;      // When the flag was dropped
-    private long immunityExpiresAt;  // When pickup immunity expires
+    // Timing (expiry is driven by timers on the instance's MatchScheduler)
+    private long droppedAtTime;       // When the flag was dropped
+    private volatile boolean immune;  // Pickup immunity after a drop
+    private int dropCount;            // Incremented on every drop, so stale timers can tell
 
     // Constants
     public static final long IMMUNITY_DURATION_MS = 4000;  // 4 seconds
@@ -89,20 +90,29 @@ public class FlagData {
      * Checks if the dropped flag has pickup immunity active.
      */
     public boolean hasImmunity() {
-        if (state != FlagState.DROPPED) {
-            return false;
-        }
-        return System.currentTimeMillis() < immunityExpiresAt;
+        return state == FlagState.DROPPED && immune;
     }
 
     /**
-     * Checks if the dropped flag should return to stand (timeout expired).
+     * Gets when the flag was last dropped (epoch millis), or 0 if it isn't dropped.
      */
-    public boolean shouldReturnToStand() {
-        if (state != FlagState.DROPPED) {
-            return false;
-        }
-        return System.currentTimeMillis() > droppedAtTime + RETURN_TIMEOUT_MS;
+    public long getDroppedAtTime() {
+        return droppedAtTime;
+    }
+
+    /**
+     * Gets the number of times this flag has been dropped.
+     * A timer scheduled for one drop compares this to know it still applies.
+     */
+    public int getDropCount() {
+        return dropCount;
+    }
+
+    /**
+     * Ends pickup immunity. Called when the immunity timer fires.
+     */
+    public void clearImmunity() {
+        this.immune = false;
     }
 
     /**
@@ -135,7 +145,7 @@ public class FlagData {
         this.carrierRef = playerRef;
         this.droppedPosition = null;
         this.droppedAtTime = 0;
-        this.immunityExpiresAt = 0;
+        this.immune = false;
     }
 
     /**
@@ -145,7 +155,8 @@ public class FlagData {
         this.state = FlagState.DROPPED;
         this.droppedPosition = position;
         this.droppedAtTime = System.currentTimeMillis();
-        this.immunityExpiresAt = droppedAtTime + IMMUNITY_DURATION_MS;
+        this.immune = true;
+        this.dropCount++;
         this.carrierUuid = null;
         this.carrierRef = null;
     }
@@ -157,7 +168,7 @@ public class FlagData {
         this.state = FlagState.AT_STAND;
         this.droppedPosition = null;
         this.droppedAtTime = 0;
-        this.immunityExpiresAt = 0;
+        this.immune = false;
         this.carrierUuid = null;
         this.carrierRef = null;
     }
@@ -1,8 +1,9 @@
 package com.example.ctf;
 
+import com.example.ctf.instance.CTFInstance;
 import com.example.ctf.match.MatchManager;
-import com.example.ctf.match.MatchState;
-import com.example.ctf.team.TeamManager;
+import com.example.ctf.matchmaking.QueueAssignmentHandler;
+import com.example.ctf.status.StatusModifierManager;
 import com.example.ctf.team.TeamVisualManager;
 import com.example.ctf.ui.CTFScoreHud;
 import com.hypixel.hytale.component.Ref;
@@ -14,14 +15,15 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.UUID;
 
 /**
  * Handles CTF flag-related events:
  * - Drop item requests (G key) to drop the flag
  *
- * Note: Death detection is handled via FlagCarrierManager's tick system
- * which checks for dead carriers using the DeathComponent.
+ * Note: Death detection is handled by FlagCarrierDeathSystem, which reacts
+ * to the DeathComponent being added to a carrier.
  */
 public class FlagEventHandler {
 
@@ -79,9 +81,9 @@ public class FlagEventHandler {
             return;
         }
 
-        // If a match is active, show the score HUD to the new player
-        MatchManager matchManager = plugin.getMatchManager();
-        if (matchManager != null && matchManager.getState() == MatchState.ACTIVE) {
+        // If a match is active in the player's instance, show the score HUD to the new player
+        MatchManager matchManager = plugin.getInstanceManager().getInstanceForPlayer(playerRef).getMatchManager();
+        if (matchManager.getState().isRunning()) {
             int redScore = matchManager.getScore(FlagTeam.RED);
             int blueScore = matchManager.getScore(FlagTeam.BLUE);
 
@@ -116,29 +118,58 @@ public class FlagEventHandler {
             visualManager.onPlayerDisconnect(playerUuid);
         }
 
-        // Handle team manager disconnect (removes from team)
-        TeamManager teamManager = plugin.getTeamManager();
-        if (teamManager != null) {
-            teamManager.handlePlayerDisconnect(playerUuid);
+        // Forget movement modifiers
+        StatusModifierManager statusModifiers = plugin.getStatusModifierManager();
+        if (statusModifiers != null) {
+            statusModifiers.onPlayerDisconnect(playerUuid);
         }
 
-        // Drop flag if carrying one
-        FlagCarrierManager flagManager = plugin.getFlagCarrierManager();
-        if (flagManager.isCarryingFlag(playerUuid)) {
-            // Get position for drop
-            Ref<EntityStore> entityRef = playerRef.getReference();
-            Vector3d dropPosition = new Vector3d(0, 0, 0);
-            if (entityRef != null && entityRef.isValid()) {
-                TransformComponent transform = entityRef.getStore()
-                    .getComponent(entityRef, TransformComponent.getComponentType());
-                if (transform != null) {
-                    dropPosition = transform.getPosition();
-                }
+        // Leave the matchmaking queue
+        QueueAssignmentHandler queueHandler = plugin.getQueueHandler();
+        if (queueHandler != null) {
+            queueHandler.handlePlayerDisconnect(playerUuid);
+        }
+
+        // The player may have joined a team in any instance, so clean up all of them
+        for (CTFInstance instance : plugin.getInstanceManager().getInstances()) {
+            // Handle team manager disconnect (removes from team)
+            instance.getTeamManager().handlePlayerDisconnect(playerUuid);
+
+            // Stop zone tracking (emits exits for any zones they were in)
+            instance.getZoneTracker().removePlayer(playerUuid);
+
+            // Drop flag if carrying one, on the instance's world thread like every other drop
+            FlagCarrierManager flagManager = instance.getFlagCarrierManager();
+            if (flagManager.isCarryingFlag(playerUuid)) {
+                Ref<EntityStore> entityRef = playerRef.getReference();
+                instance.runOnWorldThread(() -> {
+                    FlagTeam carried = flagManager.getCarriedFlagTeam(playerUuid);
+                    if (carried != null) {
+                        // Entity already gone: drop at the flag's stand, as the carrier sweep does
+                        Vector3d fallback = flagManager.getFlagData(carried).getStandPosition();
+                        flagManager.dropFlag(playerUuid, getDropPosition(entityRef, fallback));
+                    }
+                });
             }
-            flagManager.dropFlag(playerUuid, dropPosition);
         }
 
         plugin.getLogger().atInfo().log("Player {} disconnected, cleaned up CTF state", playerUuid);
     }
 
+    /**
+     * Gets a copy of the player's position, or of the fallback. Runs on the world thread.
+     */
+    @Nonnull
+    private Vector3d getDropPosition(@Nullable Ref<EntityStore> entityRef, @Nullable Vector3d fallback) {
+        if (entityRef != null && entityRef.isValid()) {
+            TransformComponent transform = entityRef.getStore()
+                .getComponent(entityRef, TransformComponent.getComponentType());
+            if (transform != null) {
+                Vector3d position = transform.getPosition();
+                return new Vector3d(position.getX(), position.getY(), position.getZ());
+            }
+        }
+        return fallback != null ? fallback : new Vector3d(0, 0, 0);
+    }
+
 }
@@ -0,0 +1,94 @@
+package com.example.ctf;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * The flag and scoring rules of a CTF match, as pure decisions over
+ * {@link FlagData}.
+ *
+ * {@link FlagCarrierManager} and {@code MatchManager} apply them to a live
+ * world, and the headless simulation applies the same ones to bots, so the
+ * two cannot drift apart. Side effects (items, movement, journal,
+ * announcements, scheduling) stay with the caller.
+ */
+public final class FlagRules {
+
+    private FlagRules() {
+    }
+
+    // ==================== Pickup & Capture ====================
+
+    /**
+     * Checks whether a flag can be picked up: not carried, and not in the
+     * pickup immunity that follows a drop.
+     */
+    public static boolean canPickUp(@Nonnull FlagData flag) {
+        return !flag.isCarried() && !flag.hasImmunity();
+    }
+
+    /**
+     * Checks whether a team member touching their own flag sends it home.
+     */
+    public static boolean canReturn(@Nonnull FlagData ownFlag) {
+        return ownFlag.isDropped();
+    }
+
+    /**
+     * Checks whether a carrier scores.
+     *
+     * @param carriedFlag The team of the flag being carried
+     * @param carrierTeam The carrier's team, or null if they have none
+     * @param carrierTeamFlag The carrier's own team's flag
+     * @param inCaptureZone Whether the carrier is in their team's capture zone
+     */
+    public static boolean canCapture(@Nonnull FlagTeam carriedFlag, @Nullable FlagTeam carrierTeam,
+                                     @Nonnull FlagData carrierTeamFlag, boolean inCaptureZone) {
+        // Only the enemy flag scores, and only while your own flag is home
+        return carrierTeam != null
+            && carriedFlag != carrierTeam
+            && carrierTeamFlag.isAtStand()
+            && inCaptureZone;
+    }
+
+    /**
+     * Checks whether a capture that brought a team to {@code newScore} wins the match.
+     * In overtime any capture wins.
+     */
+    public static boolean winsMatch(int newScore, int scoreLimit, boolean overtime) {
+        return overtime || newScore >= scoreLimit;
+    }
+
+    // ==================== Drop Timers ====================
+
+    /**
+     * Creates the task that ends a dropped flag's pickup immunity. Schedule it
+     * {@link FlagData#IMMUNITY_DURATION_MS} after the drop; it does nothing if
+     * the flag has been dropped again since.
+     */
+    @Nonnull
+    public static Runnable immunityExpiry(@Nonnull FlagData flag) {
+        int drop = flag.getDropCount();
+        return () -> {
+            if (flag.getDropCount() == drop) {
+                flag.clearImmunity();
+            }
+        };
+    }
+
+    /**
+     * Creates the task that returns a dropped flag nobody touched. Schedule it
+     * {@link FlagData#RETURN_TIMEOUT_MS} after the drop; it runs
+     * {@code onTimeout} only if the flag still lies where this drop left it.
+     */
+    @Nonnull
+    public static Runnable returnTimeout(@Nonnull FlagData flag, @Nonnull Runnable onTimeout) {
+        int drop = flag.getDropCount();
+        return () -> {
+            // A pickup and re-drop since the drop makes it stale
+            if (flag.isDropped() && flag.getDropCount() == drop) {
+                onTimeout.run();
+            }
+        };
+    }
+}
@@ -6,6 +6,10 @@ import com.hypixel.hytale.server.core.inventory.ItemStack;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Handles weapon restrictions for flag carriers.
@@ -14,9 +18,21 @@ import javax.annotation.Nullable;
  * This allows them to use:
  * - The flag (one hand)
  * - One-handed weapons, shields, tools in off-hand
+ *
+ * Each item asset is classified once and cached by item id. The cached entry
+ * keeps the asset instance it was computed from, so a stack whose item was
+ * replaced by an asset reload is classified again. The protected weapon field
+ * is read through a {@link VarHandle} resolved once per server run.
  */
 public class WeaponRestrictionHandler {
 
+    // Item id -> classification of the asset instance it was computed from
+    private static final Map<String, Classification> CACHE = new ConcurrentHashMap<>();
+
+    // ItemWeapon.renderDualWielded, or null if the field can't be accessed
+    @Nullable
+    private static final VarHandle RENDER_DUAL_WIELDED = resolveRenderDualWielded();
+
     /**
      * Checks if an item is a two-handed weapon.
      *
@@ -33,13 +49,11 @@ public class WeaponRestrictionHandler {
             return false;
         }
 
-        ItemWeapon weapon = item.getWeapon();
-        if (weapon == null) {
-            return false;
+        Classification cached = CACHE.get(item.getId());
+        if (cached != null && cached.item() == item) {
+            return cached.twoHanded();
         }
-
-        // Check if the weapon requires both hands (dual wielded render = two-handed)
-        return isTwoHandedFromConfig(weapon);
+        return classify(item);
     }
 
     /**
@@ -53,32 +67,48 @@ public class WeaponRestrictionHandler {
             return false;
         }
 
+        // Resolved every call, so an entry from before an asset reload is never trusted
         Item item = Item.getAssetMap().getAsset(itemId);
         if (item == null) {
             return false;
         }
 
-        ItemWeapon weapon = item.getWeapon();
-        if (weapon == null) {
-            return false;
+        Classification cached = CACHE.get(itemId);
+        if (cached != null && cached.item() == item) {
+            return cached.twoHanded();
         }
+        return classify(item);
+    }
 
-        return isTwoHandedFromConfig(weapon);
+    /**
+     * Classifies an item asset and caches the result.
+     */
+    private static boolean classify(@Nonnull Item item) {
+        ItemWeapon weapon = item.getWeapon();
+        // Check if the weapon requires both hands (dual wielded render = two-handed)
+        boolean twoHanded = weapon != null && isTwoHandedFromConfig(weapon);
+        CACHE.put(item.getId(), new Classification(item, twoHanded));
+        return twoHanded;
     }
 
     /**
      * Extracts the two-handed property from weapon config.
-     * Uses reflection since the field is protected.
      */
     private static boolean isTwoHandedFromConfig(@Nonnull ItemWeapon weapon) {
+        return RENDER_DUAL_WIELDED != null && (boolean) RENDER_DUAL_WIELDED.get(weapon);
+    }
+
+    /**
+     * Resolves a handle to the protected renderDualWielded field.
+     */
+    @Nullable
+    private static VarHandle resolveRenderDualWielded() {
         try {
-            // The renderDualWielded field indicates two-handed weapons
-            var field = weapon.getClass().getDeclaredField("renderDualWielded");
-            field.setAccessible(true);
-            return (boolean) field.get(weapon);
-        } catch (Exception e) {
-            // If we can't access the field, assume it's not two-handed
-            return false;
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(ItemWeapon.class, MethodHandles.lookup());
+            return lookup.findVarHandle(ItemWeapon.class, "renderDualWielded", boolean.class);
+        } catch (ReflectiveOperationException | IllegalArgumentException | SecurityException e) {
+            // If we can't access the field, every weapon counts as one-handed
+            return null;
         }
     }
 
@@ -120,4 +150,7 @@ public class WeaponRestrictionHandler {
     private WeaponRestrictionHandler() {
         // Utility class
     }
+
+    private record Classification(Item item, boolean twoHanded) {
+    }
 }
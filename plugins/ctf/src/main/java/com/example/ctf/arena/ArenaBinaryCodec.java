@@ -0,0 +1,170 @@
+package com.example.ctf.arena;
+
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+import com.hypixel.hytale.math.vector.Vector3f;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Compact binary encoding of {@link ArenaConfig}.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * int    magic 'CTFA'
+ * short  version
+ * int    score limit
+ * spawns x2 (red, blue):  int count, then per spawn 3 doubles position + 3 floats rotation
+ * zones  x2 (red, blue):  byte present, then 3 doubles center + double radius
+ * int    region count, then per region UTF name + 3 doubles min + 3 doubles max
+ * </pre>
+ *
+ * A typical arena encodes to a few hundred bytes and decodes without any
+ * reflection or text parsing, so presets can be swapped between matches in
+ * well under a millisecond.
+ */
+public final class ArenaBinaryCodec {
+
+    private static final int MAGIC = 0x43544641; // "CTFA"
+    private static final short VERSION = 1;
+
+    // Sanity limit so a corrupt count can't allocate huge arrays
+    private static final int MAX_ENTRIES = 1 << 16;
+
+    private ArenaBinaryCodec() {
+    }
+
+    // ==================== Encoding ====================
+
+    @Nonnull
+    public static byte[] encode(@Nonnull ArenaConfig config) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeInt(config.getScoreLimit());
+
+            writeSpawns(out, config.getRedSpawns());
+            writeSpawns(out, config.getBlueSpawns());
+
+            writeZone(out, config.getRedCaptureZone());
+            writeZone(out, config.getBlueCaptureZone());
+
+            ProtectedRegion[] regions = config.getProtectedRegions();
+            out.writeInt(regions.length);
+            for (ProtectedRegion region : regions) {
+                out.writeUTF(region.getName());
+                writeVector(out, region.getMin());
+                writeVector(out, region.getMax());
+            }
+        } catch (IOException e) {
+            // ByteArrayOutputStream never throws
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeSpawns(@Nonnull DataOutputStream out, @Nonnull Transform[] spawns) throws IOException {
+        out.writeInt(spawns.length);
+        for (Transform spawn : spawns) {
+            writeVector(out, spawn.getPosition());
+            Vector3f rotation = spawn.getRotation();
+            out.writeFloat(rotation.getX());
+            out.writeFloat(rotation.getY());
+            out.writeFloat(rotation.getZ());
+        }
+    }
+
+    private static void writeZone(@Nonnull DataOutputStream out, @Nullable CaptureZone zone) throws IOException {
+        if (zone == null) {
+            out.writeByte(0);
+            return;
+        }
+        out.writeByte(1);
+        writeVector(out, zone.getCenter());
+        out.writeDouble(zone.getRadius());
+    }
+
+    private static void writeVector(@Nonnull DataOutputStream out, @Nonnull Vector3d vector) throws IOException {
+        out.writeDouble(vector.getX());
+        out.writeDouble(vector.getY());
+        out.writeDouble(vector.getZ());
+    }
+
+    // ==================== Decoding ====================
+
+    /**
+     * Decodes an arena config.
+     *
+     * @throws IOException if the data is truncated, has the wrong magic or an unknown version
+     */
+    @Nonnull
+    public static ArenaConfig decode(@Nonnull byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a CTF arena file");
+            }
+            short version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported arena format version " + version);
+            }
+
+            ArenaConfig config = new ArenaConfig();
+            config.setScoreLimit(in.readInt());
+
+            config.setRedSpawns(readSpawns(in));
+            config.setBlueSpawns(readSpawns(in));
+
+            config.setRedCaptureZone(readZone(in));
+            config.setBlueCaptureZone(readZone(in));
+
+            ProtectedRegion[] regions = new ProtectedRegion[readCount(in)];
+            for (int i = 0; i < regions.length; i++) {
+                String name = in.readUTF();
+                regions[i] = new ProtectedRegion(name, readVector(in), readVector(in));
+            }
+            config.setProtectedRegions(regions);
+
+            return config;
+        }
+    }
+
+    @Nonnull
+    private static Transform[] readSpawns(@Nonnull DataInputStream in) throws IOException {
+        Transform[] spawns = new Transform[readCount(in)];
+        for (int i = 0; i < spawns.length; i++) {
+            Vector3d position = readVector(in);
+            Vector3f rotation = new Vector3f(in.readFloat(), in.readFloat(), in.readFloat());
+            spawns[i] = new Transform(position, rotation);
+        }
+        return spawns;
+    }
+
+    @Nullable
+    private static CaptureZone readZone(@Nonnull DataInputStream in) throws IOException {
+        if (in.readByte() == 0) {
+            return null;
+        }
+        Vector3d center = readVector(in);
+        return new CaptureZone(center, in.readDouble());
+    }
+
+    @Nonnull
+    private static Vector3d readVector(@Nonnull DataInputStream in) throws IOException {
+        return new Vector3d(in.readDouble(), in.readDouble(), in.readDouble());
+    }
+
+    private static int readCount(@Nonnull DataInputStream in) throws IOException {
+        int count = in.readInt();
+        if (count < 0 || count > MAX_ENTRIES) {
+            throw new IOException("Invalid entry count " + count);
+        }
+        return count;
+    }
+}
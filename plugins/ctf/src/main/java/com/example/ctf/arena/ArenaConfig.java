@@ -8,27 +8,37 @@ import com.hypixel.hytale.math.vector.Transform;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
 
 /**
  * Configuration data for a CTF arena.
  * Stores spawn points, capture zones, and protected regions.
  * Persisted to JSON via plugin config system.
+ *
+ * Spawns and regions are kept in growable lists so setup-tool edits append
+ * in amortized constant time. The array getters return a cached snapshot
+ * that is rebuilt only after an edit; callers must not modify the returned
+ * arrays.
  */
 public class ArenaConfig {
 
     public static final BuilderCodec<ArenaConfig> CODEC = BuilderCodec.builder(ArenaConfig.class, ArenaConfig::new)
         .<Transform[]>appendInherited(
             new KeyedCodec<>("RedSpawns", ArrayCodec.ofBuilderCodec(Transform.CODEC_DEGREES, Transform[]::new)),
-            (o, v) -> o.redSpawns = v,
-            o -> o.redSpawns,
-            (o, p) -> o.redSpawns = p.redSpawns
+            (o, v) -> o.setRedSpawns(v),
+            o -> o.getRedSpawns(),
+            (o, p) -> o.setRedSpawns(p.getRedSpawns())
         )
         .add()
         .<Transform[]>appendInherited(
             new KeyedCodec<>("BlueSpawns", ArrayCodec.ofBuilderCodec(Transform.CODEC_DEGREES, Transform[]::new)),
-            (o, v) -> o.blueSpawns = v,
-            o -> o.blueSpawns,
-            (o, p) -> o.blueSpawns = p.blueSpawns
+            (o, v) -> o.setBlueSpawns(v),
+            o -> o.getBlueSpawns(),
+            (o, p) -> o.setBlueSpawns(p.getBlueSpawns())
         )
         .add()
         .<CaptureZone>appendInherited(
@@ -47,9 +57,9 @@ public class ArenaConfig {
         .add()
         .<ProtectedRegion[]>appendInherited(
             new KeyedCodec<>("ProtectedRegions", ArrayCodec.ofBuilderCodec(ProtectedRegion.CODEC, ProtectedRegion[]::new)),
-            (o, v) -> o.protectedRegions = v,
-            o -> o.protectedRegions,
-            (o, p) -> o.protectedRegions = p.protectedRegions
+            (o, v) -> o.setProtectedRegions(v),
+            o -> o.getProtectedRegions(),
+            (o, p) -> o.setProtectedRegions(p.getProtectedRegions())
         )
         .add()
         .<Integer>appendInherited(
@@ -61,38 +71,35 @@ public class ArenaConfig {
         .add()
         .build();
 
-    private Transform[] redSpawns;
-    private Transform[] blueSpawns;
+    private final EntryList<Transform> redSpawns = new EntryList<>(Transform[]::new);
+    private final EntryList<Transform> blueSpawns = new EntryList<>(Transform[]::new);
+    private final EntryList<ProtectedRegion> protectedRegions = new EntryList<>(ProtectedRegion[]::new);
     private CaptureZone redCaptureZone;
     private CaptureZone blueCaptureZone;
-    private ProtectedRegion[] protectedRegions;
     private int scoreLimit;
 
     public ArenaConfig() {
-        this.redSpawns = new Transform[0];
-        this.blueSpawns = new Transform[0];
         this.redCaptureZone = null;
         this.blueCaptureZone = null;
-        this.protectedRegions = new ProtectedRegion[0];
         this.scoreLimit = 3;
     }
 
     @Nonnull
     public Transform[] getRedSpawns() {
-        return redSpawns;
+        return redSpawns.toArray();
     }
 
     public void setRedSpawns(@Nonnull Transform[] redSpawns) {
-        this.redSpawns = redSpawns;
+        this.redSpawns.set(redSpawns);
     }
 
     @Nonnull
     public Transform[] getBlueSpawns() {
-        return blueSpawns;
+        return blueSpawns.toArray();
     }
 
     public void setBlueSpawns(@Nonnull Transform[] blueSpawns) {
-        this.blueSpawns = blueSpawns;
+        this.blueSpawns.set(blueSpawns);
     }
 
     @Nullable
@@ -115,11 +122,11 @@ public class ArenaConfig {
 
     @Nonnull
     public ProtectedRegion[] getProtectedRegions() {
-        return protectedRegions;
+        return protectedRegions.toArray();
     }
 
     public void setProtectedRegions(@Nonnull ProtectedRegion[] protectedRegions) {
-        this.protectedRegions = protectedRegions;
+        this.protectedRegions.set(protectedRegions);
     }
 
     public int getScoreLimit() {
@@ -130,13 +137,56 @@ public class ArenaConfig {
         this.scoreLimit = scoreLimit;
     }
 
+    /**
+     * Adds a spawn point for a team.
+     */
+    public void addSpawn(@Nonnull com.example.ctf.FlagTeam team, @Nonnull Transform spawn) {
+        switch (team) {
+            case RED -> redSpawns.add(spawn);
+            case BLUE -> blueSpawns.add(spawn);
+        }
+    }
+
+    /**
+     * Adds a protected region.
+     */
+    public void addProtectedRegion(@Nonnull ProtectedRegion region) {
+        protectedRegions.add(region);
+    }
+
+    /**
+     * Removes all protected regions with a name (case-insensitive).
+     *
+     * @return true if any region was removed
+     */
+    public boolean removeProtectedRegion(@Nonnull String name) {
+        return protectedRegions.removeIf(region -> region.getName().equalsIgnoreCase(name));
+    }
+
+    /**
+     * Creates a copy of this config with its own lists.
+     * Spawns, zones and regions are shared, since ArenaManager replaces them
+     * rather than editing them in place.
+     */
+    @Nonnull
+    public ArenaConfig copy() {
+        ArenaConfig copy = new ArenaConfig();
+        copy.redSpawns.set(redSpawns.toArray());
+        copy.blueSpawns.set(blueSpawns.toArray());
+        copy.redCaptureZone = redCaptureZone;
+        copy.blueCaptureZone = blueCaptureZone;
+        copy.protectedRegions.set(protectedRegions.toArray());
+        copy.scoreLimit = scoreLimit;
+        return copy;
+    }
+
     /**
      * Checks if a spawn point exists for the given team.
      */
     public boolean hasSpawns(@Nonnull com.example.ctf.FlagTeam team) {
         return switch (team) {
-            case RED -> redSpawns.length > 0;
-            case BLUE -> blueSpawns.length > 0;
+            case RED -> !redSpawns.isEmpty();
+            case BLUE -> !blueSpawns.isEmpty();
         };
     }
 
@@ -146,8 +196,8 @@ public class ArenaConfig {
     @Nonnull
     public Transform[] getSpawns(@Nonnull com.example.ctf.FlagTeam team) {
         return switch (team) {
-            case RED -> redSpawns;
-            case BLUE -> blueSpawns;
+            case RED -> redSpawns.toArray();
+            case BLUE -> blueSpawns.toArray();
         };
     }
 
@@ -161,4 +211,58 @@ public class ArenaConfig {
             case BLUE -> blueCaptureZone;
         };
     }
+
+    // ==================== Internal Classes ====================
+
+    /**
+     * Growable list with a cached array snapshot.
+     * Edits are synchronized; reads of an unchanged list return the cached array without locking.
+     */
+    private static final class EntryList<T> {
+        private final List<T> entries = new ArrayList<>();
+        private final IntFunction<T[]> arrayFactory;
+        private volatile T[] snapshot;
+
+        EntryList(IntFunction<T[]> arrayFactory) {
+            this.arrayFactory = arrayFactory;
+            this.snapshot = arrayFactory.apply(0);
+        }
+
+        T[] toArray() {
+            T[] array = snapshot;
+            if (array != null) {
+                return array;
+            }
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = entries.toArray(arrayFactory.apply(entries.size()));
+                }
+                return snapshot;
+            }
+        }
+
+        boolean isEmpty() {
+            return toArray().length == 0;
+        }
+
+        synchronized void add(T entry) {
+            entries.add(entry);
+            snapshot = null;
+        }
+
+        synchronized boolean removeIf(Predicate<T> filter) {
+            if (!entries.removeIf(filter)) {
+                return false;
+            }
+            snapshot = null;
+            return true;
+        }
+
+        synchronized void set(T[] array) {
+            entries.clear();
+            Collections.addAll(entries, array);
+            // Keep the caller's array as the snapshot so identity checks against it hold
+            snapshot = array;
+        }
+    }
 }
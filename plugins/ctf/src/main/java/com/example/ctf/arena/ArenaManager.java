@@ -2,6 +2,10 @@ package com.example.ctf.arena;
 
 import com.example.ctf.CTFPlugin;
 import com.example.ctf.FlagTeam;
+import com.example.ctf.instance.CTFInstance;
+import com.example.ctf.spawn.SpawnSelector;
+import com.example.ctf.zone.Zone;
+import com.example.ctf.zone.ZoneTracker;
 import com.hypixel.hytale.codec.Codec;
 import com.hypixel.hytale.math.vector.Transform;
 import com.hypixel.hytale.math.vector.Vector3d;
@@ -10,28 +14,61 @@ import com.hypixel.hytale.server.core.util.Config;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.io.IOException;
-import java.nio.file.DirectoryStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
 import java.util.*;
 
 /**
  * Manages CTF arena configuration including spawn points, capture zones, and protected regions.
  * Handles persistence via the plugin config system.
+ *
+ * Each {@link CTFInstance} has its own ArenaManager. The default instance is
+ * backed by the plugin's persisted config; other instances hold their arena in memory.
  */
 public class ArenaManager {
 
     private final CTFPlugin plugin;
+    private final CTFInstance instance;
+
+    // Persisted config (default instance), or null for in-memory arenas
+    @Nullable
     private final Config<ArenaConfig> config;
+    @Nullable
+    private final ArenaConfig memoryConfig;
 
     // Pending protected region creation (for two-step command)
     private final Map<UUID, PendingRegion> pendingRegions;
 
-    public ArenaManager(@Nonnull CTFPlugin plugin, @Nonnull Config<ArenaConfig> config) {
+    // Spatial index over the current protected region array, rebuilt when the array is replaced
+    private volatile ProtectedRegionIndex regionIndex = ProtectedRegionIndex.EMPTY;
+
+    // Picks spawns by enemy proximity and recent use
+    private final SpawnSelector spawnSelector;
+
+    // Debounced background saves (null for in-memory arenas)
+    @Nullable
+    private final ArenaWriteBehind writeBehind;
+
+    public ArenaManager(@Nonnull CTFPlugin plugin, @Nonnull CTFInstance instance, @Nonnull Config<ArenaConfig> config) {
         this.plugin = plugin;
+        this.instance = instance;
         this.config = config;
+        this.memoryConfig = null;
+        this.pendingRegions = new HashMap<>();
+        this.spawnSelector = new SpawnSelector(instance.getPlayerPositions(), instance.getTeamManager());
+        this.writeBehind = new ArenaWriteBehind(plugin, plugin.getArenaIO(), instance.getId(),
+            () -> config.save().join());
+    }
+
+    /**
+     * Creates an arena manager for an in-memory arena that is not saved to disk.
+     */
+    public ArenaManager(@Nonnull CTFPlugin plugin, @Nonnull CTFInstance instance, @Nonnull ArenaConfig config) {
+        this.plugin = plugin;
+        this.instance = instance;
+        this.config = null;
+        this.memoryConfig = config;
         this.pendingRegions = new HashMap<>();
+        this.spawnSelector = new SpawnSelector(instance.getPlayerPositions(), instance.getTeamManager());
+        this.writeBehind = null;
     }
 
     /**
@@ -39,16 +76,29 @@ public class ArenaManager {
      */
     @Nonnull
     public ArenaConfig getConfig() {
-        return config.get();
+        return config != null ? config.get() : memoryConfig;
     }
 
     /**
-     * Saves the arena configuration to disk.
+     * Saves the arena configuration to disk now, without waiting for the debounce.
+     * The write runs on the arena I/O thread.
      */
     public void save() {
-        config.save().thenRun(() -> {
-            plugin.getLogger().atInfo().log("Arena configuration saved");
-        });
+        if (writeBehind == null) {
+            plugin.getLogger().atInfo().log("Arena '{}' is in-memory, not saved", instance.getId());
+            return;
+        }
+        writeBehind.flush();
+    }
+
+    /**
+     * Schedules a debounced save after an edit.
+     * Repeated edits in quick succession are coalesced into one write.
+     */
+    private void markDirty() {
+        if (writeBehind != null) {
+            writeBehind.markDirty();
+        }
     }
 
     // ==================== Spawn Points ====================
@@ -60,15 +110,8 @@ public class ArenaManager {
      * @param transform The spawn transform (position + rotation)
      */
     public void addSpawnPoint(@Nonnull FlagTeam team, @Nonnull Transform transform) {
-        ArenaConfig cfg = getConfig();
-        Transform[] currentSpawns = cfg.getSpawns(team);
-        Transform[] newSpawns = Arrays.copyOf(currentSpawns, currentSpawns.length + 1);
-        newSpawns[newSpawns.length - 1] = transform;
-
-        switch (team) {
-            case RED -> cfg.setRedSpawns(newSpawns);
-            case BLUE -> cfg.setBlueSpawns(newSpawns);
-        }
+        getConfig().addSpawn(team, transform);
+        markDirty();
 
         plugin.getLogger().atInfo().log("Added {} spawn point at {}", team, transform.getPosition());
     }
@@ -84,25 +127,30 @@ public class ArenaManager {
             case RED -> cfg.setRedSpawns(new Transform[0]);
             case BLUE -> cfg.setBlueSpawns(new Transform[0]);
         }
+        markDirty();
         plugin.getLogger().atInfo().log("Cleared all {} spawn points", team);
     }
 
     /**
-     * Gets a spawn point for a player. Uses hash-based selection for consistency.
+     * Gets a spawn point for a player.
+     * Picks the team spawn with the fewest enemies nearby, avoiding spawns used in the last few seconds.
      *
      * @param team The player's team
-     * @param playerUuid The player's UUID (for spawn selection)
+     * @param playerUuid The player's UUID
      * @return A spawn transform, or null if no spawns configured
      */
     @Nullable
     public Transform getSpawnPoint(@Nonnull FlagTeam team, @Nonnull UUID playerUuid) {
-        Transform[] spawns = getConfig().getSpawns(team);
-        if (spawns.length == 0) {
-            return null;
-        }
-        // Use player UUID hash for consistent spawn assignment
-        int index = Math.abs(playerUuid.hashCode()) % spawns.length;
-        return spawns[index];
+        return spawnSelector.select(team, getConfig().getSpawns(team));
+    }
+
+    /**
+     * Gets a copy of the spawn points of both teams.
+     */
+    @Nonnull
+    public Transform[] getAllSpawnPoints() {
+        ArenaConfig cfg = getConfig();
+        return SpawnSelector.copyAll(cfg.getRedSpawns(), cfg.getBlueSpawns());
     }
 
     /**
@@ -129,8 +177,35 @@ public class ArenaManager {
             case RED -> cfg.setRedCaptureZone(zone);
             case BLUE -> cfg.setBlueCaptureZone(zone);
         }
+        markDirty();
 
         plugin.getLogger().atInfo().log("Set {} capture zone at {} with radius {}", team, center, radius);
+        refreshCaptureZones();
+    }
+
+    /**
+     * Pushes the configured capture zones to the zone tracker.
+     * Called after capture zones change and on plugin start.
+     */
+    public void refreshCaptureZones() {
+        ZoneTracker zoneTracker = instance.getZoneTracker();
+        List<Zone> zones = new ArrayList<>();
+        for (FlagTeam team : FlagTeam.values()) {
+            CaptureZone captureZone = getConfig().getCaptureZone(team);
+            if (captureZone != null) {
+                zones.add(Zone.sphere(captureZoneId(team), Zone.Type.CAPTURE, team,
+                    captureZone.getCenter(), captureZone.getRadius()));
+            }
+        }
+        zoneTracker.setZones(Zone.Type.CAPTURE, zones);
+    }
+
+    /**
+     * Gets the zone tracker id of a team's capture zone.
+     */
+    @Nonnull
+    public static String captureZoneId(@Nonnull FlagTeam team) {
+        return "capture_" + team.name().toLowerCase();
     }
 
     /**
@@ -192,11 +267,9 @@ public class ArenaManager {
      * @param region The region to add
      */
     public void addProtectedRegion(@Nonnull ProtectedRegion region) {
-        ArenaConfig cfg = getConfig();
-        ProtectedRegion[] current = cfg.getProtectedRegions();
-        ProtectedRegion[] newRegions = Arrays.copyOf(current, current.length + 1);
-        newRegions[newRegions.length - 1] = region;
-        cfg.setProtectedRegions(newRegions);
+        getConfig().addProtectedRegion(region);
+        rebuildProtectedRegionIndex();
+        markDirty();
         plugin.getLogger().atInfo().log("Added protected region '{}': {} to {}", region.getName(), region.getMin(), region.getMax());
     }
 
@@ -207,17 +280,12 @@ public class ArenaManager {
      * @return true if the region was removed
      */
     public boolean removeProtectedRegion(@Nonnull String name) {
-        ArenaConfig cfg = getConfig();
-        ProtectedRegion[] current = cfg.getProtectedRegions();
-        ProtectedRegion[] filtered = Arrays.stream(current)
-            .filter(r -> !r.getName().equalsIgnoreCase(name))
-            .toArray(ProtectedRegion[]::new);
-
-        if (filtered.length == current.length) {
+        if (!getConfig().removeProtectedRegion(name)) {
             return false; // Not found
         }
 
-        cfg.setProtectedRegions(filtered);
+        rebuildProtectedRegionIndex();
+        markDirty();
         plugin.getLogger().atInfo().log("Removed protected region '{}'", name);
         return true;
     }
@@ -229,12 +297,31 @@ public class ArenaManager {
      * @return true if the block is protected
      */
     public boolean isBlockProtected(@Nonnull Vector3i blockPos) {
-        for (ProtectedRegion region : getConfig().getProtectedRegions()) {
-            if (region.containsBlock(blockPos)) {
-                return true;
-            }
+        return getProtectedRegionIndex().isProtected(blockPos);
+    }
+
+    /**
+     * Gets the spatial index for the current protected regions.
+     * The index is immutable, so callers may hold on to it for a batch of lookups.
+     */
+    @Nonnull
+    public ProtectedRegionIndex getProtectedRegionIndex() {
+        ProtectedRegionIndex index = regionIndex;
+        ProtectedRegion[] regions = getConfig().getProtectedRegions();
+        if (!index.isBuiltFrom(regions)) {
+            // Region array was replaced outside add/remove (e.g. config reload)
+            index = new ProtectedRegionIndex(regions);
+            regionIndex = index;
         }
-        return false;
+        return index;
+    }
+
+    /**
+     * Rebuilds the protected region index from the current config.
+     * Call after editing a region's bounds in place.
+     */
+    public void rebuildProtectedRegionIndex() {
+        regionIndex = new ProtectedRegionIndex(getConfig().getProtectedRegions());
     }
 
     /**
@@ -274,6 +361,7 @@ public class ArenaManager {
      */
     public void setScoreLimit(int limit) {
         getConfig().setScoreLimit(limit);
+        markDirty();
     }
 
     // ==================== Direct Position Methods ====================
@@ -289,86 +377,69 @@ public class ArenaManager {
 
     // ==================== Preset Management ====================
 
-    /**
-     * Gets the presets directory path.
-     */
-    @Nonnull
-    private Path getPresetsDir() {
-        return plugin.getDataDirectory().resolve("presets");
-    }
-
     /**
      * Saves the current arena configuration as a named preset.
-     * TODO: Implement proper JSON serialization using Codec API
+     * The file is written in the background.
      *
      * @param name The preset name
-     * @return true if saved successfully
+     * @return true if the name is valid and the preset was stored
      */
     public boolean savePreset(@Nonnull String name) {
-        // TODO: Codec serialization needs proper implementation
-        plugin.getLogger().atWarning().log("Preset saving not yet implemented");
-        return false;
+        if (!PresetStore.isValidName(name)) {
+            return false;
+        }
+        plugin.getPresetStore().save(name, getConfig());
+        return true;
     }
 
     /**
      * Loads a preset and applies it to the current configuration.
-     * TODO: Implement proper JSON deserialization using Codec API
+     * Presets are held in memory, so this does no disk I/O.
      *
      * @param name The preset name
-     * @return true if loaded successfully
+     * @return true if the preset exists and was applied
      */
     public boolean loadPreset(@Nonnull String name) {
-        // TODO: Codec deserialization needs proper implementation
-        plugin.getLogger().atWarning().log("Preset loading not yet implemented");
-        return false;
+        ArenaPreset preset = plugin.getPresetStore().get(name);
+        if (preset == null) {
+            return false;
+        }
+
+        ArenaConfig loaded = preset.createConfig();
+        ArenaConfig cfg = getConfig();
+        cfg.setRedSpawns(loaded.getRedSpawns());
+        cfg.setBlueSpawns(loaded.getBlueSpawns());
+        cfg.setRedCaptureZone(loaded.getRedCaptureZone());
+        cfg.setBlueCaptureZone(loaded.getBlueCaptureZone());
+        cfg.setProtectedRegions(loaded.getProtectedRegions());
+        cfg.setScoreLimit(loaded.getScoreLimit());
+
+        rebuildProtectedRegionIndex();
+        refreshCaptureZones();
+        markDirty();
+
+        plugin.getLogger().atInfo().log("Applied preset '{}' to arena '{}'", preset.getName(), instance.getId());
+        return true;
     }
 
     /**
      * Deletes a saved preset.
      *
      * @param name The preset name
-     * @return true if deleted successfully
+     * @return true if the preset existed
      */
     public boolean deletePreset(@Nonnull String name) {
-        try {
-            Path presetFile = getPresetsDir().resolve(name + ".json");
-            if (!Files.exists(presetFile)) {
-                return false;
-            }
-            Files.delete(presetFile);
-            plugin.getLogger().atInfo().log("Deleted preset '{}'", name);
-            return true;
-        } catch (IOException e) {
-            plugin.getLogger().atWarning().withCause(e).log("Failed to delete preset '{}'", name);
-            return false;
-        }
+        return plugin.getPresetStore().delete(name);
     }
 
     /**
      * Lists all available presets.
      *
-     * @return List of preset names (without .json extension)
+     * @return Sorted list of preset names
      */
     @Nonnull
     public List<String> listPresets() {
-        List<String> presets = new ArrayList<>();
-        Path presetsDir = getPresetsDir();
-
-        if (!Files.exists(presetsDir)) {
-            return presets;
-        }
-
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(presetsDir, "*.json")) {
-            for (Path path : stream) {
-                String fileName = path.getFileName().toString();
-                presets.add(fileName.substring(0, fileName.length() - 5)); // Remove .json
-            }
-        } catch (IOException e) {
-            plugin.getLogger().atWarning().withCause(e).log("Failed to list presets");
-        }
-
-        Collections.sort(presets);
-        return presets;
+        return plugin.getPresetStore().list();
     }
 
     // ==================== Internal Classes ====================
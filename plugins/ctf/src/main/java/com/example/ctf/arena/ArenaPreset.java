@@ -0,0 +1,59 @@
+package com.example.ctf.arena;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A saved arena preset held in memory by {@link PresetStore}.
+ *
+ * The config is decoded once when the preset is loaded or saved and never
+ * modified afterwards; {@link #createConfig()} hands out copies to apply.
+ */
+public final class ArenaPreset {
+
+    private final String name;
+    private final long savedAt;
+    private final int sizeBytes;
+    private final ArenaConfig config;
+
+    ArenaPreset(@Nonnull String name, long savedAt, int sizeBytes, @Nonnull ArenaConfig config) {
+        this.name = name;
+        this.savedAt = savedAt;
+        this.sizeBytes = sizeBytes;
+        this.config = config;
+    }
+
+    @Nonnull
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets when the preset file was last written, in epoch milliseconds.
+     */
+    public long getSavedAt() {
+        return savedAt;
+    }
+
+    /**
+     * Gets the encoded size of the preset on disk.
+     */
+    public int getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public int getSpawnCount() {
+        return config.getRedSpawns().length + config.getBlueSpawns().length;
+    }
+
+    public int getRegionCount() {
+        return config.getProtectedRegions().length;
+    }
+
+    /**
+     * Creates a copy of the preset's config that the caller may apply and modify.
+     */
+    @Nonnull
+    public ArenaConfig createConfig() {
+        return config.copy();
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.ctf.arena;
+
+import com.example.ctf.CTFPlugin;
+import com.hypixel.hytale.server.core.HytaleServer;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Debounced, coalescing writer for one arena.
+ *
+ * Edits call {@link #markDirty()}. The write runs on the {@link ArenaIO}
+ * thread once no edit has arrived for {@link #QUIET_MILLIS}, or at the latest
+ * {@link #MAX_DELAY_MILLIS} after the first unsaved edit, so a mapping session
+ * with hundreds of setup clicks produces a handful of writes rather than one
+ * per click. Each write saves the arena as it is at that moment, covering
+ * every edit made before it.
+ */
+public class ArenaWriteBehind {
+
+    /**
+     * Writes the arena. Runs on the I/O thread.
+     */
+    @FunctionalInterface
+    public interface Writer {
+        void write() throws Exception;
+    }
+
+    static final long QUIET_MILLIS = 2000;
+    static final long MAX_DELAY_MILLIS = 10000;
+
+    private final CTFPlugin plugin;
+    private final ArenaIO io;
+    private final String label;
+    private final Writer writer;
+
+    // Edit counter and the value it had at the last write
+    private final AtomicLong editCount = new AtomicLong();
+    private volatile long savedEditCount;
+
+    // Timestamps of the first unsaved edit and the latest edit (millis)
+    private volatile long firstDirtyAt;
+    private volatile long lastDirtyAt;
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
+    public ArenaWriteBehind(@Nonnull CTFPlugin plugin, @Nonnull ArenaIO io,
+                            @Nonnull String label, @Nonnull Writer writer) {
+        this.plugin = plugin;
+        this.io = io;
+        this.label = label;
+        this.writer = writer;
+    }
+
+    /**
+     * Records an edit and schedules a write if none is pending.
+     */
+    public void markDirty() {
+        long now = System.currentTimeMillis();
+        lastDirtyAt = now;
+        editCount.incrementAndGet();
+
+        if (flushScheduled.compareAndSet(false, true)) {
+            firstDirtyAt = now;
+            schedule(QUIET_MILLIS);
+        }
+    }
+
+    /**
+     * Checks if there are edits that have not been written yet.
+     */
+    public boolean isDirty() {
+        return editCount.get() != savedEditCount;
+    }
+
+    /**
+     * Writes the arena now, regardless of pending edits.
+     *
+     * @return A future completing when the write has finished
+     */
+    @Nonnull
+    public CompletableFuture<Void> flush() {
+        return io.submit(() -> {
+            writeNow();
+            return null;
+        });
+    }
+
+    // ==================== Internal ====================
+
+    private void schedule(long delayMillis) {
+        HytaleServer.SCHEDULED_EXECUTOR.schedule(this::onTimer, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Fires on the scheduler thread. Hands the write to the I/O thread unless
+     * edits are still arriving and the maximum delay has not been reached.
+     */
+    private void onTimer() {
+        long now = System.currentTimeMillis();
+        long quietFor = now - lastDirtyAt;
+        long dirtyFor = now - firstDirtyAt;
+        if (quietFor < QUIET_MILLIS && dirtyFor < MAX_DELAY_MILLIS) {
+            schedule(Math.min(QUIET_MILLIS - quietFor, MAX_DELAY_MILLIS - dirtyFor));
+            return;
+        }
+
+        // Edits from here on schedule a new write
+        flushScheduled.set(false);
+        io.submit(() -> {
+            if (isDirty()) {
+                writeNow();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Runs the writer. Only called on the I/O thread.
+     */
+    private void writeNow() throws Exception {
+        long edits = editCount.get();
+        try {
+            writer.write();
+            savedEditCount = edits;
+            plugin.getLogger().atInfo().log("Arena '{}' saved", label);
+        } catch (Exception e) {
+            plugin.getLogger().atWarning().withCause(e).log("Failed to save arena '{}'", label);
+            throw e;
+        }
+    }
+}
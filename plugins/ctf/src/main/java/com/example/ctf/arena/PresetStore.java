@@ -0,0 +1,210 @@
+package com.example.ctf.arena;
+
+import com.example.ctf.CTFPlugin;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Stores named arena presets.
+ *
+ * Presets are written with {@link ArenaBinaryCodec} to {@code <name>.ctfarena}
+ * files in the presets directory. Every preset is decoded into memory when the
+ * plugin starts, so listing and applying presets never touch the disk. Saves
+ * and deletes update the in-memory index immediately and do the file work on
+ * the {@link ArenaIO} thread; files are replaced atomically.
+ *
+ * Names are case-insensitive. A save removes files of the same name in any
+ * other case, and a delete removes every spelling, so one file per preset
+ * stays on disk. If older files still collide, the newest one wins on load.
+ */
+public class PresetStore {
+
+    private static final String EXTENSION = ".ctfarena";
+    private static final Pattern VALID_NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private final CTFPlugin plugin;
+    private final ArenaIO io;
+    private final Path directory;
+
+    // Preset name (lower case) -> preset
+    private final Map<String, ArenaPreset> presets = new ConcurrentHashMap<>();
+
+    public PresetStore(@Nonnull CTFPlugin plugin, @Nonnull ArenaIO io, @Nonnull Path directory) {
+        this.plugin = plugin;
+        this.io = io;
+        this.directory = directory;
+    }
+
+    /**
+     * Checks if a name can be used as a preset name (and file name).
+     */
+    public static boolean isValidName(@Nonnull String name) {
+        return VALID_NAME.matcher(name).matches();
+    }
+
+    // ==================== Loading ====================
+
+    /**
+     * Decodes every preset file into the in-memory index on the I/O thread.
+     */
+    @Nonnull
+    public CompletableFuture<Integer> loadAll() {
+        return io.submit(() -> {
+            if (!Files.isDirectory(directory)) {
+                return 0;
+            }
+
+            int loaded = 0;
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+                for (Path path : stream) {
+                    String fileName = path.getFileName().toString();
+                    String name = fileName.substring(0, fileName.length() - EXTENSION.length());
+                    try {
+                        byte[] data = Files.readAllBytes(path);
+                        ArenaConfig config = ArenaBinaryCodec.decode(data);
+                        long savedAt = Files.getLastModifiedTime(path).toMillis();
+                        ArenaPreset preset = new ArenaPreset(name, savedAt, data.length, config);
+                        // Same name in another case: keep the most recently saved one
+                        presets.merge(key(name), preset,
+                            (existing, candidate) -> candidate.getSavedAt() > existing.getSavedAt() ? candidate : existing);
+                        loaded++;
+                    } catch (IOException e) {
+                        plugin.getLogger().atWarning().withCause(e).log("Skipping unreadable preset '{}'", fileName);
+                    }
+                }
+            }
+
+            plugin.getLogger().atInfo().log("Loaded {} arena presets", loaded);
+            return loaded;
+        });
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Gets a preset from memory.
+     *
+     * @return The preset, or null if none has that name
+     */
+    @Nullable
+    public ArenaPreset get(@Nonnull String name) {
+        return presets.get(key(name));
+    }
+
+    /**
+     * Lists preset names in alphabetical order.
+     */
+    @Nonnull
+    public List<String> list() {
+        List<String> names = new ArrayList<>(presets.size());
+        for (ArenaPreset preset : presets.values()) {
+            names.add(preset.getName());
+        }
+        Collections.sort(names, String.CASE_INSENSITIVE_ORDER);
+        return names;
+    }
+
+    // ==================== Saving & Deleting ====================
+
+    /**
+     * Saves a snapshot of an arena config as a preset.
+     * The config is encoded on the calling thread, so later edits to it do not affect the preset.
+     *
+     * @return A future completing when the file has been written
+     */
+    @Nonnull
+    public CompletableFuture<Void> save(@Nonnull String name, @Nonnull ArenaConfig config) {
+        if (!isValidName(name)) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Invalid preset name: " + name));
+        }
+
+        byte[] data = ArenaBinaryCodec.encode(config);
+        ArenaPreset preset = new ArenaPreset(name, System.currentTimeMillis(), data.length, config.copy());
+        presets.put(key(name), preset);
+
+        Path file = directory.resolve(name + EXTENSION);
+        CompletableFuture<Void> write = io.submit(() -> {
+            ArenaIO.writeAtomically(file, data);
+            deleteSpellings(name, name);
+            return null;
+        });
+        return write.whenComplete((ignored, error) -> {
+            if (error != null) {
+                plugin.getLogger().atWarning().withCause(error).log("Failed to write preset '{}'", name);
+            } else {
+                plugin.getLogger().atInfo().log("Saved preset '{}' ({} bytes)", name, data.length);
+            }
+        });
+    }
+
+    /**
+     * Deletes a preset.
+     *
+     * @return true if the preset existed; the file is removed in the background
+     */
+    public boolean delete(@Nonnull String name) {
+        ArenaPreset removed = presets.remove(key(name));
+        if (removed == null) {
+            return false;
+        }
+
+        io.submit(() -> deleteSpellings(removed.getName(), null)).whenComplete((deleted, error) -> {
+            if (error != null) {
+                plugin.getLogger().atWarning().withCause(error).log("Failed to delete preset '{}'", removed.getName());
+            } else {
+                plugin.getLogger().atInfo().log("Deleted preset '{}'", removed.getName());
+            }
+        });
+        return true;
+    }
+
+    // ==================== Helpers ====================
+
+    /**
+     * Deletes every preset file whose name matches {@code name} ignoring case,
+     * except the exact spelling {@code keep}. Runs on the I/O thread.
+     *
+     * @return The number of files deleted
+     */
+    private int deleteSpellings(@Nonnull String name, @Nullable String keep) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+        String key = key(name);
+        List<Path> matches = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*" + EXTENSION)) {
+            for (Path path : stream) {
+                String fileName = path.getFileName().toString();
+                String fileStem = fileName.substring(0, fileName.length() - EXTENSION.length());
+                if (key(fileStem).equals(key) && !fileStem.equals(keep)) {
+                    matches.add(path);
+                }
+            }
+        }
+        int deleted = 0;
+        for (Path path : matches) {
+            if (Files.deleteIfExists(path)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    @Nonnull
+    private static String key(@Nonnull String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,283 @@
+package com.example.ctf.arena;
+
+import com.hypixel.hytale.math.vector.Vector3i;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable spatial index over protected regions, bucketed by chunk column.
+ *
+ * Each region's block bounds are snapshotted as ints when the index is built,
+ * and the region is listed in every 32x32 column it overlaps. A lookup hashes
+ * the block's column and tests only the regions in that bucket, so cost does
+ * not grow with the total number of regions in the arena.
+ *
+ * Regions covering more than {@link #MAX_BUCKETED_COLUMNS} columns are kept in
+ * a separate list that every lookup checks, which bounds the index size.
+ *
+ * A bitset over the columns inside the regions' overall extent marks which
+ * columns are touched by any region, so "is this chunk fully unprotected"
+ * is a bounds check plus one bit test.
+ *
+ * The index never changes after construction; {@link ArenaManager} builds a
+ * new one whenever the region array is replaced.
+ */
+public final class ProtectedRegionIndex {
+
+    public static final ProtectedRegionIndex EMPTY = new ProtectedRegionIndex(new ProtectedRegion[0]);
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int MAX_BUCKETED_COLUMNS = 4096;
+    private static final long MAX_MASK_COLUMNS = 1L << 22;
+
+    /**
+     * The region array this index was built from (compared by identity).
+     */
+    private final ProtectedRegion[] source;
+
+    /**
+     * Column key -> bucket of regions overlapping that column.
+     */
+    private final Map<Long, Bucket> columns;
+
+    /**
+     * Regions too large to bucket.
+     */
+    private final Bucket large;
+
+    /**
+     * Columns touched by any region, over [maskMinCx, maskMaxCx] x [maskMinCz, maskMaxCz].
+     * Null when the extent is too large for a bitset (lookups fall back to the bucket map).
+     */
+    @Nullable
+    private final BitSet columnMask;
+    private final int maskMinCx;
+    private final int maskMinCz;
+    private final int maskMaxCx;
+    private final int maskMaxCz;
+
+    public ProtectedRegionIndex(@Nonnull ProtectedRegion[] regions) {
+        this.source = regions;
+
+        Map<Long, List<Integer>> building = new HashMap<>();
+        List<Integer> largeIndices = new ArrayList<>();
+        int[][] bounds = new int[regions.length][];
+        int minMaskCx = Integer.MAX_VALUE, minMaskCz = Integer.MAX_VALUE;
+        int maxMaskCx = Integer.MIN_VALUE, maxMaskCz = Integer.MIN_VALUE;
+
+        for (int i = 0; i < regions.length; i++) {
+            int[] b = blockBounds(regions[i]);
+            bounds[i] = b;
+            if (b == null) {
+                continue; // Contains no whole block
+            }
+
+            int minCx = b[0] >> CHUNK_SHIFT;
+            int maxCx = b[3] >> CHUNK_SHIFT;
+            int minCz = b[2] >> CHUNK_SHIFT;
+            int maxCz = b[5] >> CHUNK_SHIFT;
+            long columnCount = (long) (maxCx - minCx + 1) * (maxCz - minCz + 1);
+            minMaskCx = Math.min(minMaskCx, minCx);
+            minMaskCz = Math.min(minMaskCz, minCz);
+            maxMaskCx = Math.max(maxMaskCx, maxCx);
+            maxMaskCz = Math.max(maxMaskCz, maxCz);
+
+            if (columnCount > MAX_BUCKETED_COLUMNS) {
+                largeIndices.add(i);
+                continue;
+            }
+
+            for (int cx = minCx; cx <= maxCx; cx++) {
+                for (int cz = minCz; cz <= maxCz; cz++) {
+                    building.computeIfAbsent(columnKey(cx, cz), k -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
+        Map<Long, Bucket> built = new HashMap<>(Math.max(16, building.size() * 2));
+        for (Map.Entry<Long, List<Integer>> entry : building.entrySet()) {
+            built.put(entry.getKey(), new Bucket(regions, bounds, entry.getValue()));
+        }
+        this.columns = built;
+        this.large = new Bucket(regions, bounds, largeIndices);
+
+        long maskColumns = minMaskCx > maxMaskCx ? 0
+            : (long) (maxMaskCx - minMaskCx + 1) * (maxMaskCz - minMaskCz + 1);
+        if (maskColumns > 0 && maskColumns <= MAX_MASK_COLUMNS) {
+            this.maskMinCx = minMaskCx;
+            this.maskMinCz = minMaskCz;
+            this.maskMaxCx = maxMaskCx;
+            this.maskMaxCz = maxMaskCz;
+            this.columnMask = buildColumnMask(bounds);
+        } else {
+            // Empty index (every column unprotected) or extent too large for a bitset
+            this.maskMinCx = 0;
+            this.maskMinCz = 0;
+            this.maskMaxCx = -1;
+            this.maskMaxCz = -1;
+            this.columnMask = maskColumns == 0 ? new BitSet() : null;
+        }
+    }
+
+    private BitSet buildColumnMask(int[][] bounds) {
+        int width = maskMaxCz - maskMinCz + 1;
+        BitSet mask = new BitSet((maskMaxCx - maskMinCx + 1) * width);
+        for (int[] b : bounds) {
+            if (b == null) {
+                continue;
+            }
+            int minCz = (b[2] >> CHUNK_SHIFT) - maskMinCz;
+            int maxCz = (b[5] >> CHUNK_SHIFT) - maskMinCz;
+            for (int cx = b[0] >> CHUNK_SHIFT; cx <= b[3] >> CHUNK_SHIFT; cx++) {
+                int row = (cx - maskMinCx) * width;
+                mask.set(row + minCz, row + maxCz + 1);
+            }
+        }
+        return mask;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Checks if a block position is within any protected region.
+     */
+    public boolean isProtected(int x, int y, int z) {
+        return findRegion(x, y, z) != null;
+    }
+
+    /**
+     * Checks if a block position is within any protected region.
+     */
+    public boolean isProtected(@Nonnull Vector3i blockPos) {
+        return findRegion(blockPos.getX(), blockPos.getY(), blockPos.getZ()) != null;
+    }
+
+    /**
+     * Gets the first region containing a block position.
+     *
+     * @return The region, or null if the block is not protected
+     */
+    @Nullable
+    public ProtectedRegion findRegion(int x, int y, int z) {
+        Bucket bucket = columns.get(columnKey(x >> CHUNK_SHIFT, z >> CHUNK_SHIFT));
+        if (bucket != null) {
+            ProtectedRegion region = bucket.find(x, y, z);
+            if (region != null) {
+                return region;
+            }
+        }
+        return large.find(x, y, z);
+    }
+
+    /**
+     * Checks if no protected region overlaps a chunk column.
+     * Callers can skip per-block checks for the whole column when this is true.
+     */
+    public boolean isColumnUnprotected(int chunkX, int chunkZ) {
+        BitSet mask = columnMask;
+        if (mask != null) {
+            if (chunkX < maskMinCx || chunkX > maskMaxCx || chunkZ < maskMinCz || chunkZ > maskMaxCz) {
+                return true;
+            }
+            return !mask.get((chunkX - maskMinCx) * (maskMaxCz - maskMinCz + 1) + (chunkZ - maskMinCz));
+        }
+
+        if (columns.containsKey(columnKey(chunkX, chunkZ))) {
+            return false;
+        }
+        return large.size() == 0 || !large.overlapsColumn(chunkX, chunkZ);
+    }
+
+    /**
+     * Checks if this index was built from the given region array.
+     */
+    public boolean isBuiltFrom(@Nonnull ProtectedRegion[] regions) {
+        return source == regions;
+    }
+
+    public int getRegionCount() {
+        return source.length;
+    }
+
+    public int getColumnCount() {
+        return columns.size();
+    }
+
+    // ==================== Helpers ====================
+
+    public static long columnKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Converts a region's double bounds to the inclusive block range matched by
+     * {@link ProtectedRegion#containsBlock}.
+     *
+     * @return {minX, minY, minZ, maxX, maxY, maxZ}, or null if the range is empty
+     */
+    @Nullable
+    private static int[] blockBounds(@Nonnull ProtectedRegion region) {
+        int minX = (int) Math.ceil(region.getMin().getX());
+        int minY = (int) Math.ceil(region.getMin().getY());
+        int minZ = (int) Math.ceil(region.getMin().getZ());
+        int maxX = (int) Math.floor(region.getMax().getX());
+        int maxY = (int) Math.floor(region.getMax().getY());
+        int maxZ = (int) Math.floor(region.getMax().getZ());
+        if (minX > maxX || minY > maxY || minZ > maxZ) {
+            return null;
+        }
+        return new int[]{minX, minY, minZ, maxX, maxY, maxZ};
+    }
+
+    // ==================== Inner Classes ====================
+
+    /**
+     * Regions sharing a column, with bounds packed into one int array
+     * (six ints per region) so the scan stays in one cache-friendly block.
+     */
+    private static final class Bucket {
+        final ProtectedRegion[] regions;
+        final int[] bounds;
+
+        Bucket(ProtectedRegion[] all, int[][] allBounds, List<Integer> indices) {
+            this.regions = new ProtectedRegion[indices.size()];
+            this.bounds = new int[indices.size() * 6];
+            for (int i = 0; i < indices.size(); i++) {
+                int regionIndex = indices.get(i);
+                regions[i] = all[regionIndex];
+                System.arraycopy(allBounds[regionIndex], 0, bounds, i * 6, 6);
+            }
+        }
+
+        int size() {
+            return regions.length;
+        }
+
+        @Nullable
+        ProtectedRegion find(int x, int y, int z) {
+            for (int i = 0, b = 0; i < regions.length; i++, b += 6) {
+                if (x >= bounds[b] && y >= bounds[b + 1] && z >= bounds[b + 2]
+                        && x <= bounds[b + 3] && y <= bounds[b + 4] && z <= bounds[b + 5]) {
+                    return regions[i];
+                }
+            }
+            return null;
+        }
+
+        boolean overlapsColumn(int chunkX, int chunkZ) {
+            for (int b = 0; b < bounds.length; b += 6) {
+                if (chunkX >= bounds[b] >> CHUNK_SHIFT && chunkX <= bounds[b + 3] >> CHUNK_SHIFT
+                        && chunkZ >= bounds[b + 2] >> CHUNK_SHIFT && chunkZ <= bounds[b + 5] >> CHUNK_SHIFT) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
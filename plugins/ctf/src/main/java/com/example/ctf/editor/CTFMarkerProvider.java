@@ -6,6 +6,7 @@ import com.example.ctf.FlagState;
 import com.example.ctf.FlagTeam;
 import com.example.ctf.arena.ArenaConfig;
 import com.example.ctf.arena.CaptureZone;
+import com.example.ctf.instance.CTFInstance;
 import com.hypixel.hytale.math.vector.Transform;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.protocol.packets.worldmap.MapMarker;
@@ -41,22 +42,24 @@ public class CTFMarkerProvider implements WorldMapManager.MarkerProvider {
         int playerChunkX,
         int playerChunkZ
     ) {
+        CTFInstance instance = plugin.getInstanceManager().getInstance(world);
+
         // Show flag stand markers
-        addFlagStandMarkers(tracker, chunkViewRadius, playerChunkX, playerChunkZ);
+        addFlagStandMarkers(instance, tracker, chunkViewRadius, playerChunkX, playerChunkZ);
 
         // Show capture zone markers
-        addCaptureZoneMarkers(tracker, chunkViewRadius, playerChunkX, playerChunkZ);
+        addCaptureZoneMarkers(instance, tracker, chunkViewRadius, playerChunkX, playerChunkZ);
 
         // Show spawn point markers
-        addSpawnMarkers(tracker, chunkViewRadius, playerChunkX, playerChunkZ);
+        addSpawnMarkers(instance, tracker, chunkViewRadius, playerChunkX, playerChunkZ);
 
         // Show dropped flag markers
-        addDroppedFlagMarkers(tracker, chunkViewRadius, playerChunkX, playerChunkZ);
+        addDroppedFlagMarkers(instance, tracker, chunkViewRadius, playerChunkX, playerChunkZ);
     }
 
-    private void addFlagStandMarkers(WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
+    private void addFlagStandMarkers(CTFInstance instance, WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
         for (FlagTeam team : FlagTeam.values()) {
-            FlagData flagData = plugin.getFlagCarrierManager().getFlagData(team);
+            FlagData flagData = instance.getFlagCarrierManager().getFlagData(team);
             Vector3d standPos = flagData.getStandPosition();
 
             if (standPos != null) {
@@ -95,10 +98,8 @@ public class CTFMarkerProvider implements WorldMapManager.MarkerProvider {
         }
     }
 
-    private void addCaptureZoneMarkers(WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
-        if (plugin.getArenaManager() == null) return;
-
-        ArenaConfig config = plugin.getArenaManager().getConfig();
+    private void addCaptureZoneMarkers(CTFInstance instance, WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
+        ArenaConfig config = instance.getArenaManager().getConfig();
 
         for (FlagTeam team : FlagTeam.values()) {
             CaptureZone zone = config.getCaptureZone(team);
@@ -123,10 +124,8 @@ public class CTFMarkerProvider implements WorldMapManager.MarkerProvider {
         }
     }
 
-    private void addSpawnMarkers(WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
-        if (plugin.getArenaManager() == null) return;
-
-        ArenaConfig config = plugin.getArenaManager().getConfig();
+    private void addSpawnMarkers(CTFInstance instance, WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
+        ArenaConfig config = instance.getArenaManager().getConfig();
 
         for (FlagTeam team : FlagTeam.values()) {
             Transform[] spawns = config.getSpawns(team);
@@ -153,9 +152,9 @@ public class CTFMarkerProvider implements WorldMapManager.MarkerProvider {
         }
     }
 
-    private void addDroppedFlagMarkers(WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
+    private void addDroppedFlagMarkers(CTFInstance instance, WorldMapTracker tracker, int chunkViewRadius, int playerChunkX, int playerChunkZ) {
         for (FlagTeam team : FlagTeam.values()) {
-            FlagData flagData = plugin.getFlagCarrierManager().getFlagData(team);
+            FlagData flagData = instance.getFlagCarrierManager().getFlagData(team);
 
             if (flagData.getState() == FlagState.DROPPED) {
                 Vector3d droppedPos = flagData.getDroppedPosition();
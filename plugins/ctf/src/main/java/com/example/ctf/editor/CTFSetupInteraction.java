@@ -2,6 +2,7 @@ package com.example.ctf.editor;
 
 import com.example.ctf.CTFPlugin;
 import com.example.ctf.FlagTeam;
+import com.example.ctf.instance.CTFInstance;
 import com.hypixel.hytale.codec.builder.BuilderCodec;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
@@ -173,44 +174,47 @@ public class CTFSetupInteraction extends SimpleInstantInteraction {
 
         // Get the CTF plugin
         CTFPlugin plugin = CTFPlugin.get();
-        if (plugin == null || plugin.getArenaManager() == null) {
+        if (plugin == null || plugin.getInstanceManager() == null) {
             playerRef.sendMessage(Message.raw("§cCTF Plugin is not initialized."));
             return;
         }
 
+        // Edit the arena of the instance running in the player's world
+        CTFInstance instance = plugin.getInstanceManager().getInstanceForPlayer(playerRef);
+
         SetupMode mode = getPlayerMode(playerUuid);
         Vector3d blockCenter = new Vector3d(targetBlock.getX() + 0.5, targetBlock.getY() + 1.0, targetBlock.getZ() + 0.5);
 
         switch (mode) {
-            case RED_SPAWN -> handleSpawnSet(playerRef, plugin, FlagTeam.RED, blockCenter, transformComponent);
-            case BLUE_SPAWN -> handleSpawnSet(playerRef, plugin, FlagTeam.BLUE, blockCenter, transformComponent);
-            case RED_CAPTURE -> handleCaptureSet(playerRef, plugin, FlagTeam.RED, blockCenter);
-            case BLUE_CAPTURE -> handleCaptureSet(playerRef, plugin, FlagTeam.BLUE, blockCenter);
-            case RED_FLAG -> handleFlagStandSet(playerRef, plugin, FlagTeam.RED, blockCenter);
-            case BLUE_FLAG -> handleFlagStandSet(playerRef, plugin, FlagTeam.BLUE, blockCenter);
+            case RED_SPAWN -> handleSpawnSet(playerRef, instance, FlagTeam.RED, blockCenter, transformComponent);
+            case BLUE_SPAWN -> handleSpawnSet(playerRef, instance, FlagTeam.BLUE, blockCenter, transformComponent);
+            case RED_CAPTURE -> handleCaptureSet(playerRef, instance, FlagTeam.RED, blockCenter);
+            case BLUE_CAPTURE -> handleCaptureSet(playerRef, instance, FlagTeam.BLUE, blockCenter);
+            case RED_FLAG -> handleFlagStandSet(playerRef, instance, FlagTeam.RED, blockCenter);
+            case BLUE_FLAG -> handleFlagStandSet(playerRef, instance, FlagTeam.BLUE, blockCenter);
             case PROTECT_1 -> handleProtectCorner1(playerRef, playerUuid, targetBlock);
-            case PROTECT_2 -> handleProtectCorner2(playerRef, playerUuid, plugin, targetBlock);
+            case PROTECT_2 -> handleProtectCorner2(playerRef, playerUuid, instance, targetBlock);
         }
     }
 
-    private void handleSpawnSet(PlayerRef playerRef, CTFPlugin plugin, FlagTeam team, Vector3d position, TransformComponent transform) {
+    private void handleSpawnSet(PlayerRef playerRef, CTFInstance instance, FlagTeam team, Vector3d position, TransformComponent transform) {
         // Create transform with player's rotation for spawn direction
         Transform spawnTransform = new Transform(position, transform.getRotation());
-        plugin.getArenaManager().addSpawnPoint(team, spawnTransform);
+        instance.getArenaManager().addSpawnPoint(team, spawnTransform);
 
         String color = team == FlagTeam.RED ? "§c" : "§9";
         playerRef.sendMessage(Message.raw(color + "Added " + team.getDisplayName() + " spawn point at " + formatPosition(position)));
     }
 
-    private void handleCaptureSet(PlayerRef playerRef, CTFPlugin plugin, FlagTeam team, Vector3d position) {
-        plugin.getArenaManager().setCaptureZone(team, position, DEFAULT_CAPTURE_RADIUS);
+    private void handleCaptureSet(PlayerRef playerRef, CTFInstance instance, FlagTeam team, Vector3d position) {
+        instance.getArenaManager().setCaptureZone(team, position, DEFAULT_CAPTURE_RADIUS);
 
         String color = team == FlagTeam.RED ? "§c" : "§9";
         playerRef.sendMessage(Message.raw(color + "Set " + team.getDisplayName() + " capture zone at " + formatPosition(position) + " (radius: " + DEFAULT_CAPTURE_RADIUS + ")"));
     }
 
-    private void handleFlagStandSet(PlayerRef playerRef, CTFPlugin plugin, FlagTeam team, Vector3d position) {
-        plugin.getFlagCarrierManager().setFlagStandPosition(team, position);
+    private void handleFlagStandSet(PlayerRef playerRef, CTFInstance instance, FlagTeam team, Vector3d position) {
+        instance.getFlagCarrierManager().setFlagStandPosition(team, position);
 
         String color = team == FlagTeam.RED ? "§c" : "§9";
         playerRef.sendMessage(Message.raw(color + "Set " + team.getDisplayName() + " flag stand at " + formatPosition(position)));
@@ -226,7 +230,7 @@ public class CTFSetupInteraction extends SimpleInstantInteraction {
         playerRef.sendMessage(Message.raw("§aSwitched to: Protection Corner 2"));
     }
 
-    private void handleProtectCorner2(PlayerRef playerRef, UUID playerUuid, CTFPlugin plugin, Vector3i block) {
+    private void handleProtectCorner2(PlayerRef playerRef, UUID playerUuid, CTFInstance instance, Vector3i block) {
         Vector3i corner1 = pendingCorner1.get(playerUuid);
         if (corner1 == null) {
             playerRef.sendMessage(Message.raw("§cNo first corner set. Switch to PROTECT_1 mode and set corner 1 first."));
@@ -238,7 +242,7 @@ public class CTFSetupInteraction extends SimpleInstantInteraction {
         Vector3d min = new Vector3d(corner1.x, corner1.y, corner1.z);
         Vector3d max = new Vector3d(block.x, block.y, block.z);
 
-        plugin.getArenaManager().addProtectedRegion(regionName, min, max);
+        instance.getArenaManager().addProtectedRegion(regionName, min, max);
 
         // Clear pending data
         pendingCorner1.remove(playerUuid);
@@ -0,0 +1,217 @@
+package com.example.ctf.instance;
+
+import com.example.ctf.CTFPlugin;
+import com.example.ctf.FlagCarrierManager;
+import com.example.ctf.arena.ArenaManager;
+import com.example.ctf.match.MatchManager;
+import com.example.ctf.match.MatchScheduler;
+import com.example.ctf.spawn.PlayerPositionGrid;
+import com.example.ctf.stats.MatchJournal;
+import com.example.ctf.team.TeamManager;
+import com.example.ctf.zone.ZoneTracker;
+import com.hypixel.hytale.server.core.HytaleServer;
+import com.hypixel.hytale.server.core.universe.Universe;
+import com.hypixel.hytale.server.core.universe.world.World;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * One CTF arena with its own match, flags, teams and zones.
+ *
+ * Each instance is bound to a world (its id is the world name) and runs
+ * independently of every other instance: scores, carriers, team rosters and
+ * capture zones are never shared, and each flag manager runs its own sweep.
+ * Match phases and flag timers run on the instance's {@link MatchScheduler};
+ * match events are recorded by its {@link MatchJournal}.
+ *
+ * Server-wide services (announcements, sounds, team visuals) stay on
+ * {@link CTFPlugin}.
+ */
+public class CTFInstance {
+
+    // How long to wait for the instance's world to load before running a task, and how often to look
+    private static final long WORLD_RETRY_MS = 500;
+    private static final int WORLD_RETRY_LIMIT = 60;
+
+    private final CTFPlugin plugin;
+    private final String id;
+
+    private final MatchScheduler scheduler;
+    private final ZoneTracker zoneTracker;
+    private final InstanceAudiences audiences;
+    private final PlayerPositionGrid playerPositions;
+    private final TeamManager teamManager;
+    private final ArenaManager arenaManager;
+    private final MatchManager matchManager;
+    private final FlagCarrierManager flagCarrierManager;
+    private final MatchJournal journal;
+
+    private volatile boolean shutdown;
+
+    /**
+     * @param arenaFactory Creates the arena manager (persistent or in-memory) for this instance
+     */
+    CTFInstance(@Nonnull CTFPlugin plugin, @Nonnull String id,
+                @Nonnull BiFunction<CTFPlugin, CTFInstance, ArenaManager> arenaFactory) {
+        this.plugin = plugin;
+        this.id = id;
+
+        // Timers fire on this instance's world thread (the default world for the default instance)
+        this.scheduler = new MatchScheduler(plugin, id, this::runOnWorldThread);
+
+        // Same order as the single-arena setup: zones and teams first, flags last
+        this.zoneTracker = new ZoneTracker(plugin);
+        this.audiences = new InstanceAudiences(this);
+        this.playerPositions = new PlayerPositionGrid();
+        this.teamManager = new TeamManager(plugin, this);
+        this.arenaManager = arenaFactory.apply(plugin, this);
+        this.matchManager = new MatchManager(plugin, this);
+        this.flagCarrierManager = new FlagCarrierManager(plugin, this);
+        this.journal = new MatchJournal(plugin, this, plugin.getArenaIO(),
+            plugin.getDataDirectory().resolve("matches"));
+
+        // The journal opens and closes with the match
+        matchManager.addPhaseListener(journal);
+
+        // Captures are triggered by capture zone entry
+        zoneTracker.addListener(flagCarrierManager);
+
+        plugin.getLogger().atInfo().log("CTF instance '{}' created", id);
+    }
+
+    /**
+     * Publishes the arena's zones. Called once the instance is registered.
+     */
+    void start() {
+        arenaManager.refreshCaptureZones();
+    }
+
+    /**
+     * Saves the arena and releases all carriers, zones and team assignments.
+     */
+    void shutdown() {
+        shutdown = true;
+        arenaManager.save();
+        flagCarrierManager.cleanup();
+        journal.close();
+        scheduler.cancelAll();
+        zoneTracker.clear();
+        playerPositions.clear();
+        teamManager.clearTeams();
+        plugin.getLogger().atInfo().log("CTF instance '{}' shut down", id);
+    }
+
+    /**
+     * Runs a task on the thread of the world this instance is bound to. Tasks
+     * never run inline: while the world isn't loaded, the task waits for it
+     * (up to {@link #WORLD_RETRY_LIMIT} retries) and is dropped after shutdown.
+     */
+    public void runOnWorldThread(@Nonnull Runnable task) {
+        runOnWorldThread(task, 0);
+    }
+
+    private void runOnWorldThread(@Nonnull Runnable task, int attempt) {
+        if (shutdown) {
+            return;
+        }
+        World world = getWorld();
+        if (world != null) {
+            world.execute(task);
+        } else if (attempt < WORLD_RETRY_LIMIT) {
+            HytaleServer.SCHEDULED_EXECUTOR.schedule(
+                () -> runOnWorldThread(task, attempt + 1), WORLD_RETRY_MS, TimeUnit.MILLISECONDS);
+        } else {
+            plugin.getLogger().atWarning().log("World of CTF instance '{}' never loaded, dropping task", id);
+        }
+    }
+
+    /**
+     * Gets the world this instance runs in: the world named by its id, or the
+     * server's default world for the default instance. Null if not loaded.
+     */
+    @Nullable
+    public World getWorld() {
+        Universe universe = Universe.get();
+        if (CTFInstanceManager.DEFAULT_INSTANCE_ID.equals(id)) {
+            return universe.getDefaultWorld();
+        }
+        return universe.getWorlds().get(id);
+    }
+
+    // ==================== Getters ====================
+
+    /**
+     * Gets the instance id (the name of the world it runs in).
+     */
+    @Nonnull
+    public String getId() {
+        return id;
+    }
+
+    @Nonnull
+    public CTFPlugin getPlugin() {
+        return plugin;
+    }
+
+    /**
+     * Gets the timer scheduler for this instance's match and flags.
+     */
+    @Nonnull
+    public MatchScheduler getScheduler() {
+        return scheduler;
+    }
+
+    @Nonnull
+    public ZoneTracker getZoneTracker() {
+        return zoneTracker;
+    }
+
+    /**
+     * Gets the recipient lists for announcements in this instance.
+     */
+    @Nonnull
+    public InstanceAudiences getAudiences() {
+        return audiences;
+    }
+
+    /**
+     * Gets the live positions of players in this instance (used for spawn selection).
+     */
+    @Nonnull
+    public PlayerPositionGrid getPlayerPositions() {
+        return playerPositions;
+    }
+
+    @Nonnull
+    public TeamManager getTeamManager() {
+        return teamManager;
+    }
+
+    @Nonnull
+    public ArenaManager getArenaManager() {
+        return arenaManager;
+    }
+
+    @Nonnull
+    public MatchManager getMatchManager() {
+        return matchManager;
+    }
+
+    @Nonnull
+    public FlagCarrierManager getFlagCarrierManager() {
+        return flagCarrierManager;
+    }
+
+    @Nonnull
+    public MatchJournal getJournal() {
+        return journal;
+    }
+
+    @Override
+    public String toString() {
+        return "CTFInstance{" + id + ", " + matchManager.getState() + "}";
+    }
+}
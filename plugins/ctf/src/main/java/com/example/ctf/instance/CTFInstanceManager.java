@@ -0,0 +1,167 @@
+package com.example.ctf.instance;
+
+import com.example.ctf.CTFPlugin;
+import com.example.ctf.arena.ArenaConfig;
+import com.example.ctf.arena.ArenaManager;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+import com.hypixel.hytale.server.core.util.Config;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of CTF instances, one per world.
+ *
+ * The default instance uses the plugin's persisted arena config and serves
+ * every world that has no instance of its own, so a single-arena server
+ * behaves exactly as before. Further instances are created per world and
+ * start from a copy of the default arena layout.
+ */
+public class CTFInstanceManager {
+
+    public static final String DEFAULT_INSTANCE_ID = "default";
+
+    private final CTFPlugin plugin;
+    private final CTFInstance defaultInstance;
+
+    // World name -> instance bound to that world
+    private final Map<String, CTFInstance> instances = new ConcurrentHashMap<>();
+
+    public CTFInstanceManager(@Nonnull CTFPlugin plugin, @Nonnull Config<ArenaConfig> defaultConfig) {
+        this.plugin = plugin;
+        this.defaultInstance = new CTFInstance(plugin, DEFAULT_INSTANCE_ID,
+            (p, instance) -> new ArenaManager(p, instance, defaultConfig));
+    }
+
+    /**
+     * Publishes zones for all instances. Called on plugin start.
+     */
+    public void start() {
+        defaultInstance.start();
+        for (CTFInstance instance : instances.values()) {
+            instance.start();
+        }
+    }
+
+    // ==================== Lookup ====================
+
+    @Nonnull
+    public CTFInstance getDefaultInstance() {
+        return defaultInstance;
+    }
+
+    /**
+     * Gets the instance bound to a world, or null if the world has none.
+     */
+    @Nullable
+    public CTFInstance getInstance(@Nonnull String worldName) {
+        return instances.get(worldName);
+    }
+
+    /**
+     * Gets the instance that runs in a world, falling back to the default instance.
+     */
+    @Nonnull
+    public CTFInstance getInstance(@Nullable World world) {
+        if (world == null || instances.isEmpty()) {
+            return defaultInstance;
+        }
+        CTFInstance instance = instances.get(world.getName());
+        return instance != null ? instance : defaultInstance;
+    }
+
+    /**
+     * Gets the instance for the world a player is currently in.
+     */
+    @Nonnull
+    public CTFInstance getInstanceForPlayer(@Nonnull PlayerRef playerRef) {
+        if (instances.isEmpty()) {
+            return defaultInstance;
+        }
+        Ref<EntityStore> entityRef = playerRef.getReference();
+        if (entityRef == null || !entityRef.isValid()) {
+            return defaultInstance;
+        }
+        return getInstance(entityRef.getStore().getExternalData().getWorld());
+    }
+
+    /**
+     * Gets all instances, default first.
+     */
+    @Nonnull
+    public Collection<CTFInstance> getInstances() {
+        List<CTFInstance> all = new ArrayList<>(instances.size() + 1);
+        all.add(defaultInstance);
+        all.addAll(instances.values());
+        return all;
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Creates an instance bound to a world, starting from a copy of the default arena.
+     *
+     * @param worldName The world the instance runs in
+     * @return The new instance, or null if the world already has one
+     */
+    @Nullable
+    public CTFInstance createInstance(@Nonnull String worldName) {
+        if (DEFAULT_INSTANCE_ID.equals(worldName) || instances.containsKey(worldName)) {
+            return null;
+        }
+
+        ArenaConfig arena = defaultInstance.getArenaManager().getConfig().copy();
+        CTFInstance instance = new CTFInstance(plugin, worldName,
+            (p, owner) -> new ArenaManager(p, owner, arena));
+        if (instances.putIfAbsent(worldName, instance) != null) {
+            instance.shutdown();
+            return null;
+        }
+
+        // Players already in the world move over from the default instance
+        List<InstanceAudiences.Presence> moved = defaultInstance.getAudiences().removeWorld(worldName);
+        for (InstanceAudiences.Presence presence : moved) {
+            defaultInstance.getPlayerPositions().remove(presence.playerRef.getUuid());
+        }
+        instance.getAudiences().addAll(moved);
+
+        instance.start();
+        return instance;
+    }
+
+    /**
+     * Shuts down and removes a world's instance.
+     *
+     * @return true if the instance existed
+     */
+    public boolean removeInstance(@Nonnull String worldName) {
+        CTFInstance instance = instances.remove(worldName);
+        if (instance == null) {
+            return false;
+        }
+        instance.shutdown();
+
+        // Players still in the world fall back to the default instance
+        defaultInstance.getAudiences().addAll(instance.getAudiences().removeWorld(worldName));
+        return true;
+    }
+
+    /**
+     * Shuts down every instance. Called on plugin shutdown.
+     */
+    public void shutdown() {
+        for (CTFInstance instance : instances.values()) {
+            instance.shutdown();
+        }
+        instances.clear();
+        defaultInstance.shutdown();
+    }
+}
@@ -0,0 +1,226 @@
+package com.example.ctf.instance;
+
+import com.example.ctf.FlagTeam;
+import com.example.ctf.team.TeamManager;
+import com.example.ctf.ui.Audience;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintained recipient lists for one CTF instance.
+ *
+ * Tracks the players present in the instance's world(s) and splits them by
+ * team. The lists are rebuilt into immutable arrays when someone enters or
+ * leaves the world or changes team, so announcements never have to walk
+ * every world and player on the server.
+ *
+ * Audiences:
+ * - everyone: all players present (participants and spectators)
+ * - participants: present players on either team
+ * - team: present players on one team
+ * - spectators: present players without a team
+ */
+public class InstanceAudiences {
+
+    private final CTFInstance instance;
+
+    // Player UUID -> presence in one of this instance's worlds
+    private final Map<UUID, Presence> present = new ConcurrentHashMap<>();
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    private final Audience everyone = () -> snapshot.everyone;
+    private final Audience participants = () -> snapshot.participants;
+    private final Audience spectators = () -> snapshot.spectators;
+    private final Audience red = () -> snapshot.red;
+    private final Audience blue = () -> snapshot.blue;
+
+    InstanceAudiences(@Nonnull CTFInstance instance) {
+        this.instance = instance;
+    }
+
+    // ==================== Audiences ====================
+
+    @Nonnull
+    public Audience everyone() {
+        return everyone;
+    }
+
+    @Nonnull
+    public Audience participants() {
+        return participants;
+    }
+
+    @Nonnull
+    public Audience spectators() {
+        return spectators;
+    }
+
+    @Nonnull
+    public Audience team(@Nonnull FlagTeam team) {
+        return switch (team) {
+            case RED -> red;
+            case BLUE -> blue;
+        };
+    }
+
+    public int getPresentCount() {
+        return present.size();
+    }
+
+    /**
+     * Checks if a player is in one of this instance's worlds.
+     */
+    public boolean isPresent(@Nonnull UUID playerUuid) {
+        return present.containsKey(playerUuid);
+    }
+
+    // ==================== Membership ====================
+
+    /**
+     * Records a player entering one of this instance's worlds.
+     */
+    public void addPlayer(@Nonnull PlayerRef playerRef, @Nonnull String worldName) {
+        present.put(playerRef.getUuid(), new Presence(playerRef, worldName));
+        rebuild();
+    }
+
+    /**
+     * Records a player leaving this instance's world.
+     */
+    public void removePlayer(@Nonnull UUID playerUuid) {
+        if (present.remove(playerUuid) != null) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Called by the team manager whenever a team assignment changes.
+     */
+    public void onTeamsChanged() {
+        rebuild();
+    }
+
+    /**
+     * Removes and returns every player present in a world.
+     * Used to hand players over when an instance is created for or removed from that world.
+     */
+    @Nonnull
+    List<Presence> removeWorld(@Nonnull String worldName) {
+        List<Presence> removed = new ArrayList<>();
+        Iterator<Presence> it = present.values().iterator();
+        while (it.hasNext()) {
+            Presence presence = it.next();
+            if (presence.worldName.equals(worldName)) {
+                removed.add(presence);
+                it.remove();
+            }
+        }
+        if (!removed.isEmpty()) {
+            rebuild();
+        }
+        return removed;
+    }
+
+    /**
+     * Adds players handed over from another instance.
+     */
+    void addAll(@Nonnull List<Presence> presences) {
+        if (presences.isEmpty()) {
+            return;
+        }
+        for (Presence presence : presences) {
+            present.put(presence.playerRef.getUuid(), presence);
+        }
+        rebuild();
+    }
+
+    /**
+     * Rebuilds the recipient arrays from the present players and current teams.
+     */
+    private synchronized void rebuild() {
+        TeamManager teamManager = instance.getTeamManager();
+        List<PlayerRef> all = new ArrayList<>(present.size());
+        List<PlayerRef> redList = new ArrayList<>();
+        List<PlayerRef> blueList = new ArrayList<>();
+        List<PlayerRef> spectatorList = new ArrayList<>();
+
+        for (Presence presence : present.values()) {
+            PlayerRef playerRef = presence.playerRef;
+            all.add(playerRef);
+
+            FlagTeam team = teamManager != null ? teamManager.getPlayerTeam(playerRef.getUuid()) : null;
+            if (team == null) {
+                spectatorList.add(playerRef);
+            } else if (team == FlagTeam.RED) {
+                redList.add(playerRef);
+            } else {
+                blueList.add(playerRef);
+            }
+        }
+
+        PlayerRef[] participantArray = new PlayerRef[redList.size() + blueList.size()];
+        int i = 0;
+        for (PlayerRef playerRef : redList) {
+            participantArray[i++] = playerRef;
+        }
+        for (PlayerRef playerRef : blueList) {
+            participantArray[i++] = playerRef;
+        }
+
+        snapshot = new Snapshot(
+            toArray(all),
+            participantArray,
+            toArray(spectatorList),
+            toArray(redList),
+            toArray(blueList)
+        );
+    }
+
+    @Nonnull
+    private static PlayerRef[] toArray(@Nonnull List<PlayerRef> list) {
+        return list.isEmpty() ? Audience.NO_RECIPIENTS : list.toArray(new PlayerRef[0]);
+    }
+
+    // ==================== Internal Classes ====================
+
+    /**
+     * A player present in a world served by an instance.
+     */
+    static final class Presence {
+        final PlayerRef playerRef;
+        final String worldName;
+
+        Presence(PlayerRef playerRef, String worldName) {
+            this.playerRef = playerRef;
+            this.worldName = worldName;
+        }
+    }
+
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Audience.NO_RECIPIENTS, Audience.NO_RECIPIENTS,
+            Audience.NO_RECIPIENTS, Audience.NO_RECIPIENTS, Audience.NO_RECIPIENTS);
+
+        final PlayerRef[] everyone;
+        final PlayerRef[] participants;
+        final PlayerRef[] spectators;
+        final PlayerRef[] red;
+        final PlayerRef[] blue;
+
+        Snapshot(PlayerRef[] everyone, PlayerRef[] participants, PlayerRef[] spectators,
+                 PlayerRef[] red, PlayerRef[] blue) {
+            this.everyone = everyone;
+            this.participants = participants;
+            this.spectators = spectators;
+            this.red = red;
+            this.blue = blue;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.ctf.instance;
+
+import com.hypixel.hytale.component.AddReason;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.component.RemoveReason;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.RefSystem;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Keeps each instance's {@link InstanceAudiences} (and its player position grid
+ * and zone membership) in step with the players in its world.
+ *
+ * A player entity is added to a world's store when the player joins or
+ * enters that world, and removed when they leave it or disconnect.
+ */
+public class InstancePresenceSystem extends RefSystem<EntityStore> {
+
+    private final CTFInstanceManager instanceManager;
+
+    public InstancePresenceSystem(@Nonnull CTFInstanceManager instanceManager) {
+        this.instanceManager = instanceManager;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @Override
+    public void onEntityAdded(@Nonnull Ref<EntityStore> ref, @Nonnull AddReason reason,
+                              @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+
+        World world = store.getExternalData().getWorld();
+        instanceManager.getInstance(world).getAudiences().addPlayer(playerRef, world.getName());
+    }
+
+    @Override
+    public void onEntityRemoved(@Nonnull Ref<EntityStore> ref, @Nonnull RemoveReason reason,
+                                @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        PlayerRef playerRef = store.getComponent(ref, PlayerRef.getComponentType());
+        if (playerRef == null) {
+            return;
+        }
+
+        CTFInstance instance = instanceManager.getInstance(store.getExternalData().getWorld());
+        instance.getAudiences().removePlayer(playerRef.getUuid());
+        instance.getPlayerPositions().remove(playerRef.getUuid());
+        // Leaving the world leaves its zones, so coming back fires enter events again
+        instance.getZoneTracker().removePlayer(playerRef.getUuid());
+    }
+}
@@ -1,81 +1,238 @@
 package com.example.ctf.match;
 
 import com.example.ctf.CTFPlugin;
+import com.example.ctf.FlagRules;
 import com.example.ctf.FlagTeam;
+import com.example.ctf.instance.CTFInstance;
 import com.example.ctf.ui.CTFAnnouncementManager;
 import com.example.ctf.ui.CTFScoreHud;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Manages CTF match state, scoring, and win conditions.
+ * Manages CTF match state, scoring, and win conditions for one {@link CTFInstance}.
+ *
+ * A match runs WAITING -> WARMUP -> ACTIVE -> ENDED. If the time limit runs
+ * out with the scores tied, the match goes to OVERTIME, where the next capture
+ * wins. Each timed phase ends on a timer on the instance's {@link MatchScheduler};
+ * only one phase timer is pending at a time.
  */
 public class MatchManager {
 
+    // Default phase lengths in seconds (0 disables the phase or limit)
+    public static final int DEFAULT_WARMUP_SECONDS = 10;
+    public static final int DEFAULT_TIME_LIMIT_SECONDS = 600;
+    public static final int DEFAULT_OVERTIME_SECONDS = 120;
+
     private final CTFPlugin plugin;
-    private MatchState state;
+    private final CTFInstance instance;
+    private volatile MatchState state;
     private final Map<FlagTeam, Integer> scores;
     private int scoreLimit;
     @Nullable
     private FlagTeam winner;
 
-    public MatchManager(@Nonnull CTFPlugin plugin) {
+    private int warmupSeconds = DEFAULT_WARMUP_SECONDS;
+    private int timeLimitSeconds = DEFAULT_TIME_LIMIT_SECONDS;
+    private int overtimeSeconds = DEFAULT_OVERTIME_SECONDS;
+
+    // Timer ending the current phase (warmup, time limit or overtime)
+    @Nullable
+    private MatchScheduler.Timer phaseTimer;
+
+    private final List<MatchPhaseListener> phaseListeners = new CopyOnWriteArrayList<>();
+
+    public MatchManager(@Nonnull CTFPlugin plugin, @Nonnull CTFInstance instance) {
         this.plugin = plugin;
+        this.instance = instance;
         this.state = MatchState.WAITING;
         this.scores = new EnumMap<>(FlagTeam.class);
         this.scoreLimit = 3; // Default: first to 3 captures wins
         resetScores();
     }
 
+    // ==================== Phases ====================
+
     /**
-     * Starts the match. Transitions from WAITING to ACTIVE.
+     * Starts the match. Transitions from WAITING to WARMUP, or straight to
+     * ACTIVE when warmup is disabled.
      *
-     * @return true if the match was started, false if already active/ended
+     * @return true if the match was started, false if already running/ended
      */
-    public boolean startMatch() {
+    public synchronized boolean startMatch() {
         if (state != MatchState.WAITING) {
             return false;
         }
 
-        state = MatchState.ACTIVE;
         winner = null;
         resetScores();
 
-        // Show score HUD to all players
-        CTFScoreHud.showToAllPlayers(plugin, 0, 0);
+        // Show score HUD to everyone in this instance
+        CTFScoreHud.showToAllPlayers(plugin, instance.getAudiences().everyone(), 0, 0);
+
+        if (warmupSeconds <= 0) {
+            beginPlay();
+            return true;
+        }
+
+        setState(MatchState.WARMUP);
+        schedulePhaseEnd(warmupSeconds, this::onWarmupEnd);
 
-        // Announce match start
         CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
         if (announcementManager != null) {
-            announcementManager.announceMatchStart();
+            announcementManager.announceWarmup(instance.getAudiences().everyone(), warmupSeconds);
         }
 
-        plugin.getLogger().atInfo().log("CTF match started");
+        plugin.getLogger().atInfo().log("CTF warmup started in '{}' ({}s)", instance.getId(), warmupSeconds);
         return true;
     }
 
+    private synchronized void onWarmupEnd() {
+        if (state == MatchState.WARMUP) {
+            beginPlay();
+        }
+    }
+
+    /**
+     * Enters ACTIVE and starts the time limit.
+     */
+    private void beginPlay() {
+        setState(MatchState.ACTIVE);
+        if (timeLimitSeconds > 0) {
+            schedulePhaseEnd(timeLimitSeconds, this::onTimeLimit);
+        }
+
+        // Announce match start
+        CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
+        if (announcementManager != null) {
+            announcementManager.announceMatchStart(instance.getAudiences().everyone());
+        }
+
+        plugin.getLogger().atInfo().log("CTF match started in '{}'", instance.getId());
+    }
+
+    /**
+     * Time limit reached: the leader wins, a tie goes to overtime.
+     */
+    private synchronized void onTimeLimit() {
+        if (state != MatchState.ACTIVE) {
+            return;
+        }
+
+        FlagTeam leader = getLeader();
+        if (leader != null) {
+            endMatchWithWinner(leader);
+            return;
+        }
+
+        setState(MatchState.OVERTIME);
+        if (overtimeSeconds > 0) {
+            schedulePhaseEnd(overtimeSeconds, this::onOvertimeEnd);
+        }
+
+        CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
+        if (announcementManager != null) {
+            announcementManager.announceOvertime(instance.getAudiences().everyone(), overtimeSeconds);
+        }
+
+        plugin.getLogger().atInfo().log("CTF match in '{}' went to overtime", instance.getId());
+    }
+
+    /**
+     * Overtime ran out without a capture: the match ends in a tie.
+     */
+    private synchronized void onOvertimeEnd() {
+        if (state == MatchState.OVERTIME) {
+            endMatch();
+        }
+    }
+
+    private void schedulePhaseEnd(int seconds, @Nonnull Runnable onEnd) {
+        cancelPhaseTimer();
+        phaseTimer = instance.getScheduler().schedule(onEnd, seconds, TimeUnit.SECONDS);
+    }
+
+    private void cancelPhaseTimer() {
+        if (phaseTimer != null) {
+            phaseTimer.cancel();
+            phaseTimer = null;
+        }
+    }
+
+    private void setState(@Nonnull MatchState newState) {
+        MatchState oldState = state;
+        state = newState;
+        if (oldState == newState) {
+            return;
+        }
+        for (MatchPhaseListener listener : phaseListeners) {
+            try {
+                listener.onPhaseChange(oldState, newState);
+            } catch (Exception e) {
+                plugin.getLogger().atWarning().withCause(e).log("Match phase listener failed");
+            }
+        }
+    }
+
+    /**
+     * Gets the team ahead on score, or null if tied.
+     */
+    @Nullable
+    private FlagTeam getLeader() {
+        int red = scores.get(FlagTeam.RED);
+        int blue = scores.get(FlagTeam.BLUE);
+        if (red == blue) {
+            return null;
+        }
+        return red > blue ? FlagTeam.RED : FlagTeam.BLUE;
+    }
+
+    public void addPhaseListener(@Nonnull MatchPhaseListener listener) {
+        phaseListeners.add(listener);
+    }
+
+    public void removePhaseListener(@Nonnull MatchPhaseListener listener) {
+        phaseListeners.remove(listener);
+    }
+
+    /**
+     * Gets the time left in the current timed phase, in milliseconds.
+     *
+     * @return The remaining time, or -1 if no phase timer is running
+     */
+    public synchronized long getPhaseRemainingMillis() {
+        MatchScheduler.Timer timer = phaseTimer;
+        return timer != null && timer.isPending() ? timer.getRemainingMillis() : -1;
+    }
+
+    // ==================== Match End ====================
+
     /**
      * Ends the match early without a winner.
      *
      * @return true if the match was ended, false if already ended
      */
-    public boolean endMatch() {
+    public synchronized boolean endMatch() {
         if (state == MatchState.ENDED) {
             return false;
         }
 
-        state = MatchState.ENDED;
+        cancelPhaseTimer();
+        setState(MatchState.ENDED);
 
-        // Hide score HUD from all players
-        CTFScoreHud.hideFromAllPlayers();
+        // Hide score HUD from everyone in this instance
+        CTFScoreHud.hideFromAllPlayers(instance.getAudiences().everyone());
 
         // Announce match end (tie/no winner)
         CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
         if (announcementManager != null) {
-            announcementManager.announceMatchEnd(null, scores.get(FlagTeam.RED), scores.get(FlagTeam.BLUE));
+            announcementManager.announceMatchEnd(instance.getAudiences().everyone(), null, scores.get(FlagTeam.RED), scores.get(FlagTeam.BLUE));
         }
 
         plugin.getLogger().atInfo().log("CTF match ended manually");
@@ -88,19 +245,20 @@ public class MatchManager {
      * @param winningTeam The team that won
      */
     private void endMatchWithWinner(@Nonnull FlagTeam winningTeam) {
-        state = MatchState.ENDED;
+        cancelPhaseTimer();
         winner = winningTeam;
+        setState(MatchState.ENDED);
 
         int redScore = scores.get(FlagTeam.RED);
         int blueScore = scores.get(FlagTeam.BLUE);
 
-        // Hide score HUD from all players
-        CTFScoreHud.hideFromAllPlayers();
+        // Hide score HUD from everyone in this instance
+        CTFScoreHud.hideFromAllPlayers(instance.getAudiences().everyone());
 
         // Announce match end with winner
         CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
         if (announcementManager != null) {
-            announcementManager.announceMatchEnd(winningTeam, redScore, blueScore);
+            announcementManager.announceMatchEnd(instance.getAudiences().everyone(), winningTeam, redScore, blueScore);
         }
 
         plugin.getLogger().atInfo().log("CTF match won by {} with score {}-{}", winningTeam, redScore, blueScore);
@@ -111,17 +269,18 @@ public class MatchManager {
      *
      * @return true if the match was reset
      */
-    public boolean resetMatch() {
-        state = MatchState.WAITING;
+    public synchronized boolean resetMatch() {
+        cancelPhaseTimer();
+        setState(MatchState.WAITING);
         winner = null;
         resetScores();
 
-        // Hide score HUD from all players
-        CTFScoreHud.hideFromAllPlayers();
+        // Hide score HUD from everyone in this instance
+        CTFScoreHud.hideFromAllPlayers(instance.getAudiences().everyone());
 
         // Return all flags to stands
-        plugin.getFlagCarrierManager().returnFlagToStand(FlagTeam.RED);
-        plugin.getFlagCarrierManager().returnFlagToStand(FlagTeam.BLUE);
+        instance.getFlagCarrierManager().returnFlagToStand(FlagTeam.RED);
+        instance.getFlagCarrierManager().returnFlagToStand(FlagTeam.BLUE);
 
         plugin.getLogger().atInfo().log("CTF match reset");
         return true;
@@ -129,13 +288,14 @@ public class MatchManager {
 
     /**
      * Adds a point to a team's score and checks win condition.
+     * In overtime any capture wins.
      * Note: Capture announcement is handled by FlagCarrierManager.
      *
      * @param team The team that scored
      * @return true if this score won the match
      */
-    public boolean addScore(@Nonnull FlagTeam team) {
-        if (state != MatchState.ACTIVE) {
+    public synchronized boolean addScore(@Nonnull FlagTeam team) {
+        if (!state.isPlaying()) {
             return false;
         }
 
@@ -145,14 +305,14 @@ public class MatchManager {
         int redScore = scores.get(FlagTeam.RED);
         int blueScore = scores.get(FlagTeam.BLUE);
 
-        // Update score HUD for all players
-        CTFScoreHud.updateAllScores(redScore, blueScore);
+        // Update score HUD for everyone in this instance
+        CTFScoreHud.updateAllScores(instance.getAudiences().everyone(), redScore, blueScore);
 
         plugin.getLogger().atInfo().log("{} scored! Current: Red {} - Blue {}",
             team, redScore, blueScore);
 
         // Check win condition
-        if (newScore >= scoreLimit) {
+        if (FlagRules.winsMatch(newScore, scoreLimit, state == MatchState.OVERTIME)) {
             endMatchWithWinner(team);
             return true;
         }
@@ -181,12 +341,12 @@ public class MatchManager {
     }
 
     /**
-     * Checks if the match is currently active.
+     * Checks if the match is currently being played (captures count).
      *
-     * @return true if the match is in ACTIVE state
+     * @return true if the match is in ACTIVE or OVERTIME state
      */
     public boolean isMatchActive() {
-        return state == MatchState.ACTIVE;
+        return state.isPlaying();
     }
 
     /**
@@ -223,6 +383,35 @@ public class MatchManager {
         return true;
     }
 
+    /**
+     * Sets the phase lengths in seconds. 0 skips warmup, removes the time
+     * limit, or makes overtime last until the next capture.
+     * Only effective when match is in WAITING state.
+     *
+     * @return true if the lengths were set
+     */
+    public synchronized boolean setPhaseDurations(int warmup, int timeLimit, int overtime) {
+        if (state != MatchState.WAITING || warmup < 0 || timeLimit < 0 || overtime < 0) {
+            return false;
+        }
+        this.warmupSeconds = warmup;
+        this.timeLimitSeconds = timeLimit;
+        this.overtimeSeconds = overtime;
+        return true;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getTimeLimitSeconds() {
+        return timeLimitSeconds;
+    }
+
+    public int getOvertimeSeconds() {
+        return overtimeSeconds;
+    }
+
     /**
      * Gets a formatted score string.
      *
@@ -0,0 +1,15 @@
+package com.example.ctf.match;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Receives match phase changes from a {@link MatchManager}.
+ *
+ * Called after the new state is set, on whichever thread made the change
+ * (a command, a capture, or a phase timer on the instance's world thread).
+ */
+@FunctionalInterface
+public interface MatchPhaseListener {
+
+    void onPhaseChange(@Nonnull MatchState from, @Nonnull MatchState to);
+}
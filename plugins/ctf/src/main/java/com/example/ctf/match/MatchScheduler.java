@@ -0,0 +1,253 @@
+package com.example.ctf.match;
+
+import com.example.ctf.CTFPlugin;
+import com.hypixel.hytale.server.core.HytaleServer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-instance timer scheduler built on a hashed timing wheel.
+ *
+ * Timers are hashed into {@link #WHEEL_SIZE} slots by their deadline tick;
+ * timers further out than one revolution carry a round count. Scheduling and
+ * cancelling are O(1), and each tick only visits one slot, so thousands of
+ * timers cost no more per tick than the ones in the current slot.
+ *
+ * The wheel is only driven while it has pending timers: the first timer
+ * starts a fixed-rate tick task and the wheel stops it again once it is
+ * empty, so idle matches cost nothing.
+ *
+ * Expired tasks are handed to the instance's executor (its world thread when
+ * it has one), never run under the wheel's lock.
+ */
+public class MatchScheduler {
+
+    // 100 ms resolution, 512 slots (~51 s per revolution)
+    static final long TICK_MILLIS = 100;
+    static final int WHEEL_SIZE = 512;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    private final CTFPlugin plugin;
+    private final String name;
+    private final Executor executor;
+
+    // Slot heads of intrusive doubly linked lists
+    private final Timer[] wheel = new Timer[WHEEL_SIZE];
+
+    // Last processed tick, and the wall-clock time of tick 0
+    private long currentTick;
+    private long startTime;
+
+    private int pending;
+    @Nullable
+    private ScheduledFuture<?> driver;
+
+    /**
+     * @param name Used in log messages
+     * @param executor Runs expired tasks
+     */
+    public MatchScheduler(@Nonnull CTFPlugin plugin, @Nonnull String name, @Nonnull Executor executor) {
+        this.plugin = plugin;
+        this.name = name;
+        this.executor = executor;
+    }
+
+    // ==================== Scheduling ====================
+
+    /**
+     * Runs a task once after a delay (rounded up to the next tick).
+     *
+     * @return A handle that can cancel the timer
+     */
+    @Nonnull
+    public synchronized Timer schedule(@Nonnull Runnable task, long delay, @Nonnull TimeUnit unit) {
+        if (driver == null) {
+            // Resume the clock where it stopped, so tick numbers keep increasing
+            startTime = System.currentTimeMillis() - currentTick * TICK_MILLIS;
+            driver = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                this::advance, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+        }
+
+        long delayMillis = Math.max(0, unit.toMillis(delay));
+        long ticks = Math.max(1, (delayMillis + TICK_MILLIS - 1) / TICK_MILLIS);
+        long deadlineTick = currentTick + ticks;
+
+        Timer timer = new Timer(this, task, (deadlineTick - currentTick - 1) / WHEEL_SIZE,
+            System.currentTimeMillis() + delayMillis);
+        link(timer, (int) (deadlineTick & WHEEL_MASK));
+        pending++;
+        return timer;
+    }
+
+    /**
+     * Cancels every pending timer and stops the tick task.
+     */
+    public synchronized void cancelAll() {
+        for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+            for (Timer timer = wheel[slot]; timer != null; timer = timer.next) {
+                timer.state = Timer.CANCELLED;
+            }
+            wheel[slot] = null;
+        }
+        pending = 0;
+        stopDriver();
+    }
+
+    /**
+     * Gets the number of timers waiting to fire.
+     */
+    public synchronized int getPendingCount() {
+        return pending;
+    }
+
+    // ==================== Ticking ====================
+
+    /**
+     * Processes every tick that has elapsed since the last call. Runs on the scheduler thread.
+     */
+    private void advance() {
+        List<Timer> expired = null;
+
+        synchronized (this) {
+            long targetTick = (System.currentTimeMillis() - startTime) / TICK_MILLIS;
+            while (currentTick < targetTick) {
+                currentTick++;
+                int slot = (int) (currentTick & WHEEL_MASK);
+                Timer timer = wheel[slot];
+                while (timer != null) {
+                    Timer next = timer.next;
+                    if (timer.remainingRounds > 0) {
+                        timer.remainingRounds--;
+                    } else {
+                        unlink(timer);
+                        pending--;
+                        timer.state = Timer.EXPIRED;
+                        if (expired == null) {
+                            expired = new ArrayList<>();
+                        }
+                        expired.add(timer);
+                    }
+                    timer = next;
+                }
+            }
+
+            if (pending == 0) {
+                stopDriver();
+            }
+        }
+
+        if (expired != null) {
+            for (Timer timer : expired) {
+                executor.execute(() -> runTask(timer));
+            }
+        }
+    }
+
+    private void runTask(@Nonnull Timer timer) {
+        try {
+            timer.task.run();
+        } catch (Exception e) {
+            plugin.getLogger().atWarning().withCause(e).log("Timer task failed in '{}'", name);
+        }
+    }
+
+    private void stopDriver() {
+        if (driver != null) {
+            driver.cancel(false);
+            driver = null;
+        }
+    }
+
+    // ==================== Slot Lists ====================
+
+    private void link(@Nonnull Timer timer, int slot) {
+        timer.slot = slot;
+        timer.prev = null;
+        timer.next = wheel[slot];
+        if (timer.next != null) {
+            timer.next.prev = timer;
+        }
+        wheel[slot] = timer;
+    }
+
+    private void unlink(@Nonnull Timer timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else {
+            wheel[timer.slot] = timer.next;
+        }
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+        }
+        timer.prev = null;
+        timer.next = null;
+    }
+
+    private synchronized boolean cancel(@Nonnull Timer timer) {
+        if (timer.state != Timer.PENDING) {
+            return false;
+        }
+        unlink(timer);
+        timer.state = Timer.CANCELLED;
+        pending--;
+        if (pending == 0) {
+            stopDriver();
+        }
+        return true;
+    }
+
+    // ==================== Timer Handle ====================
+
+    /**
+     * A scheduled task.
+     */
+    public static final class Timer {
+        private static final int PENDING = 0;
+        private static final int EXPIRED = 1;
+        private static final int CANCELLED = 2;
+
+        private final MatchScheduler scheduler;
+        private final Runnable task;
+        private final long deadline;
+
+        // Guarded by the scheduler's lock
+        private long remainingRounds;
+        private int slot;
+        private Timer prev;
+        private Timer next;
+        private volatile int state = PENDING;
+
+        private Timer(MatchScheduler scheduler, Runnable task, long remainingRounds, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.remainingRounds = remainingRounds;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the timer if it has not fired yet.
+         *
+         * @return true if this call cancelled it
+         */
+        public boolean cancel() {
+            return scheduler.cancel(this);
+        }
+
+        public boolean isPending() {
+            return state == PENDING;
+        }
+
+        /**
+         * Gets the time left until the timer fires, in milliseconds (0 once due).
+         */
+        public long getRemainingMillis() {
+            return Math.max(0, deadline - System.currentTimeMillis());
+        }
+    }
+}
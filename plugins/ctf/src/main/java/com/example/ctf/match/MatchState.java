@@ -9,13 +9,37 @@ public enum MatchState {
      */
     WAITING,
 
+    /**
+     * Countdown before the match. Teams are set, flags can't be captured yet.
+     */
+    WARMUP,
+
     /**
      * Match is in progress. Players can capture flags and score.
      */
     ACTIVE,
 
+    /**
+     * Time ran out with the scores tied. The next capture wins.
+     */
+    OVERTIME,
+
     /**
      * Match has ended. A winner has been declared or match was stopped.
      */
-    ENDED
+    ENDED;
+
+    /**
+     * Checks if captures count in this state.
+     */
+    public boolean isPlaying() {
+        return this == ACTIVE || this == OVERTIME;
+    }
+
+    /**
+     * Checks if a match is under way (warmup included), i.e. the score HUD is shown.
+     */
+    public boolean isRunning() {
+        return this == WARMUP || this == ACTIVE || this == OVERTIME;
+    }
 }
@@ -0,0 +1,329 @@
+package com.example.ctf.matchmaking;
+
+import com.example.ctf.CTFPlugin;
+import com.hypixel.hytale.server.core.HytaleServer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Matchmaking shared by several servers over a {@link MatchmakingBroker}.
+ *
+ * Every server publishes its players' tickets and its free instances. One
+ * server is the coordinator: it runs the shared queue (a
+ * {@link LocalMatchmakingService}) over the instances all servers reported,
+ * and publishes each formed match. Every server then hears every assignment,
+ * so the target server can pre-assign teams while the players' own servers
+ * tell them where to go.
+ *
+ * Topics:
+ * - {@link #QUEUE_TOPIC}: tickets and leaves, consumed by the coordinator
+ * - {@link #ASSIGNMENT_TOPIC}: formed matches and rejected tickets, consumed by every server
+ * - {@link #AVAILABILITY_TOPIC}: free instances per server, consumed by the coordinator
+ */
+public class BrokerMatchmakingService implements MatchmakingService {
+
+    static final String QUEUE_TOPIC = "ctf.matchmaking.queue";
+    static final String ASSIGNMENT_TOPIC = "ctf.matchmaking.assignment";
+    static final String AVAILABILITY_TOPIC = "ctf.matchmaking.availability";
+
+    private static final long AVAILABILITY_INTERVAL_MS = 2000;
+
+    private final CTFPlugin plugin;
+    private final MatchmakingBroker broker;
+    private final String serverId;
+    private final int teamSize;
+    private final Supplier<List<String>> freeInstances;
+    private final List<MatchmakingListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Players of this server waiting for an assignment -> id of the ticket they were sent in
+    private final Map<UUID, UUID> pending = new ConcurrentHashMap<>();
+
+    // Coordinator only
+    @Nullable
+    private final LocalMatchmakingService coordinator;
+    @Nullable
+    private final InstanceDirectory directory;
+
+    @Nullable
+    private ScheduledFuture<?> availabilityTask;
+
+    /**
+     * @param serverId This server's id, as used in {@link MatchTarget#serverId()}
+     * @param coordinator Whether this server runs the shared queue; exactly one server should
+     * @param freeInstances Supplies the ids of this server's instances that can take a new match
+     */
+    public BrokerMatchmakingService(@Nonnull CTFPlugin plugin, @Nonnull MatchmakingBroker broker,
+                                    @Nonnull String serverId, boolean coordinator, int teamSize,
+                                    @Nonnull Supplier<List<String>> freeInstances) {
+        this.plugin = plugin;
+        this.broker = broker;
+        this.serverId = serverId;
+        this.teamSize = teamSize;
+        this.freeInstances = freeInstances;
+        if (coordinator) {
+            this.directory = new InstanceDirectory();
+            this.coordinator = new LocalMatchmakingService(plugin, teamSize, directory);
+        } else {
+            this.directory = null;
+            this.coordinator = null;
+        }
+    }
+
+    @Override
+    public void start() {
+        broker.subscribe(ASSIGNMENT_TOPIC, this::onAssignment);
+        if (coordinator != null) {
+            broker.subscribe(QUEUE_TOPIC, this::onQueueMessage);
+            broker.subscribe(AVAILABILITY_TOPIC, this::onAvailability);
+            coordinator.addListener(assignment ->
+                broker.publish(ASSIGNMENT_TOPIC, MatchmakingCodec.encodeAssignment(assignment)));
+            coordinator.start();
+        }
+
+        availabilityTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+            this::publishAvailability,
+            0,
+            AVAILABILITY_INTERVAL_MS,
+            TimeUnit.MILLISECONDS
+        );
+        plugin.getLogger().atInfo().log("Broker matchmaking started as {} ({})",
+            serverId, coordinator != null ? "coordinator" : "member");
+    }
+
+    @Nonnull
+    public String getServerId() {
+        return serverId;
+    }
+
+    // ==================== Queue ====================
+
+    @Override
+    public boolean enqueue(@Nonnull QueueTicket ticket) {
+        if (ticket.size() > teamSize) {
+            return false;
+        }
+        for (UUID playerUuid : ticket.players()) {
+            if (pending.containsKey(playerUuid)) {
+                return false;
+            }
+        }
+        for (UUID playerUuid : ticket.players()) {
+            pending.put(playerUuid, ticket.id());
+        }
+        broker.publish(QUEUE_TOPIC, MatchmakingCodec.encodeTicket(ticket));
+        return true;
+    }
+
+    @Override
+    public boolean leave(@Nonnull UUID playerUuid) {
+        if (pending.remove(playerUuid) == null) {
+            return false;
+        }
+        broker.publish(QUEUE_TOPIC, MatchmakingCodec.encodeLeave(playerUuid));
+        return true;
+    }
+
+    @Override
+    public boolean isQueued(@Nonnull UUID playerUuid) {
+        return pending.containsKey(playerUuid);
+    }
+
+    /**
+     * Gets the number of this server's players waiting. The coordinator reports the whole shared queue.
+     */
+    @Override
+    public int getQueuedPlayers() {
+        return coordinator != null ? coordinator.getQueuedPlayers() : pending.size();
+    }
+
+    // ==================== Broker Messages ====================
+
+    private void onQueueMessage(@Nonnull byte[] message) {
+        try {
+            switch (MatchmakingCodec.type(message)) {
+                case MatchmakingCodec.TICKET -> {
+                    QueueTicket ticket = MatchmakingCodec.decodeTicket(message);
+                    if (!coordinator.enqueue(ticket)) {
+                        plugin.getLogger().atWarning().log("Rejected matchmaking ticket {} ({} players)",
+                            ticket.id(), ticket.size());
+                        // Tell the sending server, so its players are not left waiting forever
+                        broker.publish(ASSIGNMENT_TOPIC, MatchmakingCodec.encodeRejection(ticket));
+                    }
+                }
+                case MatchmakingCodec.LEAVE -> coordinator.leave(MatchmakingCodec.decodeLeave(message));
+                default -> plugin.getLogger().atWarning().log("Unknown matchmaking message type {}",
+                    MatchmakingCodec.type(message));
+            }
+        } catch (IOException e) {
+            plugin.getLogger().atWarning().withCause(e).log("Malformed matchmaking queue message");
+        }
+    }
+
+    private void onAvailability(@Nonnull byte[] message) {
+        try {
+            MatchmakingCodec.Availability availability = MatchmakingCodec.decodeAvailability(message);
+            directory.update(availability.serverId(), availability.freeInstances());
+        } catch (IOException e) {
+            plugin.getLogger().atWarning().withCause(e).log("Malformed matchmaking availability message");
+        }
+    }
+
+    private void onAssignment(@Nonnull byte[] message) {
+        if (MatchmakingCodec.type(message) == MatchmakingCodec.REJECTION) {
+            onRejection(message);
+            return;
+        }
+
+        MatchAssignment assignment;
+        try {
+            assignment = MatchmakingCodec.decodeAssignment(message);
+        } catch (IOException e) {
+            plugin.getLogger().atWarning().withCause(e).log("Malformed matchmaking assignment");
+            return;
+        }
+
+        assignment.red().forEach(pending::remove);
+        assignment.blue().forEach(pending::remove);
+        for (MatchmakingListener listener : listeners) {
+            try {
+                listener.onMatchFormed(assignment);
+            } catch (Exception e) {
+                plugin.getLogger().atWarning().withCause(e).log("Matchmaking listener failed");
+            }
+        }
+    }
+
+    private void onRejection(@Nonnull byte[] message) {
+        MatchmakingCodec.Rejection rejection;
+        try {
+            rejection = MatchmakingCodec.decodeRejection(message);
+        } catch (IOException e) {
+            plugin.getLogger().atWarning().withCause(e).log("Malformed matchmaking rejection");
+            return;
+        }
+
+        // Only players still waiting on that ticket; a later ticket of theirs stays queued
+        List<UUID> released = new ArrayList<>();
+        for (UUID playerUuid : rejection.players()) {
+            if (pending.remove(playerUuid, rejection.ticketId())) {
+                released.add(playerUuid);
+            }
+        }
+        if (released.isEmpty()) {
+            return;
+        }
+        for (MatchmakingListener listener : listeners) {
+            try {
+                listener.onTicketRejected(released);
+            } catch (Exception e) {
+                plugin.getLogger().atWarning().withCause(e).log("Matchmaking listener failed");
+            }
+        }
+    }
+
+    private void publishAvailability() {
+        try {
+            broker.publish(AVAILABILITY_TOPIC, MatchmakingCodec.encodeAvailability(serverId, freeInstances.get()));
+        } catch (Exception e) {
+            plugin.getLogger().atWarning().withCause(e).log("Failed to publish matchmaking availability");
+        }
+    }
+
+    // ==================== Listeners ====================
+
+    @Override
+    public void addListener(@Nonnull MatchmakingListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(@Nonnull MatchmakingListener listener) {
+        listeners.remove(listener);
+    }
+
+    // ==================== Cleanup ====================
+
+    /**
+     * Stops publishing and, on the coordinator, drops the shared queue. The broker is closed too.
+     */
+    @Override
+    public void shutdown() {
+        if (availabilityTask != null) {
+            availabilityTask.cancel(false);
+            availabilityTask = null;
+        }
+        if (coordinator != null) {
+            coordinator.shutdown();
+        }
+        pending.clear();
+        listeners.clear();
+        broker.close();
+    }
+
+    // ==================== Internal Classes ====================
+
+    /**
+     * Free instances reported by all servers, as seen by the coordinator.
+     * A report older than {@link #STALE_MS} is ignored (server gone or
+     * lagging). A reserved instance stays taken for {@link #RESERVATION_MS},
+     * so a match isn't placed twice while the first one's players are still
+     * connecting; by then its server no longer reports it free.
+     */
+    private static final class InstanceDirectory implements InstanceAllocator {
+
+        private static final long STALE_MS = 10_000;
+        private static final long RESERVATION_MS = 60_000;
+
+        private final Map<String, Report> reports = new HashMap<>();
+        private final Map<MatchTarget, Long> reservations = new HashMap<>();
+
+        synchronized void update(@Nonnull String serverId, @Nonnull List<String> freeInstances) {
+            reports.put(serverId, new Report(freeInstances, System.currentTimeMillis()));
+        }
+
+        @Nullable
+        @Override
+        public synchronized MatchTarget reserve() {
+            long now = System.currentTimeMillis();
+            reservations.values().removeIf(expiry -> expiry <= now);
+
+            Iterator<Map.Entry<String, Report>> iterator = reports.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<String, Report> entry = iterator.next();
+                if (now - entry.getValue().receivedAt > STALE_MS) {
+                    iterator.remove();
+                    continue;
+                }
+                for (String instanceId : entry.getValue().freeInstances) {
+                    MatchTarget target = new MatchTarget(entry.getKey(), instanceId);
+                    if (!reservations.containsKey(target)) {
+                        reservations.put(target, now + RESERVATION_MS);
+                        return target;
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public synchronized void release(@Nonnull MatchTarget target) {
+            reservations.remove(target);
+        }
+
+        private record Report(List<String> freeInstances, long receivedAt) {
+        }
+    }
+}
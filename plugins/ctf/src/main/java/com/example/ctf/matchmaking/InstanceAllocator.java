@@ -0,0 +1,23 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Hands out free CTF instances to newly formed matches.
+ */
+public interface InstanceAllocator {
+
+    /**
+     * Reserves a free instance for a match.
+     *
+     * @return The reserved instance, or null if none is free right now
+     */
+    @Nullable
+    MatchTarget reserve();
+
+    /**
+     * Gives back a reservation that wasn't used.
+     */
+    void release(@Nonnull MatchTarget target);
+}
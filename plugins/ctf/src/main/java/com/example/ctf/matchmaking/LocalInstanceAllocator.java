@@ -0,0 +1,80 @@
+package com.example.ctf.matchmaking;
+
+import com.example.ctf.instance.CTFInstance;
+import com.example.ctf.instance.CTFInstanceManager;
+import com.example.ctf.match.MatchState;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Allocates this server's CTF instances. An instance is free while its match
+ * is waiting, nobody is on a team and no formed match has reserved it.
+ * A reservation ends when the instance's match starts, or after a minute if
+ * it never does; by then the pre-assigned teams keep the instance taken
+ * until its players are gone. Players who never arrive are dropped from
+ * their team when the minute is up (see {@link QueueAssignmentHandler}).
+ */
+public class LocalInstanceAllocator implements InstanceAllocator {
+
+    static final long RESERVATION_MS = 60_000;
+
+    private final CTFInstanceManager instanceManager;
+    private final String serverId;
+
+    // Instance id -> reservation expiry (guarded by this)
+    private final Map<String, Long> reserved = new HashMap<>();
+
+    public LocalInstanceAllocator(@Nonnull CTFInstanceManager instanceManager, @Nonnull String serverId) {
+        this.instanceManager = instanceManager;
+        this.serverId = serverId;
+    }
+
+    @Nullable
+    @Override
+    public synchronized MatchTarget reserve() {
+        long now = System.currentTimeMillis();
+        reserved.values().removeIf(expiry -> expiry <= now);
+        for (CTFInstance instance : instanceManager.getInstances()) {
+            if (isFree(instance)) {
+                reserved.put(instance.getId(), now + RESERVATION_MS);
+                return new MatchTarget(serverId, instance.getId());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public synchronized void release(@Nonnull MatchTarget target) {
+        reserved.remove(target.instanceId());
+    }
+
+    /**
+     * Gets the ids of all free instances, for publishing availability to other servers.
+     */
+    @Nonnull
+    public synchronized List<String> freeInstanceIds() {
+        long now = System.currentTimeMillis();
+        reserved.values().removeIf(expiry -> expiry <= now);
+        List<String> free = new ArrayList<>();
+        for (CTFInstance instance : instanceManager.getInstances()) {
+            if (isFree(instance)) {
+                free.add(instance.getId());
+            }
+        }
+        return free;
+    }
+
+    private boolean isFree(@Nonnull CTFInstance instance) {
+        boolean waiting = instance.getMatchManager().getState() == MatchState.WAITING;
+        if (!waiting) {
+            reserved.remove(instance.getId());
+            return false;
+        }
+        return !reserved.containsKey(instance.getId()) && instance.getTeamManager().getTotalPlayers() == 0;
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.ctf.matchmaking;
+
+import com.example.ctf.CTFPlugin;
+import com.hypixel.hytale.server.core.HytaleServer;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process matchmaking: one {@link MatchmakingQueue} guarded by this
+ * object's lock, matched on every enqueue and on a one-second poll (so
+ * widening rating spreads and freed instances are picked up).
+ *
+ * Matches are placed through an {@link InstanceAllocator}; if no instance is
+ * free, tickets stay queued until one is. Listeners are notified outside the
+ * lock.
+ */
+public class LocalMatchmakingService implements MatchmakingService {
+
+    private static final long POLL_INTERVAL_MS = 1000;
+
+    private final CTFPlugin plugin;
+    private final int teamSize;
+    private final InstanceAllocator allocator;
+    private final List<MatchmakingListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Guarded by this
+    private final MatchmakingQueue queue = new MatchmakingQueue();
+
+    @Nullable
+    private ScheduledFuture<?> pollTask;
+
+    public LocalMatchmakingService(@Nonnull CTFPlugin plugin, int teamSize, @Nonnull InstanceAllocator allocator) {
+        if (teamSize < 1) {
+            throw new IllegalArgumentException("Team size must be at least 1");
+        }
+        this.plugin = plugin;
+        this.teamSize = teamSize;
+        this.allocator = allocator;
+    }
+
+    @Override
+    public void start() {
+        if (pollTask == null) {
+            pollTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                this::poll,
+                POLL_INTERVAL_MS,
+                POLL_INTERVAL_MS,
+                TimeUnit.MILLISECONDS
+            );
+        }
+    }
+
+    public int getTeamSize() {
+        return teamSize;
+    }
+
+    // ==================== Queue ====================
+
+    @Override
+    public boolean enqueue(@Nonnull QueueTicket ticket) {
+        if (ticket.size() > teamSize) {
+            return false;
+        }
+        synchronized (this) {
+            for (UUID playerUuid : ticket.players()) {
+                if (queue.contains(playerUuid)) {
+                    return false;
+                }
+            }
+            queue.add(ticket);
+        }
+        poll();
+        return true;
+    }
+
+    @Override
+    public synchronized boolean leave(@Nonnull UUID playerUuid) {
+        return queue.removeByPlayer(playerUuid) != null;
+    }
+
+    @Override
+    public synchronized boolean isQueued(@Nonnull UUID playerUuid) {
+        return queue.contains(playerUuid);
+    }
+
+    @Override
+    public synchronized int getQueuedPlayers() {
+        return queue.getPlayerCount();
+    }
+
+    // ==================== Matching ====================
+
+    /**
+     * Forms as many matches as the queue and free instances allow, then notifies listeners.
+     */
+    private void poll() {
+        List<MatchAssignment> formed;
+        try {
+            formed = formMatches();
+        } catch (Exception e) {
+            plugin.getLogger().atWarning().withCause(e).log("Error forming matches");
+            return;
+        }
+
+        for (MatchAssignment assignment : formed) {
+            plugin.getLogger().atInfo().log("Match formed on {}: {} vs {} players",
+                assignment.target(), assignment.red().size(), assignment.blue().size());
+            for (MatchmakingListener listener : listeners) {
+                try {
+                    listener.onMatchFormed(assignment);
+                } catch (Exception e) {
+                    plugin.getLogger().atWarning().withCause(e).log("Matchmaking listener failed");
+                }
+            }
+        }
+    }
+
+    @Nonnull
+    private synchronized List<MatchAssignment> formMatches() {
+        List<MatchAssignment> formed = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        while (queue.getPlayerCount() >= teamSize * 2) {
+            MatchTarget target = allocator.reserve();
+            if (target == null) {
+                break;
+            }
+            MatchmakingQueue.FormedTeams teams = queue.formMatch(teamSize, now);
+            if (teams == null) {
+                allocator.release(target);
+                break;
+            }
+            formed.add(new MatchAssignment(target, teams.redPlayers(), teams.bluePlayers()));
+        }
+        return formed;
+    }
+
+    // ==================== Listeners ====================
+
+    @Override
+    public void addListener(@Nonnull MatchmakingListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeListener(@Nonnull MatchmakingListener listener) {
+        listeners.remove(listener);
+    }
+
+    // ==================== Cleanup ====================
+
+    @Override
+    public void shutdown() {
+        if (pollTask != null) {
+            pollTask.cancel(false);
+            pollTask = null;
+        }
+        synchronized (this) {
+            queue.clear();
+        }
+        listeners.clear();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+
+/**
+ * In-process {@link MatchmakingBroker}. Messages are delivered asynchronously
+ * on one daemon thread, like a network broker would, so the broker-backed
+ * service can run (and be tested) on a single server. Several
+ * {@link BrokerMatchmakingService}s sharing one loopback broker behave like
+ * servers sharing a real one.
+ */
+public class LoopbackBroker implements MatchmakingBroker {
+
+    private final Map<String, List<Consumer<byte[]>>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService delivery = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "CTF-Matchmaking-Loopback");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void publish(@Nonnull String topic, @Nonnull byte[] message) {
+        List<Consumer<byte[]>> handlers = subscribers.get(topic);
+        if (handlers == null) {
+            return;
+        }
+        byte[] copy = message.clone();
+        try {
+            delivery.execute(() -> {
+                for (Consumer<byte[]> handler : handlers) {
+                    handler.accept(copy);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Closed
+        }
+    }
+
+    @Override
+    public void subscribe(@Nonnull String topic, @Nonnull Consumer<byte[]> handler) {
+        subscribers.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    @Override
+    public void close() {
+        delivery.shutdownNow();
+        subscribers.clear();
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ctf.matchmaking;
+
+import com.example.ctf.FlagTeam;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A formed match: where it is played and the pre-balanced teams.
+ */
+public record MatchAssignment(@Nonnull MatchTarget target, @Nonnull List<UUID> red, @Nonnull List<UUID> blue) {
+
+    public MatchAssignment {
+        red = List.copyOf(red);
+        blue = List.copyOf(blue);
+    }
+
+    /**
+     * Gets the players of one team.
+     */
+    @Nonnull
+    public List<UUID> getPlayers(@Nonnull FlagTeam team) {
+        return team == FlagTeam.RED ? red : blue;
+    }
+
+    /**
+     * Gets the team a player was placed on, or null if they aren't in this match.
+     */
+    @Nullable
+    public FlagTeam getTeam(@Nonnull UUID playerUuid) {
+        if (red.contains(playerUuid)) {
+            return FlagTeam.RED;
+        }
+        return blue.contains(playerUuid) ? FlagTeam.BLUE : null;
+    }
+}
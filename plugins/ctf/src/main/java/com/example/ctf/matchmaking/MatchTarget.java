@@ -0,0 +1,17 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A CTF instance on a specific server that a formed match is sent to.
+ *
+ * @param serverId Id of the server running the instance
+ * @param instanceId The instance id (its world name)
+ */
+public record MatchTarget(@Nonnull String serverId, @Nonnull String instanceId) {
+
+    @Override
+    public String toString() {
+        return serverId + "/" + instanceId;
+    }
+}
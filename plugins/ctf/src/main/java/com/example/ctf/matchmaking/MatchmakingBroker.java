@@ -0,0 +1,31 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import java.util.function.Consumer;
+
+/**
+ * Publish/subscribe transport shared by the servers of a {@link BrokerMatchmakingService}.
+ * Messages are opaque bytes encoded by {@link MatchmakingCodec}.
+ *
+ * An adapter for a real message broker (Redis pub/sub, NATS, ...) implements
+ * this; {@link LoopbackBroker} is the in-process stand-in.
+ */
+public interface MatchmakingBroker {
+
+    /**
+     * Sends a message to every subscriber of a topic, on every server.
+     * Must not block on the network.
+     */
+    void publish(@Nonnull String topic, @Nonnull byte[] message);
+
+    /**
+     * Registers a handler for a topic. Handlers run on the broker's delivery
+     * thread, one message at a time, in publish order per topic.
+     */
+    void subscribe(@Nonnull String topic, @Nonnull Consumer<byte[]> handler);
+
+    /**
+     * Stops delivery and releases the connection.
+     */
+    void close();
+}
@@ -0,0 +1,193 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Wire format of the messages exchanged by {@link BrokerMatchmakingService}s.
+ *
+ * Every message starts with a type byte; the rest is written with
+ * {@link DataOutputStream} (big-endian, UUIDs as two longs, strings as modified UTF-8).
+ */
+final class MatchmakingCodec {
+
+    static final byte TICKET = 1;
+    static final byte LEAVE = 2;
+    static final byte ASSIGNMENT = 3;
+    static final byte AVAILABILITY = 4;
+    static final byte REJECTION = 5;
+
+    private MatchmakingCodec() {
+    }
+
+    /**
+     * Gets the type byte of a message, or 0 if it is empty.
+     */
+    static byte type(@Nonnull byte[] message) {
+        return message.length > 0 ? message[0] : 0;
+    }
+
+    // ==================== Encoding ====================
+
+    @Nonnull
+    static byte[] encodeTicket(@Nonnull QueueTicket ticket) {
+        return write(TICKET, out -> {
+            writeUuid(out, ticket.id());
+            writeUuids(out, ticket.players());
+            out.writeInt(ticket.rating());
+            out.writeLong(ticket.enqueuedAt());
+        });
+    }
+
+    @Nonnull
+    static byte[] encodeLeave(@Nonnull UUID playerUuid) {
+        return write(LEAVE, out -> writeUuid(out, playerUuid));
+    }
+
+    @Nonnull
+    static byte[] encodeAssignment(@Nonnull MatchAssignment assignment) {
+        return write(ASSIGNMENT, out -> {
+            out.writeUTF(assignment.target().serverId());
+            out.writeUTF(assignment.target().instanceId());
+            writeUuids(out, assignment.red());
+            writeUuids(out, assignment.blue());
+        });
+    }
+
+    @Nonnull
+    static byte[] encodeAvailability(@Nonnull String serverId, @Nonnull List<String> freeInstances) {
+        return write(AVAILABILITY, out -> {
+            out.writeUTF(serverId);
+            out.writeShort(freeInstances.size());
+            for (String instanceId : freeInstances) {
+                out.writeUTF(instanceId);
+            }
+        });
+    }
+
+    @Nonnull
+    static byte[] encodeRejection(@Nonnull QueueTicket ticket) {
+        return write(REJECTION, out -> {
+            writeUuid(out, ticket.id());
+            writeUuids(out, ticket.players());
+        });
+    }
+
+    // ==================== Decoding ====================
+
+    @Nonnull
+    static QueueTicket decodeTicket(@Nonnull byte[] message) throws IOException {
+        DataInputStream in = read(message, TICKET);
+        UUID id = readUuid(in);
+        List<UUID> players = readUuids(in);
+        return new QueueTicket(id, players, in.readInt(), in.readLong());
+    }
+
+    @Nonnull
+    static UUID decodeLeave(@Nonnull byte[] message) throws IOException {
+        return readUuid(read(message, LEAVE));
+    }
+
+    @Nonnull
+    static MatchAssignment decodeAssignment(@Nonnull byte[] message) throws IOException {
+        DataInputStream in = read(message, ASSIGNMENT);
+        MatchTarget target = new MatchTarget(in.readUTF(), in.readUTF());
+        List<UUID> red = readUuids(in);
+        return new MatchAssignment(target, red, readUuids(in));
+    }
+
+    @Nonnull
+    static Availability decodeAvailability(@Nonnull byte[] message) throws IOException {
+        DataInputStream in = read(message, AVAILABILITY);
+        String serverId = in.readUTF();
+        int count = in.readUnsignedShort();
+        List<String> instances = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            instances.add(in.readUTF());
+        }
+        return new Availability(serverId, instances);
+    }
+
+    @Nonnull
+    static Rejection decodeRejection(@Nonnull byte[] message) throws IOException {
+        DataInputStream in = read(message, REJECTION);
+        UUID ticketId = readUuid(in);
+        return new Rejection(ticketId, readUuids(in));
+    }
+
+    /**
+     * A ticket the coordinator turned away.
+     */
+    record Rejection(@Nonnull UUID ticketId, @Nonnull List<UUID> players) {
+    }
+
+    /**
+     * Free instances one server reported.
+     */
+    record Availability(@Nonnull String serverId, @Nonnull List<String> freeInstances) {
+    }
+
+    // ==================== Helpers ====================
+
+    @FunctionalInterface
+    private interface Body {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    @Nonnull
+    private static byte[] write(byte type, @Nonnull Body body) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(type);
+            body.write(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // Not thrown by in-memory streams
+        }
+        return bytes.toByteArray();
+    }
+
+    @Nonnull
+    private static DataInputStream read(@Nonnull byte[] message, byte expectedType) throws IOException {
+        if (type(message) != expectedType) {
+            throw new IOException("Expected message type " + expectedType + " but got " + type(message));
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(message));
+        in.skipBytes(1);
+        return in;
+    }
+
+    private static void writeUuid(@Nonnull DataOutputStream out, @Nonnull UUID uuid) throws IOException {
+        out.writeLong(uuid.getMostSignificantBits());
+        out.writeLong(uuid.getLeastSignificantBits());
+    }
+
+    @Nonnull
+    private static UUID readUuid(@Nonnull DataInputStream in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    private static void writeUuids(@Nonnull DataOutputStream out, @Nonnull List<UUID> uuids) throws IOException {
+        out.writeShort(uuids.size());
+        for (UUID uuid : uuids) {
+            writeUuid(out, uuid);
+        }
+    }
+
+    @Nonnull
+    private static List<UUID> readUuids(@Nonnull DataInputStream in) throws IOException {
+        int count = in.readUnsignedShort();
+        List<UUID> uuids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            uuids.add(readUuid(in));
+        }
+        return uuids;
+    }
+}
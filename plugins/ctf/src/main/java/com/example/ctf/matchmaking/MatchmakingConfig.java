@@ -0,0 +1,84 @@
+package com.example.ctf.matchmaking;
+
+import com.hypixel.hytale.codec.Codec;
+import com.hypixel.hytale.codec.KeyedCodec;
+import com.hypixel.hytale.codec.builder.BuilderCodec;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Matchmaking settings, persisted to JSON via the plugin config system.
+ *
+ * Modes:
+ * - {@link #MODE_LOCAL}: a {@link LocalMatchmakingService} over this server's instances
+ * - {@link #MODE_LOOPBACK}: a coordinating {@link BrokerMatchmakingService} on an
+ *   in-process {@link LoopbackBroker}, so the broker path runs on a single server
+ */
+public class MatchmakingConfig {
+
+    public static final String MODE_LOCAL = "Local";
+    public static final String MODE_LOOPBACK = "Loopback";
+
+    public static final BuilderCodec<MatchmakingConfig> CODEC = BuilderCodec.builder(MatchmakingConfig.class, MatchmakingConfig::new)
+        .<String>appendInherited(
+            new KeyedCodec<>("Mode", Codec.STRING),
+            (o, v) -> o.mode = v,
+            o -> o.mode,
+            (o, p) -> o.mode = p.mode
+        )
+        .add()
+        .<String>appendInherited(
+            new KeyedCodec<>("ServerId", Codec.STRING),
+            (o, v) -> o.serverId = v,
+            o -> o.serverId,
+            (o, p) -> o.serverId = p.serverId
+        )
+        .add()
+        .<Integer>appendInherited(
+            new KeyedCodec<>("TeamSize", Codec.INTEGER),
+            (o, v) -> o.teamSize = v,
+            o -> o.teamSize,
+            (o, p) -> o.teamSize = p.teamSize
+        )
+        .add()
+        .build();
+
+    private String mode;
+    private String serverId;
+    private int teamSize;
+
+    public MatchmakingConfig() {
+        this.mode = MODE_LOCAL;
+        this.serverId = "local";
+        this.teamSize = 4;
+    }
+
+    @Nonnull
+    public String getMode() {
+        return mode;
+    }
+
+    public void setMode(@Nonnull String mode) {
+        this.mode = mode;
+    }
+
+    /**
+     * Gets this server's id, as used in {@link MatchTarget#serverId()}.
+     */
+    @Nonnull
+    public String getServerId() {
+        return serverId;
+    }
+
+    public void setServerId(@Nonnull String serverId) {
+        this.serverId = serverId;
+    }
+
+    public int getTeamSize() {
+        return teamSize;
+    }
+
+    public void setTeamSize(int teamSize) {
+        this.teamSize = teamSize;
+    }
+}
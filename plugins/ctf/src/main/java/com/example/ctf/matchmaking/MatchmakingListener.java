@@ -0,0 +1,25 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Notified when a {@link MatchmakingService} forms a match, or turns a ticket
+ * away after accepting it for delivery.
+ */
+@FunctionalInterface
+public interface MatchmakingListener {
+
+    /**
+     * Called once per formed match, off the gameplay threads.
+     */
+    void onMatchFormed(@Nonnull MatchAssignment assignment);
+
+    /**
+     * Called when a queued ticket was rejected after {@link MatchmakingService#enqueue}
+     * returned true (e.g. by a remote coordinator). Its players are no longer queued.
+     */
+    default void onTicketRejected(@Nonnull List<UUID> players) {
+    }
+}
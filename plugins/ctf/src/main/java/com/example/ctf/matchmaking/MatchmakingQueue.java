@@ -0,0 +1,297 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Rating-ordered queue of tickets. Not thread-safe; owned by a
+ * {@link LocalMatchmakingService}, which calls it under its lock.
+ *
+ * Tickets are indexed twice: by rating in a tree, and in an anchor rotation
+ * that starts out in queue order. Forming a match anchors on the ticket at
+ * the front of the rotation, then walks outwards from its rating in both
+ * directions, always taking the closer neighbour, until both teams are full
+ * or the rating spread the anchor accepts is exceeded. That spread widens
+ * the longer the anchor waits, so nobody is stuck behind an empty rating
+ * band. An anchor that can't form a match yet moves to the back of the
+ * rotation, so a few outliers at the front never keep the tickets behind
+ * them from being tried. With n queued tickets and k tickets per match,
+ * forming a match costs O(log n + k) and enqueue/remove cost O(log n), so
+ * thousands of queued players don't slow matching down.
+ */
+final class MatchmakingQueue {
+
+    /**
+     * Rating spread accepted around a ticket that has just been queued.
+     */
+    static final int BASE_SPREAD = 100;
+
+    /**
+     * Extra spread per second waited.
+     */
+    static final int SPREAD_PER_SECOND = 10;
+
+    static final int MAX_SPREAD = 1000;
+
+    /**
+     * How many tickets at the front of the rotation are tried as anchor before giving up this round.
+     */
+    private static final int MAX_ANCHORS = 4;
+
+    private final NavigableMap<RatingKey, QueueTicket> byRating = new TreeMap<>();
+    // Anchor rotation: queue order, with failed anchors moved to the back
+    private final LinkedHashMap<UUID, Entry> anchors = new LinkedHashMap<>();
+    private final Map<UUID, UUID> ticketByPlayer = new HashMap<>();
+    private long sequence;
+    private int playerCount;
+
+    // ==================== Queue ====================
+
+    /**
+     * Adds a ticket. The caller has checked none of its players are queued.
+     */
+    void add(@Nonnull QueueTicket ticket) {
+        RatingKey key = new RatingKey(ticket.rating(), sequence++);
+        byRating.put(key, ticket);
+        anchors.put(ticket.id(), new Entry(ticket, key));
+        for (UUID playerUuid : ticket.players()) {
+            ticketByPlayer.put(playerUuid, ticket.id());
+        }
+        playerCount += ticket.size();
+    }
+
+    /**
+     * Removes the ticket a player is in.
+     *
+     * @return The removed ticket, or null if the player wasn't queued
+     */
+    @Nullable
+    QueueTicket removeByPlayer(@Nonnull UUID playerUuid) {
+        UUID ticketId = ticketByPlayer.get(playerUuid);
+        return ticketId != null ? remove(ticketId) : null;
+    }
+
+    @Nullable
+    private QueueTicket remove(@Nonnull UUID ticketId) {
+        Entry entry = anchors.remove(ticketId);
+        if (entry == null) {
+            return null;
+        }
+        byRating.remove(entry.key);
+        for (UUID playerUuid : entry.ticket.players()) {
+            ticketByPlayer.remove(playerUuid);
+        }
+        playerCount -= entry.ticket.size();
+        return entry.ticket;
+    }
+
+    boolean contains(@Nonnull UUID playerUuid) {
+        return ticketByPlayer.containsKey(playerUuid);
+    }
+
+    int getPlayerCount() {
+        return playerCount;
+    }
+
+    void clear() {
+        byRating.clear();
+        anchors.clear();
+        ticketByPlayer.clear();
+        playerCount = 0;
+    }
+
+    // ==================== Matching ====================
+
+    /**
+     * Tries to form one match of two full teams. Matched tickets are removed from the queue.
+     *
+     * @param teamSize Players per team
+     * @param now Current time (epoch millis)
+     * @return The two teams (red first), or null if no match can be formed right now
+     */
+    @Nullable
+    FormedTeams formMatch(int teamSize, long now) {
+        if (playerCount < teamSize * 2) {
+            return null;
+        }
+
+        List<Entry> front = new ArrayList<>(MAX_ANCHORS);
+        Iterator<Entry> rotation = anchors.values().iterator();
+        while (front.size() < MAX_ANCHORS && rotation.hasNext()) {
+            front.add(rotation.next());
+        }
+
+        for (Entry anchor : front) {
+            FormedTeams teams = tryAnchor(anchor, teamSize, spreadFor(anchor.ticket, now));
+            if (teams != null) {
+                for (QueueTicket ticket : teams.red) {
+                    remove(ticket.id());
+                }
+                for (QueueTicket ticket : teams.blue) {
+                    remove(ticket.id());
+                }
+                return teams;
+            }
+            // Next round starts with tickets not tried yet
+            anchors.remove(anchor.ticket.id());
+            anchors.put(anchor.ticket.id(), anchor);
+        }
+        return null;
+    }
+
+    /**
+     * Gets the rating spread a ticket accepts after waiting since it was queued.
+     */
+    static int spreadFor(@Nonnull QueueTicket ticket, long now) {
+        long waitedSeconds = Math.max(0, now - ticket.enqueuedAt()) / 1000;
+        return (int) Math.min(MAX_SPREAD, BASE_SPREAD + waitedSeconds * SPREAD_PER_SECOND);
+    }
+
+    @Nullable
+    private FormedTeams tryAnchor(@Nonnull Entry anchor, int teamSize, int spread) {
+        int rating = anchor.ticket.rating();
+        Iterator<QueueTicket> below = byRating.headMap(anchor.key, false).descendingMap().values().iterator();
+        Iterator<QueueTicket> above = byRating.tailMap(anchor.key, false).values().iterator();
+        QueueTicket nextBelow = nextWithin(below, rating, spread);
+        QueueTicket nextAbove = nextWithin(above, rating, spread);
+
+        FormedTeams teams = new FormedTeams();
+        teams.place(anchor.ticket, teamSize);
+
+        while (!teams.isFull(teamSize)) {
+            QueueTicket candidate;
+            if (nextBelow == null && nextAbove == null) {
+                return null;
+            } else if (nextAbove == null
+                || (nextBelow != null && rating - nextBelow.rating() <= nextAbove.rating() - rating)) {
+                candidate = nextBelow;
+                nextBelow = nextWithin(below, rating, spread);
+            } else {
+                candidate = nextAbove;
+                nextAbove = nextWithin(above, rating, spread);
+            }
+            // A party that doesn't fit in either team is skipped; smaller tickets may still fill the gap
+            teams.place(candidate, teamSize);
+        }
+
+        teams.balance();
+        return teams;
+    }
+
+    @Nullable
+    private static QueueTicket nextWithin(@Nonnull Iterator<QueueTicket> iterator, int rating, int spread) {
+        if (!iterator.hasNext()) {
+            return null;
+        }
+        QueueTicket ticket = iterator.next();
+        return Math.abs(ticket.rating() - rating) <= spread ? ticket : null;
+    }
+
+    // ==================== Internal Classes ====================
+
+    private record RatingKey(int rating, long sequence) implements Comparable<RatingKey> {
+        @Override
+        public int compareTo(@Nonnull RatingKey other) {
+            int compare = Integer.compare(rating, other.rating);
+            return compare != 0 ? compare : Long.compare(sequence, other.sequence);
+        }
+    }
+
+    private record Entry(QueueTicket ticket, RatingKey key) {
+    }
+
+    /**
+     * Two teams being filled from the queue.
+     */
+    static final class FormedTeams {
+        final List<QueueTicket> red = new ArrayList<>();
+        final List<QueueTicket> blue = new ArrayList<>();
+        int redCount;
+        int blueCount;
+        long redRating;
+        long blueRating;
+
+        boolean isFull(int teamSize) {
+            return redCount == teamSize && blueCount == teamSize;
+        }
+
+        /**
+         * Puts a ticket on the team with more free slots that can still fit it.
+         */
+        boolean place(@Nonnull QueueTicket ticket, int teamSize) {
+            int size = ticket.size();
+            boolean redFits = redCount + size <= teamSize;
+            boolean blueFits = blueCount + size <= teamSize;
+            if (redFits && (!blueFits || redCount <= blueCount)) {
+                red.add(ticket);
+                redCount += size;
+                redRating += (long) ticket.rating() * size;
+                return true;
+            } else if (blueFits) {
+                blue.add(ticket);
+                blueCount += size;
+                blueRating += (long) ticket.rating() * size;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Swaps equally sized tickets between the teams while that narrows the rating gap.
+         * Both teams are full, so only same-size swaps keep them full.
+         */
+        void balance() {
+            boolean improved = true;
+            while (improved) {
+                improved = false;
+                long gap = redRating - blueRating;
+                for (int i = 0; i < red.size() && !improved; i++) {
+                    QueueTicket r = red.get(i);
+                    for (int j = 0; j < blue.size(); j++) {
+                        QueueTicket b = blue.get(j);
+                        if (r.size() != b.size()) {
+                            continue;
+                        }
+                        long delta = (long) (r.rating() - b.rating()) * r.size();
+                        if (Math.abs(gap - 2 * delta) < Math.abs(gap)) {
+                            red.set(i, b);
+                            blue.set(j, r);
+                            redRating -= delta;
+                            blueRating += delta;
+                            improved = true;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        @Nonnull
+        List<UUID> redPlayers() {
+            return players(red);
+        }
+
+        @Nonnull
+        List<UUID> bluePlayers() {
+            return players(blue);
+        }
+
+        @Nonnull
+        private static List<UUID> players(@Nonnull List<QueueTicket> tickets) {
+            List<UUID> players = new ArrayList<>();
+            for (QueueTicket ticket : tickets) {
+                players.addAll(ticket.players());
+            }
+            return players;
+        }
+    }
+}
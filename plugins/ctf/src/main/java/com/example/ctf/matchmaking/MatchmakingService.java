@@ -0,0 +1,56 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Queues players and parties, groups them by skill rating into matches,
+ * pre-balances the teams and assigns each match to a free CTF instance.
+ *
+ * Implementations:
+ * - {@link LocalMatchmakingService}: the queue runs in this server and
+ *   matches go to this server's instances
+ * - {@link BrokerMatchmakingService}: servers share one queue over a
+ *   {@link MatchmakingBroker}, so a match can be placed on any server
+ */
+public interface MatchmakingService {
+
+    /**
+     * Starts background matching. Called once when the plugin starts.
+     */
+    void start();
+
+    /**
+     * Queues a ticket.
+     *
+     * @return false if the ticket is invalid (e.g. a party larger than a team)
+     *         or one of its players is already queued
+     */
+    boolean enqueue(@Nonnull QueueTicket ticket);
+
+    /**
+     * Removes the ticket a player is in (their whole party leaves the queue).
+     *
+     * @return true if the player was queued
+     */
+    boolean leave(@Nonnull UUID playerUuid);
+
+    /**
+     * Checks if a player is waiting in the queue.
+     */
+    boolean isQueued(@Nonnull UUID playerUuid);
+
+    /**
+     * Gets the number of players waiting.
+     */
+    int getQueuedPlayers();
+
+    void addListener(@Nonnull MatchmakingListener listener);
+
+    void removeListener(@Nonnull MatchmakingListener listener);
+
+    /**
+     * Stops background matching and releases resources. Queued tickets are dropped.
+     */
+    void shutdown();
+}
@@ -0,0 +1,199 @@
+package com.example.ctf.matchmaking;
+
+import com.example.ctf.CTFPlugin;
+import com.example.ctf.FlagTeam;
+import com.example.ctf.instance.CTFInstance;
+import com.example.ctf.instance.CTFInstanceManager;
+import com.example.ctf.team.TeamManager;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.server.core.HytaleServer;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connects a {@link MatchmakingService} to this server's players and instances.
+ *
+ * Queues this server's players, and when a match is formed:
+ * - if it is placed on this server, pre-assigns both teams in the target
+ *   instance, so players land on a balanced team before they arrive
+ * - tells the match's players on this server where they are playing
+ *
+ * A pre-assigned player who has not entered the instance within
+ * {@link #ARRIVAL_WINDOW_MS} is taken off their team again, whether or not
+ * they are connected here, so a no-show does not keep the instance from
+ * being allocated.
+ */
+public class QueueAssignmentHandler implements MatchmakingListener {
+
+    /**
+     * Rating used until players have one of their own.
+     */
+    public static final int DEFAULT_RATING = 1000;
+
+    /**
+     * How long a pre-assigned player has to arrive; the same as an instance reservation.
+     */
+    static final long ARRIVAL_WINDOW_MS = LocalInstanceAllocator.RESERVATION_MS;
+
+    private final CTFPlugin plugin;
+    private final MatchmakingService service;
+    private final String serverId;
+
+    // Players of this server waiting in the queue
+    private final Map<UUID, PlayerRef> waiting = new ConcurrentHashMap<>();
+
+    public QueueAssignmentHandler(@Nonnull CTFPlugin plugin, @Nonnull MatchmakingService service,
+                                  @Nonnull String serverId) {
+        this.plugin = plugin;
+        this.service = service;
+        this.serverId = serverId;
+        service.addListener(this);
+    }
+
+    // ==================== Queue ====================
+
+    /**
+     * Queues a player on their own.
+     *
+     * @return false if they are already queued
+     */
+    public boolean enqueue(@Nonnull PlayerRef playerRef) {
+        UUID playerUuid = playerRef.getUuid();
+        if (service.isQueued(playerUuid)) {
+            return false;
+        }
+        // Tracked first: a local service may form the match before enqueue returns
+        waiting.put(playerUuid, playerRef);
+        if (!service.enqueue(QueueTicket.solo(playerUuid, DEFAULT_RATING))) {
+            waiting.remove(playerUuid);
+            return false;
+        }
+        plugin.getLogger().atInfo().log("Player {} queued for a match ({} waiting)",
+            playerUuid, service.getQueuedPlayers());
+        return true;
+    }
+
+    /**
+     * Takes a player (and their party) out of the queue.
+     *
+     * @return true if they were queued
+     */
+    public boolean leave(@Nonnull UUID playerUuid) {
+        waiting.remove(playerUuid);
+        return service.leave(playerUuid);
+    }
+
+    public boolean isQueued(@Nonnull UUID playerUuid) {
+        return service.isQueued(playerUuid);
+    }
+
+    /**
+     * Called when a player disconnects.
+     */
+    public void handlePlayerDisconnect(@Nonnull UUID playerUuid) {
+        leave(playerUuid);
+    }
+
+    // ==================== Assignments ====================
+
+    @Override
+    public void onMatchFormed(@Nonnull MatchAssignment assignment) {
+        MatchTarget target = assignment.target();
+        boolean onThisServer = serverId.equals(target.serverId());
+        CTFInstance instance = onThisServer ? resolveInstance(target.instanceId()) : null;
+        if (onThisServer && instance == null) {
+            plugin.getLogger().atWarning().log("Match formed for unknown instance {}", target);
+        }
+
+        for (FlagTeam team : FlagTeam.values()) {
+            List<UUID> players = assignment.getPlayers(team);
+            for (UUID playerUuid : players) {
+                PlayerRef playerRef = waiting.remove(playerUuid);
+                if (instance != null) {
+                    preassign(instance, playerUuid, team, playerRef);
+                }
+                if (playerRef != null) {
+                    String where = onThisServer ? target.instanceId() : target.toString();
+                    playerRef.sendMessage(Message.raw("Match found! You're on the " + team.getDisplayName()
+                        + " team in " + where + "."));
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onTicketRejected(@Nonnull List<UUID> players) {
+        for (UUID playerUuid : players) {
+            PlayerRef playerRef = waiting.remove(playerUuid);
+            if (playerRef != null) {
+                playerRef.sendMessage(Message.raw("Matchmaking could not take your queue entry. Please queue again."));
+            }
+        }
+    }
+
+    private void preassign(@Nonnull CTFInstance instance, @Nonnull UUID playerUuid, @Nonnull FlagTeam team,
+                           @Nullable PlayerRef playerRef) {
+        TeamManager teamManager = instance.getTeamManager();
+        HytaleServer.SCHEDULED_EXECUTOR.schedule(
+            () -> expireIfAbsent(instance, playerUuid, team, playerRef), ARRIVAL_WINDOW_MS, TimeUnit.MILLISECONDS);
+
+        Ref<EntityStore> entityRef = playerRef != null ? playerRef.getReference() : null;
+        if (entityRef == null || !entityRef.isValid()) {
+            // Not connected to this server (yet): join silently, without the team effect
+            teamManager.assignTeam(playerUuid, team);
+            return;
+        }
+        // Team effects touch the entity store, so assign on the player's world thread
+        entityRef.getStore().getExternalData().getWorld().execute(() ->
+            teamManager.assignTeam(playerUuid, team, playerRef.getUsername(), playerRef));
+    }
+
+    /**
+     * Takes a pre-assigned player off their team if they never entered the instance.
+     */
+    private void expireIfAbsent(@Nonnull CTFInstance instance, @Nonnull UUID playerUuid, @Nonnull FlagTeam team,
+                                @Nullable PlayerRef playerRef) {
+        Ref<EntityStore> entityRef = playerRef != null ? playerRef.getReference() : null;
+        if (entityRef == null || !entityRef.isValid()) {
+            expireNow(instance, playerUuid, team, null);
+            return;
+        }
+        // Connected elsewhere on this server: removing the team effect touches their entity store
+        entityRef.getStore().getExternalData().getWorld().execute(() ->
+            expireNow(instance, playerUuid, team, playerRef));
+    }
+
+    private void expireNow(@Nonnull CTFInstance instance, @Nonnull UUID playerUuid, @Nonnull FlagTeam team,
+                           @Nullable PlayerRef playerRef) {
+        TeamManager teamManager = instance.getTeamManager();
+        // Arrived, or already moved/removed by someone else
+        if (instance.getAudiences().isPresent(playerUuid) || teamManager.getPlayerTeam(playerUuid) != team) {
+            return;
+        }
+        if (playerRef != null) {
+            teamManager.leaveTeam(playerUuid, playerRef.getUsername(), playerRef);
+        } else {
+            teamManager.leaveTeam(playerUuid);
+        }
+        plugin.getLogger().atInfo().log("Player {} did not arrive in {} within {}ms, pre-assignment expired",
+            playerUuid, instance.getId(), ARRIVAL_WINDOW_MS);
+    }
+
+    @Nullable
+    private CTFInstance resolveInstance(@Nonnull String instanceId) {
+        CTFInstanceManager instanceManager = plugin.getInstanceManager();
+        if (CTFInstanceManager.DEFAULT_INSTANCE_ID.equals(instanceId)) {
+            return instanceManager.getDefaultInstance();
+        }
+        return instanceManager.getInstance(instanceId);
+    }
+}
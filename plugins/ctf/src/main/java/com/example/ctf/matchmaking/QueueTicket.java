@@ -0,0 +1,35 @@
+package com.example.ctf.matchmaking;
+
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A solo player or party waiting for a match. A party is always placed on one team.
+ *
+ * @param id Unique ticket id
+ * @param players The players in the ticket (party leader first)
+ * @param rating Skill rating of the ticket, e.g. the members' average
+ * @param enqueuedAt When the ticket was queued (epoch millis); waiting longer widens the accepted rating spread
+ */
+public record QueueTicket(@Nonnull UUID id, @Nonnull List<UUID> players, int rating, long enqueuedAt) {
+
+    public QueueTicket {
+        players = List.copyOf(players);
+        if (players.isEmpty()) {
+            throw new IllegalArgumentException("A ticket needs at least one player");
+        }
+    }
+
+    /**
+     * Creates a ticket for one player, queued now.
+     */
+    @Nonnull
+    public static QueueTicket solo(@Nonnull UUID playerUuid, int rating) {
+        return new QueueTicket(UUID.randomUUID(), List.of(playerUuid), rating, System.currentTimeMillis());
+    }
+
+    public int size() {
+        return players.size();
+    }
+}
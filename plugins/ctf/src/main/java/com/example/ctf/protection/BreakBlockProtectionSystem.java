@@ -0,0 +1,44 @@
+package com.example.ctf.protection;
+
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.EntityEventSystem;
+import com.hypixel.hytale.server.core.event.events.ecs.BreakBlockEvent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Cancels player block breaking inside protected regions.
+ */
+public class BreakBlockProtectionSystem extends EntityEventSystem<EntityStore, BreakBlockEvent> {
+
+    private final BuildingProtectionHandler handler;
+
+    public BreakBlockProtectionSystem(@Nonnull BuildingProtectionHandler handler) {
+        super(BreakBlockEvent.class);
+        this.handler = handler;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return PlayerRef.getComponentType();
+    }
+
+    @Override
+    public void handle(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer,
+                       @Nonnull BreakBlockEvent event) {
+        if (event.isCancelled()) {
+            return;
+        }
+
+        if (handler.shouldDeny(index, archetypeChunk, store, event.getTargetBlock())) {
+            event.setCancelled(true);
+        }
+    }
+}
@@ -1,41 +1,154 @@
 package com.example.ctf.protection;
 
 import com.example.ctf.CTFPlugin;
+import com.example.ctf.arena.ArenaManager;
+import com.example.ctf.arena.ProtectedRegion;
+import com.example.ctf.arena.ProtectedRegionIndex;
+import com.example.ctf.instance.CTFInstanceManager;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.math.vector.Vector3i;
+import com.hypixel.hytale.server.core.Message;
+import com.hypixel.hytale.server.core.entity.entities.Player;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Handles building protection in CTF arenas.
  * Prevents block placement and breaking in protected regions (flag rooms, etc).
+ *
+ * Place/break events are cancelled by {@link PlaceBlockProtectionSystem} and
+ * {@link BreakBlockProtectionSystem}, which ask this handler on the world thread.
+ * Blocks in chunk columns no region touches are allowed after a single bit test;
+ * everything else goes through the arena's {@link ProtectedRegionIndex}.
+ *
+ * Denials are batched per world: however many blocks a player tries in one
+ * tick, they get one feedback message when that world's thread next runs its
+ * task queue. Each world flushes only its own batch.
  */
 public class BuildingProtectionHandler {
 
+    // Players with this permission may build in protected regions
+    private static final String BYPASS_PERMISSION = "ctf.admin";
+
     private final CTFPlugin plugin;
 
+    // Denials waiting for the next flush: world name -> that world's batches
+    private final Map<String, WorldDenials> pendingDenials = new ConcurrentHashMap<>();
+
     public BuildingProtectionHandler(@Nonnull CTFPlugin plugin) {
         this.plugin = plugin;
-        registerEvents();
+        registerSystems();
     }
 
-    private void registerEvents() {
-        // TODO: PlaceBlockEvent and BreakBlockEvent are ECS events
-        // They require EntityEventSystem integration, not regular EventRegistry
-        // This handler is disabled until ECS event handling is implemented
-        plugin.getLogger().atInfo().log("BuildingProtectionHandler: Disabled - needs ECS system integration");
+    private void registerSystems() {
+        plugin.getEntityStoreRegistry().registerSystem(new PlaceBlockProtectionSystem(this));
+        plugin.getEntityStoreRegistry().registerSystem(new BreakBlockProtectionSystem(this));
+        plugin.getLogger().atInfo().log("BuildingProtectionHandler: Protection systems registered");
     }
 
-    /*
-     * TODO: ECS Event Handling Required
+    /**
+     * Checks whether a block edit by the entity at {@code index} must be denied.
+     * Records the denial for batched feedback when it is.
      *
-     * PlaceBlockEvent and BreakBlockEvent extend CancellableEcsEvent.
-     * ECS events don't have getEntityRef() because they're processed
-     * through the ECS system where entity context is provided via
-     * system iteration (EntitySystem.iterate()).
-     *
-     * To implement building protection, we need to:
-     * 1. Create an EntitySystem that processes PlaceBlockEvent/BreakBlockEvent
-     * 2. Register it via plugin.getEntityRegistry()
-     * 3. Access entity context through the system's iteration mechanism
-     * 4. Check protection status and cancel events accordingly
+     * @return true if the edit should be cancelled
      */
+    boolean shouldDeny(int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                       @Nonnull Store<EntityStore> store, @Nonnull Vector3i blockPos) {
+        CTFInstanceManager instanceManager = plugin.getInstanceManager();
+        if (instanceManager == null) {
+            return false;
+        }
+        ArenaManager arenaManager = instanceManager.getInstance(store.getExternalData().getWorld()).getArenaManager();
+
+        int x = blockPos.getX();
+        int z = blockPos.getZ();
+
+        // Fast path: nothing protected anywhere in this chunk column
+        ProtectedRegionIndex regionIndex = arenaManager.getProtectedRegionIndex();
+        if (regionIndex.isColumnUnprotected(x >> 5, z >> 5)) {
+            return false;
+        }
+
+        ProtectedRegion region = regionIndex.findRegion(x, blockPos.getY(), z);
+        if (region == null) {
+            return false;
+        }
+
+        Player player = archetypeChunk.getComponent(index, Player.getComponentType());
+        if (player != null && player.hasPermission(BYPASS_PERMISSION)) {
+            return false;
+        }
+
+        PlayerRef playerRef = archetypeChunk.getComponent(index, PlayerRef.getComponentType());
+        if (playerRef != null) {
+            recordDenial(store.getExternalData().getWorld(), playerRef, region);
+        }
+        return true;
+    }
+
+    // ==================== Denial Feedback ====================
+
+    private void recordDenial(@Nonnull World world, @Nonnull PlayerRef playerRef, @Nonnull ProtectedRegion region) {
+        WorldDenials denials = pendingDenials.computeIfAbsent(world.getName(), name -> new WorldDenials());
+        denials.batches.compute(playerRef.getUuid(), (uuid, batch) -> {
+            if (batch == null) {
+                return new DenialBatch(playerRef, region.getName());
+            }
+            batch.count++;
+            return batch;
+        });
+
+        if (denials.flushScheduled.compareAndSet(false, true)) {
+            world.execute(() -> flushDenials(denials));
+        }
+    }
+
+    /**
+     * Sends one message per player for all denials recorded in a world since its last flush.
+     */
+    private void flushDenials(@Nonnull WorldDenials denials) {
+        denials.flushScheduled.set(false);
+
+        for (UUID playerUuid : denials.batches.keySet()) {
+            DenialBatch batch = denials.batches.remove(playerUuid);
+            if (batch == null) {
+                continue;
+            }
+
+            String text = "§cYou can't build in protected region '" + batch.regionName + "'.";
+            if (batch.count > 1) {
+                text += " §7(" + batch.count + " blocks)";
+            }
+            batch.playerRef.sendMessage(Message.raw(text));
+        }
+    }
+
+    // ==================== Internal Classes ====================
+
+    /**
+     * Pending denials of one world and whether its flush is already queued.
+     */
+    private static class WorldDenials {
+        final Map<UUID, DenialBatch> batches = new ConcurrentHashMap<>();
+        final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    }
+
+    private static class DenialBatch {
+        final PlayerRef playerRef;
+        final String regionName;
+        int count = 1;
+
+        DenialBatch(PlayerRef playerRef, String regionName) {
+            this.playerRef = playerRef;
+            this.regionName = regionName;
+        }
+    }
 }
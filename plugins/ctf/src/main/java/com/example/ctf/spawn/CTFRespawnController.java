@@ -2,6 +2,7 @@ package com.example.ctf.spawn;
 
 import com.example.ctf.CTFPlugin;
 import com.example.ctf.FlagTeam;
+import com.example.ctf.instance.CTFInstance;
 import com.hypixel.hytale.component.CommandBuffer;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.math.vector.Transform;
@@ -40,13 +41,14 @@ public class CTFRespawnController implements RespawnController {
         }
 
         UUID playerUuid = uuidComponent.getUuid();
-        FlagTeam team = plugin.getTeamManager().getPlayerTeam(playerUuid);
+        CTFInstance instance = plugin.getInstanceManager().getInstance(world);
+        FlagTeam team = instance.getTeamManager().getPlayerTeam(playerUuid);
 
         Transform spawnPoint = null;
 
         if (team != null) {
             // Get team-specific spawn point
-            spawnPoint = plugin.getArenaManager().getSpawnPoint(team, playerUuid);
+            spawnPoint = instance.getArenaManager().getSpawnPoint(team, playerUuid);
         }
 
         if (spawnPoint == null) {
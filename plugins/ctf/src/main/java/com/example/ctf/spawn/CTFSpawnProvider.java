@@ -2,6 +2,8 @@ package com.example.ctf.spawn;
 
 import com.example.ctf.CTFPlugin;
 import com.example.ctf.FlagTeam;
+import com.example.ctf.arena.ArenaConfig;
+import com.example.ctf.instance.CTFInstance;
 import com.hypixel.hytale.math.vector.Transform;
 import com.hypixel.hytale.math.vector.Vector3d;
 import com.hypixel.hytale.server.core.universe.world.World;
@@ -28,12 +30,13 @@ public class CTFSpawnProvider implements ISpawnProvider {
 
     @Override
     public Transform getSpawnPoint(@Nonnull World world, @Nonnull UUID playerUuid) {
-        // Get the player's team
-        FlagTeam team = plugin.getTeamManager().getPlayerTeam(playerUuid);
+        // Get the player's team in the instance running in this world
+        CTFInstance instance = plugin.getInstanceManager().getInstance(world);
+        FlagTeam team = instance.getTeamManager().getPlayerTeam(playerUuid);
 
         if (team != null) {
             // Get spawn point for this team
-            Transform spawnPoint = plugin.getArenaManager().getSpawnPoint(team, playerUuid);
+            Transform spawnPoint = instance.getArenaManager().getSpawnPoint(team, playerUuid);
             if (spawnPoint != null) {
                 return spawnPoint.clone();
             }
@@ -50,27 +53,27 @@ public class CTFSpawnProvider implements ISpawnProvider {
 
     @Override
     public Transform[] getSpawnPoints() {
-        // Return all spawn points from both teams
-        Transform[] redSpawns = plugin.getArenaManager().getConfig().getRedSpawns();
-        Transform[] blueSpawns = plugin.getArenaManager().getConfig().getBlueSpawns();
-
-        Transform[] allSpawns = new Transform[redSpawns.length + blueSpawns.length];
-        System.arraycopy(redSpawns, 0, allSpawns, 0, redSpawns.length);
-        System.arraycopy(blueSpawns, 0, allSpawns, redSpawns.length, blueSpawns.length);
-
-        return allSpawns;
+        // All spawn points from both teams (default instance; this interface has no world).
+        // A copy, so callers can't corrupt the arena's spawn arrays.
+        return plugin.getArenaManager().getAllSpawnPoints();
     }
 
     @Override
     public boolean isWithinSpawnDistance(@Nonnull Vector3d position, double distance) {
         double distanceSquared = distance * distance;
+        ArenaConfig config = plugin.getArenaManager().getConfig();
 
-        for (Transform point : getSpawnPoints()) {
+        // Scan the cached per-team arrays directly instead of building a combined array
+        return isWithin(config.getRedSpawns(), position, distanceSquared)
+            || isWithin(config.getBlueSpawns(), position, distanceSquared);
+    }
+
+    private static boolean isWithin(@Nonnull Transform[] spawns, @Nonnull Vector3d position, double distanceSquared) {
+        for (Transform point : spawns) {
             if (position.distanceSquaredTo(point.getPosition()) < distanceSquared) {
                 return true;
             }
         }
-
         return false;
     }
 }
@@ -0,0 +1,166 @@
+package com.example.ctf.spawn;
+
+import com.example.ctf.FlagTeam;
+import com.example.ctf.team.TeamLookup;
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Spatial hash of live player positions in one CTF instance.
+ *
+ * Positions are bucketed into 16x16 X/Z cells, and cells are hashed into a
+ * fixed bucket array. Moving within a cell only updates coordinates, and a
+ * query over a radius visits just the buckets of the cells it covers, without
+ * allocating. Entries carry their cell, so two cells sharing a bucket are
+ * never counted twice.
+ *
+ * Updated from world threads by {@code ZoneTrackingSystem}; the default
+ * instance can span several worlds, so access is synchronized.
+ */
+public class PlayerPositionGrid {
+
+    private static final int CELL_SHIFT = 4;
+    private static final int BUCKET_COUNT = 1024; // Power of two
+    private static final int BUCKET_MASK = BUCKET_COUNT - 1;
+
+    private final Map<UUID, Entry> players = new HashMap<>();
+    @SuppressWarnings("unchecked")
+    private final ArrayList<Entry>[] buckets = new ArrayList[BUCKET_COUNT];
+
+    // ==================== Updates ====================
+
+    /**
+     * Records a player's current position.
+     */
+    public synchronized void update(@Nonnull UUID playerUuid, @Nonnull Vector3d position) {
+        double x = position.getX();
+        double z = position.getZ();
+        int cx = (int) Math.floor(x) >> CELL_SHIFT;
+        int cz = (int) Math.floor(z) >> CELL_SHIFT;
+
+        Entry entry = players.get(playerUuid);
+        if (entry == null) {
+            entry = new Entry(playerUuid);
+            players.put(playerUuid, entry);
+            entry.cx = cx;
+            entry.cz = cz;
+            bucket(cx, cz).add(entry);
+        } else if (entry.cx != cx || entry.cz != cz) {
+            buckets[bucketIndex(entry.cx, entry.cz)].remove(entry);
+            entry.cx = cx;
+            entry.cz = cz;
+            bucket(cx, cz).add(entry);
+        }
+
+        entry.x = x;
+        entry.y = position.getY();
+        entry.z = z;
+    }
+
+    /**
+     * Stops tracking a player (left the world or disconnected).
+     */
+    public synchronized void remove(@Nonnull UUID playerUuid) {
+        Entry entry = players.remove(playerUuid);
+        if (entry != null) {
+            buckets[bucketIndex(entry.cx, entry.cz)].remove(entry);
+        }
+    }
+
+    public synchronized void clear() {
+        players.clear();
+        for (ArrayList<Entry> bucket : buckets) {
+            if (bucket != null) {
+                bucket.clear();
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return players.size();
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Measures how exposed a position is to players not on {@code friendlyTeam}.
+     * Each enemy within {@code radius} contributes {@code (1 - d/radius)^2},
+     * so one enemy standing on the spot counts 1 and an enemy at the edge counts 0.
+     * Players without a team are ignored.
+     */
+    public synchronized double threat(double x, double y, double z, double radius,
+                                      @Nonnull FlagTeam friendlyTeam, @Nonnull TeamLookup teams) {
+        double radiusSquared = radius * radius;
+        int minCx = (int) Math.floor(x - radius) >> CELL_SHIFT;
+        int maxCx = (int) Math.floor(x + radius) >> CELL_SHIFT;
+        int minCz = (int) Math.floor(z - radius) >> CELL_SHIFT;
+        int maxCz = (int) Math.floor(z + radius) >> CELL_SHIFT;
+
+        double total = 0;
+        for (int cx = minCx; cx <= maxCx; cx++) {
+            for (int cz = minCz; cz <= maxCz; cz++) {
+                ArrayList<Entry> bucket = buckets[bucketIndex(cx, cz)];
+                if (bucket == null) {
+                    continue;
+                }
+                for (int i = 0, n = bucket.size(); i < n; i++) {
+                    Entry entry = bucket.get(i);
+                    if (entry.cx != cx || entry.cz != cz) {
+                        continue; // Another cell hashed to this bucket
+                    }
+                    double dx = entry.x - x;
+                    double dy = entry.y - y;
+                    double dz = entry.z - z;
+                    double distanceSquared = dx * dx + dy * dy + dz * dz;
+                    if (distanceSquared >= radiusSquared) {
+                        continue;
+                    }
+                    FlagTeam team = teams.getPlayerTeam(entry.playerUuid);
+                    if (team == null || team == friendlyTeam) {
+                        continue;
+                    }
+                    double closeness = 1.0 - Math.sqrt(distanceSquared) / radius;
+                    total += closeness * closeness;
+                }
+            }
+        }
+        return total;
+    }
+
+    // ==================== Helpers ====================
+
+    @Nonnull
+    private ArrayList<Entry> bucket(int cx, int cz) {
+        int index = bucketIndex(cx, cz);
+        ArrayList<Entry> bucket = buckets[index];
+        if (bucket == null) {
+            bucket = new ArrayList<>(4);
+            buckets[index] = bucket;
+        }
+        return bucket;
+    }
+
+    private static int bucketIndex(int cx, int cz) {
+        return ((cx * 73856093) ^ (cz * 19349663)) & BUCKET_MASK;
+    }
+
+    // ==================== Internal Classes ====================
+
+    private static final class Entry {
+        final UUID playerUuid;
+        int cx;
+        int cz;
+        double x;
+        double y;
+        double z;
+
+        Entry(UUID playerUuid) {
+            this.playerUuid = playerUuid;
+        }
+    }
+}
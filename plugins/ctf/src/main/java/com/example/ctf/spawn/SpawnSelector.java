@@ -0,0 +1,125 @@
+package com.example.ctf.spawn;
+
+import com.example.ctf.FlagTeam;
+import com.example.ctf.team.TeamLookup;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * Picks the safest spawn point for a team.
+ *
+ * Every spawn of the team is scored by the enemy threat around it (from the
+ * instance's {@link PlayerPositionGrid}) plus a penalty for having been used
+ * in the last few seconds, and the lowest score wins. Scanning starts after
+ * the spawn picked last, so equally good spawns are used in rotation.
+ * Selection is O(spawns x nearby players) and allocates nothing once the
+ * per-team state has been sized to the arena.
+ */
+public class SpawnSelector {
+
+    /**
+     * Enemies further than this from a spawn don't affect its score.
+     */
+    static final double THREAT_RADIUS = 24.0;
+
+    /**
+     * How long a spawn counts as recently used.
+     */
+    static final long COOLDOWN_MILLIS = 3000;
+
+    /**
+     * Penalty for a spawn used this instant, in enemies-on-the-spot. Decays linearly over the cooldown.
+     */
+    static final double COOLDOWN_WEIGHT = 0.5;
+
+    private final PlayerPositionGrid positions;
+    private final TeamLookup teams;
+
+    private final TeamState[] teamStates = new TeamState[FlagTeam.values().length];
+
+    public SpawnSelector(@Nonnull PlayerPositionGrid positions, @Nonnull TeamLookup teams) {
+        this.positions = positions;
+        this.teams = teams;
+        for (FlagTeam team : FlagTeam.values()) {
+            teamStates[team.ordinal()] = new TeamState();
+        }
+    }
+
+    /**
+     * Selects a spawn for a team member and marks it used.
+     *
+     * @param spawns The team's current spawn array
+     * @return The chosen spawn, or null if there are none
+     */
+    @Nullable
+    public Transform select(@Nonnull FlagTeam team, @Nonnull Transform[] spawns) {
+        int count = spawns.length;
+        if (count == 0) {
+            return null;
+        }
+
+        TeamState state = teamStates[team.ordinal()];
+        synchronized (state) {
+            if (state.spawns != spawns) {
+                // Arena edited: start the cooldowns over for the new spawn list
+                state.spawns = spawns;
+                state.lastUsed = new long[count];
+                state.next = 0;
+            }
+
+            long now = System.currentTimeMillis();
+            int best = 0;
+            if (count > 1) {
+                double bestScore = Double.MAX_VALUE;
+                for (int k = 0; k < count; k++) {
+                    int i = (state.next + k) % count;
+                    double score = score(team, spawns[i].getPosition(), now - state.lastUsed[i]);
+                    if (score < bestScore) {
+                        bestScore = score;
+                        best = i;
+                    }
+                }
+            }
+
+            state.lastUsed[best] = now;
+            state.next = (best + 1) % count;
+            return spawns[best];
+        }
+    }
+
+    private double score(@Nonnull FlagTeam team, @Nonnull Vector3d position, long sinceUsed) {
+        double score = positions.threat(position.getX(), position.getY(), position.getZ(),
+            THREAT_RADIUS, team, teams);
+        if (sinceUsed < COOLDOWN_MILLIS) {
+            score += COOLDOWN_WEIGHT * (COOLDOWN_MILLIS - sinceUsed) / COOLDOWN_MILLIS;
+        }
+        return score;
+    }
+
+    /**
+     * Gets copies of all spawns of both teams in a new array; callers may modify the result.
+     * The team arrays themselves are tracked by identity in {@link #select} and must not be handed out.
+     */
+    @Nonnull
+    public static Transform[] copyAll(@Nonnull Transform[] redSpawns, @Nonnull Transform[] blueSpawns) {
+        Transform[] all = new Transform[redSpawns.length + blueSpawns.length];
+        for (int i = 0; i < redSpawns.length; i++) {
+            all[i] = redSpawns[i].clone();
+        }
+        for (int i = 0; i < blueSpawns.length; i++) {
+            all[redSpawns.length + i] = blueSpawns[i].clone();
+        }
+        return all;
+    }
+
+    // ==================== Internal Classes ====================
+
+    private static final class TeamState {
+        Transform[] spawns;
+        long[] lastUsed;
+        int next;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.ctf.stats;
+
+import javax.annotation.Nullable;
+
+/**
+ * Event types recorded in a {@link MatchJournal}. The code is the record's first byte.
+ */
+public enum MatchEventType {
+    MATCH_START(1),
+    MATCH_END(2),
+    PHASE_CHANGE(3),
+    PLAYER_NAME(4),
+    TEAM_JOIN(5),
+    TEAM_LEAVE(6),
+    FLAG_PICKUP(7),
+    FLAG_DROP(8),
+    FLAG_RETURN(9),
+    FLAG_CAPTURE(10),
+    CARRIER_KILL(11);
+
+    private static final MatchEventType[] BY_CODE = new MatchEventType[16];
+
+    static {
+        for (MatchEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    MatchEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    public byte getCode() {
+        return code;
+    }
+
+    @Nullable
+    public static MatchEventType fromCode(byte code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
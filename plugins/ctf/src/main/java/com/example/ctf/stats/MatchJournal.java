@@ -0,0 +1,364 @@
+package com.example.ctf.stats;
+
+import com.example.ctf.CTFPlugin;
+import com.example.ctf.FlagTeam;
+import com.example.ctf.arena.ArenaIO;
+import com.example.ctf.instance.CTFInstance;
+import com.example.ctf.match.MatchManager;
+import com.example.ctf.match.MatchPhaseListener;
+import com.example.ctf.match.MatchScheduler;
+import com.example.ctf.match.MatchState;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only binary event log of one instance's current match.
+ *
+ * Gameplay code reports events with primitive arguments; each one is encoded
+ * as a fixed-size record into a pooled buffer under a short lock, with no
+ * per-event objects. Full buffers (and the current buffer every few seconds)
+ * are handed to the {@link ArenaIO} thread, which appends them to
+ * {@code matches/<instance>-<start>.ctfmatch}. Gameplay threads never touch
+ * the file.
+ *
+ * The journal opens when a match starts and closes when it ends or is reset.
+ * On close the I/O thread reads the file back through
+ * {@link MatchStatsAggregator} and writes a JSON summary next to it.
+ *
+ * Record layout (big-endian, {@link #RECORD_SIZE} bytes):
+ * <pre>
+ * byte  type        int  millis since match start
+ * 2 longs player A  2 longs player B   (zero when unused)
+ * byte  team        byte other team     (-1 when unused)
+ * byte  flags
+ * </pre>
+ * {@link MatchEventType#PLAYER_NAME} records are followed by a short length
+ * and that many UTF-8 bytes.
+ */
+public class MatchJournal implements MatchPhaseListener {
+
+    static final int MAGIC = 0x43544A31; // "CTJ1"
+    static final short VERSION = 1;
+    static final int RECORD_SIZE = 40;
+    static final int MAX_NAME_BYTES = 64;
+
+    static final byte NO_TEAM = -1;
+    static final byte FLAG_TIMEOUT = 1;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final long FLUSH_INTERVAL_SECONDS = 5;
+    private static final String EXTENSION = ".ctfmatch";
+
+    private final CTFPlugin plugin;
+    private final CTFInstance instance;
+    private final ArenaIO io;
+    private final Path directory;
+
+    // Buffers handed back by the writer for reuse
+    private final Queue<ByteBuffer> bufferPool = new ConcurrentLinkedQueue<>();
+
+    // Current match (guarded by this)
+    private volatile boolean open;
+    private long startMillis;
+    private ByteBuffer buffer;
+    private final Set<UUID> namedPlayers = new HashSet<>();
+    @Nullable
+    private MatchScheduler.Timer flushTimer;
+
+    // Output of the current match; only touched on the I/O thread
+    @Nullable
+    private FileChannel channel;
+
+    @Nullable
+    private volatile MatchSummary lastSummary;
+
+    public MatchJournal(@Nonnull CTFPlugin plugin, @Nonnull CTFInstance instance,
+                        @Nonnull ArenaIO io, @Nonnull Path directory) {
+        this.plugin = plugin;
+        this.instance = instance;
+        this.io = io;
+        this.directory = directory;
+    }
+
+    // ==================== Lifecycle ====================
+
+    @Override
+    public void onPhaseChange(@Nonnull MatchState from, @Nonnull MatchState to) {
+        if (from == MatchState.WAITING && to.isRunning()) {
+            begin();
+        }
+        if (!open) {
+            return;
+        }
+
+        record(MatchEventType.PHASE_CHANGE, null, null, from.ordinal(), to.ordinal(), 0);
+        if (to == MatchState.ENDED || to == MatchState.WAITING) {
+            finish();
+        }
+    }
+
+    /**
+     * Opens a new journal file and records everyone already on a team.
+     */
+    private synchronized void begin() {
+        if (open) {
+            finish();
+        }
+
+        startMillis = System.currentTimeMillis();
+        namedPlayers.clear();
+        open = true;
+
+        Path file = directory.resolve(instance.getId() + "-" + startMillis + EXTENSION);
+        String instanceId = instance.getId();
+        long start = startMillis;
+        io.submit(() -> {
+            Files.createDirectories(directory);
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+            byte[] id = instanceId.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer header = ByteBuffer.allocate(16 + id.length);
+            header.putInt(MAGIC).putShort(VERSION).putLong(start).putShort((short) id.length).put(id).flip();
+            writeFully(header);
+            return null;
+        }).exceptionally(error -> {
+            plugin.getLogger().atWarning().withCause(error).log("Failed to open match journal {}", file);
+            return null;
+        });
+
+        record(MatchEventType.MATCH_START, null, null, NO_TEAM, NO_TEAM, 0);
+        for (PlayerRef playerRef : instance.getAudiences().everyone().getRecipients()) {
+            FlagTeam team = instance.getTeamManager().getPlayerTeam(playerRef.getUuid());
+            if (team != null) {
+                teamJoin(playerRef.getUuid(), team, playerRef.getUsername());
+            }
+        }
+
+        scheduleFlush();
+        plugin.getLogger().atInfo().log("Match journal opened: {}", file.getFileName());
+    }
+
+    /**
+     * Writes the final records and hands the file to the aggregator.
+     */
+    private synchronized void finish() {
+        MatchManager matchManager = instance.getMatchManager();
+        FlagTeam winner = matchManager.getWinner();
+        record(MatchEventType.MATCH_END, null, null,
+            winner != null ? winner.ordinal() : NO_TEAM, NO_TEAM, 0);
+
+        open = false;
+        if (flushTimer != null) {
+            flushTimer.cancel();
+            flushTimer = null;
+        }
+        handOff();
+        if (buffer != null) {
+            bufferPool.offer(buffer); // Empty; nothing to write
+            buffer = null;
+        }
+
+        Path file = directory.resolve(instance.getId() + "-" + startMillis + EXTENSION);
+        Path summaryFile = directory.resolve(instance.getId() + "-" + startMillis + ".json");
+        io.submit(() -> {
+            closeChannel();
+            MatchSummary summary = MatchStatsAggregator.aggregate(file);
+            ArenaIO.writeAtomically(summaryFile, summary.toJson().getBytes(StandardCharsets.UTF_8));
+            lastSummary = summary;
+            plugin.getLogger().atInfo().log("Match summary written: {} ({} players, {} events)",
+                summaryFile.getFileName(), summary.getPlayers().size(), summary.getEventCount());
+            return null;
+        }).exceptionally(error -> {
+            plugin.getLogger().atWarning().withCause(error).log("Failed to summarize match journal {}", file);
+            return null;
+        });
+    }
+
+    /**
+     * Closes the journal without waiting for the match to end. Called on instance shutdown.
+     */
+    public synchronized void close() {
+        if (open) {
+            finish();
+        }
+    }
+
+    // ==================== Events ====================
+
+    public void flagPickup(@Nonnull UUID playerUuid, @Nonnull FlagTeam flagTeam) {
+        record(MatchEventType.FLAG_PICKUP, playerUuid, null, flagTeam.ordinal(), NO_TEAM, 0);
+    }
+
+    public void flagDrop(@Nonnull UUID playerUuid, @Nonnull FlagTeam flagTeam) {
+        record(MatchEventType.FLAG_DROP, playerUuid, null, flagTeam.ordinal(), NO_TEAM, 0);
+    }
+
+    public void flagReturn(@Nonnull FlagTeam flagTeam, boolean timeout) {
+        record(MatchEventType.FLAG_RETURN, null, null, flagTeam.ordinal(), NO_TEAM, timeout ? FLAG_TIMEOUT : 0);
+    }
+
+    public void flagCapture(@Nonnull UUID playerUuid, @Nonnull FlagTeam scoringTeam, @Nonnull FlagTeam flagTeam) {
+        record(MatchEventType.FLAG_CAPTURE, playerUuid, null, scoringTeam.ordinal(), flagTeam.ordinal(), 0);
+    }
+
+    public void carrierKill(@Nonnull UUID killerUuid, @Nonnull UUID victimUuid, @Nonnull FlagTeam flagTeam) {
+        record(MatchEventType.CARRIER_KILL, killerUuid, victimUuid, flagTeam.ordinal(), NO_TEAM, 0);
+    }
+
+    public void teamJoin(@Nonnull UUID playerUuid, @Nonnull FlagTeam team, @Nullable String playerName) {
+        if (!open) {
+            return;
+        }
+        if (playerName != null) {
+            recordName(playerUuid, playerName);
+        }
+        record(MatchEventType.TEAM_JOIN, playerUuid, null, team.ordinal(), NO_TEAM, 0);
+    }
+
+    public void teamLeave(@Nonnull UUID playerUuid, @Nonnull FlagTeam team) {
+        record(MatchEventType.TEAM_LEAVE, playerUuid, null, team.ordinal(), NO_TEAM, 0);
+    }
+
+    /**
+     * Checks if a match is being recorded.
+     */
+    public boolean isOpen() {
+        return open;
+    }
+
+    /**
+     * Gets the summary of the last finished match, once the I/O thread has produced it.
+     */
+    @Nullable
+    public MatchSummary getLastSummary() {
+        return lastSummary;
+    }
+
+    // ==================== Encoding ====================
+
+    private void record(@Nonnull MatchEventType type, @Nullable UUID a, @Nullable UUID b,
+                        int team, int otherTeam, int flags) {
+        if (!open) {
+            return; // Cheap exit outside matches
+        }
+        synchronized (this) {
+            if (!open) {
+                return;
+            }
+            ensureCapacity(RECORD_SIZE);
+            putHeader(type, a, b, team, otherTeam, flags);
+        }
+    }
+
+    private synchronized void recordName(@Nonnull UUID playerUuid, @Nonnull String name) {
+        if (!open || !namedPlayers.add(playerUuid)) {
+            return;
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int length = Math.min(bytes.length, MAX_NAME_BYTES);
+        ensureCapacity(RECORD_SIZE + 2 + length);
+        putHeader(MatchEventType.PLAYER_NAME, playerUuid, null, NO_TEAM, NO_TEAM, 0);
+        buffer.putShort((short) length).put(bytes, 0, length);
+    }
+
+    private void putHeader(@Nonnull MatchEventType type, @Nullable UUID a, @Nullable UUID b,
+                           int team, int otherTeam, int flags) {
+        ByteBuffer out = buffer;
+        out.put(type.getCode());
+        out.putInt((int) (System.currentTimeMillis() - startMillis));
+        out.putLong(a != null ? a.getMostSignificantBits() : 0L);
+        out.putLong(a != null ? a.getLeastSignificantBits() : 0L);
+        out.putLong(b != null ? b.getMostSignificantBits() : 0L);
+        out.putLong(b != null ? b.getLeastSignificantBits() : 0L);
+        out.put((byte) team);
+        out.put((byte) otherTeam);
+        out.put((byte) flags);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (buffer != null && buffer.remaining() < bytes) {
+            handOff();
+        }
+        if (buffer == null) {
+            buffer = acquireBuffer();
+        }
+    }
+
+    // ==================== Writing ====================
+
+    /**
+     * Queues the current buffer for writing, leaving none current. Caller holds the lock.
+     */
+    private void handOff() {
+        ByteBuffer full = buffer;
+        if (full == null || full.position() == 0) {
+            return;
+        }
+        buffer = null;
+        full.flip();
+        io.submit(() -> {
+            try {
+                writeFully(full);
+            } finally {
+                full.clear();
+                bufferPool.offer(full);
+            }
+            return null;
+        });
+    }
+
+    private synchronized void flushPeriodically() {
+        if (!open) {
+            return;
+        }
+        handOff();
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        flushTimer = instance.getScheduler().schedule(this::flushPeriodically, FLUSH_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @Nonnull
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer pooled = bufferPool.poll();
+        return pooled != null ? pooled : ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    /**
+     * Appends to the journal file. I/O thread only.
+     */
+    private void writeFully(@Nonnull ByteBuffer data) throws IOException {
+        FileChannel out = channel;
+        if (out == null) {
+            return; // Open failed; already logged
+        }
+        while (data.hasRemaining()) {
+            out.write(data);
+        }
+    }
+
+    private void closeChannel() throws IOException {
+        FileChannel out = channel;
+        channel = null;
+        if (out != null) {
+            out.force(false);
+            out.close();
+        }
+    }
+}
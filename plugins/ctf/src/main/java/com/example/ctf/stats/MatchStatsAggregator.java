@@ -0,0 +1,157 @@
+package com.example.ctf.stats;
+
+import com.example.ctf.FlagTeam;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Folds a {@link MatchJournal} file into a {@link MatchSummary}.
+ *
+ * Runs off the gameplay threads (on the journal's I/O thread at match end,
+ * or from tooling against an old file). A journal cut short by a crash is
+ * read up to its last complete record.
+ */
+public final class MatchStatsAggregator {
+
+    private static final FlagTeam[] TEAMS = FlagTeam.values();
+
+    private MatchStatsAggregator() {
+    }
+
+    /**
+     * Reads a journal file and aggregates per-player statistics.
+     *
+     * @throws IOException if the file can't be read or isn't a match journal
+     */
+    @Nonnull
+    public static MatchSummary aggregate(@Nonnull Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 64 * 1024))) {
+            if (in.readInt() != MatchJournal.MAGIC) {
+                throw new IOException("Not a match journal: " + file);
+            }
+            short version = in.readShort();
+            if (version != MatchJournal.VERSION) {
+                throw new IOException("Unsupported match journal version " + version + ": " + file);
+            }
+            long startedAt = in.readLong();
+            byte[] id = new byte[in.readUnsignedShort()];
+            in.readFully(id);
+
+            return aggregate(in, new String(id, StandardCharsets.UTF_8), startedAt);
+        }
+    }
+
+    @Nonnull
+    private static MatchSummary aggregate(@Nonnull DataInputStream in, @Nonnull String instanceId,
+                                          long startedAt) throws IOException {
+        Map<UUID, PlayerStats> players = new HashMap<>();
+        int[] captures = new int[TEAMS.length];
+        FlagTeam winner = null;
+        int lastTime = 0;
+        int events = 0;
+
+        while (true) {
+            MatchEventType type;
+            int time;
+            UUID a;
+            UUID b;
+            int team;
+            try {
+                byte code = in.readByte();
+                type = MatchEventType.fromCode(code);
+                if (type == null) {
+                    throw new IOException("Unknown match event code " + code);
+                }
+                time = in.readInt();
+                a = readUuid(in);
+                b = readUuid(in);
+                team = in.readByte();
+                in.readByte(); // other team
+                in.readByte(); // flags
+                if (type == MatchEventType.PLAYER_NAME) {
+                    byte[] name = new byte[in.readUnsignedShort()];
+                    in.readFully(name);
+                    if (a != null) {
+                        stats(players, a).setName(new String(name, StandardCharsets.UTF_8));
+                    }
+                }
+            } catch (EOFException e) {
+                break; // End of journal, or a torn final record
+            }
+
+            events++;
+            lastTime = Math.max(lastTime, time);
+
+            switch (type) {
+                case FLAG_PICKUP -> stats(players, a).onPickup(time);
+                case FLAG_DROP -> stats(players, a).onDrop(time);
+                case FLAG_CAPTURE -> {
+                    stats(players, a).onCapture(time);
+                    FlagTeam scoring = team(team);
+                    if (scoring != null) {
+                        captures[scoring.ordinal()]++;
+                    }
+                }
+                case CARRIER_KILL -> {
+                    stats(players, a).onCarrierKill();
+                    stats(players, b).onCarrierDeath();
+                }
+                case TEAM_JOIN -> {
+                    FlagTeam joined = team(team);
+                    if (joined != null) {
+                        stats(players, a).setTeam(joined);
+                    }
+                }
+                case MATCH_END -> winner = team(team);
+                default -> {
+                    // Start, phase changes, names and leaves carry nothing to total
+                }
+            }
+        }
+
+        // Close out anyone still holding a flag when the journal ended
+        List<PlayerStats> list = new ArrayList<>(players.values());
+        for (PlayerStats stats : list) {
+            stats.endCarry(lastTime);
+        }
+        list.sort(Comparator.comparingInt(PlayerStats::getCaptures).reversed()
+            .thenComparing(Comparator.comparingInt(PlayerStats::getCarrierKills).reversed()));
+
+        return new MatchSummary(instanceId, startedAt, lastTime, winner,
+            captures[FlagTeam.RED.ordinal()], captures[FlagTeam.BLUE.ordinal()], events, list);
+    }
+
+    @Nonnull
+    private static PlayerStats stats(@Nonnull Map<UUID, PlayerStats> players, @Nullable UUID uuid) throws IOException {
+        if (uuid == null) {
+            throw new IOException("Player event without a player");
+        }
+        return players.computeIfAbsent(uuid, PlayerStats::new);
+    }
+
+    @Nullable
+    private static UUID readUuid(@Nonnull DataInputStream in) throws IOException {
+        long most = in.readLong();
+        long least = in.readLong();
+        return most == 0L && least == 0L ? null : new UUID(most, least);
+    }
+
+    @Nullable
+    private static FlagTeam team(int ordinal) {
+        return ordinal >= 0 && ordinal < TEAMS.length ? TEAMS[ordinal] : null;
+    }
+}
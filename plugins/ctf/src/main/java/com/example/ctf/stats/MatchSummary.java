@@ -0,0 +1,149 @@
+package com.example.ctf.stats;
+
+import com.example.ctf.FlagTeam;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Post-game summary of one match, written as JSON next to its journal.
+ */
+public class MatchSummary {
+
+    private final String instanceId;
+    private final long startedAt;
+    private final long durationMillis;
+    @Nullable
+    private final FlagTeam winner;
+    private final int redScore;
+    private final int blueScore;
+    private final int eventCount;
+    private final List<PlayerStats> players;
+
+    MatchSummary(@Nonnull String instanceId, long startedAt, long durationMillis, @Nullable FlagTeam winner,
+                 int redScore, int blueScore, int eventCount, @Nonnull List<PlayerStats> players) {
+        this.instanceId = instanceId;
+        this.startedAt = startedAt;
+        this.durationMillis = durationMillis;
+        this.winner = winner;
+        this.redScore = redScore;
+        this.blueScore = blueScore;
+        this.eventCount = eventCount;
+        this.players = List.copyOf(players);
+    }
+
+    @Nonnull
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Gets when the match started (epoch millis).
+     */
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    /**
+     * Gets the winning team, or null if the match ended without a winner.
+     */
+    @Nullable
+    public FlagTeam getWinner() {
+        return winner;
+    }
+
+    public int getScore(@Nonnull FlagTeam team) {
+        return team == FlagTeam.RED ? redScore : blueScore;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    /**
+     * Gets every player who appeared in the journal, most captures first.
+     */
+    @Nonnull
+    public List<PlayerStats> getPlayers() {
+        return players;
+    }
+
+    // ==================== JSON ====================
+
+    /**
+     * Renders the summary as a JSON document.
+     */
+    @Nonnull
+    public String toJson() {
+        StringBuilder sb = new StringBuilder(256 + players.size() * 192);
+        sb.append("{\n");
+        sb.append("  \"instance\": ");
+        appendString(sb, instanceId);
+        sb.append(",\n  \"startedAt\": ").append(startedAt);
+        sb.append(",\n  \"durationMillis\": ").append(durationMillis);
+        sb.append(",\n  \"winner\": ");
+        if (winner != null) {
+            appendString(sb, winner.name());
+        } else {
+            sb.append("null");
+        }
+        sb.append(",\n  \"score\": { \"RED\": ").append(redScore).append(", \"BLUE\": ").append(blueScore).append(" }");
+        sb.append(",\n  \"events\": ").append(eventCount);
+        sb.append(",\n  \"players\": [");
+        for (int i = 0; i < players.size(); i++) {
+            PlayerStats stats = players.get(i);
+            sb.append(i == 0 ? "\n" : ",\n");
+            sb.append("    { \"uuid\": ");
+            appendString(sb, stats.getUuid().toString());
+            sb.append(", \"name\": ");
+            if (stats.getName() != null) {
+                appendString(sb, stats.getName());
+            } else {
+                sb.append("null");
+            }
+            sb.append(", \"team\": ");
+            if (stats.getTeam() != null) {
+                appendString(sb, stats.getTeam().name());
+            } else {
+                sb.append("null");
+            }
+            sb.append(", \"pickups\": ").append(stats.getPickups());
+            sb.append(", \"drops\": ").append(stats.getDrops());
+            sb.append(", \"captures\": ").append(stats.getCaptures());
+            sb.append(", \"carrierKills\": ").append(stats.getCarrierKills());
+            sb.append(", \"carrierDeaths\": ").append(stats.getCarrierDeaths());
+            sb.append(", \"carryTimeMillis\": ").append(stats.getCarryTimeMillis());
+            sb.append(" }");
+        }
+        sb.append(players.isEmpty() ? "]\n" : "\n  ]\n");
+        sb.append("}\n");
+        return sb.toString();
+    }
+
+    private static void appendString(@Nonnull StringBuilder sb, @Nonnull String value) {
+        sb.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+}
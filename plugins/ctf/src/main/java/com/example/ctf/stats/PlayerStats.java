@@ -0,0 +1,120 @@
+package com.example.ctf.stats;
+
+import com.example.ctf.FlagTeam;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * One player's totals for a finished match, built by {@link MatchStatsAggregator}.
+ */
+public class PlayerStats {
+
+    private final UUID uuid;
+    @Nullable
+    private String name;
+    @Nullable
+    private FlagTeam team;
+
+    private int pickups;
+    private int drops;
+    private int captures;
+    private int carrierKills;
+    private int carrierDeaths;
+    private long carryTimeMillis;
+
+    // Journal time of the current pickup, or -1 when not carrying
+    private int carryStart = -1;
+
+    PlayerStats(@Nonnull UUID uuid) {
+        this.uuid = uuid;
+    }
+
+    // ==================== Aggregation ====================
+
+    void setName(@Nonnull String name) {
+        this.name = name;
+    }
+
+    void setTeam(@Nonnull FlagTeam team) {
+        this.team = team;
+    }
+
+    void onPickup(int time) {
+        pickups++;
+        carryStart = time;
+    }
+
+    void onDrop(int time) {
+        drops++;
+        endCarry(time);
+    }
+
+    void onCapture(int time) {
+        captures++;
+        endCarry(time);
+    }
+
+    void onCarrierKill() {
+        carrierKills++;
+    }
+
+    void onCarrierDeath() {
+        carrierDeaths++;
+    }
+
+    void endCarry(int time) {
+        if (carryStart >= 0) {
+            carryTimeMillis += Math.max(0, time - carryStart);
+            carryStart = -1;
+        }
+    }
+
+    // ==================== Getters ====================
+
+    @Nonnull
+    public UUID getUuid() {
+        return uuid;
+    }
+
+    /**
+     * Gets the player's name as of their first team join, or null if never recorded.
+     */
+    @Nullable
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the last team the player joined.
+     */
+    @Nullable
+    public FlagTeam getTeam() {
+        return team;
+    }
+
+    public int getPickups() {
+        return pickups;
+    }
+
+    public int getDrops() {
+        return drops;
+    }
+
+    public int getCaptures() {
+        return captures;
+    }
+
+    public int getCarrierKills() {
+        return carrierKills;
+    }
+
+    public int getCarrierDeaths() {
+        return carrierDeaths;
+    }
+
+    public long getCarryTimeMillis() {
+        return carryTimeMillis;
+    }
+}
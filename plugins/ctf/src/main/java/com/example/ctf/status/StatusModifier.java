@@ -0,0 +1,19 @@
+package com.example.ctf.status;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A named set of movement multipliers, applied through {@link StatusModifierManager}.
+ *
+ * Multipliers of all active modifiers on a player are multiplied together
+ * and applied to the player's movement settings as they were before the
+ * first modifier. Applying a modifier with an id that is already active
+ * replaces it.
+ *
+ * @param id Unique id of the effect (e.g. "ctf:flag_carrier")
+ * @param speed Multiplier for base movement speed
+ * @param sprint Multiplier for the forward sprint speed multiplier
+ * @param climb Multiplier for all climb speeds (0 disables climbing and mantling)
+ */
+public record StatusModifier(@Nonnull String id, float speed, float sprint, float climb) {
+}
@@ -0,0 +1,216 @@
+package com.example.ctf.status;
+
+import com.example.ctf.CTFPlugin;
+import com.hypixel.hytale.component.Ref;
+import com.hypixel.hytale.protocol.MovementSettings;
+import com.hypixel.hytale.server.core.entity.entities.player.movement.MovementManager;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Stacks {@link StatusModifier}s on players' movement settings.
+ *
+ * The first modifier on a player snapshots their movement settings; the
+ * last one removed restores them. In between, the combined multipliers are
+ * recomputed on every change, and the settings are only written and sent
+ * to the client when the combined values actually differ. Game modes (flag
+ * carrying, slow fields, buffs) add and remove their own modifiers by id
+ * and never save or restore settings themselves.
+ *
+ * Shared by all instances. Must be called on the player's world thread.
+ */
+public class StatusModifierManager {
+
+    private final CTFPlugin plugin;
+
+    // Player UUID -> active modifiers; only players with at least one modifier
+    private final Map<UUID, Stack> stacks = new ConcurrentHashMap<>();
+
+    public StatusModifierManager(@Nonnull CTFPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Adds or replaces a modifier on a player and sends their new movement settings if they changed.
+     *
+     * @return false if the player has no entity or movement settings to modify
+     */
+    public boolean apply(@Nonnull PlayerRef playerRef, @Nonnull StatusModifier modifier) {
+        MovementManager movementManager = getMovementManager(playerRef);
+        if (movementManager == null) {
+            plugin.getLogger().atWarning().log("Could not get MovementManager for player {}", playerRef.getUuid());
+            return false;
+        }
+
+        Stack stack = stacks.computeIfAbsent(playerRef.getUuid(), uuid -> new Stack(movementManager.getSettings()));
+        synchronized (stack) {
+            stack.put(modifier);
+            stack.sync(movementManager, playerRef);
+        }
+        return true;
+    }
+
+    /**
+     * Removes a modifier from a player. Restores their original settings when
+     * it was the last one. If the player's entity is gone, the modifier is
+     * only forgotten.
+     */
+    public void remove(@Nonnull PlayerRef playerRef, @Nonnull String modifierId) {
+        UUID playerUuid = playerRef.getUuid();
+        Stack stack = stacks.get(playerUuid);
+        if (stack == null) {
+            return;
+        }
+
+        synchronized (stack) {
+            if (!stack.remove(modifierId)) {
+                return;
+            }
+            MovementManager movementManager = getMovementManager(playerRef);
+            if (movementManager != null) {
+                stack.sync(movementManager, playerRef);
+            }
+            if (stack.isEmpty()) {
+                stacks.remove(playerUuid, stack);
+            }
+        }
+    }
+
+    /**
+     * Checks if a player has a modifier active.
+     */
+    public boolean hasModifier(@Nonnull UUID playerUuid, @Nonnull String modifierId) {
+        Stack stack = stacks.get(playerUuid);
+        if (stack == null) {
+            return false;
+        }
+        synchronized (stack) {
+            return stack.indexOf(modifierId) >= 0;
+        }
+    }
+
+    /**
+     * Called when a player disconnects. Forgets their modifiers without sending anything.
+     */
+    public void onPlayerDisconnect(@Nonnull UUID playerUuid) {
+        stacks.remove(playerUuid);
+    }
+
+    /**
+     * Forgets all modifiers. Called on plugin shutdown.
+     */
+    public void cleanup() {
+        stacks.clear();
+    }
+
+    @Nullable
+    private static MovementManager getMovementManager(@Nonnull PlayerRef playerRef) {
+        Ref<EntityStore> entityRef = playerRef.getReference();
+        if (entityRef == null || !entityRef.isValid()) {
+            return null;
+        }
+        return entityRef.getStore().getComponent(entityRef, MovementManager.getComponentType());
+    }
+
+    // ==================== Internal Classes ====================
+
+    /**
+     * One player's active modifiers, their unmodified settings and the multipliers last sent.
+     */
+    private static final class Stack {
+        private final List<StatusModifier> modifiers = new ArrayList<>(2);
+
+        // Settings before the first modifier
+        private final float baseSpeed;
+        private final float forwardSprintSpeedMultiplier;
+        private final float climbSpeed;
+        private final float climbSpeedLateral;
+        private final float climbUpSprintSpeed;
+        private final float climbDownSprintSpeed;
+
+        // Combined multipliers currently applied
+        private float appliedSpeed = 1.0f;
+        private float appliedSprint = 1.0f;
+        private float appliedClimb = 1.0f;
+
+        Stack(@Nonnull MovementSettings settings) {
+            this.baseSpeed = settings.baseSpeed;
+            this.forwardSprintSpeedMultiplier = settings.forwardSprintSpeedMultiplier;
+            this.climbSpeed = settings.climbSpeed;
+            this.climbSpeedLateral = settings.climbSpeedLateral;
+            this.climbUpSprintSpeed = settings.climbUpSprintSpeed;
+            this.climbDownSprintSpeed = settings.climbDownSprintSpeed;
+        }
+
+        void put(@Nonnull StatusModifier modifier) {
+            int index = indexOf(modifier.id());
+            if (index >= 0) {
+                modifiers.set(index, modifier);
+            } else {
+                modifiers.add(modifier);
+            }
+        }
+
+        boolean remove(@Nonnull String modifierId) {
+            int index = indexOf(modifierId);
+            if (index < 0) {
+                return false;
+            }
+            modifiers.remove(index);
+            return true;
+        }
+
+        int indexOf(@Nonnull String modifierId) {
+            for (int i = 0; i < modifiers.size(); i++) {
+                if (modifiers.get(i).id().equals(modifierId)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        boolean isEmpty() {
+            return modifiers.isEmpty();
+        }
+
+        /**
+         * Writes the combined multipliers to the player's settings and sends
+         * them, unless they equal what was last applied.
+         */
+        void sync(@Nonnull MovementManager movementManager, @Nonnull PlayerRef playerRef) {
+            float speed = 1.0f;
+            float sprint = 1.0f;
+            float climb = 1.0f;
+            for (int i = 0; i < modifiers.size(); i++) {
+                StatusModifier modifier = modifiers.get(i);
+                speed *= modifier.speed();
+                sprint *= modifier.sprint();
+                climb *= modifier.climb();
+            }
+            if (speed == appliedSpeed && sprint == appliedSprint && climb == appliedClimb) {
+                return; // Nothing the client would see
+            }
+
+            MovementSettings settings = movementManager.getSettings();
+            settings.baseSpeed = baseSpeed * speed;
+            settings.forwardSprintSpeedMultiplier = forwardSprintSpeedMultiplier * sprint;
+            settings.climbSpeed = climbSpeed * climb;
+            settings.climbSpeedLateral = climbSpeedLateral * climb;
+            settings.climbUpSprintSpeed = climbUpSprintSpeed * climb;
+            settings.climbDownSprintSpeed = climbDownSprintSpeed * climb;
+            movementManager.update(playerRef.getPacketHandler());
+
+            appliedSpeed = speed;
+            appliedSprint = sprint;
+            appliedClimb = climb;
+        }
+    }
+}
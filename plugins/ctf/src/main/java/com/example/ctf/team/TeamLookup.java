@@ -0,0 +1,23 @@
+package com.example.ctf.team;
+
+import com.example.ctf.FlagTeam;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * Read-only view of team assignments, for code that only needs to know who is on which team.
+ */
+@FunctionalInterface
+public interface TeamLookup {
+
+    /**
+     * Gets the team a player is assigned to.
+     *
+     * @param playerUuid The player's UUID
+     * @return The player's team, or null if not assigned
+     */
+    @Nullable
+    FlagTeam getPlayerTeam(@Nonnull UUID playerUuid);
+}
@@ -2,6 +2,7 @@ package com.example.ctf.team;
 
 import com.example.ctf.CTFPlugin;
 import com.example.ctf.FlagTeam;
+import com.example.ctf.instance.CTFInstance;
 import com.example.ctf.ui.CTFAnnouncementManager;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
 
@@ -10,21 +11,27 @@ import javax.annotation.Nullable;
 import java.util.*;
 
 /**
- * Manages player team assignments for CTF.
+ * Manages player team assignments for one CTF instance.
  * Players must be assigned to a team to participate in the match.
+ *
+ * Assignments are held in an immutable {@link Roster} published through a
+ * volatile field. Reads (team lookups, sizes, member sets) never lock and
+ * always see a consistent snapshot; writes are serialized and replace the
+ * roster with an updated copy. Team changes are rare next to the per-tick
+ * reads from flag and zone checks, so the copy is cheap overall.
  */
-public class TeamManager {
+public class TeamManager implements TeamLookup {
 
     private final CTFPlugin plugin;
-    private final Map<UUID, FlagTeam> playerTeams;
-    private final Set<UUID> redTeamPlayers;
-    private final Set<UUID> blueTeamPlayers;
+    private final CTFInstance instance;
 
-    public TeamManager(@Nonnull CTFPlugin plugin) {
+    // Current assignments; replaced (never mutated) under the write lock
+    private volatile Roster roster = Roster.EMPTY;
+    private final Object writeLock = new Object();
+
+    public TeamManager(@Nonnull CTFPlugin plugin, @Nonnull CTFInstance instance) {
         this.plugin = plugin;
-        this.playerTeams = new HashMap<>();
-        this.redTeamPlayers = new HashSet<>();
-        this.blueTeamPlayers = new HashSet<>();
+        this.instance = instance;
     }
 
     /**
@@ -61,17 +68,24 @@ public class TeamManager {
      */
     public boolean assignTeam(@Nonnull UUID playerUuid, @Nonnull FlagTeam team,
                                @Nullable String playerName, @Nullable PlayerRef playerRef) {
-        // Remove from current team if any (silently, we'll announce the new team)
-        FlagTeam oldTeam = playerTeams.remove(playerUuid);
-        if (oldTeam != null) {
-            getTeamSet(oldTeam).remove(playerUuid);
+        // Move to the new team (any old team is left silently, we'll announce the new team)
+        synchronized (writeLock) {
+            roster = roster.with(playerUuid, team);
         }
+        onJoined(playerUuid, team, playerName, playerRef);
+        return true;
+    }
 
-        // Assign to new team
-        playerTeams.put(playerUuid, team);
-        getTeamSet(team).add(playerUuid);
+    /**
+     * Journals, logs, applies the team effect and announces after a player joined a team.
+     */
+    private void onJoined(@Nonnull UUID playerUuid, @Nonnull FlagTeam team,
+                          @Nullable String playerName, @Nullable PlayerRef playerRef) {
+        instance.getJournal().teamJoin(playerUuid, team,
+            playerName != null ? playerName : playerRef != null ? playerRef.getUsername() : null);
 
         plugin.getLogger().atInfo().log("Player {} joined {} team", playerUuid, team.getDisplayName());
+        instance.getAudiences().onTeamsChanged();
 
         // Apply team visual effect
         if (playerRef != null) {
@@ -85,11 +99,9 @@ public class TeamManager {
         if (playerName != null) {
             CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
             if (announcementManager != null) {
-                announcementManager.announceTeamJoin(playerUuid, playerName, team);
+                announcementManager.announceTeamJoin(instance.getAudiences().everyone(), playerUuid, playerName, team);
             }
         }
-
-        return true;
     }
 
     /**
@@ -125,10 +137,18 @@ public class TeamManager {
      */
     @Nullable
     public FlagTeam leaveTeam(@Nonnull UUID playerUuid, @Nullable String playerName, @Nullable PlayerRef playerRef) {
-        FlagTeam currentTeam = playerTeams.remove(playerUuid);
+        FlagTeam currentTeam;
+        synchronized (writeLock) {
+            currentTeam = roster.getTeam(playerUuid);
+            if (currentTeam != null) {
+                roster = roster.without(playerUuid);
+            }
+        }
+
         if (currentTeam != null) {
-            getTeamSet(currentTeam).remove(playerUuid);
+            instance.getJournal().teamLeave(playerUuid, currentTeam);
             plugin.getLogger().atInfo().log("Player {} left {} team", playerUuid, currentTeam.getDisplayName());
+            instance.getAudiences().onTeamsChanged();
 
             // Remove team visual effect
             if (playerRef != null) {
@@ -142,7 +162,7 @@ public class TeamManager {
             if (playerName != null) {
                 CTFAnnouncementManager announcementManager = plugin.getAnnouncementManager();
                 if (announcementManager != null) {
-                    announcementManager.announceTeamLeave(playerUuid, playerName, currentTeam);
+                    announcementManager.announceTeamLeave(instance.getAudiences().everyone(), playerUuid, playerName, currentTeam);
                 }
             }
         }
@@ -156,8 +176,9 @@ public class TeamManager {
      * @return The player's team, or null if not assigned
      */
     @Nullable
+    @Override
     public FlagTeam getPlayerTeam(@Nonnull UUID playerUuid) {
-        return playerTeams.get(playerUuid);
+        return roster.getTeam(playerUuid);
     }
 
     /**
@@ -167,7 +188,7 @@ public class TeamManager {
      * @return true if the player is assigned to a team
      */
     public boolean isOnTeam(@Nonnull UUID playerUuid) {
-        return playerTeams.containsKey(playerUuid);
+        return roster.getTeam(playerUuid) != null;
     }
 
     /**
@@ -178,18 +199,18 @@ public class TeamManager {
      * @return true if the player is on the specified team
      */
     public boolean isOnTeam(@Nonnull UUID playerUuid, @Nonnull FlagTeam team) {
-        return team.equals(playerTeams.get(playerUuid));
+        return team == roster.getTeam(playerUuid);
     }
 
     /**
      * Gets all players on a specific team.
      *
      * @param team The team
-     * @return An unmodifiable set of player UUIDs
+     * @return An immutable snapshot of the team's player UUIDs
      */
     @Nonnull
     public Set<UUID> getTeamPlayers(@Nonnull FlagTeam team) {
-        return Collections.unmodifiableSet(getTeamSet(team));
+        return roster.getMembers(team);
     }
 
     /**
@@ -199,7 +220,7 @@ public class TeamManager {
      * @return The number of players on the team
      */
     public int getTeamSize(@Nonnull FlagTeam team) {
-        return getTeamSet(team).size();
+        return roster.getMembers(team).size();
     }
 
     /**
@@ -210,8 +231,13 @@ public class TeamManager {
      */
     @Nonnull
     public FlagTeam autoAssignTeam(@Nonnull UUID playerUuid) {
-        FlagTeam team = getSmallerTeam();
-        assignTeam(playerUuid, team);
+        FlagTeam team;
+        // Pick and join under one lock, so concurrent auto-assigns see each other
+        synchronized (writeLock) {
+            team = smallerTeam(roster);
+            roster = roster.with(playerUuid, team);
+        }
+        onJoined(playerUuid, team, null, null);
         return team;
     }
 
@@ -222,9 +248,12 @@ public class TeamManager {
      */
     @Nonnull
     public FlagTeam getSmallerTeam() {
-        int redSize = redTeamPlayers.size();
-        int blueSize = blueTeamPlayers.size();
-        return redSize <= blueSize ? FlagTeam.RED : FlagTeam.BLUE;
+        return smallerTeam(roster);
+    }
+
+    @Nonnull
+    private static FlagTeam smallerTeam(@Nonnull Roster current) {
+        return current.red.size() <= current.blue.size() ? FlagTeam.RED : FlagTeam.BLUE;
     }
 
     /**
@@ -233,7 +262,8 @@ public class TeamManager {
      * @return true if teams are balanced
      */
     public boolean areTeamsBalanced() {
-        return Math.abs(redTeamPlayers.size() - blueTeamPlayers.size()) <= 1;
+        Roster current = roster;
+        return Math.abs(current.red.size() - current.blue.size()) <= 1;
     }
 
     /**
@@ -242,16 +272,17 @@ public class TeamManager {
      * @return The total player count
      */
     public int getTotalPlayers() {
-        return playerTeams.size();
+        return roster.teams.size();
     }
 
     /**
      * Clears all team assignments.
      */
     public void clearTeams() {
-        playerTeams.clear();
-        redTeamPlayers.clear();
-        blueTeamPlayers.clear();
+        synchronized (writeLock) {
+            roster = Roster.EMPTY;
+        }
+        instance.getAudiences().onTeamsChanged();
         plugin.getLogger().atInfo().log("All team assignments cleared");
     }
 
@@ -264,11 +295,87 @@ public class TeamManager {
         leaveTeam(playerUuid);
     }
 
-    @Nonnull
-    private Set<UUID> getTeamSet(@Nonnull FlagTeam team) {
-        return switch (team) {
-            case RED -> redTeamPlayers;
-            case BLUE -> blueTeamPlayers;
-        };
+    // ==================== Internal Classes ====================
+
+    /**
+     * Immutable snapshot of all team assignments.
+     * Sizes come straight from the member sets, so they are O(1).
+     */
+    private static final class Roster {
+        static final Roster EMPTY = new Roster(Map.of(), Set.of(), Set.of());
+
+        final Map<UUID, FlagTeam> teams;
+        final Set<UUID> red;
+        final Set<UUID> blue;
+
+        Roster(Map<UUID, FlagTeam> teams, Set<UUID> red, Set<UUID> blue) {
+            this.teams = teams;
+            this.red = red;
+            this.blue = blue;
+        }
+
+        @Nullable
+        FlagTeam getTeam(@Nonnull UUID playerUuid) {
+            return teams.get(playerUuid);
+        }
+
+        @Nonnull
+        Set<UUID> getMembers(@Nonnull FlagTeam team) {
+            return switch (team) {
+                case RED -> red;
+                case BLUE -> blue;
+            };
+        }
+
+        /**
+         * Returns a copy with the player on the given team (moved if already on the other).
+         */
+        @Nonnull
+        Roster with(@Nonnull UUID playerUuid, @Nonnull FlagTeam team) {
+            Map<UUID, FlagTeam> newTeams = new HashMap<>(teams);
+            FlagTeam oldTeam = newTeams.put(playerUuid, team);
+
+            Set<UUID> newRed = red;
+            Set<UUID> newBlue = blue;
+            if (oldTeam != team) {
+                if (oldTeam == FlagTeam.RED || team == FlagTeam.RED) {
+                    newRed = copyWith(red, playerUuid, team == FlagTeam.RED);
+                }
+                if (oldTeam == FlagTeam.BLUE || team == FlagTeam.BLUE) {
+                    newBlue = copyWith(blue, playerUuid, team == FlagTeam.BLUE);
+                }
+            }
+            return new Roster(Collections.unmodifiableMap(newTeams), newRed, newBlue);
+        }
+
+        /**
+         * Returns a copy without the player.
+         */
+        @Nonnull
+        Roster without(@Nonnull UUID playerUuid) {
+            FlagTeam oldTeam = teams.get(playerUuid);
+            if (oldTeam == null) {
+                return this;
+            }
+
+            Map<UUID, FlagTeam> newTeams = new HashMap<>(teams);
+            newTeams.remove(playerUuid);
+            return new Roster(
+                Collections.unmodifiableMap(newTeams),
+                oldTeam == FlagTeam.RED ? copyWith(red, playerUuid, false) : red,
+                oldTeam == FlagTeam.BLUE ? copyWith(blue, playerUuid, false) : blue
+            );
+        }
+
+        @Nonnull
+        private static Set<UUID> copyWith(@Nonnull Set<UUID> members, @Nonnull UUID playerUuid, boolean add) {
+            Set<UUID> copy = new HashSet<>(members);
+            if (add) {
+                copy.add(playerUuid);
+            } else {
+                copy.remove(playerUuid);
+            }
+            return Collections.unmodifiableSet(copy);
+        }
     }
 }
@@ -0,0 +1,36 @@
+package com.example.ctf.ui;
+
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+
+import javax.annotation.Nonnull;
+
+/**
+ * A set of players an announcement, title, kill feed entry or sound goes to.
+ *
+ * Implementations hand out a maintained snapshot array, so a broadcast is a
+ * plain loop over the recipients with no world or player lookups.
+ */
+@FunctionalInterface
+public interface Audience {
+
+    PlayerRef[] NO_RECIPIENTS = new PlayerRef[0];
+
+    /**
+     * An audience with no recipients.
+     */
+    Audience NONE = () -> NO_RECIPIENTS;
+
+    /**
+     * Gets the current recipients.
+     * The returned array is shared and must not be modified.
+     */
+    @Nonnull
+    PlayerRef[] getRecipients();
+
+    /**
+     * Checks if this audience currently has no recipients.
+     */
+    default boolean isEmpty() {
+        return getRecipients().length == 0;
+    }
+}
@@ -2,23 +2,30 @@ package com.example.ctf.ui;
 
 import com.example.ctf.CTFPlugin;
 import com.example.ctf.FlagTeam;
-import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.protocol.FormattedMessage;
 import com.hypixel.hytale.protocol.packets.interface_.KillFeedMessage;
 import com.hypixel.hytale.server.core.Message;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
-import com.hypixel.hytale.server.core.universe.world.PlayerUtil;
-import com.hypixel.hytale.server.core.universe.world.World;
-import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 import com.hypixel.hytale.server.core.util.EventTitleUtil;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Centralized manager for all CTF game announcements.
  * Handles chat messages, titles, and notifications for game events.
+ *
+ * Every announcement goes to an {@link Audience} chosen by the caller,
+ * normally one of its instance's maintained recipient lists, so only the
+ * players in that match's world receive it.
+ *
+ * Fixed parts of every message (prefix, team and flag labels, titles) are
+ * built once in the constructor and shared; only names and scores are
+ * created per event. Kill feed names are cached in formatted form.
  */
 public class CTFAnnouncementManager {
 
@@ -34,10 +41,39 @@ public class CTFAnnouncementManager {
     private static final float TITLE_FADE_IN = 0.5f;
     private static final float TITLE_FADE_OUT = 1.0f;
 
+    // Upper bound on cached kill feed names before the cache is reset
+    private static final int MAX_CACHED_NAMES = 1024;
+
     private final CTFPlugin plugin;
 
+    // Fixed message templates, built once and shared by every announcement
+    private final Message prefix = Message.raw("[CTF] ").color(GOLD_COLOR);
+    private final Map<FlagTeam, Message> flagLabels = new EnumMap<>(FlagTeam.class);
+    private final Map<FlagTeam, Message> teamLabels = new EnumMap<>(FlagTeam.class);
+    private final Map<FlagTeam, Message> scoresTitles = new EnumMap<>(FlagTeam.class);
+    private final Map<FlagTeam, Message> winsTitles = new EnumMap<>(FlagTeam.class);
+    private final Message tieTitle = Message.raw("IT'S A TIE!").color(GOLD_COLOR);
+    private final Message matchOverLabel = Message.raw("Match over! ").color(GRAY_COLOR);
+    private final Message matchStartTitle = Message.raw("MATCH STARTED!").color(GREEN_COLOR);
+    private final Message matchStartSubtitle = Message.raw("Capture the enemy flag!");
+    private final Message warmupTitle = Message.raw("WARMUP").color(GOLD_COLOR);
+    private final Message overtimeTitle = Message.raw("OVERTIME!").color(GOLD_COLOR);
+    private final Message overtimeSubtitle = Message.raw("Next capture wins!");
+
+    // Formatted kill feed names: team ordinal + carrier marker + name -> payload
+    private final Map<String, FormattedMessage> killFeedNames = new ConcurrentHashMap<>();
+
     public CTFAnnouncementManager(@Nonnull CTFPlugin plugin) {
         this.plugin = plugin;
+
+        for (FlagTeam team : FlagTeam.values()) {
+            String teamColor = getTeamColor(team);
+            flagLabels.put(team, Message.raw(team.getDisplayName() + " flag").color(teamColor));
+            teamLabels.put(team, Message.raw(team.getDisplayName() + " team").color(teamColor));
+            scoresTitles.put(team, Message.raw(team.getDisplayName().toUpperCase() + " SCORES!").color(teamColor));
+            winsTitles.put(team, Message.raw(team.getDisplayName().toUpperCase() + " WINS!").color(teamColor));
+        }
+
         plugin.getLogger().atInfo().log("CTFAnnouncementManager initialized");
     }
 
@@ -46,26 +82,27 @@ public class CTFAnnouncementManager {
     /**
      * Announces that a player picked up an enemy flag.
      *
+     * @param audience The players to announce to
      * @param playerUuid The UUID of the player who picked up the flag
      * @param playerName The display name of the player
      * @param flagTeam The team whose flag was picked up
      */
-    public void announceFlagPickup(@Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam flagTeam) {
+    public void announceFlagPickup(@Nonnull Audience audience, @Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam flagTeam) {
         String teamColor = getTeamColor(flagTeam);
 
         Message message = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw(playerName).color(teamColor))
             .insert(Message.raw(" took the "))
-            .insert(Message.raw(flagTeam.getDisplayName() + " flag").color(teamColor))
+            .insert(flagLabels.get(flagTeam))
             .insert(Message.raw("!"));
 
-        broadcastToAllWorlds(message);
+        broadcast(audience, message);
 
         // Play pickup sound
         CTFSoundManager soundManager = plugin.getSoundManager();
         if (soundManager != null) {
-            soundManager.playFlagPickup();
+            soundManager.playFlagPickup(audience);
         }
 
         plugin.getLogger().atInfo().log("Announced flag pickup: {} took {} flag", playerName, flagTeam);
@@ -74,26 +111,25 @@ public class CTFAnnouncementManager {
     /**
      * Announces that a player dropped a flag.
      *
+     * @param audience The players to announce to
      * @param playerUuid The UUID of the player who dropped the flag
      * @param playerName The display name of the player
      * @param flagTeam The team whose flag was dropped
      */
-    public void announceFlagDropped(@Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam flagTeam) {
-        String teamColor = getTeamColor(flagTeam);
-
+    public void announceFlagDropped(@Nonnull Audience audience, @Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam flagTeam) {
         Message message = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw(playerName).color(GRAY_COLOR))
             .insert(Message.raw(" dropped the "))
-            .insert(Message.raw(flagTeam.getDisplayName() + " flag").color(teamColor))
+            .insert(flagLabels.get(flagTeam))
             .insert(Message.raw("!"));
 
-        broadcastToAllWorlds(message);
+        broadcast(audience, message);
 
         // Play drop sound
         CTFSoundManager soundManager = plugin.getSoundManager();
         if (soundManager != null) {
-            soundManager.playFlagDrop();
+            soundManager.playFlagDrop(audience);
         }
 
         plugin.getLogger().atInfo().log("Announced flag dropped: {} dropped {} flag", playerName, flagTeam);
@@ -102,25 +138,24 @@ public class CTFAnnouncementManager {
     /**
      * Announces that a flag was returned to its stand.
      *
+     * @param audience The players to announce to
      * @param flagTeam The team whose flag was returned
      * @param wasTimeout True if returned due to timeout, false if returned by player
      */
-    public void announceFlagReturned(@Nonnull FlagTeam flagTeam, boolean wasTimeout) {
-        String teamColor = getTeamColor(flagTeam);
-
+    public void announceFlagReturned(@Nonnull Audience audience, @Nonnull FlagTeam flagTeam, boolean wasTimeout) {
         String reason = wasTimeout ? " (timeout)" : "";
         Message message = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw("The "))
-            .insert(Message.raw(flagTeam.getDisplayName() + " flag").color(teamColor))
+            .insert(flagLabels.get(flagTeam))
             .insert(Message.raw(" has been returned!" + reason));
 
-        broadcastToAllWorlds(message);
+        broadcast(audience, message);
 
         // Play return sound
         CTFSoundManager soundManager = plugin.getSoundManager();
         if (soundManager != null) {
-            soundManager.playFlagReturn();
+            soundManager.playFlagReturn(audience);
         }
 
         plugin.getLogger().atInfo().log("Announced flag returned: {} flag{}", flagTeam, reason);
@@ -129,46 +164,47 @@ public class CTFAnnouncementManager {
     /**
      * Announces that a team captured a flag and scored.
      *
+     * @param audience The players to announce to
      * @param scoringTeam The team that scored
      * @param playerName The name of the player who captured
      * @param redScore Current red team score
      * @param blueScore Current blue team score
      */
-    public void announceFlagCaptured(@Nonnull FlagTeam scoringTeam, @Nonnull String playerName, int redScore, int blueScore) {
+    public void announceFlagCaptured(@Nonnull Audience audience, @Nonnull FlagTeam scoringTeam, @Nonnull String playerName, int redScore, int blueScore) {
         String teamColor = getTeamColor(scoringTeam);
 
         // Chat message
         Message chatMessage = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw(playerName).color(teamColor))
             .insert(Message.raw(" captured the flag! "))
             .insert(Message.raw(scoringTeam.getDisplayName() + " SCORES!").color(teamColor));
 
-        broadcastToAllWorlds(chatMessage);
+        broadcast(audience, chatMessage);
 
         // Score display message
         Message scoreMessage = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw("Score: "))
             .insert(Message.raw("Red " + redScore).color(RED_COLOR))
             .insert(Message.raw(" - "))
             .insert(Message.raw("Blue " + blueScore).color(BLUE_COLOR));
 
-        broadcastToAllWorlds(scoreMessage);
+        broadcast(audience, scoreMessage);
 
-        // Show title to all players
-        Message primaryTitle = Message.raw(scoringTeam.getDisplayName().toUpperCase() + " SCORES!").color(teamColor);
+        // Show title to the audience
+        Message primaryTitle = scoresTitles.get(scoringTeam);
         Message secondaryTitle = Message.raw("")
             .insert(Message.raw("Red " + redScore).color(RED_COLOR))
             .insert(Message.raw(" - "))
             .insert(Message.raw("Blue " + blueScore).color(BLUE_COLOR));
 
-        showTitleToAllWorlds(primaryTitle, secondaryTitle, false);
+        showTitle(audience, primaryTitle, secondaryTitle, false);
 
         // Play capture fanfare
         CTFSoundManager soundManager = plugin.getSoundManager();
         if (soundManager != null) {
-            soundManager.playFlagCapture();
+            soundManager.playFlagCapture(audience);
         }
 
         plugin.getLogger().atInfo().log("Announced capture: {} by {}, score {}-{}", scoringTeam, playerName, redScore, blueScore);
@@ -178,81 +214,108 @@ public class CTFAnnouncementManager {
 
     /**
      * Announces that a match has started.
+     *
+     * @param audience The players to announce to
      */
-    public void announceMatchStart() {
+    public void announceMatchStart(@Nonnull Audience audience) {
         // Chat message
         Message chatMessage = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw("The match has started!").color(GREEN_COLOR))
             .insert(Message.raw(" Capture the enemy flag!"));
 
-        broadcastToAllWorlds(chatMessage);
+        broadcast(audience, chatMessage);
 
         // Big title
-        Message primaryTitle = Message.raw("MATCH STARTED!").color(GREEN_COLOR);
-        Message secondaryTitle = Message.raw("Capture the enemy flag!");
-
-        showTitleToAllWorlds(primaryTitle, secondaryTitle, true);
+        showTitle(audience, matchStartTitle, matchStartSubtitle, true);
 
         // Play match start horn
         CTFSoundManager soundManager = plugin.getSoundManager();
         if (soundManager != null) {
-            soundManager.playMatchStart();
+            soundManager.playMatchStart(audience);
         }
 
         plugin.getLogger().atInfo().log("Announced match start");
     }
 
+    /**
+     * Announces the warmup before a match.
+     *
+     * @param audience The players to announce to
+     * @param seconds Seconds until the match starts
+     */
+    public void announceWarmup(@Nonnull Audience audience, long seconds) {
+        Message chatMessage = Message.raw("")
+            .insert(prefix)
+            .insert(Message.raw("Match starts in " + seconds + " seconds.").color(GRAY_COLOR));
+
+        broadcast(audience, chatMessage);
+        showTitle(audience, warmupTitle, Message.raw("Match starts in " + seconds + "s"), false);
+
+        plugin.getLogger().atInfo().log("Announced warmup ({}s)", seconds);
+    }
+
+    /**
+     * Announces that the time limit ran out with the scores tied.
+     *
+     * @param audience The players to announce to
+     * @param seconds Length of overtime, or 0 if overtime has no limit
+     */
+    public void announceOvertime(@Nonnull Audience audience, long seconds) {
+        Message chatMessage = Message.raw("")
+            .insert(prefix)
+            .insert(Message.raw("Overtime! ").color(GOLD_COLOR))
+            .insert(Message.raw(seconds > 0
+                ? "Next capture within " + seconds + " seconds wins."
+                : "Next capture wins."));
+
+        broadcast(audience, chatMessage);
+        showTitle(audience, overtimeTitle, overtimeSubtitle, true);
+
+        plugin.getLogger().atInfo().log("Announced overtime");
+    }
+
     /**
      * Announces that a match has ended.
      *
+     * @param audience The players to announce to
      * @param winner The winning team, or null for a tie
      * @param redScore Final red team score
      * @param blueScore Final blue team score
      */
-    public void announceMatchEnd(@Nullable FlagTeam winner, int redScore, int blueScore) {
-        String resultText;
-        String resultColor;
-
-        if (winner != null) {
-            resultText = winner.getDisplayName().toUpperCase() + " WINS!";
-            resultColor = getTeamColor(winner);
-        } else {
-            resultText = "IT'S A TIE!";
-            resultColor = GOLD_COLOR;
-        }
+    public void announceMatchEnd(@Nonnull Audience audience, @Nullable FlagTeam winner, int redScore, int blueScore) {
+        Message result = winner != null ? winsTitles.get(winner) : tieTitle;
 
         // Chat message
         Message chatMessage = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
-            .insert(Message.raw("Match over! ").color(GRAY_COLOR))
-            .insert(Message.raw(resultText).color(resultColor));
+            .insert(prefix)
+            .insert(matchOverLabel)
+            .insert(result);
 
-        broadcastToAllWorlds(chatMessage);
+        broadcast(audience, chatMessage);
 
         // Final score
         Message scoreMessage = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw("Final Score: "))
             .insert(Message.raw("Red " + redScore).color(RED_COLOR))
             .insert(Message.raw(" - "))
             .insert(Message.raw("Blue " + blueScore).color(BLUE_COLOR));
 
-        broadcastToAllWorlds(scoreMessage);
+        broadcast(audience, scoreMessage);
 
         // Big title
-        Message primaryTitle = Message.raw(resultText).color(resultColor);
         Message secondaryTitle = Message.raw("")
             .insert(Message.raw("Final: Red " + redScore).color(RED_COLOR))
             .insert(Message.raw(" - "))
             .insert(Message.raw("Blue " + blueScore).color(BLUE_COLOR));
 
-        showTitleToAllWorlds(primaryTitle, secondaryTitle, true);
+        showTitle(audience, result, secondaryTitle, true);
 
         // Play victory fanfare
         CTFSoundManager soundManager = plugin.getSoundManager();
         if (soundManager != null) {
-            soundManager.playMatchEnd();
+            soundManager.playMatchEnd(audience);
         }
 
         plugin.getLogger().atInfo().log("Announced match end: {}, final {}-{}",
@@ -264,21 +327,22 @@ public class CTFAnnouncementManager {
     /**
      * Announces that a player joined a team.
      *
+     * @param audience The players to announce to
      * @param playerUuid The UUID of the player
      * @param playerName The display name of the player
      * @param team The team they joined
      */
-    public void announceTeamJoin(@Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam team) {
+    public void announceTeamJoin(@Nonnull Audience audience, @Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam team) {
         String teamColor = getTeamColor(team);
 
         Message message = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw(playerName).color(teamColor))
             .insert(Message.raw(" joined the "))
-            .insert(Message.raw(team.getDisplayName() + " team").color(teamColor))
+            .insert(teamLabels.get(team))
             .insert(Message.raw("."));
 
-        broadcastToAllWorlds(message);
+        broadcast(audience, message);
 
         plugin.getLogger().atInfo().log("Announced team join: {} joined {}", playerName, team);
     }
@@ -286,21 +350,20 @@ public class CTFAnnouncementManager {
     /**
      * Announces that a player left their team.
      *
+     * @param audience The players to announce to
      * @param playerUuid The UUID of the player
      * @param playerName The display name of the player
      * @param team The team they left
      */
-    public void announceTeamLeave(@Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam team) {
-        String teamColor = getTeamColor(team);
-
+    public void announceTeamLeave(@Nonnull Audience audience, @Nonnull UUID playerUuid, @Nonnull String playerName, @Nonnull FlagTeam team) {
         Message message = Message.raw("")
-            .insert(Message.raw("[CTF] ").color(GOLD_COLOR))
+            .insert(prefix)
             .insert(Message.raw(playerName).color(GRAY_COLOR))
             .insert(Message.raw(" left the "))
-            .insert(Message.raw(team.getDisplayName() + " team").color(teamColor))
+            .insert(teamLabels.get(team))
             .insert(Message.raw("."));
 
-        broadcastToAllWorlds(message);
+        broadcast(audience, message);
 
         plugin.getLogger().atInfo().log("Announced team leave: {} left {}", playerName, team);
     }
@@ -319,40 +382,27 @@ public class CTFAnnouncementManager {
     }
 
     /**
-     * Broadcasts a message to all players in all worlds.
+     * Broadcasts a message to every player in an audience.
      */
-    private void broadcastToAllWorlds(@Nonnull Message message) {
-        for (World world : Universe.get().getWorlds().values()) {
-            world.execute(() -> {
-                Store<EntityStore> store = world.getEntityStore().getStore();
-                PlayerUtil.broadcastMessageToPlayers(null, message, store);
-            });
+    private void broadcast(@Nonnull Audience audience, @Nonnull Message message) {
+        for (PlayerRef playerRef : audience.getRecipients()) {
+            playerRef.sendMessage(message);
         }
     }
 
     /**
-     * Shows an event title to all players in all worlds.
+     * Shows an event title to every player in an audience.
      *
+     * @param audience The players to show the title to
      * @param primaryTitle The main title text
      * @param secondaryTitle The subtitle text
      * @param isMajor True for major events (larger display)
      */
-    private void showTitleToAllWorlds(@Nonnull Message primaryTitle, @Nonnull Message secondaryTitle, boolean isMajor) {
-        for (World world : Universe.get().getWorlds().values()) {
-            world.execute(() -> {
-                for (PlayerRef playerRef : world.getPlayerRefs()) {
-                    EventTitleUtil.showEventTitleToPlayer(
-                        playerRef,
-                        primaryTitle,
-                        secondaryTitle,
-                        isMajor,
-                        null,
-                        TITLE_DURATION,
-                        TITLE_FADE_IN,
-                        TITLE_FADE_OUT
-                    );
-                }
-            });
+    private void showTitle(@Nonnull Audience audience, @Nonnull Message primaryTitle,
+                           @Nonnull Message secondaryTitle, boolean isMajor) {
+        // Titles are sent through EventTitleUtil, which builds the packet per player
+        for (PlayerRef playerRef : audience.getRecipients()) {
+            showTitleToPlayer(playerRef, primaryTitle, secondaryTitle, isMajor);
         }
     }
 
@@ -391,55 +441,89 @@ public class CTFAnnouncementManager {
     // ==================== Kill Feed Methods ====================
 
     /**
-     * Sends a custom kill feed entry to all players.
-     * Used for special CTF-related kill messages.
+     * Sends a custom kill feed entry to every player in an audience.
+     * Used for special CTF-related kill messages. The packet is built once
+     * and written to each recipient.
      *
+     * @param audience The players to send the entry to
      * @param killerMessage The killer's display name (with team color)
      * @param victimMessage The victim's display name (with team color)
      * @param icon Optional icon to display (e.g., weapon icon)
      */
-    public void sendKillFeedEntry(@Nullable Message killerMessage, @Nullable Message victimMessage,
+    public void sendKillFeedEntry(@Nonnull Audience audience, @Nullable Message killerMessage, @Nullable Message victimMessage,
                                    @Nullable String icon) {
-        KillFeedMessage packet = new KillFeedMessage(
+        sendKillFeedEntry(audience,
             killerMessage != null ? killerMessage.getFormattedMessage() : null,
             victimMessage != null ? victimMessage.getFormattedMessage() : null,
-            icon
-        );
+            icon);
+    }
+
+    /**
+     * Sends a kill feed entry built from already formatted payloads.
+     */
+    private void sendKillFeedEntry(@Nonnull Audience audience, @Nullable FormattedMessage killer,
+                                   @Nullable FormattedMessage victim, @Nullable String icon) {
+        PlayerRef[] recipients = audience.getRecipients();
+        if (recipients.length == 0) {
+            return;
+        }
 
-        for (World world : Universe.get().getWorlds().values()) {
-            world.execute(() -> {
-                for (PlayerRef playerRef : world.getPlayerRefs()) {
-                    playerRef.getPacketHandler().writeNoCache(packet);
-                }
-            });
+        KillFeedMessage packet = new KillFeedMessage(killer, victim, icon);
+        for (PlayerRef playerRef : recipients) {
+            playerRef.getPacketHandler().writeNoCache(packet);
         }
     }
 
     /**
      * Announces a flag carrier kill in the kill feed.
      *
+     * @param audience The players to announce to
      * @param killerName The killer's name
      * @param killerTeam The killer's team
      * @param victimName The flag carrier's name
      * @param victimTeam The flag carrier's team
      * @param flagTeam The team whose flag was being carried
      */
-    public void announceKillFeedFlagCarrierKill(@Nonnull String killerName, @Nonnull FlagTeam killerTeam,
+    public void announceKillFeedFlagCarrierKill(@Nonnull Audience audience, @Nonnull String killerName, @Nonnull FlagTeam killerTeam,
                                                  @Nonnull String victimName, @Nonnull FlagTeam victimTeam,
                                                  @Nonnull FlagTeam flagTeam) {
-        String killerColor = getTeamColor(killerTeam);
-        String victimColor = getTeamColor(victimTeam);
+        FormattedMessage killer = getKillFeedName(killerName, killerTeam, false);
+        FormattedMessage victim = getKillFeedName(victimName, victimTeam, true);
 
-        Message killerMessage = Message.raw(killerName).color(killerColor);
-        Message victimMessage = Message.raw("")
-            .insert(Message.raw(victimName).color(victimColor))
-            .insert(Message.raw(" [FLAG]").color(GOLD_COLOR));
-
-        sendKillFeedEntry(killerMessage, victimMessage, null);
+        sendKillFeedEntry(audience, killer, victim, null);
 
         plugin.getLogger().atInfo().log("Kill feed: {} stopped flag carrier {}", killerName, victimName);
     }
 
+    /**
+     * Gets the formatted kill feed name for a player, formatting it on first use.
+     * Names repeat across kills in a match, so most entries skip formatting entirely.
+     *
+     * @param flagCarrier True to append the flag carrier marker
+     */
+    @Nonnull
+    private FormattedMessage getKillFeedName(@Nonnull String playerName, @Nonnull FlagTeam team, boolean flagCarrier) {
+        String key = team.ordinal() + (flagCarrier ? "F" : "P") + playerName;
+        FormattedMessage cached = killFeedNames.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        Message message = Message.raw(playerName).color(getTeamColor(team));
+        if (flagCarrier) {
+            message = Message.raw("")
+                .insert(message)
+                .insert(Message.raw(" [FLAG]").color(GOLD_COLOR));
+        }
+
+        if (killFeedNames.size() >= MAX_CACHED_NAMES) {
+            killFeedNames.clear();
+        }
+        FormattedMessage formatted = message.getFormattedMessage();
+        killFeedNames.put(key, formatted);
+        return formatted;
+    }
+
     /**
      * Creates a team-colored player message for kill feed.
      *
@@ -1,44 +1,68 @@
 package com.example.ctf.ui;
 
 import com.example.ctf.CTFPlugin;
+import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.server.core.entity.entities.Player;
 import com.hypixel.hytale.server.core.entity.entities.player.hud.CustomUIHud;
 import com.hypixel.hytale.server.core.entity.entities.player.hud.HudManager;
 import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
-import com.hypixel.hytale.server.core.universe.world.World;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Custom HUD for displaying CTF match scores.
  * Shows red and blue team scores at the top of the screen.
+ *
+ * Field updates go through a {@link HudState}: only values that differ from
+ * what the client shows are sent, and all changes made before the player's
+ * world next runs its task queue are coalesced into one update.
  */
 public class CTFScoreHud extends CustomUIHud {
 
     private static final String RED_COLOR = "#FF4444";
     private static final String BLUE_COLOR = "#4488FF";
 
+    // Field selectors
+    private static final String RED_SCORE_FIELD = "#RedScore.Text";
+    private static final String BLUE_SCORE_FIELD = "#BlueScore.Text";
+
     private final CTFPlugin plugin;
+    private final PlayerRef playerRef;
     private int redScore;
     private int blueScore;
 
+    // Last-sent values and pending changes
+    private final HudState state = new HudState();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+
     // Track all active score HUDs by player UUID
     private static final Map<UUID, CTFScoreHud> activeHuds = new ConcurrentHashMap<>();
 
     public CTFScoreHud(@Nonnull PlayerRef playerRef, @Nonnull CTFPlugin plugin) {
         super(playerRef);
         this.plugin = plugin;
+        this.playerRef = playerRef;
         this.redScore = 0;
         this.blueScore = 0;
     }
 
     @Override
     protected void build(@Nonnull UICommandBuilder commandBuilder) {
+        // The layout below shows 0 - 0; anything else must be sent as a change
+        state.reset();
+        state.markSent(RED_SCORE_FIELD, "0");
+        state.markSent(BLUE_SCORE_FIELD, "0");
+        if (redScore != 0 || blueScore != 0) {
+            setField(RED_SCORE_FIELD, String.valueOf(redScore));
+            setField(BLUE_SCORE_FIELD, String.valueOf(blueScore));
+        }
+
         // Build the score HUD using inline UI definition
         // Container at top center of screen
         commandBuilder.appendInline(null,
@@ -117,11 +141,49 @@ public class CTFScoreHud extends CustomUIHud {
         this.redScore = redScore;
         this.blueScore = blueScore;
 
-        // Send update to client
-        UICommandBuilder commandBuilder = new UICommandBuilder();
-        commandBuilder.set("#RedScore.Text", String.valueOf(redScore));
-        commandBuilder.set("#BlueScore.Text", String.valueOf(blueScore));
-        this.update(false, commandBuilder);
+        setField(RED_SCORE_FIELD, String.valueOf(redScore));
+        setField(BLUE_SCORE_FIELD, String.valueOf(blueScore));
+    }
+
+    /**
+     * Sets a HUD field. Unchanged values are dropped; changed values are sent
+     * together with any other changes on the next flush.
+     *
+     * @param selector The UI selector (e.g. "#RedScore.Text")
+     * @param value The new value
+     */
+    public void setField(@Nonnull String selector, @Nonnull String value) {
+        if (state.set(selector, value)) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * Schedules one flush on the player's world thread, if none is pending.
+     */
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        Ref<EntityStore> ref = playerRef.getReference();
+        if (ref == null || !ref.isValid()) {
+            flush();
+            return;
+        }
+        ref.getStore().getExternalData().getWorld().execute(this::flush);
+    }
+
+    /**
+     * Sends all pending field changes as one update.
+     */
+    private void flush() {
+        flushScheduled.set(false);
+
+        UICommandBuilder commandBuilder = state.drain();
+        if (commandBuilder != null) {
+            this.update(false, commandBuilder);
+        }
     }
 
     /**
@@ -181,46 +243,49 @@ public class CTFScoreHud extends CustomUIHud {
     }
 
     /**
-     * Updates scores on all active HUDs.
+     * Updates scores on the active HUDs of an audience.
      *
+     * @param audience The players whose HUDs show this match
      * @param redScore The red team's score
      * @param blueScore The blue team's score
      */
-    public static void updateAllScores(int redScore, int blueScore) {
-        for (CTFScoreHud hud : activeHuds.values()) {
-            hud.updateScore(redScore, blueScore);
+    public static void updateAllScores(@Nonnull Audience audience, int redScore, int blueScore) {
+        for (PlayerRef playerRef : audience.getRecipients()) {
+            CTFScoreHud hud = activeHuds.get(playerRef.getUuid());
+            if (hud != null) {
+                hud.updateScore(redScore, blueScore);
+            }
         }
     }
 
     /**
-     * Shows the score HUD to all players in all worlds.
+     * Shows the score HUD to every player in an audience.
      *
      * @param plugin The CTF plugin instance
+     * @param audience The players to show the HUD to
      * @param initialRedScore Initial red team score
      * @param initialBlueScore Initial blue team score
      */
-    public static void showToAllPlayers(@Nonnull CTFPlugin plugin, int initialRedScore, int initialBlueScore) {
-        for (World world : Universe.get().getWorlds().values()) {
-            for (PlayerRef playerRef : world.getPlayerRefs()) {
-                showToPlayer(playerRef, plugin);
-                CTFScoreHud hud = activeHuds.get(playerRef.getUuid());
-                if (hud != null) {
-                    hud.updateScore(initialRedScore, initialBlueScore);
-                }
+    public static void showToAllPlayers(@Nonnull CTFPlugin plugin, @Nonnull Audience audience,
+                                        int initialRedScore, int initialBlueScore) {
+        for (PlayerRef playerRef : audience.getRecipients()) {
+            showToPlayer(playerRef, plugin);
+            CTFScoreHud hud = activeHuds.get(playerRef.getUuid());
+            if (hud != null) {
+                hud.updateScore(initialRedScore, initialBlueScore);
             }
         }
     }
 
     /**
-     * Hides the score HUD from all players.
+     * Hides the score HUD from every player in an audience.
+     *
+     * @param audience The players to hide the HUD from
      */
-    public static void hideFromAllPlayers() {
-        for (World world : Universe.get().getWorlds().values()) {
-            for (PlayerRef playerRef : world.getPlayerRefs()) {
-                hideFromPlayer(playerRef);
-            }
+    public static void hideFromAllPlayers(@Nonnull Audience audience) {
+        for (PlayerRef playerRef : audience.getRecipients()) {
+            hideFromPlayer(playerRef);
         }
-        activeHuds.clear();
     }
 
     /**
@@ -2,16 +2,14 @@ package com.example.ctf.ui;
 
 import com.example.ctf.CTFPlugin;
 import com.hypixel.hytale.component.ComponentAccessor;
-import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.protocol.SoundCategory;
+import com.hypixel.hytale.protocol.packets.world.PlaySoundEvent2D;
 import com.hypixel.hytale.server.core.asset.type.soundevent.config.SoundEvent;
 import com.hypixel.hytale.server.core.universe.PlayerRef;
-import com.hypixel.hytale.server.core.universe.Universe;
 import com.hypixel.hytale.server.core.universe.world.SoundUtil;
-import com.hypixel.hytale.server.core.universe.world.World;
-import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 
 /**
  * Manages sound effects for CTF game events.
@@ -19,6 +17,9 @@ import javax.annotation.Nonnull;
  *
  * Sound indices are resolved at runtime from sound event IDs.
  * If a sound is not found, it will be silently skipped.
+ *
+ * Each event's sound packet is built once when the indices resolve and the
+ * same packet is written to every recipient.
  */
 public class CTFSoundManager {
 
@@ -41,7 +42,18 @@ public class CTFSoundManager {
     private int matchStartSoundIndex = -1;
     private int matchEndSoundIndex = -1;
 
-    private boolean soundsResolved = false;
+    // Pre-built sound packets (null when the sound is not configured).
+    // Built once when sounds resolve and written as-is to every recipient.
+    // Sounds play from any world thread, so the packets are published before
+    // the volatile soundsResolved flag and read after it.
+    private volatile PlaySoundEvent2D flagPickupPacket;
+    private volatile PlaySoundEvent2D flagDropPacket;
+    private volatile PlaySoundEvent2D flagCapturePacket;
+    private volatile PlaySoundEvent2D flagReturnPacket;
+    private volatile PlaySoundEvent2D matchStartPacket;
+    private volatile PlaySoundEvent2D matchEndPacket;
+
+    private volatile boolean soundsResolved = false;
 
     public CTFSoundManager(@Nonnull CTFPlugin plugin) {
         this.plugin = plugin;
@@ -64,6 +76,13 @@ public class CTFSoundManager {
         matchStartSoundIndex = resolveSoundIndex(matchStartSound);
         matchEndSoundIndex = resolveSoundIndex(matchEndSound);
 
+        flagPickupPacket = buildPacket(flagPickupSoundIndex, 1.0f, 1.0f);
+        flagDropPacket = buildPacket(flagDropSoundIndex, 1.0f, 1.0f);
+        flagCapturePacket = buildPacket(flagCaptureSoundIndex, 1.2f, 1.0f);
+        flagReturnPacket = buildPacket(flagReturnSoundIndex, 1.0f, 1.0f);
+        matchStartPacket = buildPacket(matchStartSoundIndex, 1.0f, 0.8f);
+        matchEndPacket = buildPacket(matchEndSoundIndex, 1.0f, 1.0f);
+
         soundsResolved = true;
         plugin.getLogger().atInfo().log("Sound indices resolved: pickup={}, drop={}, capture={}, return={}, start={}, end={}",
             flagPickupSoundIndex, flagDropSoundIndex, flagCaptureSoundIndex,
@@ -86,80 +105,81 @@ public class CTFSoundManager {
         return 0; // 0 is treated as "no sound" by SoundUtil
     }
 
+    /**
+     * Builds the 2D sound packet for a resolved sound, or null if there is no sound.
+     */
+    @Nullable
+    private PlaySoundEvent2D buildPacket(int soundIndex, float volume, float pitch) {
+        if (soundIndex == 0) {
+            return null;
+        }
+        return new PlaySoundEvent2D(soundIndex, SoundCategory.SFX, volume, pitch);
+    }
+
     // ==================== Flag Event Sounds ====================
 
     /**
-     * Plays the flag pickup sound to all players.
+     * Plays the flag pickup sound to an audience.
      */
-    public void playFlagPickup() {
+    public void playFlagPickup(@Nonnull Audience audience) {
         resolveSounds();
-        broadcastSound(flagPickupSoundIndex, SoundCategory.SFX);
+        broadcastSound(audience, flagPickupPacket);
     }
 
     /**
-     * Plays the flag drop sound to all players.
+     * Plays the flag drop sound to an audience.
      */
-    public void playFlagDrop() {
+    public void playFlagDrop(@Nonnull Audience audience) {
         resolveSounds();
-        broadcastSound(flagDropSoundIndex, SoundCategory.SFX);
+        broadcastSound(audience, flagDropPacket);
     }
 
     /**
-     * Plays the flag capture sound to all players.
+     * Plays the flag capture sound to an audience.
      */
-    public void playFlagCapture() {
+    public void playFlagCapture(@Nonnull Audience audience) {
         resolveSounds();
-        broadcastSound(flagCaptureSoundIndex, SoundCategory.SFX, 1.2f, 1.0f);
+        broadcastSound(audience, flagCapturePacket);
     }
 
     /**
-     * Plays the flag return sound to all players.
+     * Plays the flag return sound to an audience.
      */
-    public void playFlagReturn() {
+    public void playFlagReturn(@Nonnull Audience audience) {
         resolveSounds();
-        broadcastSound(flagReturnSoundIndex, SoundCategory.SFX);
+        broadcastSound(audience, flagReturnPacket);
     }
 
     // ==================== Match Event Sounds ====================
 
     /**
-     * Plays the match start sound to all players.
+     * Plays the match start sound to an audience.
      */
-    public void playMatchStart() {
+    public void playMatchStart(@Nonnull Audience audience) {
         resolveSounds();
-        broadcastSound(matchStartSoundIndex, SoundCategory.SFX, 1.0f, 0.8f);
+        broadcastSound(audience, matchStartPacket);
     }
 
     /**
-     * Plays the match end sound to all players.
+     * Plays the match end sound to an audience.
      */
-    public void playMatchEnd() {
+    public void playMatchEnd(@Nonnull Audience audience) {
         resolveSounds();
-        broadcastSound(matchEndSoundIndex, SoundCategory.SFX, 1.0f, 1.0f);
+        broadcastSound(audience, matchEndPacket);
     }
 
     // ==================== Helper Methods ====================
 
     /**
-     * Broadcasts a 2D sound to all players in all worlds.
+     * Writes a pre-built 2D sound packet to every player in an audience.
      */
-    private void broadcastSound(int soundIndex, @Nonnull SoundCategory category) {
-        broadcastSound(soundIndex, category, 1.0f, 1.0f);
-    }
-
-    /**
-     * Broadcasts a 2D sound to all players in all worlds with custom volume/pitch.
-     */
-    private void broadcastSound(int soundIndex, @Nonnull SoundCategory category, float volume, float pitch) {
-        if (soundIndex == 0) {
+    private void broadcastSound(@Nonnull Audience audience, @Nullable PlaySoundEvent2D packet) {
+        if (packet == null) {
             return; // No sound configured
         }
 
-        for (World world : Universe.get().getWorlds().values()) {
-            world.execute(() -> {
-                Store<EntityStore> store = world.getEntityStore().getStore();
-                SoundUtil.playSoundEvent2d(soundIndex, category, volume, pitch, store);
-            });
+        for (PlayerRef playerRef : audience.getRecipients()) {
+            playerRef.getPacketHandler().write(packet);
         }
     }
 
@@ -0,0 +1,90 @@
+package com.example.ctf.ui;
+
+import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Tracks what one player's HUD last received so only changed fields are sent.
+ *
+ * HUD code sets field values (selector -> text) as often as it likes. Values
+ * equal to what the client already shows are dropped; the rest are held as
+ * pending until {@link #drain()} turns them into a single UICommandBuilder.
+ * Setting the same field twice before a drain keeps only the last value.
+ *
+ * Thread-safe; writers may be on any thread.
+ */
+public class HudState {
+
+    // Selector -> value the client currently shows
+    private final Map<String, String> sent = new HashMap<>();
+
+    // Selector -> value waiting for the next drain, in first-set order
+    private final Map<String, String> pending = new LinkedHashMap<>();
+
+    /**
+     * Records a value the client already shows (e.g. the initial text from the HUD layout).
+     */
+    public synchronized void markSent(@Nonnull String selector, @Nonnull String value) {
+        sent.put(selector, value);
+        pending.remove(selector);
+    }
+
+    /**
+     * Sets a field value.
+     *
+     * @return true if this made the state dirty (the caller should schedule a drain)
+     */
+    public synchronized boolean set(@Nonnull String selector, @Nonnull String value) {
+        boolean wasDirty = !pending.isEmpty();
+
+        if (Objects.equals(sent.get(selector), value)) {
+            // Back to what the client shows; drop any pending change
+            pending.remove(selector);
+        } else {
+            pending.put(selector, value);
+        }
+
+        return !wasDirty && !pending.isEmpty();
+    }
+
+    /**
+     * Checks if any field has a change waiting to be sent.
+     */
+    public synchronized boolean isDirty() {
+        return !pending.isEmpty();
+    }
+
+    /**
+     * Moves all pending changes into one command builder and marks them as sent.
+     *
+     * @return The commands to send, or null if nothing changed
+     */
+    @Nullable
+    public synchronized UICommandBuilder drain() {
+        if (pending.isEmpty()) {
+            return null;
+        }
+
+        UICommandBuilder commandBuilder = new UICommandBuilder();
+        for (Map.Entry<String, String> entry : pending.entrySet()) {
+            commandBuilder.set(entry.getKey(), entry.getValue());
+            sent.put(entry.getKey(), entry.getValue());
+        }
+        pending.clear();
+        return commandBuilder;
+    }
+
+    /**
+     * Forgets everything sent, for when the HUD is rebuilt from its layout.
+     */
+    public synchronized void reset() {
+        sent.clear();
+        pending.clear();
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.ctf.zone;
+
+import com.example.ctf.FlagTeam;
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable area tracked by {@link ZoneTracker}.
+ *
+ * Zones are either spheres (capture zones) or axis-aligned boxes. Each zone
+ * has a unique id, an optional owning team and a type that listeners use to
+ * pick out the zones they care about.
+ */
+public final class Zone {
+
+    /**
+     * What a zone is used for.
+     */
+    public enum Type {
+        CAPTURE,
+        SPAWN,
+        CUSTOM
+    }
+
+    private final String id;
+    private final Type type;
+    @Nullable
+    private final FlagTeam team;
+
+    // Bounding box (exact for boxes, enclosing for spheres)
+    private final double minX, minY, minZ;
+    private final double maxX, maxY, maxZ;
+
+    // Sphere parameters; radiusSquared < 0 for boxes
+    private final double centerX, centerY, centerZ;
+    private final double radiusSquared;
+
+    private Zone(@Nonnull String id, @Nonnull Type type, @Nullable FlagTeam team,
+                 double minX, double minY, double minZ, double maxX, double maxY, double maxZ,
+                 double centerX, double centerY, double centerZ, double radiusSquared) {
+        this.id = id;
+        this.type = type;
+        this.team = team;
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+        this.centerX = centerX;
+        this.centerY = centerY;
+        this.centerZ = centerZ;
+        this.radiusSquared = radiusSquared;
+    }
+
+    /**
+     * Creates a spherical zone.
+     */
+    @Nonnull
+    public static Zone sphere(@Nonnull String id, @Nonnull Type type, @Nullable FlagTeam team,
+                              @Nonnull Vector3d center, double radius) {
+        double r = Math.max(0, radius);
+        return new Zone(id, type, team,
+            center.getX() - r, center.getY() - r, center.getZ() - r,
+            center.getX() + r, center.getY() + r, center.getZ() + r,
+            center.getX(), center.getY(), center.getZ(), r * r);
+    }
+
+    /**
+     * Creates an axis-aligned box zone. Corners may be given in any order.
+     */
+    @Nonnull
+    public static Zone box(@Nonnull String id, @Nonnull Type type, @Nullable FlagTeam team,
+                           @Nonnull Vector3d corner1, @Nonnull Vector3d corner2) {
+        return new Zone(id, type, team,
+            Math.min(corner1.getX(), corner2.getX()),
+            Math.min(corner1.getY(), corner2.getY()),
+            Math.min(corner1.getZ(), corner2.getZ()),
+            Math.max(corner1.getX(), corner2.getX()),
+            Math.max(corner1.getY(), corner2.getY()),
+            Math.max(corner1.getZ(), corner2.getZ()),
+            0, 0, 0, -1);
+    }
+
+    /**
+     * Checks if a position is inside this zone.
+     */
+    public boolean contains(double x, double y, double z) {
+        if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+            return false;
+        }
+        if (radiusSquared < 0) {
+            return true;
+        }
+        double dx = x - centerX;
+        double dy = y - centerY;
+        double dz = z - centerZ;
+        return dx * dx + dy * dy + dz * dz <= radiusSquared;
+    }
+
+    @Nonnull
+    public String getId() {
+        return id;
+    }
+
+    @Nonnull
+    public Type getType() {
+        return type;
+    }
+
+    @Nullable
+    public FlagTeam getTeam() {
+        return team;
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinZ() {
+        return minZ;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxZ() {
+        return maxZ;
+    }
+
+    @Override
+    public String toString() {
+        return "Zone{" + id + ", " + type + (team != null ? ", " + team : "") + "}";
+    }
+}
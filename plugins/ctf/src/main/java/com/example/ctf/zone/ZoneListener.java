@@ -0,0 +1,25 @@
+package com.example.ctf.zone;
+
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Receives zone enter/exit events from {@link ZoneTracker}.
+ *
+ * Callbacks run on the world thread that reported the player's movement.
+ */
+public interface ZoneListener {
+
+    /**
+     * Called when a player moves into a zone.
+     */
+    void onZoneEnter(@Nonnull UUID playerUuid, @Nonnull Zone zone, @Nonnull Vector3d position);
+
+    /**
+     * Called when a player leaves a zone, disconnects, or the zone is removed.
+     */
+    default void onZoneExit(@Nonnull UUID playerUuid, @Nonnull Zone zone) {
+    }
+}
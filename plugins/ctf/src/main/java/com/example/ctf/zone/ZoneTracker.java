@@ -0,0 +1,293 @@
+package com.example.ctf.zone;
+
+import com.example.ctf.CTFPlugin;
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Tracks which zones each player is in and emits enter/exit events.
+ *
+ * Zones are kept in an immutable coarse grid (16x16 block cells in X/Z)
+ * rebuilt whenever they change. A position update is dropped if the player
+ * has barely moved, and costs one cell lookup if the player is nowhere near
+ * a zone, so feeding every player's position each tick stays cheap.
+ *
+ * Listeners subscribe with {@link #addListener} instead of polling positions.
+ */
+public class ZoneTracker {
+
+    private static final int CELL_SHIFT = 4;
+    private static final int MAX_GRID_CELLS = 4096;
+
+    // Ignore movement below 0.1 blocks
+    private static final double MOVE_EPSILON_SQUARED = 0.01;
+
+    private static final Zone[] NO_ZONES = new Zone[0];
+
+    private final CTFPlugin plugin;
+
+    private volatile ZoneGrid grid = new ZoneGrid(List.of());
+    private final Map<UUID, PlayerZoneState> players = new ConcurrentHashMap<>();
+    private final List<ZoneListener> listeners = new CopyOnWriteArrayList<>();
+
+    public ZoneTracker(@Nonnull CTFPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    // ==================== Zones ====================
+
+    /**
+     * Replaces all zones of one type, keeping zones of other types.
+     * Players inside a removed or changed zone get an exit event on their next update.
+     */
+    public synchronized void setZones(@Nonnull Zone.Type type, @Nonnull Collection<Zone> zones) {
+        List<Zone> combined = new ArrayList<>(zones);
+        for (Zone zone : grid.zones) {
+            if (zone.getType() != type) {
+                combined.add(zone);
+            }
+        }
+        grid = new ZoneGrid(combined);
+    }
+
+    /**
+     * Gets all tracked zones.
+     */
+    @Nonnull
+    public List<Zone> getZones() {
+        return List.of(grid.zones);
+    }
+
+    public boolean hasZones() {
+        return grid.zones.length > 0;
+    }
+
+    // ==================== Listeners ====================
+
+    public void addListener(@Nonnull ZoneListener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(@Nonnull ZoneListener listener) {
+        listeners.remove(listener);
+    }
+
+    // ==================== Player Updates ====================
+
+    /**
+     * Reports a player's position. Emits enter/exit events for any change in zone membership.
+     */
+    public void update(@Nonnull UUID playerUuid, @Nonnull Vector3d position) {
+        ZoneGrid g = grid;
+        double x = position.getX();
+        double y = position.getY();
+        double z = position.getZ();
+
+        PlayerZoneState state = players.computeIfAbsent(playerUuid, k -> new PlayerZoneState());
+        if (state.grid == g) {
+            double dx = x - state.lastX;
+            double dy = y - state.lastY;
+            double dz = z - state.lastZ;
+            if (dx * dx + dy * dy + dz * dz < MOVE_EPSILON_SQUARED) {
+                return;
+            }
+        }
+        state.lastX = x;
+        state.lastY = y;
+        state.lastZ = z;
+
+        Zone[] candidates = g.candidates(x, z);
+        if (candidates.length == 0 && state.inside.length == 0) {
+            // Far from every zone and not in one: nothing can change
+            state.grid = g;
+            return;
+        }
+
+        List<Zone> exited = null;
+        List<Zone> entered = null;
+        List<Zone> inside = new ArrayList<>(state.inside.length + 1);
+
+        for (Zone zone : state.inside) {
+            if (g.isCurrent(zone) && zone.contains(x, y, z)) {
+                inside.add(zone);
+            } else {
+                if (exited == null) {
+                    exited = new ArrayList<>(1);
+                }
+                exited.add(zone);
+            }
+        }
+
+        for (Zone zone : candidates) {
+            if (!zone.contains(x, y, z) || inside.contains(zone)) {
+                continue;
+            }
+            inside.add(zone);
+            if (entered == null) {
+                entered = new ArrayList<>(1);
+            }
+            entered.add(zone);
+        }
+
+        state.inside = inside.isEmpty() ? NO_ZONES : inside.toArray(NO_ZONES);
+        state.grid = g;
+
+        // Fire after the state is updated so listeners see the new membership
+        if (exited != null) {
+            for (Zone zone : exited) {
+                fireExit(playerUuid, zone);
+            }
+        }
+        if (entered != null) {
+            for (Zone zone : entered) {
+                fireEnter(playerUuid, zone, position);
+            }
+        }
+    }
+
+    /**
+     * Stops tracking a player (e.g. on disconnect), emitting exits for zones they were in.
+     */
+    public void removePlayer(@Nonnull UUID playerUuid) {
+        PlayerZoneState state = players.remove(playerUuid);
+        if (state == null) {
+            return;
+        }
+        for (Zone zone : state.inside) {
+            fireExit(playerUuid, zone);
+        }
+    }
+
+    /**
+     * Checks if a player is currently inside a zone.
+     */
+    public boolean isInZone(@Nonnull UUID playerUuid, @Nonnull String zoneId) {
+        PlayerZoneState state = players.get(playerUuid);
+        if (state == null) {
+            return false;
+        }
+        for (Zone zone : state.inside) {
+            if (zone.getId().equals(zoneId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the zones a player is currently inside.
+     */
+    @Nonnull
+    public List<Zone> getZonesOf(@Nonnull UUID playerUuid) {
+        PlayerZoneState state = players.get(playerUuid);
+        return state != null ? List.of(state.inside) : List.of();
+    }
+
+    /**
+     * Forgets all players and zones.
+     */
+    public synchronized void clear() {
+        players.clear();
+        grid = new ZoneGrid(List.of());
+    }
+
+    private void fireEnter(UUID playerUuid, Zone zone, Vector3d position) {
+        for (ZoneListener listener : listeners) {
+            try {
+                listener.onZoneEnter(playerUuid, zone, position);
+            } catch (Exception e) {
+                plugin.getLogger().atWarning().withCause(e)
+                    .log("Zone listener failed on enter {} for {}", zone.getId(), playerUuid);
+            }
+        }
+    }
+
+    private void fireExit(UUID playerUuid, Zone zone) {
+        for (ZoneListener listener : listeners) {
+            try {
+                listener.onZoneExit(playerUuid, zone);
+            } catch (Exception e) {
+                plugin.getLogger().atWarning().withCause(e)
+                    .log("Zone listener failed on exit {} for {}", zone.getId(), playerUuid);
+            }
+        }
+    }
+
+    // ==================== Internal Classes ====================
+
+    /**
+     * Per-player tracking state. Only touched from the player's world thread.
+     */
+    private static class PlayerZoneState {
+        double lastX;
+        double lastY;
+        double lastZ;
+        Zone[] inside = NO_ZONES;
+        ZoneGrid grid;
+    }
+
+    /**
+     * Immutable coarse grid of zones by X/Z cell.
+     */
+    private static final class ZoneGrid {
+        final Zone[] zones;
+        final Map<String, Zone> byId = new HashMap<>();
+        final Map<Long, Zone[]> cells = new HashMap<>();
+
+        // Zones spanning too many cells, checked for every position
+        final Zone[] unbucketed;
+
+        ZoneGrid(Collection<Zone> zones) {
+            this.zones = zones.toArray(NO_ZONES);
+
+            Map<Long, List<Zone>> building = new HashMap<>();
+            List<Zone> large = new ArrayList<>();
+            for (Zone zone : this.zones) {
+                byId.put(zone.getId(), zone);
+
+                int minCx = (int) Math.floor(zone.getMinX()) >> CELL_SHIFT;
+                int maxCx = (int) Math.floor(zone.getMaxX()) >> CELL_SHIFT;
+                int minCz = (int) Math.floor(zone.getMinZ()) >> CELL_SHIFT;
+                int maxCz = (int) Math.floor(zone.getMaxZ()) >> CELL_SHIFT;
+                if ((long) (maxCx - minCx + 1) * (maxCz - minCz + 1) > MAX_GRID_CELLS) {
+                    large.add(zone);
+                    continue;
+                }
+                for (int cx = minCx; cx <= maxCx; cx++) {
+                    for (int cz = minCz; cz <= maxCz; cz++) {
+                        building.computeIfAbsent(cellKey(cx, cz), k -> new ArrayList<>()).add(zone);
+                    }
+                }
+            }
+
+            this.unbucketed = large.toArray(NO_ZONES);
+            for (Map.Entry<Long, List<Zone>> entry : building.entrySet()) {
+                List<Zone> cellZones = entry.getValue();
+                cellZones.addAll(large);
+                cells.put(entry.getKey(), cellZones.toArray(NO_ZONES));
+            }
+        }
+
+        Zone[] candidates(double x, double z) {
+            Zone[] cell = cells.get(cellKey((int) Math.floor(x) >> CELL_SHIFT, (int) Math.floor(z) >> CELL_SHIFT));
+            return cell != null ? cell : unbucketed;
+        }
+
+        boolean isCurrent(Zone zone) {
+            return byId.get(zone.getId()) == zone;
+        }
+
+        static long cellKey(int cx, int cz) {
+            return ((long) cx << 32) | (cz & 0xFFFFFFFFL);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.ctf.zone;
+
+import com.example.ctf.instance.CTFInstance;
+import com.example.ctf.instance.CTFInstanceManager;
+import com.hypixel.hytale.component.ArchetypeChunk;
+import com.hypixel.hytale.component.CommandBuffer;
+import com.hypixel.hytale.component.Store;
+import com.hypixel.hytale.component.query.Query;
+import com.hypixel.hytale.component.system.tick.EntityTickingSystem;
+import com.hypixel.hytale.server.core.modules.entity.component.TransformComponent;
+import com.hypixel.hytale.server.core.universe.PlayerRef;
+import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Feeds player positions into the {@link ZoneTracker} and the player position
+ * grid of the CTF instance running in the ticking world.
+ */
+public class ZoneTrackingSystem extends EntityTickingSystem<EntityStore> {
+
+    private final CTFInstanceManager instanceManager;
+
+    public ZoneTrackingSystem(@Nonnull CTFInstanceManager instanceManager) {
+        this.instanceManager = instanceManager;
+    }
+
+    @Nonnull
+    @Override
+    public Query<EntityStore> getQuery() {
+        return Query.and(PlayerRef.getComponentType(), TransformComponent.getComponentType());
+    }
+
+    @Override
+    public void tick(float dt, int index, @Nonnull ArchetypeChunk<EntityStore> archetypeChunk,
+                     @Nonnull Store<EntityStore> store, @Nonnull CommandBuffer<EntityStore> commandBuffer) {
+        PlayerRef playerRef = archetypeChunk.getComponent(index, PlayerRef.getComponentType());
+        TransformComponent transform = archetypeChunk.getComponent(index, TransformComponent.getComponentType());
+        if (playerRef == null || transform == null) {
+            return;
+        }
+
+        CTFInstance instance = instanceManager.getInstance(store.getExternalData().getWorld());
+        instance.getZoneTracker().update(playerRef.getUuid(), transform.getPosition());
+        instance.getPlayerPositions().update(playerRef.getUuid(), transform.getPosition());
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.ctf.sim;
+
+import javax.annotation.Nonnull;
+import java.util.Random;
+
+/**
+ * Headless CTF load test. Runs full matches of scripted bots against the
+ * plugin's flag, spawn, zone and protection code without a server or clients,
+ * and reports tick cost and invariant violations.
+ *
+ * <pre>
+ * ./gradlew runSimulation -PsimArgs="--players 64 --matches 3 --seed 1"
+ * </pre>
+ *
+ * Options: {@code --players} (per team, default 64), {@code --matches} (default 3),
+ * {@code --seed}, {@code --regions} (protected regions, default 200),
+ * {@code --score-limit} (default 3), {@code --warmup}, {@code --time-limit}
+ * and {@code --overtime} (seconds of game time; defaults match {@code MatchManager}).
+ *
+ * Exits with status 1 if any match broke an invariant.
+ */
+public final class CTFSimulation {
+
+    /**
+     * Match and load settings.
+     */
+    record Options(int playersPerTeam, int matches, long seed, int regions, int scoreLimit,
+                   int warmupSeconds, int timeLimitSeconds, int overtimeSeconds) {
+    }
+
+    // Stops a match that somehow never ends (e.g. a broken phase transition)
+    private static final long MAX_TICKS_PER_MATCH = 24L * 60 * 60 * 1000 / SimMatch.TICK_MILLIS;
+
+    private CTFSimulation() {
+    }
+
+    public static void main(String[] args) {
+        Options options = parse(args);
+        System.out.printf("CTF simulation: %dv%d, %d match(es), %d regions, seed %d%n",
+            options.playersPerTeam(), options.playersPerTeam(), options.matches(), options.regions(), options.seed());
+
+        Random random = new Random(options.seed());
+        TickStats overall = new TickStats();
+        int violations = 0;
+
+        for (int i = 1; i <= options.matches(); i++) {
+            SimMatch match = new SimMatch(options, random);
+            long start = System.nanoTime();
+            match.start();
+            long ticks = 0;
+            while (!match.isEnded() && ticks < MAX_TICKS_PER_MATCH) {
+                match.tick();
+                ticks++;
+            }
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+            System.out.printf("Match %d (%d ms wall clock)%s%n", i, elapsedMillis,
+                match.isEnded() ? "" : " - stopped after " + ticks + " ticks without ending");
+            System.out.print(match.describe());
+
+            violations += match.getViolationCount() + (match.isEnded() ? 0 : 1);
+            overall.merge(match.getTickStats());
+        }
+
+        System.out.println("Overall tick cost: " + overall.describe());
+        System.out.println("Total invariant violations: " + violations);
+        if (violations > 0) {
+            System.exit(1);
+        }
+    }
+
+    @Nonnull
+    private static Options parse(@Nonnull String[] args) {
+        int players = 64;
+        int matches = 3;
+        long seed = System.nanoTime();
+        int regions = 200;
+        int scoreLimit = 3;
+        int warmup = 10;
+        int timeLimit = 600;
+        int overtime = 120;
+
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + arg);
+            }
+            String value = args[++i];
+            switch (arg) {
+                case "--players" -> players = Integer.parseInt(value);
+                case "--matches" -> matches = Integer.parseInt(value);
+                case "--seed" -> seed = Long.parseLong(value);
+                case "--regions" -> regions = Integer.parseInt(value);
+                case "--score-limit" -> scoreLimit = Integer.parseInt(value);
+                case "--warmup" -> warmup = Integer.parseInt(value);
+                case "--time-limit" -> timeLimit = Integer.parseInt(value);
+                case "--overtime" -> overtime = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option " + arg);
+            }
+        }
+        if (players < 1 || matches < 1 || regions < 0 || scoreLimit < 1) {
+            throw new IllegalArgumentException("players, matches and score limit must be positive");
+        }
+        return new Options(players, matches, seed, regions, scoreLimit, warmup, timeLimit, overtime);
+    }
+}
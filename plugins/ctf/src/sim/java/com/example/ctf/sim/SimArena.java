@@ -0,0 +1,88 @@
+package com.example.ctf.sim;
+
+import com.example.ctf.FlagTeam;
+import com.example.ctf.arena.ProtectedRegion;
+import com.example.ctf.arena.ProtectedRegionIndex;
+import com.example.ctf.zone.Zone;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * A symmetric two-base arena laid out in code: flag stands on the X axis,
+ * a row of spawns behind each stand, capture zones on the stands and
+ * protected regions around the bases plus scattered across the field.
+ */
+final class SimArena {
+
+    static final double GROUND_Y = 64.0;
+    static final double BASE_X = 150.0;
+    static final double CAPTURE_RADIUS = 5.0;
+    static final int SPAWNS_PER_TEAM = 8;
+
+    private final Vector3d[] stands = new Vector3d[FlagTeam.values().length];
+    private final Zone[] captureZones = new Zone[FlagTeam.values().length];
+    private final Transform[][] spawns = new Transform[FlagTeam.values().length][];
+    private final ProtectedRegionIndex regionIndex;
+
+    SimArena(int regionCount, @Nonnull Random random) {
+        for (FlagTeam team : FlagTeam.values()) {
+            double side = team == FlagTeam.RED ? -1 : 1;
+            Vector3d stand = new Vector3d(side * BASE_X, GROUND_Y, 0);
+            stands[team.ordinal()] = stand;
+            captureZones[team.ordinal()] = Zone.sphere(team.name().toLowerCase() + "_capture",
+                Zone.Type.CAPTURE, team, stand, CAPTURE_RADIUS);
+
+            Transform[] teamSpawns = new Transform[SPAWNS_PER_TEAM];
+            for (int i = 0; i < SPAWNS_PER_TEAM; i++) {
+                double z = (i - (SPAWNS_PER_TEAM - 1) / 2.0) * 10.0;
+                teamSpawns[i] = new Transform(new Vector3d(side * (BASE_X + 20), GROUND_Y, z));
+            }
+            spawns[team.ordinal()] = teamSpawns;
+        }
+
+        List<ProtectedRegion> regions = new ArrayList<>(regionCount);
+        for (FlagTeam team : FlagTeam.values()) {
+            if (regions.size() >= regionCount) {
+                break;
+            }
+            Vector3d stand = stands[team.ordinal()];
+            regions.add(new ProtectedRegion(team.name().toLowerCase() + "_base",
+                new Vector3d(stand.getX() - 30, GROUND_Y - 5, -40),
+                new Vector3d(stand.getX() + 30, GROUND_Y + 20, 40)));
+        }
+        while (regions.size() < regionCount) {
+            double x = (random.nextDouble() * 2 - 1) * (BASE_X + 40);
+            double z = (random.nextDouble() * 2 - 1) * 120;
+            double size = 2 + random.nextInt(12);
+            regions.add(new ProtectedRegion("field_" + regions.size(),
+                new Vector3d(x, GROUND_Y - 2, z),
+                new Vector3d(x + size, GROUND_Y + size, z + size)));
+        }
+        this.regionIndex = new ProtectedRegionIndex(regions.toArray(new ProtectedRegion[0]));
+    }
+
+    @Nonnull
+    Vector3d getStand(@Nonnull FlagTeam team) {
+        return stands[team.ordinal()];
+    }
+
+    @Nonnull
+    Zone getCaptureZone(@Nonnull FlagTeam team) {
+        return captureZones[team.ordinal()];
+    }
+
+    @Nonnull
+    Transform[] getSpawns(@Nonnull FlagTeam team) {
+        return spawns[team.ordinal()];
+    }
+
+    @Nonnull
+    ProtectedRegionIndex getRegionIndex() {
+        return regionIndex;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.ctf.sim;
+
+import com.example.ctf.FlagTeam;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * A scripted player. Stands in for the {@code PlayerRef} and the entity
+ * components (position, health, carried flag) the live plugin reads from the store.
+ */
+final class SimBot {
+
+    enum Role {
+        ATTACKER,
+        DEFENDER
+    }
+
+    final UUID uuid;
+    final String name;
+    final FlagTeam team;
+    final Role role;
+
+    double x, y, z;
+    boolean alive;
+    long respawnAt;
+
+    // Team whose flag this bot carries, or null
+    @Nullable
+    FlagTeam carrying;
+
+    // Patrol target for defenders, re-rolled when reached
+    double patrolX, patrolZ;
+
+    SimBot(@Nonnull UUID uuid, @Nonnull String name, @Nonnull FlagTeam team, @Nonnull Role role) {
+        this.uuid = uuid;
+        this.name = name;
+        this.team = team;
+        this.role = role;
+    }
+
+    double distanceSquared(double tx, double ty, double tz) {
+        double dx = tx - x;
+        double dy = ty - y;
+        double dz = tz - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Moves up to {@code step} blocks toward a point on the X/Z plane.
+     */
+    void moveToward(double tx, double tz, double step) {
+        double dx = tx - x;
+        double dz = tz - z;
+        double distance = Math.sqrt(dx * dx + dz * dz);
+        if (distance <= step) {
+            x = tx;
+            z = tz;
+        } else {
+            x += dx / distance * step;
+            z += dz / distance * step;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name + "(" + team + ")";
+    }
+}
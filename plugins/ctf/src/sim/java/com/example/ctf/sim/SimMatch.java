@@ -0,0 +1,471 @@
+package com.example.ctf.sim;
+
+import com.example.ctf.FlagData;
+import com.example.ctf.FlagRules;
+import com.example.ctf.FlagTeam;
+import com.example.ctf.arena.ProtectedRegionIndex;
+import com.example.ctf.match.MatchState;
+import com.example.ctf.spawn.PlayerPositionGrid;
+import com.example.ctf.spawn.SpawnSelector;
+import com.hypixel.hytale.math.vector.Transform;
+import com.hypixel.hytale.math.vector.Vector3d;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * One simulated match. Stands in for the world and its entity store: owns
+ * every bot, advances a virtual clock by one server tick per {@link #tick()},
+ * and applies the plugin's own {@link FlagRules} (the rules
+ * {@code FlagCarrierManager} and {@code MatchManager} use) to its {@link FlagData},
+ * {@link PlayerPositionGrid}, {@link SpawnSelector}, capture zones and
+ * {@link ProtectedRegionIndex}.
+ *
+ * After every tick the match checks its invariants (one carrier per flag,
+ * carriers alive and on the enemy team, grid in step with live bots, balanced
+ * teams, scores within the limit) and records any violation.
+ */
+final class SimMatch {
+
+    static final long TICK_MILLIS = 50;
+
+    private static final double MOVE_PER_TICK = 0.28;       // ~5.6 blocks/s
+    private static final double CARRIER_SPEED_FACTOR = 0.8;
+    private static final double PICKUP_RANGE = 2.0;
+    private static final double ASSIST_RANGE = 30.0;
+    private static final double PATROL_RADIUS = 20.0;
+    private static final double COMBAT_RADIUS = 8.0;
+    private static final double KILL_CHANCE_PER_THREAT = 0.004;
+    private static final long RESPAWN_MILLIS = 3000;
+    private static final int MAX_VIOLATIONS_KEPT = 20;
+
+    private final CTFSimulation.Options options;
+    private final Random random;
+    private final SimArena arena;
+    private final SimTeams teams = new SimTeams();
+    private final PlayerPositionGrid grid = new PlayerPositionGrid();
+    private final SpawnSelector spawnSelector = new SpawnSelector(grid, teams);
+
+    private final List<SimBot> bots = new ArrayList<>();
+    private final Map<UUID, SimBot> botsByUuid = new HashMap<>();
+    private final Map<FlagTeam, FlagData> flags = new EnumMap<>(FlagTeam.class);
+    private final int[] scores = new int[FlagTeam.values().length];
+
+    // Virtual-clock stand-in for the instance's MatchScheduler
+    private final PriorityQueue<SimTimer> timers = new PriorityQueue<>(
+        Comparator.comparingLong(SimTimer::dueAt).thenComparingLong(SimTimer::sequence));
+    private long timerSequence;
+
+    private final TickStats tickStats = new TickStats();
+    private final List<String> violations = new ArrayList<>();
+    private int violationCount;
+
+    private MatchState state = MatchState.WAITING;
+    private long now;
+    private long phaseEndsAt;
+    @Nullable
+    private FlagTeam winner;
+
+    // Counters
+    private int pickups, drops, returns, timeoutReturns, captures, kills;
+    private int buildsPlaced, buildsDenied;
+
+    SimMatch(@Nonnull CTFSimulation.Options options, @Nonnull Random random) {
+        this.options = options;
+        this.random = random;
+        this.arena = new SimArena(options.regions(), random);
+
+        for (FlagTeam team : FlagTeam.values()) {
+            FlagData flag = new FlagData(team);
+            flag.setStandPosition(arena.getStand(team));
+            flags.put(team, flag);
+        }
+
+        int total = options.playersPerTeam() * 2;
+        for (int i = 0; i < total; i++) {
+            UUID uuid = new UUID(random.nextLong(), random.nextLong());
+            FlagTeam team = teams.autoAssign(uuid);
+            // Every third bot on a team defends
+            SimBot.Role role = (i / 2) % 3 == 0 ? SimBot.Role.DEFENDER : SimBot.Role.ATTACKER;
+            SimBot bot = new SimBot(uuid, "Bot" + i, team, role);
+            bots.add(bot);
+            botsByUuid.put(uuid, bot);
+        }
+    }
+
+    // ==================== Lifecycle ====================
+
+    /**
+     * Spawns every bot and starts the warmup, as {@code MatchManager.startMatch} does.
+     */
+    void start() {
+        for (SimBot bot : bots) {
+            spawn(bot);
+        }
+        setPhase(MatchState.WARMUP, options.warmupSeconds());
+    }
+
+    boolean isEnded() {
+        return state == MatchState.ENDED;
+    }
+
+    /**
+     * Advances the match by one server tick and checks invariants.
+     */
+    void tick() {
+        long start = System.nanoTime();
+
+        now += TICK_MILLIS;
+        advancePhase();
+        if (state.isRunning()) {
+            runTimers();
+            respawnBots();
+            if (state.isPlaying()) {
+                moveBots();
+                fight();
+                build();
+            }
+        }
+
+        tickStats.record(System.nanoTime() - start);
+        checkInvariants();
+    }
+
+    private void advancePhase() {
+        if (now < phaseEndsAt) {
+            return;
+        }
+        switch (state) {
+            case WARMUP -> setPhase(MatchState.ACTIVE, options.timeLimitSeconds());
+            case ACTIVE -> {
+                FlagTeam leader = getLeader();
+                if (leader != null) {
+                    end(leader);
+                } else {
+                    setPhase(MatchState.OVERTIME, options.overtimeSeconds());
+                }
+            }
+            case OVERTIME -> end(null);
+            default -> {
+            }
+        }
+    }
+
+    private void setPhase(@Nonnull MatchState phase, int seconds) {
+        state = phase;
+        phaseEndsAt = now + seconds * 1000L;
+    }
+
+    private void end(@Nullable FlagTeam winningTeam) {
+        winner = winningTeam;
+        state = MatchState.ENDED;
+    }
+
+    @Nullable
+    private FlagTeam getLeader() {
+        int red = scores[FlagTeam.RED.ordinal()];
+        int blue = scores[FlagTeam.BLUE.ordinal()];
+        if (red == blue) {
+            return null;
+        }
+        return red > blue ? FlagTeam.RED : FlagTeam.BLUE;
+    }
+
+    // ==================== Rules ====================
+
+    private void schedule(@Nonnull Runnable task, long delayMillis) {
+        timers.add(new SimTimer(now + delayMillis, timerSequence++, task));
+    }
+
+    /**
+     * Runs every timer due by the virtual clock, in the order they fall due.
+     */
+    private void runTimers() {
+        while (!timers.isEmpty() && timers.peek().dueAt() <= now) {
+            timers.poll().task().run();
+        }
+    }
+
+    private void respawnBots() {
+        for (SimBot bot : bots) {
+            if (!bot.alive && now >= bot.respawnAt) {
+                spawn(bot);
+            }
+        }
+    }
+
+    private void spawn(@Nonnull SimBot bot) {
+        Transform spawn = spawnSelector.select(bot.team, arena.getSpawns(bot.team));
+        Vector3d position = spawn != null ? spawn.getPosition() : arena.getStand(bot.team);
+        bot.x = position.getX();
+        bot.y = position.getY();
+        bot.z = position.getZ();
+        bot.alive = true;
+        bot.patrolX = bot.x;
+        bot.patrolZ = bot.z;
+        grid.update(bot.uuid, position);
+    }
+
+    private void moveBots() {
+        for (SimBot bot : bots) {
+            if (!bot.alive) {
+                continue;
+            }
+            steer(bot);
+            grid.update(bot.uuid, new Vector3d(bot.x, bot.y, bot.z));
+            interact(bot);
+            if (state == MatchState.ENDED) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Picks a target for a bot and moves it one tick toward it.
+     */
+    private void steer(@Nonnull SimBot bot) {
+        FlagData ownFlag = flags.get(bot.team);
+        FlagData enemyFlag = flags.get(bot.team.getOpposite());
+        Vector3d ownStand = arena.getStand(bot.team);
+        double step = bot.carrying != null ? MOVE_PER_TICK * CARRIER_SPEED_FACTOR : MOVE_PER_TICK;
+
+        if (bot.carrying != null) {
+            bot.moveToward(ownStand.getX(), ownStand.getZ(), step);
+            return;
+        }
+
+        Vector3d ownDropped = ownFlag.getDroppedPosition();
+        if (ownDropped != null && (bot.role == SimBot.Role.DEFENDER
+            || bot.distanceSquared(ownDropped.getX(), ownDropped.getY(), ownDropped.getZ()) < ASSIST_RANGE * ASSIST_RANGE)) {
+            bot.moveToward(ownDropped.getX(), ownDropped.getZ(), step);
+            return;
+        }
+
+        if (bot.role == SimBot.Role.DEFENDER) {
+            SimBot enemyCarrier = ownFlag.isCarried() ? botsByUuid.get(ownFlag.getCarrierUuid()) : null;
+            if (enemyCarrier != null) {
+                bot.moveToward(enemyCarrier.x, enemyCarrier.z, step);
+                return;
+            }
+            if (bot.distanceSquared(bot.patrolX, bot.y, bot.patrolZ) < 1.0) {
+                double angle = random.nextDouble() * Math.PI * 2;
+                bot.patrolX = ownStand.getX() + Math.cos(angle) * PATROL_RADIUS;
+                bot.patrolZ = ownStand.getZ() + Math.sin(angle) * PATROL_RADIUS;
+            }
+            bot.moveToward(bot.patrolX, bot.patrolZ, step);
+            return;
+        }
+
+        if (enemyFlag.isCarried()) {
+            // Escort the friendly carrier home
+            SimBot carrier = botsByUuid.get(enemyFlag.getCarrierUuid());
+            if (carrier != null) {
+                bot.moveToward(carrier.x, carrier.z, step);
+            }
+            return;
+        }
+        Vector3d target = enemyFlag.getCurrentPosition();
+        if (target != null) {
+            bot.moveToward(target.getX(), target.getZ(), step);
+        }
+    }
+
+    /**
+     * Applies pickups, returns and captures for a bot at its new position.
+     */
+    private void interact(@Nonnull SimBot bot) {
+        FlagData ownFlag = flags.get(bot.team);
+        FlagData enemyFlag = flags.get(bot.team.getOpposite());
+
+        if (bot.carrying == null && FlagRules.canPickUp(enemyFlag) && inReach(bot, enemyFlag)) {
+            // No PlayerRef off-server; FlagData only stores it for the manager
+            enemyFlag.pickup(bot.uuid, null);
+            bot.carrying = enemyFlag.getTeam();
+            pickups++;
+        }
+
+        if (FlagRules.canReturn(ownFlag) && inReach(bot, ownFlag)) {
+            ownFlag.returnToStand();
+            returns++;
+        }
+
+        if (bot.carrying != null && FlagRules.canCapture(bot.carrying, bot.team, ownFlag,
+            arena.getCaptureZone(bot.team).contains(bot.x, bot.y, bot.z))) {
+            flags.get(bot.carrying).returnToStand();
+            bot.carrying = null;
+            captures++;
+            score(bot.team);
+        }
+    }
+
+    private boolean inReach(@Nonnull SimBot bot, @Nonnull FlagData flag) {
+        Vector3d position = flag.getCurrentPosition();
+        return position != null
+            && bot.distanceSquared(position.getX(), position.getY(), position.getZ()) <= PICKUP_RANGE * PICKUP_RANGE;
+    }
+
+    private void score(@Nonnull FlagTeam team) {
+        int score = ++scores[team.ordinal()];
+        if (FlagRules.winsMatch(score, options.scoreLimit(), state == MatchState.OVERTIME)) {
+            end(team);
+        }
+    }
+
+    /**
+     * Kills bots in proportion to the enemy threat around them, dropping any carried flag.
+     */
+    private void fight() {
+        if (state == MatchState.ENDED) {
+            return;
+        }
+        for (SimBot bot : bots) {
+            if (!bot.alive) {
+                continue;
+            }
+            double threat = grid.threat(bot.x, bot.y, bot.z, COMBAT_RADIUS, bot.team, teams);
+            if (threat > 0 && random.nextDouble() < threat * KILL_CHANCE_PER_THREAT) {
+                kill(bot);
+            }
+        }
+    }
+
+    private void kill(@Nonnull SimBot bot) {
+        kills++;
+        if (bot.carrying != null) {
+            FlagData flag = flags.get(bot.carrying);
+            flag.drop(new Vector3d(bot.x, bot.y, bot.z));
+            // Same timers FlagCarrierManager starts on a drop
+            schedule(FlagRules.immunityExpiry(flag), FlagData.IMMUNITY_DURATION_MS);
+            schedule(FlagRules.returnTimeout(flag, () -> {
+                flag.returnToStand();
+                timeoutReturns++;
+            }), FlagData.RETURN_TIMEOUT_MS);
+            bot.carrying = null;
+            drops++;
+        }
+        bot.alive = false;
+        bot.respawnAt = now + RESPAWN_MILLIS;
+        grid.remove(bot.uuid);
+    }
+
+    /**
+     * A few bots per tick try to place a block next to themselves.
+     */
+    private void build() {
+        ProtectedRegionIndex regions = arena.getRegionIndex();
+        int attempts = Math.max(1, bots.size() / 16);
+        for (int i = 0; i < attempts; i++) {
+            SimBot bot = bots.get(random.nextInt(bots.size()));
+            if (!bot.alive) {
+                continue;
+            }
+            int x = (int) Math.floor(bot.x) + random.nextInt(9) - 4;
+            int y = (int) Math.floor(bot.y) + random.nextInt(3);
+            int z = (int) Math.floor(bot.z) + random.nextInt(9) - 4;
+            if (regions.isProtected(x, y, z)) {
+                buildsDenied++;
+            } else {
+                buildsPlaced++;
+            }
+        }
+    }
+
+    // ==================== Invariants ====================
+
+    private void checkInvariants() {
+        int[] carriers = new int[FlagTeam.values().length];
+        int alive = 0;
+        for (SimBot bot : bots) {
+            if (bot.alive) {
+                alive++;
+            }
+            if (bot.carrying == null) {
+                continue;
+            }
+            carriers[bot.carrying.ordinal()]++;
+            FlagData flag = flags.get(bot.carrying);
+            if (!bot.alive) {
+                violation(bot + " is dead but still carries the " + bot.carrying + " flag");
+            }
+            if (bot.carrying == bot.team) {
+                violation(bot + " carries their own flag");
+            }
+            if (!flag.isCarried() || !bot.uuid.equals(flag.getCarrierUuid())) {
+                violation(bot + " carries the " + bot.carrying + " flag but the flag says " + flag);
+            }
+        }
+
+        for (FlagData flag : flags.values()) {
+            int expected = flag.isCarried() ? 1 : 0;
+            if (carriers[flag.getTeam().ordinal()] != expected) {
+                violation(flag + " has " + carriers[flag.getTeam().ordinal()] + " carriers");
+            }
+        }
+
+        if (grid.size() != alive) {
+            violation("position grid holds " + grid.size() + " players, " + alive + " alive");
+        }
+        if (Math.abs(teams.getTeamSize(FlagTeam.RED) - teams.getTeamSize(FlagTeam.BLUE)) > 1) {
+            violation("teams unbalanced");
+        }
+        for (FlagTeam team : FlagTeam.values()) {
+            if (scores[team.ordinal()] > options.scoreLimit()) {
+                violation(team + " scored past the limit");
+            }
+        }
+        if (state == MatchState.ENDED && winner != null && getLeader() != winner) {
+            violation("winner " + winner + " is not ahead on score");
+        }
+    }
+
+    private void violation(@Nonnull String message) {
+        violationCount++;
+        if (violations.size() < MAX_VIOLATIONS_KEPT) {
+            violations.add("t=" + now + "ms: " + message);
+        }
+    }
+
+    // ==================== Results ====================
+
+    @Nonnull
+    String describe() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("  winner=%s score=%d-%d game time=%ds ticks=%d%n",
+            winner != null ? winner : "none",
+            scores[FlagTeam.RED.ordinal()], scores[FlagTeam.BLUE.ordinal()],
+            now / 1000, tickStats.getCount()));
+        sb.append(String.format("  pickups=%d drops=%d returns=%d timeout returns=%d captures=%d kills=%d%n",
+            pickups, drops, returns, timeoutReturns, captures, kills));
+        sb.append(String.format("  builds placed=%d denied=%d (%d regions)%n",
+            buildsPlaced, buildsDenied, arena.getRegionIndex().getRegionCount()));
+        sb.append("  tick cost: ").append(tickStats.describe()).append(System.lineSeparator());
+        sb.append("  invariant violations: ").append(violationCount).append(System.lineSeparator());
+        for (String violation : violations) {
+            sb.append("    ").append(violation).append(System.lineSeparator());
+        }
+        return sb.toString();
+    }
+
+    int getViolationCount() {
+        return violationCount;
+    }
+
+    @Nonnull
+    TickStats getTickStats() {
+        return tickStats;
+    }
+
+    // ==================== Inner Classes ====================
+
+    private record SimTimer(long dueAt, long sequence, @Nonnull Runnable task) {
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.ctf.sim;
+
+import com.example.ctf.FlagTeam;
+import com.example.ctf.team.TeamLookup;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Team assignments for the simulated match, balanced the way
+ * {@code TeamManager.autoAssignTeam} balances them (smaller team, red on a tie).
+ */
+final class SimTeams implements TeamLookup {
+
+    private final Map<UUID, FlagTeam> teams = new HashMap<>();
+    private final int[] sizes = new int[FlagTeam.values().length];
+
+    @Nonnull
+    FlagTeam autoAssign(@Nonnull UUID playerUuid) {
+        FlagTeam team = sizes[FlagTeam.RED.ordinal()] <= sizes[FlagTeam.BLUE.ordinal()] ? FlagTeam.RED : FlagTeam.BLUE;
+        teams.put(playerUuid, team);
+        sizes[team.ordinal()]++;
+        return team;
+    }
+
+    @Nullable
+    @Override
+    public FlagTeam getPlayerTeam(@Nonnull UUID playerUuid) {
+        return teams.get(playerUuid);
+    }
+
+    int getTeamSize(@Nonnull FlagTeam team) {
+        return sizes[team.ordinal()];
+    }
+}
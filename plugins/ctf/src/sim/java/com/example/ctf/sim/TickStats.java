@@ -0,0 +1,59 @@
+package com.example.ctf.sim;
+
+import javax.annotation.Nonnull;
+import java.util.Arrays;
+
+/**
+ * Records per-tick wall-clock cost and reports percentiles.
+ */
+final class TickStats {
+
+    private long[] samples = new long[4096];
+    private int count;
+
+    void record(long nanos) {
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = nanos;
+    }
+
+    /**
+     * Adds every sample of another recorder.
+     */
+    void merge(@Nonnull TickStats other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    int getCount() {
+        return count;
+    }
+
+    /**
+     * Formats mean, p50, p99 and max tick cost in microseconds.
+     */
+    @Nonnull
+    String describe() {
+        if (count == 0) {
+            return "no ticks";
+        }
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        long total = 0;
+        for (long sample : sorted) {
+            total += sample;
+        }
+        return String.format("mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+            total / (double) count / 1000.0,
+            percentile(sorted, 0.50) / 1000.0,
+            percentile(sorted, 0.99) / 1000.0,
+            sorted[count - 1] / 1000.0);
+    }
+
+    private static long percentile(@Nonnull long[] sorted, double fraction) {
+        int index = (int) Math.ceil(fraction * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, index))];
+    }
+}